@@ -0,0 +1,73 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import solution.utils.MappedDictionary;
+import solution.validators.plan.AnyOfLookup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Check of "@AnyOf" value: precompiled lookup versus linear scan, and
+ * "@AnyOfDictionary" value (dictionary with the same values).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnyOfBenchmark {
+
+    @Param({"4", "16", "64", "512"})
+    private int size;
+
+    private String[] values;
+
+    private AnyOfLookup lookup;
+
+    private MappedDictionary dictionary;
+
+    /**
+     * Checked values: valid and invalid ones in turn (copies, so "equals" compares chars).
+     */
+    private String[] checked;
+
+    private int index;
+
+    @Setup
+    public void setUp() throws IOException {
+        values = new String[size];
+        for (var i = 0; i < size; i++) {
+            values[i] = "CODE-" + i;
+        }
+        lookup = AnyOfLookup.of(values);
+
+        var file = Files.createTempFile("dictionary", ".txt");
+        Files.write(file, Arrays.asList(values));
+        dictionary = MappedDictionary.open(file.toString());
+        Files.delete(file);
+
+        checked = new String[1024];
+        for (var i = 0; i < checked.length; i++) {
+            checked[i] = i % 2 == 0 ? new String(values[i % size].toCharArray()) : "CODE-X" + i;
+        }
+    }
+
+    @Benchmark
+    public boolean lookup() {
+        return lookup.contains(checked[index++ & (checked.length - 1)]);
+    }
+
+    @Benchmark
+    public boolean dictionary() {
+        return dictionary.contains(checked[index++ & (checked.length - 1)]);
+    }
+
+    @Benchmark
+    public boolean linearScan() {
+        return Arrays.asList(values).contains(checked[index++ & (checked.length - 1)]);
+    }
+}
@@ -0,0 +1,93 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import solution.validators.plan.Constraint;
+import solution.validators.plan.ConstraintKind;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks of every built-in constraint in isolation (without traversal of objects).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstraintBenchmark {
+
+    @Param({"POSITIVE", "NEGATIVE", "NOT_NULL", "NOT_BLANK", "NOT_EMPTY", "SIZE",
+            "IN_RANGE", "ANY_OF"})
+    private ConstraintKind kind;
+
+    @Param({"VALID", "MOSTLY_INVALID"})
+    private Inputs inputs;
+
+    private Constraint constraint;
+
+    /**
+     * Values which are checked in turn.
+     */
+    private Object[] values;
+
+    private int index;
+
+    @Setup
+    public void setUp() {
+        constraint = Constraint.create(kind, 2, 12,
+                new String[]{"TV", "Kitchen", "Toilet", "room"});
+
+        values = new Object[1024];
+        for (var i = 0; i < values.length; i++) {
+            values[i] = value(inputs.isValid(i));
+        }
+    }
+
+    /**
+     * Get value for constraint.
+     *
+     * @param valid true if value must satisfy constraint
+     * @return value
+     */
+    private Object value(boolean valid) {
+        switch (kind) {
+            case POSITIVE:
+                return valid ? 5 : -5;
+
+            case NEGATIVE:
+                return valid ? -5 : 5;
+
+            case NOT_NULL:
+                return "value";
+
+            case NOT_BLANK:
+                return valid ? "value" : "   ";
+
+            case NOT_EMPTY:
+                return valid ? List.of(1) : List.of();
+
+            case SIZE:
+                return valid ? "value" : "v";
+
+            case IN_RANGE:
+                return valid ? 7L : 70L;
+
+            default:
+                return valid ? "room" : "Garage";
+        }
+    }
+
+    @Benchmark
+    public boolean test() {
+        var value = values[index++ & (values.length - 1)];
+        return constraint.test(value);
+    }
+
+    @Benchmark
+    public Object testAndReport() {
+        var value = values[index++ & (values.length - 1)];
+        return constraint.test(value) ? null : constraint.getFailedValue(value);
+    }
+}
@@ -0,0 +1,58 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import solution.validators.ValidationEngine;
+import solution.validators.ValidationError;
+import solution.validators.Validator;
+import tests.form_examples.BookingForm;
+import tests.form_examples.GuestForm;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparison of validation engines on example booking form.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+
+    @Param({"INTERPRETER", "GENERATED"})
+    private ValidationEngine engine;
+
+    private Validator validator;
+
+    private BookingForm validForm;
+
+    private BookingForm invalidForm;
+
+    @Setup
+    public void setUp() {
+        validator = Validator.create(engine);
+
+        validForm = new BookingForm(
+                List.of(new GuestForm("Anna", "Renova", 30, "anna@edu.hse.ru"),
+                        new GuestForm("Dima", "Kalmykov", 40, "dima@edu.hse.ru")),
+                List.of("TV", "Kitchen"), "House", 3, Map.of(1, 2, 2, 1));
+        invalidForm = new BookingForm(
+                List.of(new GuestForm("", "Renova", 8, "anna@edu.hse.ru"),
+                        new GuestForm("Dima", "   ", 88, "dima@edu.hse.ru")),
+                List.of("TV", "Piano"), "Flat", 3, Map.of(1, 0, 2, 1));
+    }
+
+    @Benchmark
+    public Set<ValidationError> validateValid() {
+        return validator.validate(validForm);
+    }
+
+    @Benchmark
+    public Set<ValidationError> validateInvalid() {
+        return validator.validate(invalidForm);
+    }
+}
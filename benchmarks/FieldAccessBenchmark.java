@@ -0,0 +1,114 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import solution.utils.ValueContainer;
+import solution.validators.ErrorContent;
+import solution.validators.ValidationError;
+import solution.validators.Validator;
+import solution.validators.plan.ConstraintHandler;
+import solution.validators.plan.FieldAccessor;
+import solution.validators.plan.FieldPlan;
+import solution.validators.supporting_validators.AnnotationValidator;
+import tests.form_examples.GuestForm;
+
+import java.lang.reflect.Field;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparison of "Field.get" path with cached method handles.
+ * <p>
+ * Run with "-prof gc" to see that "int" field is read and range-checked
+ * without allocation through {@link FieldAccessor#getLong(Object)}
+ * and {@link ConstraintHandler#test(long)} of the plan.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldAccessBenchmark {
+
+    private GuestForm form;
+
+    private Field ageField;
+
+    private FieldAccessor ageAccessor;
+
+    private ConstraintHandler ageConstraint;
+
+    private FieldAccessor firstNameAccessor;
+
+    private Field firstNameField;
+
+    private Set<ValidationError> errorSet;
+
+    private StringBuilder pathTracker;
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        form = new GuestForm("Anna", "Renova", 30, "anna@edu.hse.ru");
+
+        ageField = GuestForm.class.getDeclaredField("age");
+        ageField.setAccessible(true);
+        firstNameField = GuestForm.class.getDeclaredField("firstName");
+        firstNameField.setAccessible(true);
+
+        var fields = Validator.compile(GuestForm.class).getFields();
+        var agePlan = find(fields, "age");
+        ageAccessor = agePlan.getAccessor();
+        ageConstraint = agePlan.getType().getConstraints()[0];
+        firstNameAccessor = find(fields, "firstName").getAccessor();
+
+        errorSet = new HashSet<>();
+        pathTracker = new StringBuilder("/age/");
+    }
+
+    private static FieldPlan find(List<FieldPlan> fields, String name) {
+        return fields.stream()
+                .filter(f -> f.getName().equals(name))
+                .findFirst().orElseThrow();
+    }
+
+    @Benchmark
+    public Object readIntFieldGet() throws IllegalAccessException {
+        return ageField.get(form);
+    }
+
+    @Benchmark
+    public long readIntAccessor() {
+        return ageAccessor.getLong(form);
+    }
+
+    @Benchmark
+    public Object readReferenceFieldGet() throws IllegalAccessException {
+        return firstNameField.get(form);
+    }
+
+    @Benchmark
+    public Object readReferenceAccessor() {
+        return firstNameAccessor.get(form);
+    }
+
+    @Benchmark
+    public Set<ValidationError> inRangeFieldGet() {
+        var annotationValidator = new AnnotationValidator(errorSet);
+        annotationValidator.validateInRange(form, ageField, 10, 80,
+                ValueContainer.FIELD, pathTracker);
+        return errorSet;
+    }
+
+    @Benchmark
+    public Set<ValidationError> inRangeAccessor() {
+        var value = ageAccessor.getLong(form);
+        if (!ageConstraint.test(value)) {
+            errorSet.add(new ErrorContent(ageConstraint.getMessage(),
+                    pathTracker.toString(), value));
+        }
+        return errorSet;
+    }
+}
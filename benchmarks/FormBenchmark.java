@@ -0,0 +1,69 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import solution.validators.ObjectValidator;
+import solution.validators.ValidationError;
+import solution.validators.metrics.ValidationMetrics;
+import tests.form_examples.BookingForm;
+import tests.form_examples.GuestForm;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation of example forms (with and without runtime metrics).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormBenchmark {
+
+    @Param({"VALID", "MOSTLY_INVALID"})
+    private Inputs inputs;
+
+    @Param({"false", "true"})
+    private boolean metrics;
+
+    private ObjectValidator validator;
+
+    private GuestForm guestForm;
+
+    private BookingForm bookingForm;
+
+    @Setup
+    public void setUp() {
+        validator = new ObjectValidator(metrics ? new ValidationMetrics() : null);
+
+        if (inputs == Inputs.VALID) {
+            guestForm = new GuestForm("Anna", "Renova", 30, "anna@edu.hse.ru");
+            bookingForm = new BookingForm(
+                    List.of(guestForm, new GuestForm("Dima", "Kalmykov", 40, "dima@edu.hse.ru")),
+                    List.of("TV", "Kitchen"), "House", 3, Map.of(1, 2, 2, 1));
+        } else {
+            guestForm = new GuestForm("", null, 8, "");
+            bookingForm = new BookingForm(
+                    List.of(guestForm, new GuestForm("Dima", "   ", 88, "dima@edu.hse.ru")),
+                    List.of("TV", "Piano", "Sauna"), "Flat", -3, Map.of(1, 0, 2, 5));
+        }
+    }
+
+    @Benchmark
+    public Set<ValidationError> guestForm() {
+        return validator.validate(guestForm);
+    }
+
+    @Benchmark
+    public Set<ValidationError> bookingForm() {
+        return validator.validate(bookingForm);
+    }
+
+    @Benchmark
+    public boolean bookingFormIsValid() {
+        return validator.isValid(bookingForm);
+    }
+}
@@ -0,0 +1,19 @@
+package benchmarks;
+
+/**
+ * Kinds of inputs of benchmarks.
+ */
+public enum Inputs {
+    VALID, // All values satisfy constraints
+    MOSTLY_INVALID; // Only every tenth value satisfies constraints
+
+    /**
+     * Check if value with given index must be valid.
+     *
+     * @param index index of value
+     * @return true if value must satisfy constraints
+     */
+    public boolean isValid(int index) {
+        return this == VALID || index % 10 == 0;
+    }
+}
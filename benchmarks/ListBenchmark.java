@@ -0,0 +1,72 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import solution.annotations.Constrained;
+import solution.annotations.NotBlank;
+import solution.annotations.NotNull;
+import solution.annotations.Positive;
+import solution.validators.ObjectValidator;
+import solution.validators.ValidationError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation of List of numbers and List of strings of different sizes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListBenchmark {
+
+    @Constrained
+    public static class ListForm {
+        @NotNull
+        private final List<@NotNull @Positive Integer> numbers;
+
+        private final List<@NotBlank String> names;
+
+        public ListForm(List<Integer> numbers, List<String> names) {
+            this.numbers = numbers;
+            this.names = names;
+        }
+    }
+
+    @Param({"10", "1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"VALID", "MOSTLY_INVALID"})
+    private Inputs inputs;
+
+    private ObjectValidator validator;
+
+    private ListForm form;
+
+    @Setup
+    public void setUp() {
+        validator = new ObjectValidator();
+
+        var numbers = new ArrayList<Integer>(size);
+        var names = new ArrayList<String>(size);
+        for (var i = 0; i < size; i++) {
+            numbers.add(inputs.isValid(i) ? i + 1 : -i);
+            names.add(inputs.isValid(i) ? "name" + i : " ");
+        }
+        form = new ListForm(numbers, names);
+    }
+
+    @Benchmark
+    public Set<ValidationError> validate() {
+        return validator.validate(form);
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return validator.isValid(form);
+    }
+}
@@ -0,0 +1,76 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import solution.annotations.Constrained;
+import solution.annotations.InRange;
+import solution.annotations.NotBlank;
+import solution.annotations.Size;
+import solution.validators.ObjectValidator;
+import solution.validators.ValidationError;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation of keys and values of Map of different sizes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapBenchmark {
+
+    @Constrained
+    public static class MapForm {
+        @Size(min = 1, max = Integer.MAX_VALUE)
+        private final Map<@NotBlank String, @InRange(min = 0, max = 1000) Long> prices;
+
+        public MapForm(Map<String, Long> prices) {
+            this.prices = prices;
+        }
+    }
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    @Param({"VALID", "MOSTLY_INVALID"})
+    private Inputs inputs;
+
+    private ObjectValidator validator;
+
+    private MapForm form;
+
+    @Setup
+    public void setUp() {
+        validator = new ObjectValidator();
+
+        var prices = new HashMap<String, Long>(size * 2);
+        for (var i = 0; i < size; i++) {
+            if (inputs.isValid(i)) {
+                prices.put("item" + i, (long) (i % 1000));
+            } else {
+                prices.put(blankKey(i), -1L - i);
+            }
+        }
+        form = new MapForm(prices);
+    }
+
+    /**
+     * Build unique blank key: binary representation of index with spaces and tabs.
+     *
+     * @param index index of entry
+     * @return blank key
+     */
+    private static String blankKey(int index) {
+        return Integer.toBinaryString(index).replace('0', ' ').replace('1', '\t');
+    }
+
+    @Benchmark
+    public Set<ValidationError> validate() {
+        return validator.validate(form);
+    }
+}
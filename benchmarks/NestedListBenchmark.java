@@ -0,0 +1,136 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import solution.annotations.Constrained;
+import solution.annotations.InRange;
+import solution.annotations.NotEmpty;
+import solution.validators.ObjectValidator;
+import solution.validators.ValidationError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation of nested List of different depth. Count of numbers is the same
+ * (4096) for every depth, so only the cost of nesting differs.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NestedListBenchmark {
+
+    @Constrained
+    public static class Depth1Form {
+        private final List<@InRange(min = 0, max = 100) Integer> values;
+
+        public Depth1Form(Object values) {
+            this.values = cast(values);
+        }
+    }
+
+    @Constrained
+    public static class Depth2Form {
+        private final List<@NotEmpty List<@InRange(min = 0, max = 100) Integer>> values;
+
+        public Depth2Form(Object values) {
+            this.values = cast(values);
+        }
+    }
+
+    @Constrained
+    public static class Depth3Form {
+        private final List<@NotEmpty List<@NotEmpty List<@InRange(min = 0, max = 100) Integer>>>
+                values;
+
+        public Depth3Form(Object values) {
+            this.values = cast(values);
+        }
+    }
+
+    @Constrained
+    public static class Depth4Form {
+        private final List<@NotEmpty List<@NotEmpty List<@NotEmpty List<
+                @InRange(min = 0, max = 100) Integer>>>> values;
+
+        public Depth4Form(Object values) {
+            this.values = cast(values);
+        }
+    }
+
+    /**
+     * Count of numbers in every form.
+     */
+    private static final int NUMBERS = 4096;
+
+    @Param({"1", "2", "3", "4"})
+    private int depth;
+
+    @Param({"VALID", "MOSTLY_INVALID"})
+    private Inputs inputs;
+
+    private ObjectValidator validator;
+
+    private Object form;
+
+    private int counter;
+
+    @Setup
+    public void setUp() {
+        validator = new ObjectValidator();
+        counter = 0;
+
+        var width = (int) Math.round(Math.pow(NUMBERS, 1.0 / depth));
+        var values = build(depth, width);
+        switch (depth) {
+            case 1:
+                form = new Depth1Form(values);
+                break;
+
+            case 2:
+                form = new Depth2Form(values);
+                break;
+
+            case 3:
+                form = new Depth3Form(values);
+                break;
+
+            default:
+                form = new Depth4Form(values);
+        }
+    }
+
+    /**
+     * Build nested List.
+     *
+     * @param depth depth of List
+     * @param width size of every List
+     * @return nested List
+     */
+    private List<Object> build(int depth, int width) {
+        var list = new ArrayList<>(width);
+        for (var i = 0; i < width; i++) {
+            if (depth == 1) {
+                list.add(inputs.isValid(counter++) ? 50 : 500);
+            } else {
+                list.add(build(depth - 1, width));
+            }
+        }
+
+        return list;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+
+    @Benchmark
+    public Set<ValidationError> validate() {
+        return validator.validate(form);
+    }
+}
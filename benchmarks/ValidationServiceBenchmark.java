@@ -0,0 +1,78 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import solution.validators.ObjectValidator;
+import solution.validators.ValidationError;
+import solution.validators.service.ValidationService;
+import tests.form_examples.BookingForm;
+import tests.form_examples.GuestForm;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparison of executors of validation service at 10k concurrent submissions.
+ * <p>
+ * "VIRTUAL" uses virtual thread per task, on runtimes without virtual threads it
+ * falls back to the same fixed pool as "PLATFORM".
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationServiceBenchmark {
+
+    private static final int SUBMISSIONS = 10_000;
+
+    @Param({"VIRTUAL", "PLATFORM"})
+    private String executor;
+
+    @Param({"64", "10000"})
+    private int maxConcurrent;
+
+    private ValidationService service;
+
+    private BookingForm form;
+
+    @Setup
+    public void setUp() {
+        var parallelism = Runtime.getRuntime().availableProcessors();
+        service = executor.equals("VIRTUAL")
+                ? new ValidationService(new ObjectValidator(), maxConcurrent)
+                : new ValidationService(new ObjectValidator(), maxConcurrent,
+                        Executors.newFixedThreadPool(parallelism));
+
+        form = new BookingForm(
+                List.of(new GuestForm("", "Renova", 8, "anna@edu.hse.ru"),
+                        new GuestForm("Dima", "Kalmykov", 40, "dima@edu.hse.ru")),
+                List.of("TV", "Piano"), "Flat", 3, Map.of(1, 0, 2, 1));
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SUBMISSIONS)
+    public int submitAll() {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Set<ValidationError>>[] futures = new CompletableFuture[SUBMISSIONS];
+        for (var i = 0; i < SUBMISSIONS; i++) {
+            futures[i] = service.submit(form);
+        }
+
+        var errors = 0;
+        for (var future : futures) {
+            errors += future.join().size();
+        }
+        return errors;
+    }
+}
@@ -0,0 +1,25 @@
+package solution.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Check that the value located in dictionary file.
+ * <p>
+ * Apply just to String. Dictionary is text file in UTF-8 with one value per line
+ * (or file compiled by {@link solution.utils.MappedDictionary#compile}), path is
+ * resolved against working directory.
+ * </p>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE_USE)
+public @interface AnyOfDictionary {
+
+    /**
+     * Get path to dictionary file.
+     * @return path to dictionary file
+     */
+    String value();
+}
@@ -0,0 +1,451 @@
+package solution.processing;
+
+import solution.annotations.Constrained;
+import solution.validators.generated.PrecompiledValidators;
+import solution.validators.generated.ValidatorSourceWriter;
+import solution.validators.plan.SchemaVerifier;
+import solution.validators.plan.TypePlan;
+import solution.validators.warmup.ConstrainedIndex;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor which generates validators of "@Constrained" classes at build time.
+ * <p>
+ * For every constrained class plain Java validator is generated in the same package
+ * and registered in {@link PrecompiledValidators#REGISTRY}, so validators pick it up
+ * instead of building validation plan at runtime. Schema errors, which are thrown by
+ * {@link SchemaVerifier} at runtime, are reported as compile errors.
+ * </p>
+ * <p>
+ * Registry and index are merged with files left in class output by previous
+ * compilations: entries of classes compiled again are replaced, others are kept,
+ * so incremental build doesn't lose validators of other classes.
+ * </p>
+ */
+@SupportedAnnotationTypes("solution.annotations.Constrained")
+public class ConstrainedProcessor extends AbstractProcessor {
+
+    /**
+     * Registry entries: binary name of class - binary name of its validator.
+     */
+    private final Map<String, String> registry = new TreeMap<>();
+
+    /**
+     * Binary names of all constrained classes (for {@link ConstrainedIndex}).
+     */
+    private final Set<String> constrained = new TreeSet<>();
+
+    /**
+     * Binary names of all classes compiled with processor (their old entries are replaced).
+     */
+    private final Set<String> compiled = new HashSet<>();
+
+    /**
+     * Get latest supported source version.
+     *
+     * @return source version
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * Process "@Constrained" classes of round.
+     *
+     * @param annotations annotation types
+     * @param roundEnv environment of round
+     * @return false, annotations aren't claimed
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations,
+                           RoundEnvironment roundEnv) {
+        for (var type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            addCompiled(type);
+        }
+
+        for (var element : roundEnv.getElementsAnnotatedWith(Constrained.class)) {
+            if (element instanceof TypeElement) {
+                processClass((TypeElement) element);
+            }
+        }
+
+        if (roundEnv.processingOver()) {
+            writeRegistry();
+            writeIndex();
+        }
+
+        return false;
+    }
+
+    /**
+     * Remember class and its nested classes as compiled.
+     *
+     * @param type class
+     */
+    private void addCompiled(TypeElement type) {
+        compiled.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+
+        for (var nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            addCompiled(nested);
+        }
+    }
+
+    /**
+     * Check schema of class and generate its validator.
+     *
+     * @param type constrained class
+     */
+    private void processClass(TypeElement type) {
+        var messager = processingEnv.getMessager();
+        var mirrorTypes = new MirrorTypes(processingEnv.getElementUtils());
+
+        if (countRuntimeAnnotations(type) != 1) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Invalid annotation class", type);
+            return;
+        }
+
+        constrained.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+
+        var fields = ElementFilter.fieldsIn(type.getEnclosedElements());
+        var fieldTypes = new HashMap<String, VariableElement>();
+        var packageName = processingEnv.getElementUtils().getPackageOf(type)
+                .getQualifiedName().toString();
+        var className = validatorName(type);
+        var generated = canGenerate(type);
+        var writer = new ValidatorSourceWriter(packageName, className,
+                type.getQualifiedName().toString(),
+                (index, fieldName, integralPrimitive) -> getterExpression(
+                        type, fieldTypes.get(fieldName), integralPrimitive, mirrorTypes));
+        var failed = false;
+
+        for (var field : fields) {
+            var name = field.getSimpleName().toString();
+            var fieldType = field.asType();
+
+            try {
+                var annotatedType = mirrorTypes.annotatedType(fieldType);
+                SchemaVerifier.verifyField(name, mirrorTypes.rawName(fieldType),
+                        annotatedType, fieldType.getKind().isPrimitive());
+
+                var typeName = annotatedType.getType().getTypeName();
+                var plan = TypePlan.of(annotatedType);
+
+                if (generated) {
+                    fieldTypes.put(name, field);
+                    generated = writeField(writer, field, typeName, plan);
+                }
+            } catch (InvalidParameterException exception) {
+                messager.printMessage(Diagnostic.Kind.ERROR, exception.getMessage(), field);
+                failed = true;
+            }
+        }
+
+        if (failed || !generated) {
+            return;
+        }
+
+        var validatorName = packageName.isEmpty() ? className : packageName + "." + className;
+        try (var out = new PrintWriter(processingEnv.getFiler()
+                .createSourceFile(validatorName, type).openWriter())) {
+            out.print(writer.toSource());
+        } catch (IOException exception) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Can't write validator \"" +
+                    validatorName + "\": " + exception.getMessage(), type);
+            return;
+        }
+
+        registry.put(processingEnv.getElementUtils().getBinaryName(type).toString(),
+                validatorName);
+    }
+
+    /**
+     * Write checks of field to validator. Field which can't be written as Java code
+     * (for example, "@AnyOf" without values) isn't an error: validator of class isn't
+     * generated, so class is validated by plan at runtime.
+     *
+     * @param writer writer of validator
+     * @param field field
+     * @param typeName name of type of field
+     * @param plan plan for type of field
+     * @return false if validator can't be generated
+     */
+    private boolean writeField(ValidatorSourceWriter writer, VariableElement field,
+                               String typeName, TypePlan plan) {
+        try {
+            writer.writeField(field.getSimpleName().toString(),
+                    isIntegralPrimitive(field.asType().getKind()),
+                    solution.utils.TypeKind.ofName(typeName).isCustom(), plan);
+            return true;
+        } catch (IllegalStateException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "Validator isn't generated: " + exception.getMessage(), field);
+            return false;
+        }
+    }
+
+    /**
+     * Get expression of getter for private fields. Other fields are read directly.
+     *
+     * @param type constrained class
+     * @param field field
+     * @param integralPrimitive true if field has integral primitive type
+     * @param mirrorTypes adapters of compile-time types
+     * @return Java expression or null, if field is read directly
+     */
+    private static String getterExpression(TypeElement type, VariableElement field,
+                                           boolean integralPrimitive, MirrorTypes mirrorTypes) {
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            return null;
+        }
+
+        var typeName = type.getQualifiedName() + ".class";
+        var fieldType = mirrorTypes.canonicalName(field.asType()) + ".class";
+        var isStatic = field.getModifiers().contains(Modifier.STATIC);
+        var getter = "java.lang.invoke.MethodHandles.privateLookupIn(" + typeName +
+                ", lookup)." + (isStatic ? "findStaticGetter(" : "findGetter(") + typeName +
+                ", \"" + field.getSimpleName() + "\", " + fieldType + ")";
+
+        if (isStatic) {
+            getter = "java.lang.invoke.MethodHandles.dropArguments(" + getter +
+                    ", 0, Object.class)";
+        }
+
+        return getter + ".asType(java.lang.invoke.MethodType.methodType(" +
+                (integralPrimitive ? "long" : "Object") + ".class, Object.class))";
+    }
+
+    /**
+     * Check if validator can be generated for class.
+     * <p>
+     * Generated validator must refer to class and its field types, and class must have
+     * no synthetic fields (like reference to outer instance), otherwise runtime
+     * validation plan is used.
+     * </p>
+     *
+     * @param type constrained class
+     * @return true if validator can be generated
+     */
+    private static boolean canGenerate(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.RECORD) {
+            return false;
+        }
+
+        if (!isAccessible(type)) {
+            return false;
+        }
+
+        for (var field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+                continue;
+            }
+
+            var fieldType = field.asType();
+            while (fieldType.getKind() == TypeKind.ARRAY) {
+                fieldType = ((ArrayType) fieldType).getComponentType();
+            }
+
+            if (fieldType.getKind() == TypeKind.DECLARED &&
+                    !isAccessible((TypeElement) ((DeclaredType) fieldType).asElement())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Check if class can be referred from other class of the same package.
+     *
+     * @param type class
+     * @return true if class is accessible
+     */
+    private static boolean isAccessible(TypeElement type) {
+        Element element = type;
+
+        while (element instanceof TypeElement) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+
+            var nesting = ((TypeElement) element).getNestingKind();
+            if (nesting == NestingKind.LOCAL || nesting == NestingKind.ANONYMOUS) {
+                return false;
+            }
+
+            var enclosing = element.getEnclosingElement();
+            if (nesting == NestingKind.MEMBER && enclosing instanceof TypeElement &&
+                    enclosing.getKind() == ElementKind.CLASS &&
+                    !element.getModifiers().contains(Modifier.STATIC) &&
+                    element.getKind() == ElementKind.CLASS) {
+                return false; // inner class has synthetic reference to outer instance
+            }
+
+            element = enclosing;
+        }
+
+        return true;
+    }
+
+    /**
+     * Count annotations of class which are visible at runtime.
+     *
+     * @param type class
+     * @return count of annotations
+     */
+    private static int countRuntimeAnnotations(TypeElement type) {
+        var count = 0;
+
+        for (var annotation : type.getAnnotationMirrors()) {
+            var retention = annotation.getAnnotationType().asElement()
+                    .getAnnotation(Retention.class);
+            if (retention != null && retention.value() == RetentionPolicy.RUNTIME) {
+                ++count;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Check if type is integral primitive type.
+     *
+     * @param kind kind of type
+     * @return true if type is byte, short, int or long
+     */
+    private static boolean isIntegralPrimitive(TypeKind kind) {
+        return kind == TypeKind.BYTE || kind == TypeKind.SHORT ||
+                kind == TypeKind.INT || kind == TypeKind.LONG;
+    }
+
+    /**
+     * Get simple name of validator for class: simple names of enclosing classes
+     * and class, joined by "_".
+     *
+     * @param type class
+     * @return simple name of validator
+     */
+    public static String validatorName(TypeElement type) {
+        var name = new StringBuilder(type.getSimpleName());
+        var element = type.getEnclosingElement();
+
+        while (element instanceof TypeElement) {
+            name.insert(0, element.getSimpleName() + "_");
+            element = element.getEnclosingElement();
+        }
+
+        return name.append("_Validator").toString();
+    }
+
+    /**
+     * Write registry of generated validators merged with registry of previous compilations.
+     */
+    private void writeRegistry() {
+        var previous = readResource(PrecompiledValidators.REGISTRY);
+        var entries = new TreeMap<String, String>();
+
+        for (var line : previous) {
+            var separator = line.indexOf('=');
+            if (separator > 0 && !compiled.contains(line.substring(0, separator))) {
+                entries.put(line.substring(0, separator), line.substring(separator + 1));
+            }
+        }
+        entries.putAll(registry);
+
+        if (entries.isEmpty() && previous.isEmpty()) {
+            return;
+        }
+
+        try (var out = new PrintWriter(processingEnv.getFiler().createResource(
+                StandardLocation.CLASS_OUTPUT, "", PrecompiledValidators.REGISTRY)
+                .openWriter())) {
+            for (var entry : entries.entrySet()) {
+                out.println(entry.getKey() + "=" + entry.getValue());
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Can't write registry of validators: " + exception.getMessage());
+        }
+    }
+
+    /**
+     * Write index of constrained classes merged with index of previous compilations.
+     */
+    private void writeIndex() {
+        var previous = readResource(ConstrainedIndex.INDEX);
+        var names = new TreeSet<String>();
+
+        for (var name : previous) {
+            if (!compiled.contains(name)) {
+                names.add(name);
+            }
+        }
+        names.addAll(constrained);
+
+        if (names.isEmpty() && previous.isEmpty()) {
+            return;
+        }
+
+        try (var out = new PrintWriter(processingEnv.getFiler().createResource(
+                StandardLocation.CLASS_OUTPUT, "", ConstrainedIndex.INDEX)
+                .openWriter())) {
+            for (var name : names) {
+                out.println(name);
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Can't write index of constrained classes: " + exception.getMessage());
+        }
+    }
+
+    /**
+     * Read lines of resource left in class output by previous compilation.
+     *
+     * @param name path of resource
+     * @return lines (without empty lines and comments), empty list if there is no resource
+     */
+    private List<String> readResource(String name) {
+        var lines = new ArrayList<String>();
+
+        try (var in = new BufferedReader(processingEnv.getFiler().getResource(
+                StandardLocation.CLASS_OUTPUT, "", name).openReader(true))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                line = line.strip();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    lines.add(line);
+                }
+            }
+        } catch (IOException exception) {
+            // There is no resource yet: nothing to merge
+            return List.of();
+        }
+
+        return lines;
+    }
+}
@@ -0,0 +1,415 @@
+package solution.processing;
+
+import solution.annotations.*;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.*;
+import javax.lang.model.util.Elements;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Adapters of compile-time types to reflection types.
+ * <p>
+ * Validation plans and schema checks are built from {@link AnnotatedType}, so the same
+ * code runs at runtime (over reflection) and at compile time (over {@link TypeMirror}).
+ * Type names are the same as the ones returned by {@link Type#getTypeName()}.
+ * </p>
+ */
+public class MirrorTypes {
+
+    /**
+     * Annotations which are used as constraints.
+     */
+    private static final List<Class<? extends Annotation>> CONSTRAINTS = List.of(
+            AnyOf.class, AnyOfDictionary.class, InRange.class, Negative.class, NotBlank.class,
+            NotEmpty.class, NotNull.class, Positive.class, Size.class);
+
+    /**
+     * Utility methods for operating on program elements.
+     */
+    private final Elements elements;
+
+    /**
+     * Constructor.
+     *
+     * @param elements utility methods for operating on program elements
+     */
+    public MirrorTypes(Elements elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Adapt annotated type.
+     *
+     * @param mirror compile-time type
+     * @return annotated type
+     */
+    public AnnotatedType annotatedType(TypeMirror mirror) {
+        var annotations = constraintsOf(mirror);
+
+        if (mirror.getKind() == TypeKind.DECLARED &&
+                !((DeclaredType) mirror).getTypeArguments().isEmpty()) {
+            var arguments = ((DeclaredType) mirror).getTypeArguments().stream()
+                    .map(this::annotatedType)
+                    .toArray(AnnotatedType[]::new);
+            var rawType = new NamedType(rawName(mirror));
+            var type = new MirrorParameterizedType(rawType, arguments);
+            return new MirrorAnnotatedParameterizedType(type, annotations, arguments);
+        }
+
+        return new MirrorAnnotatedType(new NamedType(typeName(mirror)), annotations);
+    }
+
+    /**
+     * Get name of erased type, as it's returned by {@link Class#getName()} (for arrays -
+     * by {@link Class#getTypeName()}).
+     *
+     * @param mirror compile-time type
+     * @return name of erased type
+     */
+    public String rawName(TypeMirror mirror) {
+        switch (mirror.getKind()) {
+            case DECLARED:
+                return elements.getBinaryName((TypeElement) ((DeclaredType) mirror).asElement())
+                        .toString();
+
+            case ARRAY:
+                return rawName(((ArrayType) mirror).getComponentType()) + "[]";
+
+            case TYPEVAR:
+                return rawName(((TypeVariable) mirror).getUpperBound());
+
+            case INTERSECTION:
+                return rawName(((IntersectionType) mirror).getBounds().get(0));
+        }
+
+        return primitiveName(mirror);
+    }
+
+    /**
+     * Get name of erased type, which can be used in Java source.
+     *
+     * @param mirror compile-time type
+     * @return canonical name of erased type
+     */
+    public String canonicalName(TypeMirror mirror) {
+        switch (mirror.getKind()) {
+            case DECLARED:
+                return ((TypeElement) ((DeclaredType) mirror).asElement()).getQualifiedName()
+                        .toString();
+
+            case ARRAY:
+                return canonicalName(((ArrayType) mirror).getComponentType()) + "[]";
+
+            case TYPEVAR:
+                return canonicalName(((TypeVariable) mirror).getUpperBound());
+
+            case INTERSECTION:
+                return canonicalName(((IntersectionType) mirror).getBounds().get(0));
+        }
+
+        return primitiveName(mirror);
+    }
+
+    /**
+     * Get type name without annotations.
+     *
+     * @param mirror compile-time type
+     * @return type name
+     */
+    public String typeName(TypeMirror mirror) {
+        switch (mirror.getKind()) {
+            case DECLARED:
+                var arguments = ((DeclaredType) mirror).getTypeArguments();
+                if (arguments.isEmpty()) {
+                    return rawName(mirror);
+                }
+                return rawName(mirror) + arguments.stream()
+                        .map(this::typeName)
+                        .collect(Collectors.joining(", ", "<", ">"));
+
+            case ARRAY:
+                return typeName(((ArrayType) mirror).getComponentType()) + "[]";
+
+            case TYPEVAR:
+                return ((TypeVariable) mirror).asElement().getSimpleName().toString();
+
+            case WILDCARD:
+                var wildcard = (WildcardType) mirror;
+                if (wildcard.getExtendsBound() != null) {
+                    return "? extends " + typeName(wildcard.getExtendsBound());
+                } else if (wildcard.getSuperBound() != null) {
+                    return "? super " + typeName(wildcard.getSuperBound());
+                }
+                return "?";
+        }
+
+        return primitiveName(mirror);
+    }
+
+    /**
+     * Get name of primitive type.
+     *
+     * @param mirror compile-time type
+     * @return name of primitive type ("int", "long", ...)
+     */
+    private static String primitiveName(TypeMirror mirror) {
+        return mirror.getKind().name().toLowerCase();
+    }
+
+    /**
+     * Get constraint annotations of type in order of declaration.
+     *
+     * @param mirror compile-time type
+     * @return annotations
+     */
+    private Annotation[] constraintsOf(TypeMirror mirror) {
+        var annotations = new ArrayList<Annotation>();
+
+        for (var annotationMirror : mirror.getAnnotationMirrors()) {
+            Element annotationElement = annotationMirror.getAnnotationType().asElement();
+            var name = ((TypeElement) annotationElement).getQualifiedName().toString();
+
+            for (var constraint : CONSTRAINTS) {
+                if (constraint.getName().equals(name)) {
+                    annotations.add(annotationOf(constraint, annotationMirror));
+                }
+            }
+        }
+
+        return annotations.toArray(new Annotation[0]);
+    }
+
+    /**
+     * Create annotation instance with values of annotation mirror.
+     *
+     * @param annotationType class of annotation
+     * @param annotationMirror annotation mirror
+     * @return annotation
+     */
+    private Annotation annotationOf(Class<? extends Annotation> annotationType,
+                                    AnnotationMirror annotationMirror) {
+        var values = new HashMap<String, Object>();
+
+        for (var entry : elements.getElementValuesWithDefaults(annotationMirror).entrySet()) {
+            var value = entry.getValue().getValue();
+            if (value instanceof List) {
+                value = ((List<?>) value).stream()
+                        .map(v -> ((AnnotationValue) v).getValue().toString())
+                        .toArray(String[]::new);
+            }
+            values.put(entry.getKey().getSimpleName().toString(), value);
+        }
+
+        InvocationHandler handler = (proxy, method, arguments) -> {
+            switch (method.getName()) {
+                case "annotationType":
+                    return annotationType;
+
+                case "toString":
+                    return "@" + annotationType.getName() + values;
+
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+
+                case "equals":
+                    return proxy == arguments[0];
+            }
+
+            var value = values.get(method.getName());
+            return value instanceof String[] ? ((String[]) value).clone() : value;
+        };
+
+        return (Annotation) Proxy.newProxyInstance(annotationType.getClassLoader(),
+                new Class<?>[]{annotationType}, handler);
+    }
+
+    /**
+     * Type with name.
+     */
+    private static class NamedType implements Type {
+
+        /**
+         * Type name.
+         */
+        private final String typeName;
+
+        /**
+         * Constructor.
+         *
+         * @param typeName type name
+         */
+        NamedType(String typeName) {
+            this.typeName = typeName;
+        }
+
+        @Override
+        public String getTypeName() {
+            return typeName;
+        }
+
+        @Override
+        public String toString() {
+            return typeName;
+        }
+    }
+
+    /**
+     * Parameterized type.
+     */
+    private static class MirrorParameterizedType implements ParameterizedType {
+
+        /**
+         * Raw type.
+         */
+        private final Type rawType;
+
+        /**
+         * Type arguments.
+         */
+        private final Type[] arguments;
+
+        /**
+         * Constructor.
+         *
+         * @param rawType raw type
+         * @param arguments annotated type arguments
+         */
+        MirrorParameterizedType(Type rawType, AnnotatedType[] arguments) {
+            this.rawType = rawType;
+            this.arguments = new Type[arguments.length];
+            for (var i = 0; i < arguments.length; ++i) {
+                this.arguments[i] = arguments[i].getType();
+            }
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return arguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return rawType;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return null;
+        }
+
+        @Override
+        public String getTypeName() {
+            var names = new ArrayList<String>(arguments.length);
+            for (var argument : arguments) {
+                names.add(argument.getTypeName());
+            }
+            return rawType.getTypeName() + "<" + String.join(", ", names) + ">";
+        }
+
+        @Override
+        public String toString() {
+            return getTypeName();
+        }
+    }
+
+    /**
+     * Annotated type.
+     */
+    private static class MirrorAnnotatedType implements AnnotatedType {
+
+        /**
+         * Type.
+         */
+        private final Type type;
+
+        /**
+         * Constraint annotations.
+         */
+        private final Annotation[] annotations;
+
+        /**
+         * Constructor.
+         *
+         * @param type type
+         * @param annotations constraint annotations
+         */
+        MirrorAnnotatedType(Type type, Annotation[] annotations) {
+            this.type = type;
+            this.annotations = annotations;
+        }
+
+        @Override
+        public Type getType() {
+            return type;
+        }
+
+        @Override
+        public <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
+            for (var annotation : annotations) {
+                if (annotation.annotationType() == annotationClass) {
+                    return annotationClass.cast(annotation);
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Annotation[] getAnnotations() {
+            return annotations.clone();
+        }
+
+        @Override
+        public Annotation[] getDeclaredAnnotations() {
+            return annotations.clone();
+        }
+    }
+
+    /**
+     * Annotated parameterized type.
+     */
+    private static class MirrorAnnotatedParameterizedType extends MirrorAnnotatedType
+            implements AnnotatedParameterizedType {
+
+        /**
+         * Annotated type arguments.
+         */
+        private final AnnotatedType[] arguments;
+
+        /**
+         * Constructor.
+         *
+         * @param type type
+         * @param annotations constraint annotations
+         * @param arguments annotated type arguments
+         */
+        MirrorAnnotatedParameterizedType(Type type, Annotation[] annotations,
+                                         AnnotatedType[] arguments) {
+            super(type, annotations);
+            this.arguments = arguments;
+        }
+
+        @Override
+        public AnnotatedType[] getAnnotatedActualTypeArguments() {
+            return arguments.clone();
+        }
+
+        @Override
+        public AnnotatedType getAnnotatedOwnerType() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,419 @@
+package solution.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-only set of strings in memory-mapped file.
+ * <p>
+ * Layout of file (big-endian): header (magic, version, count of values, count of
+ * hash functions and size of Bloom filter in longs), bits of Bloom filter, offsets
+ * of values and values sorted by their UTF-8 bytes, every value is prefixed with
+ * its length (unsigned short). Lookup checks Bloom filter (by
+ * {@link String#hashCode()}, which is cached by String) and then runs binary search
+ * comparing chars of value, encoded on the fly, with bytes of file, so values of
+ * dictionary are never decoded and nothing is allocated.
+ * </p>
+ * <p>
+ * Dictionaries are shared: {@link #open(String)} maps every file once per process.
+ * </p>
+ */
+public class MappedDictionary {
+
+    /**
+     * Magic number of compiled dictionary ("SDIC").
+     */
+    private static final int MAGIC = 0x53444943;
+
+    /**
+     * Version of layout.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Size of header in bytes.
+     */
+    private static final int HEADER_SIZE = 20;
+
+    /**
+     * Bits of Bloom filter per value (about 1% of false positives).
+     */
+    private static final int BITS_PER_VALUE = 10;
+
+    /**
+     * Count of hash functions of Bloom filter.
+     */
+    private static final int HASH_COUNT = 7;
+
+    /**
+     * Opened dictionaries by absolute paths of files.
+     */
+    private static final ConcurrentHashMap<Path, MappedDictionary> DICTIONARIES =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Opened dictionaries by paths as they were given (lookup without resolving path).
+     */
+    private static final ConcurrentHashMap<String, MappedDictionary> BY_NAME =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Mapped file.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Count of values.
+     */
+    private final int size;
+
+    /**
+     * Count of hash functions of Bloom filter.
+     */
+    private final int hashCount;
+
+    /**
+     * Count of bits of Bloom filter.
+     */
+    private final long bloomBits;
+
+    /**
+     * Position of offsets of values.
+     */
+    private final int offsetsPosition;
+
+    /**
+     * Constructor.
+     *
+     * @param buffer mapped file
+     */
+    private MappedDictionary(ByteBuffer buffer) {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC ||
+                buffer.getInt(4) != VERSION) {
+            throw new InvalidParameterException("Invalid format of dictionary");
+        }
+
+        this.buffer = buffer;
+        this.size = buffer.getInt(8);
+        this.hashCount = buffer.getInt(12);
+        var bloomWords = buffer.getInt(16);
+        this.bloomBits = (long) bloomWords * Long.SIZE;
+        this.offsetsPosition = HEADER_SIZE + bloomWords * Long.BYTES;
+    }
+
+    /**
+     * Open dictionary. Every file is mapped once, then the same dictionary is returned.
+     * Text file is compiled into temporary file first.
+     *
+     * @param path path to text file (one value per line) or compiled dictionary
+     * @return dictionary
+     * @throws InvalidParameterException if dictionary can't be read
+     */
+    public static MappedDictionary open(String path) {
+        var dictionary = BY_NAME.get(path);
+        if (dictionary == null) {
+            Path file;
+            try {
+                file = Path.of(path).toAbsolutePath().normalize();
+            } catch (InvalidPathException exception) {
+                throw new InvalidParameterException("Invalid path of dictionary \"" + path + "\"");
+            }
+
+            dictionary = DICTIONARIES.computeIfAbsent(file, MappedDictionary::load);
+            BY_NAME.putIfAbsent(path, dictionary);
+        }
+
+        return dictionary;
+    }
+
+    /**
+     * Load dictionary from file.
+     *
+     * @param file path to text file or compiled dictionary
+     * @return dictionary
+     */
+    private static MappedDictionary load(Path file) {
+        try {
+            if (isCompiled(file)) {
+                return new MappedDictionary(map(file));
+            }
+
+            var compiled = Files.createTempFile("dictionary", ".sdic");
+            try {
+                compile(file, compiled);
+                return new MappedDictionary(map(compiled));
+            } finally {
+                // Mapping stays valid after file is deleted (where it's supported)
+                try {
+                    Files.delete(compiled);
+                } catch (IOException exception) {
+                    compiled.toFile().deleteOnExit();
+                }
+            }
+        } catch (IOException exception) {
+            throw new InvalidParameterException("Can't read dictionary \"" + file + "\": " +
+                    exception.getMessage());
+        }
+    }
+
+    /**
+     * Check if file is compiled dictionary.
+     *
+     * @param file file
+     * @return true if file starts with magic number
+     * @throws IOException if file can't be read
+     */
+    private static boolean isCompiled(Path file) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var header = ByteBuffer.allocate(Integer.BYTES);
+            return channel.read(header, 0) == Integer.BYTES && header.getInt(0) == MAGIC;
+        }
+    }
+
+    /**
+     * Map file into memory.
+     *
+     * @param file file
+     * @return mapped file
+     * @throws IOException if file can't be mapped
+     */
+    private static MappedByteBuffer map(Path file) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Compile text file (one value per line, UTF-8) into dictionary. Empty lines are
+     * skipped, duplicates are removed.
+     *
+     * @param source text file
+     * @param target compiled dictionary
+     * @throws IOException if files can't be read or written
+     */
+    public static void compile(Path source, Path target) throws IOException {
+        var lines = new ArrayList<String>();
+        try (var reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (!line.isEmpty()) {
+                    lines.add(line);
+                }
+            }
+        }
+
+        var values = new byte[lines.size()][];
+        var hashes = new int[lines.size()];
+        for (var i = 0; i < values.length; i++) {
+            values[i] = lines.get(i).getBytes(StandardCharsets.UTF_8);
+            if (values[i].length > 0xFFFF) {
+                throw new InvalidParameterException("Value of dictionary is too long: " +
+                        values[i].length + " bytes");
+            }
+        }
+        Arrays.sort(values, Arrays::compareUnsigned);
+
+        var count = 0;
+        for (var i = 0; i < values.length; i++) {
+            if (count == 0 || !Arrays.equals(values[count - 1], values[i])) {
+                values[count++] = values[i];
+            }
+        }
+        for (var i = 0; i < count; i++) {
+            hashes[i] = new String(values[i], StandardCharsets.UTF_8).hashCode();
+        }
+
+        var bloomWords = Math.max(1, (int) (((long) count * BITS_PER_VALUE + 63) / 64));
+        var bloom = new long[bloomWords];
+        for (var i = 0; i < count; i++) {
+            var hash = mix(hashes[i]);
+            for (var j = 0; j < HASH_COUNT; j++) {
+                var bit = bitOf(hash, j, (long) bloomWords * Long.SIZE);
+                bloom[(int) (bit >>> 6)] |= 1L << bit;
+            }
+        }
+
+        var offsetsPosition = HEADER_SIZE + (long) bloomWords * Long.BYTES;
+        var fileSize = offsetsPosition + (long) count * Integer.BYTES;
+        for (var i = 0; i < count; i++) {
+            fileSize += Short.BYTES + values[i].length;
+        }
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new InvalidParameterException("Dictionary is too large: " + fileSize +
+                    " bytes");
+        }
+
+        var buffer = ByteBuffer.allocate((int) fileSize);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(HASH_COUNT).putInt(bloomWords);
+        for (var word : bloom) {
+            buffer.putLong(word);
+        }
+
+        var position = (int) (offsetsPosition + (long) count * Integer.BYTES);
+        for (var i = 0; i < count; i++) {
+            buffer.putInt(position);
+            position += Short.BYTES + values[i].length;
+        }
+        for (var i = 0; i < count; i++) {
+            buffer.putShort((short) values[i].length).put(values[i]);
+        }
+
+        Files.write(target, buffer.array());
+    }
+
+    /**
+     * Check if dictionary contains value.
+     *
+     * @param value value
+     * @return true if value is in dictionary
+     */
+    public boolean contains(String value) {
+        if (!mightContain(value)) {
+            return false;
+        }
+
+        var low = 0;
+        var high = size - 1;
+        while (low <= high) {
+            var middle = (low + high) >>> 1;
+            var position = buffer.getInt(offsetsPosition + middle * Integer.BYTES);
+            var comparison = compare(value, position);
+
+            if (comparison > 0) {
+                low = middle + 1;
+            } else if (comparison < 0) {
+                high = middle - 1;
+            } else {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Check Bloom filter.
+     *
+     * @param value value
+     * @return false if value is surely not in dictionary
+     */
+    public boolean mightContain(String value) {
+        var hash = mix(value.hashCode());
+        for (var i = 0; i < hashCount; i++) {
+            var bit = bitOf(hash, i, bloomBits);
+            var word = buffer.getLong(HEADER_SIZE + (int) (bit >>> 6) * Long.BYTES);
+            if ((word & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Compare value with value of dictionary by UTF-8 bytes (unsigned). Unpaired
+     * surrogates are encoded as 3 bytes, which never occur in valid UTF-8, so such
+     * values are never found.
+     *
+     * @param value value
+     * @param position position of value of dictionary (its length)
+     * @return negative, zero or positive number as value is less than, equal to or
+     * greater than value of dictionary
+     */
+    private int compare(String value, int position) {
+        var length = buffer.getShort(position) & 0xFFFF;
+        var start = position + Short.BYTES;
+        var index = 0;
+
+        for (var i = 0; i < value.length(); i++) {
+            int codePoint = value.charAt(i);
+            if (Character.isHighSurrogate((char) codePoint) && i + 1 < value.length() &&
+                    Character.isLowSurrogate(value.charAt(i + 1))) {
+                codePoint = Character.toCodePoint((char) codePoint, value.charAt(++i));
+            }
+
+            var byteCount = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 :
+                    codePoint < 0x10000 ? 3 : 4;
+            for (var j = 0; j < byteCount; j++) {
+                if (index == length) {
+                    return 1;
+                }
+
+                var comparison = Integer.compare(utf8Byte(codePoint, byteCount, j),
+                        buffer.get(start + index++) & 0xFF);
+                if (comparison != 0) {
+                    return comparison;
+                }
+            }
+        }
+
+        return index == length ? 0 : -1;
+    }
+
+    /**
+     * Get byte of UTF-8 encoding of code point.
+     *
+     * @param codePoint code point
+     * @param byteCount count of bytes of encoding
+     * @param index index of byte
+     * @return byte (unsigned)
+     */
+    private static int utf8Byte(int codePoint, int byteCount, int index) {
+        if (byteCount == 1) {
+            return codePoint;
+        }
+
+        var shift = 6 * (byteCount - 1 - index);
+        if (index == 0) {
+            return (0xF00 >> byteCount & 0xF0) | (codePoint >> shift);
+        }
+
+        return 0x80 | (codePoint >> shift & 0x3F);
+    }
+
+    /**
+     * Mix bits of hash code into 64-bit hash (finalizer of SplitMix64).
+     *
+     * @param hashCode hash code
+     * @return hash
+     */
+    private static long mix(int hashCode) {
+        var hash = hashCode * 0x9E3779B97F4A7C15L;
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+
+    /**
+     * Get bit of Bloom filter for hash function.
+     *
+     * @param hash hash of value
+     * @param function index of hash function
+     * @param bits count of bits of filter
+     * @return index of bit
+     */
+    private static long bitOf(long hash, int function, long bits) {
+        var first = (int) hash;
+        var second = (int) (hash >>> 32) | 1;
+        return Math.floorMod(first + (long) function * second, bits);
+    }
+
+    /**
+     * Getter for size field.
+     *
+     * @return count of values
+     */
+    public int size() {
+        return size;
+    }
+}
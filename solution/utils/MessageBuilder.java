@@ -17,6 +17,35 @@ public class MessageBuilder {
         return "must be one of " + getStringRepresentationOfArray(values);
     }
 
+    /**
+     * Get error message for "@AnyOfDictionary" annotation.
+     *
+     * @param dictionary path to dictionary file
+     * @return error message
+     */
+    public static String getDictionaryErrorMessage(String dictionary) {
+        return "must be one of values from dictionary \"" + dictionary + "\"";
+    }
+
+    /**
+     * Get error message for cyclic reference between validated objects.
+     *
+     * @return error message
+     */
+    public static String getCycleErrorMessage() {
+        return "must not refer to object which contains it";
+    }
+
+    /**
+     * Get error message for nested object deeper than depth limit.
+     *
+     * @param maxDepth max depth of nested objects
+     * @return error message
+     */
+    public static String getDepthErrorMessage(int maxDepth) {
+        return "must not be nested deeper than " + maxDepth + " levels";
+    }
+
     /**
      * Get error message for "@Size" and "@InRange" annotations.
      *
@@ -3,10 +3,13 @@ package solution.utils;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.List;
 
 /**
  * Helper class for checking type of fields.
+ * <p>
+ * Types are classified by {@link TypeKind}: names are resolved to classes once
+ * and results are cached.
+ * </p>
  */
 public class TypeChecker {
 
@@ -17,7 +20,7 @@ public class TypeChecker {
      * @return true if given type name represents List, false - otherwise
      */
     public static boolean isList(String typeName) {
-        return typeName.startsWith("java.util.") && typeName.contains("List");
+        return TypeKind.ofName(typeName) == TypeKind.LIST;
     }
 
     /**
@@ -27,7 +30,7 @@ public class TypeChecker {
      * @return true if given type name represents Set, false - otherwise
      */
     public static boolean isSet(String typeName) {
-        return typeName.startsWith("java.util.") && typeName.contains("Set");
+        return TypeKind.ofName(typeName) == TypeKind.SET;
     }
 
     /**
@@ -37,7 +40,7 @@ public class TypeChecker {
      * @return true if given type name represents Collection or Map, false - otherwise
      */
     public static boolean isCollectionOrMap(String typeName) {
-        return isCollection(typeName) || isMap(typeName);
+        return TypeKind.ofName(typeName).isContainer();
     }
 
     /**
@@ -47,10 +50,7 @@ public class TypeChecker {
      * @return true if given type name represents Collection, false - otherwise
      */
     public static boolean isCollection(String typeName) {
-        return (isSet(typeName) || isList(typeName)
-                || typeName.startsWith("java.util.") &&
-                typeName.contains("Collection")) &&
-                !isMap(typeName);
+        return TypeKind.ofName(typeName).isCollection();
     }
 
     /**
@@ -60,7 +60,7 @@ public class TypeChecker {
      * @return true if given type name represents Map, false - otherwise
      */
     public static boolean isMap(String typeName) {
-        return typeName.startsWith("java.util.") && typeName.contains("Map");
+        return TypeKind.ofName(typeName) == TypeKind.MAP;
     }
 
     /**
@@ -70,8 +70,17 @@ public class TypeChecker {
      * @return true if given field is parameterized List, false - otherwise
      */
     public static boolean isParameterizedList(Field field) {
-        return isList(field.getAnnotatedType().getType().getTypeName())
-                && field.getAnnotatedType().getType() instanceof ParameterizedType;
+        return isParameterizedList(field.getAnnotatedType().getType());
+    }
+
+    /**
+     * Check if given type is parameterized List.
+     *
+     * @param type type
+     * @return true if given type is parameterized List, false - otherwise
+     */
+    public static boolean isParameterizedList(Type type) {
+        return type instanceof ParameterizedType && TypeKind.of(type) == TypeKind.LIST;
     }
 
     /**
@@ -81,8 +90,17 @@ public class TypeChecker {
      * @return true if given field is parameterized Map, false - otherwise
      */
     public static boolean isParameterizedMap(Field field) {
-        return isMap(field.getAnnotatedType().getType().getTypeName())
-                && field.getAnnotatedType().getType() instanceof ParameterizedType;
+        return isParameterizedMap(field.getAnnotatedType().getType());
+    }
+
+    /**
+     * Check if given type is parameterized Map.
+     *
+     * @param type type
+     * @return true if given type is parameterized Map, false - otherwise
+     */
+    public static boolean isParameterizedMap(Type type) {
+        return type instanceof ParameterizedType && TypeKind.of(type) == TypeKind.MAP;
     }
 
     /**
@@ -92,8 +110,17 @@ public class TypeChecker {
      * @return true if given field is parameterized Collection, false - otherwise
      */
     public static boolean isParameterizedCollection(Field field) {
-        return isCollection(field.getAnnotatedType().getType().getTypeName())
-                && field.getAnnotatedType().getType() instanceof ParameterizedType;
+        return isParameterizedCollection(field.getAnnotatedType().getType());
+    }
+
+    /**
+     * Check if given type is parameterized Collection.
+     *
+     * @param type type
+     * @return true if given type is parameterized Collection, false - otherwise
+     */
+    public static boolean isParameterizedCollection(Type type) {
+        return type instanceof ParameterizedType && TypeKind.of(type).isCollection();
     }
 
     /**
@@ -103,9 +130,7 @@ public class TypeChecker {
      * @return true if class is custom, false - otherwise
      */
     public static boolean isCustomClass(String className) {
-        return !className.startsWith("java.lang") &&
-                !className.startsWith("java.util") &&
-                !isPrimitive(className);
+        return TypeKind.ofName(className).isCustom();
     }
 
     /**
@@ -115,8 +140,9 @@ public class TypeChecker {
      * @return true if type is primitive, false - otherwise
      */
     public static boolean isPrimitive(String type) {
-        return List.of("int", "long", "float",
-                "double", "char", "byte", "short", "boolean").contains(type);
+        var kind = TypeKind.ofName(type);
+        return (kind.isIntegral() || kind == TypeKind.OTHER_PRIMITIVE) &&
+                type.indexOf('.') < 0;
     }
 
     /**
@@ -126,13 +152,6 @@ public class TypeChecker {
      * @return true if byteList has nested lists, false - otherwise
      */
     public static boolean isNestedList(Type type) {
-        if (type instanceof ParameterizedType) {
-            var typeName = type.getTypeName().
-                    substring(0, type.getTypeName().indexOf('<'));
-
-            return TypeChecker.isList(typeName);
-        } else {
-            return false;
-        }
+        return isParameterizedList(type);
     }
 }
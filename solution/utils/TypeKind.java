@@ -0,0 +1,228 @@
+package solution.utils;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Kinds of types which matter for validation.
+ * <p>
+ * Kind of class is resolved by {@link Class#isAssignableFrom(Class)} once and cached
+ * in {@link ClassValue}, so classification of values costs one lookup. Types known
+ * only by name (at compile time) are resolved through classes of platform.
+ * </p>
+ */
+public enum TypeKind {
+    BYTE, // byte or Byte
+    SHORT, // short or Short
+    INTEGER, // int or Integer
+    LONG, // long or Long
+    OTHER_PRIMITIVE, // boolean, char, float or double
+    STRING, // String
+    LIST, // implementation of List
+    SET, // implementation of Set
+    MAP, // implementation of Map
+    COLLECTION, // other implementation of Collection
+    PLATFORM, // other class of Java platform
+    CUSTOM; // class of application
+
+    /**
+     * Cache of kinds of classes.
+     */
+    private static final ClassValue<TypeKind> KINDS = new ClassValue<>() {
+        @Override
+        protected TypeKind computeValue(Class<?> type) {
+            return classify(type);
+        }
+    };
+
+    /**
+     * Cache of kinds of type names.
+     */
+    private static final Map<String, TypeKind> NAMED_KINDS = new ConcurrentHashMap<>();
+
+    /**
+     * Get kind of class.
+     *
+     * @param type class
+     * @return kind of class
+     */
+    public static TypeKind of(Class<?> type) {
+        return KINDS.get(type);
+    }
+
+    /**
+     * Get kind of type (raw type is used for parameterized type).
+     *
+     * @param type type
+     * @return kind of type, {@link #CUSTOM} for type variables
+     */
+    public static TypeKind of(Type type) {
+        if (type instanceof Class) {
+            return of((Class<?>) type);
+        } else if (type instanceof ParameterizedType) {
+            return of(((ParameterizedType) type).getRawType());
+        }
+
+        return ofName(type.getTypeName());
+    }
+
+    /**
+     * Get kind of type by its name.
+     *
+     * @param typeName name of type (type arguments are ignored)
+     * @return kind of type, {@link #CUSTOM} if type isn't class of platform
+     */
+    public static TypeKind ofName(String typeName) {
+        var argumentsStart = typeName.indexOf('<');
+        var rawName = argumentsStart < 0 ? typeName : typeName.substring(0, argumentsStart);
+        return NAMED_KINDS.computeIfAbsent(rawName, TypeKind::classifyName);
+    }
+
+    /**
+     * Classify type by its name.
+     *
+     * @param typeName name of raw type
+     * @return kind of type
+     */
+    private static TypeKind classifyName(String typeName) {
+        switch (typeName) {
+            case "byte":
+                return BYTE;
+
+            case "short":
+                return SHORT;
+
+            case "int":
+                return INTEGER;
+
+            case "long":
+                return LONG;
+
+            case "boolean":
+            case "char":
+            case "float":
+            case "double":
+                return OTHER_PRIMITIVE;
+        }
+
+        try {
+            return of(Class.forName(typeName, false, ClassLoader.getPlatformClassLoader()));
+        } catch (ClassNotFoundException | LinkageError exception) {
+            return CUSTOM;
+        }
+    }
+
+    /**
+     * Classify class.
+     *
+     * @param type class
+     * @return kind of class
+     */
+    private static TypeKind classify(Class<?> type) {
+        if (type == byte.class || type == Byte.class) {
+            return BYTE;
+        } else if (type == short.class || type == Short.class) {
+            return SHORT;
+        } else if (type == int.class || type == Integer.class) {
+            return INTEGER;
+        } else if (type == long.class || type == Long.class) {
+            return LONG;
+        } else if (type.isPrimitive()) {
+            return OTHER_PRIMITIVE;
+        } else if (type == String.class) {
+            return STRING;
+        } else if (List.class.isAssignableFrom(type)) {
+            return LIST;
+        } else if (Set.class.isAssignableFrom(type)) {
+            return SET;
+        } else if (Map.class.isAssignableFrom(type)) {
+            return MAP;
+        } else if (Collection.class.isAssignableFrom(type)) {
+            return COLLECTION;
+        }
+
+        var loader = type.getClassLoader();
+        if (type.isArray() || loader == null || loader == ClassLoader.getPlatformClassLoader()) {
+            return PLATFORM;
+        }
+
+        return CUSTOM;
+    }
+
+    /**
+     * Check if kind is integral number.
+     *
+     * @return true for byte, short, int, long and their wrappers
+     */
+    public boolean isIntegral() {
+        return this == BYTE || this == SHORT || this == INTEGER || this == LONG;
+    }
+
+    /**
+     * Check if kind is Collection (List, Set or other).
+     *
+     * @return true for collections
+     */
+    public boolean isCollection() {
+        return this == LIST || this == SET || this == COLLECTION;
+    }
+
+    /**
+     * Check if kind is Collection or Map.
+     *
+     * @return true for collections and maps
+     */
+    public boolean isContainer() {
+        return isCollection() || this == MAP;
+    }
+
+    /**
+     * Check if kind is class of application (it may be constrained).
+     *
+     * @return true for classes of application
+     */
+    public boolean isCustom() {
+        return this == CUSTOM;
+    }
+
+    /**
+     * Get value type, which constraints are applied to.
+     *
+     * @return value type or null, if constraints can't be applied to it.
+     * For more information check {@link ValueType}
+     */
+    public ValueType toValueType() {
+        switch (this) {
+            case BYTE:
+                return ValueType.BYTE;
+
+            case SHORT:
+                return ValueType.SHORT;
+
+            case INTEGER:
+                return ValueType.INTEGER;
+
+            case LONG:
+                return ValueType.LONG;
+
+            case STRING:
+                return ValueType.STRING;
+
+            case LIST:
+                return ValueType.LIST;
+
+            case SET:
+                return ValueType.SET;
+
+            case MAP:
+                return ValueType.MAP;
+        }
+
+        return null;
+    }
+}
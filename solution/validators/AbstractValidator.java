@@ -0,0 +1,207 @@
+package solution.validators;
+
+import solution.validators.batch.BatchResult;
+import solution.validators.batch.Partition;
+import solution.validators.jfr.ValidationEvent;
+
+import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Base of validation engines.
+ * <p>
+ * Engine only resolves {@link ClassValidator} for classes, runs, options and batches
+ * are handled here in the same way for all engines.
+ * </p>
+ */
+public abstract class AbstractValidator implements Validator, ClassValidator {
+
+    /**
+     * Validator of classes without "@Constrained" annotation.
+     */
+    protected static final ClassValidator UNCONSTRAINED = (object, context) -> {
+    };
+
+    /**
+     * Resolve validator of objects of given class.
+     * <p>
+     * Result can be kept and reused for all objects of this class.
+     * </p>
+     *
+     * @param type validated class
+     * @return validator of class
+     */
+    public abstract ClassValidator resolve(Class<?> type);
+
+    /**
+     * Validate object.
+     *
+     * @param object object
+     * @return set of errors. For more information check {@link ValidationError}
+     */
+    @Override
+    public Set<ValidationError> validate(Object object) {
+        return validate(object, ValidationOptions.ALL_ERRORS);
+    }
+
+    /**
+     * Validate object with options.
+     *
+     * @param object object
+     * @param options options of validation. For more information check {@link ValidationOptions}
+     * @return set of errors. For more information check {@link ValidationError}
+     */
+    @Override
+    public Set<ValidationError> validate(Object object, ValidationOptions options) {
+        var sink = new ErrorSetSink();
+        run(object, options, sink);
+        return sink.getErrors();
+    }
+
+    /**
+     * Validate object and pass every error to sink.
+     *
+     * @param object object
+     * @param sink receiver of errors. For more information check {@link ErrorSink}
+     * @return count of errors
+     */
+    @Override
+    public int validate(Object object, ErrorSink sink) {
+        return validate(object, ValidationOptions.ALL_ERRORS, sink);
+    }
+
+    /**
+     * Validate object with options and pass every error to sink.
+     *
+     * @param object object
+     * @param options options of validation. For more information check {@link ValidationOptions}
+     * @param sink receiver of errors. For more information check {@link ErrorSink}
+     * @return count of errors
+     */
+    @Override
+    public int validate(Object object, ValidationOptions options, ErrorSink sink) {
+        return run(object, options, sink).getErrorCount();
+    }
+
+    /**
+     * Check if object is valid. Validation stops on the first error, errors aren't created.
+     *
+     * @param object object
+     * @return true if object has no errors
+     */
+    @Override
+    public boolean isValid(Object object) {
+        return !run(object, ValidationOptions.VALIDITY_CHECK, null).hasErrors();
+    }
+
+    /**
+     * Run validation of object and emit {@link ValidationEvent}, if it's enabled.
+     *
+     * @param object object
+     * @param options options of validation. For more information check {@link ValidationOptions}
+     * @param sink receiver of errors, null if errors aren't collected
+     * @return context of finished run
+     */
+    private ValidationContext run(Object object, ValidationOptions options, ErrorSink sink) {
+        var context = new ValidationContext(this, options, sink);
+        var event = new ValidationEvent();
+        if (!event.isEnabled()) {
+            context.validateRoot(object, this);
+            return context;
+        }
+
+        event.begin();
+        context.validateRoot(object, this);
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.set(object, object == null ? 0 : context.getNestedCount() + 1,
+                    context.getErrorCount(), options.isCollectingErrors());
+            event.commit();
+        }
+
+        return context;
+    }
+
+    /**
+     * Validate items.
+     *
+     * @param items items
+     * @return result of batch. For more information check {@link BatchResult}
+     */
+    @Override
+    public BatchResult validateAll(Iterable<?> items) {
+        return validateAll(items, ValidationOptions.ALL_ERRORS);
+    }
+
+    /**
+     * Validate items with options. If options have pool, items are validated by it
+     * in parallel.
+     *
+     * @param items items
+     * @param options options of validation. For more information check {@link ValidationOptions}
+     * @return result of batch. For more information check {@link BatchResult}
+     */
+    @Override
+    public BatchResult validateAll(Iterable<?> items, ValidationOptions options) {
+        var pool = options.getPool();
+        if (pool == null) {
+            var accumulator = new BatchResult.Accumulator(this, options);
+            items.forEach(accumulator::accept);
+            return accumulator.toResult();
+        }
+
+        var collector = BatchResult.collector(this, options);
+        return pool.invoke(ForkJoinTask.adapt(() ->
+                StreamSupport.stream(items.spliterator(), true).collect(collector)));
+    }
+
+    /**
+     * Validate items of stream. Parallel stream is validated in parallel.
+     *
+     * @param items items
+     * @return result of batch. For more information check {@link BatchResult}
+     */
+    @Override
+    public BatchResult validateAll(Stream<?> items) {
+        return validateAll(items, ValidationOptions.ALL_ERRORS);
+    }
+
+    /**
+     * Validate items of stream with options. Parallel stream is validated in parallel.
+     *
+     * @param items items
+     * @param options options of validation. For more information check {@link ValidationOptions}
+     * @return result of batch. For more information check {@link BatchResult}
+     */
+    @Override
+    public BatchResult validateAll(Stream<?> items, ValidationOptions options) {
+        return items.collect(BatchResult.collector(this, options));
+    }
+
+    /**
+     * Get collector which partitions items into valid and invalid ones.
+     *
+     * @param <T> type of items
+     * @return collector. For more information check {@link Partition}
+     */
+    @Override
+    public <T> Collector<T, ?, Partition<T>> partitioning() {
+        return partitioning(ValidationOptions.ALL_ERRORS);
+    }
+
+    /**
+     * Get collector which partitions items into valid and invalid ones.
+     *
+     * @param options options of validation. For more information check {@link ValidationOptions}
+     * @param <T> type of items
+     * @return collector. For more information check {@link Partition}
+     */
+    @Override
+    public <T> Collector<T, ?, Partition<T>> partitioning(ValidationOptions options) {
+        return Partition.collector(this, options);
+    }
+}
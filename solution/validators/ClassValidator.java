@@ -0,0 +1,19 @@
+package solution.validators;
+
+/**
+ * Validator of objects inside of validation run.
+ * <p>
+ * Unlike {@link Validator}, it doesn't create own run: errors and path
+ * are taken from given {@link ValidationContext}.
+ * </p>
+ */
+public interface ClassValidator {
+
+    /**
+     * Validate object inside of validation run.
+     *
+     * @param object object
+     * @param context context of validation run
+     */
+    void validate(Object object, ValidationContext context);
+}
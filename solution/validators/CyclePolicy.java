@@ -0,0 +1,13 @@
+package solution.validators;
+
+/**
+ * Handling of cyclic references between validated objects.
+ * <p>
+ * Object which refers to one of objects containing it (directly or through
+ * collections) isn't validated again, so validation of cyclic graph ends.
+ * </p>
+ */
+public enum CyclePolicy {
+    STOP, // Reference is skipped silently (default policy)
+    REPORT // Reference is reported as error at its path
+}
@@ -1,7 +1,13 @@
 package solution.validators;
 
+import java.util.List;
+
 /**
  * Error content.
+ * <p>
+ * Path is kept as segments, its string renderings are built on the first call
+ * and cached.
+ * </p>
  */
 public class ErrorContent implements ValidationError {
 
@@ -11,25 +17,46 @@ public class ErrorContent implements ValidationError {
     private final String message;
 
     /**
-     * Path to field which causes the error.
+     * Segments of path to field which causes the error.
      */
-    private final String path;
+    private final List<PathSegment> pathSegments;
 
     /**
      * Value of field.
      */
     private final Object failedValue;
 
+    /**
+     * Dotted path, null until it's requested.
+     */
+    private String path;
+
+    /**
+     * JSON Pointer, null until it's requested.
+     */
+    private String jsonPointer;
+
     /**
      * Constructor.
      *
      * @param message error message
-     * @param path path to field
+     * @param path path to field in format of path tracker ("/field/[1]/")
      * @param failedValue failed value
      */
     public ErrorContent(String message, String path, Object failedValue) {
+        this(message, PathSegment.parse(path), failedValue);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param message error message
+     * @param pathSegments segments of path to field
+     * @param failedValue failed value
+     */
+    public ErrorContent(String message, List<PathSegment> pathSegments, Object failedValue) {
         this.message = message;
-        this.path = path;
+        this.pathSegments = pathSegments;
         this.failedValue = failedValue;
     }
 
@@ -62,36 +89,40 @@ public class ErrorContent implements ValidationError {
     /**
      * Getter for path field.
      *
-     * @return path
+     * @return dotted path
      */
     @Override
     public String getPath() {
-        return getTransformedPath(path);
+        var result = path;
+        if (result == null) {
+            result = PathSegment.toDottedPath(pathSegments);
+            path = result;
+        }
+        return result;
     }
 
     /**
-     * Convert path representation.
+     * Getter for pathSegments field.
      *
-     * @param path path
-     * @return new path representation
+     * @return segments of path
      */
-    private String getTransformedPath(String path) {
-        if (path.length() < 2) {
-            return path;
-        }
-
-        var resultPath = path.substring(1, path.length() - 1);
-        resultPath = resultPath.replace("/", ".");
+    @Override
+    public List<PathSegment> getPathSegments() {
+        return pathSegments;
+    }
 
-        for (var i = 0; i < resultPath.length() - 2; ++i) {
-            if (resultPath.charAt(i + 1) == '[') {
-                resultPath = resultPath.substring(0, i) + resultPath.substring(i + 1);
-            }
-            if (resultPath.charAt(i) == ']' && resultPath.charAt(i + 2) == '[') {
-                resultPath = resultPath.substring(0, i + 1) + resultPath.substring(i + 2);
-            }
+    /**
+     * Getter for jsonPointer field.
+     *
+     * @return JSON Pointer
+     */
+    @Override
+    public String getJsonPointer() {
+        var result = jsonPointer;
+        if (result == null) {
+            result = PathSegment.toJsonPointer(pathSegments);
+            jsonPointer = result;
         }
-
-        return resultPath;
+        return result;
     }
 }
@@ -0,0 +1,37 @@
+package solution.validators;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sink which collects errors into set (used by {@link Validator#validate(Object)}).
+ */
+public class ErrorSetSink implements ErrorSink {
+
+    /**
+     * Set of errors. For more information check {@link ValidationError}.
+     */
+    private final Set<ValidationError> errors = new HashSet<>();
+
+    /**
+     * Add error to set.
+     *
+     * @param path path to value
+     * @param message message of failed constraint
+     * @param failedValue value which doesn't satisfy constraint
+     */
+    @Override
+    public void accept(List<PathSegment> path, String message, Object failedValue) {
+        errors.add(new ErrorContent(message, path, failedValue));
+    }
+
+    /**
+     * Getter for errors field.
+     *
+     * @return set of errors
+     */
+    public Set<ValidationError> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,25 @@
+package solution.validators;
+
+import java.util.List;
+
+/**
+ * Receiver of errors of validation run.
+ * <p>
+ * Sink is called for every error right when it's found, validator doesn't keep
+ * errors, so memory of run doesn't depend on count of errors (in parallel mode only
+ * errors of parts of large collections are kept until parts are merged in order).
+ * Sink is called by single thread at a time.
+ * </p>
+ */
+@FunctionalInterface
+public interface ErrorSink {
+
+    /**
+     * Receive error.
+     *
+     * @param path path to value. For more information check {@link PathSegment}
+     * @param message message of failed constraint
+     * @param failedValue value which doesn't satisfy constraint
+     */
+    void accept(List<PathSegment> path, String message, Object failedValue);
+}
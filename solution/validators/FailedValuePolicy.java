@@ -0,0 +1,203 @@
+package solution.validators;
+
+import java.security.InvalidParameterException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Policy of retention of failed values in errors.
+ * <p>
+ * Policy is applied when error is reported, so error never references large
+ * collection (or string) given for validation, and it can be collected as soon
+ * as validation ends. Policies are immutable.
+ * </p>
+ */
+public class FailedValuePolicy {
+
+    /**
+     * Kinds of retention.
+     */
+    public enum Retention {
+        FULL, // Failed value is kept as is (strings may be truncated)
+        SUMMARY, // Collection or Map is replaced with FailedValueSummary
+        DROP // Failed value isn't kept (it's null)
+    }
+
+    /**
+     * Keep failed values as is (default policy).
+     */
+    public static final FailedValuePolicy FULL =
+            new FailedValuePolicy(Retention.FULL, 0, Integer.MAX_VALUE);
+
+    /**
+     * Don't keep failed values.
+     */
+    public static final FailedValuePolicy DROP =
+            new FailedValuePolicy(Retention.DROP, 0, Integer.MAX_VALUE);
+
+    /**
+     * Kind of retention.
+     */
+    private final Retention retention;
+
+    /**
+     * Count of the first elements of Collection or Map which are kept in summary.
+     */
+    private final int firstElements;
+
+    /**
+     * Max length of kept strings (longer strings are truncated).
+     */
+    private final int maxStringLength;
+
+    /**
+     * Constructor.
+     *
+     * @param retention kind of retention
+     * @param firstElements count of the first elements kept in summary
+     * @param maxStringLength max length of kept strings
+     */
+    private FailedValuePolicy(Retention retention, int firstElements, int maxStringLength) {
+        this.retention = retention;
+        this.firstElements = firstElements;
+        this.maxStringLength = maxStringLength;
+    }
+
+    /**
+     * Get policy which replaces Collection and Map with summary: type, size and
+     * the first elements. For more information check {@link FailedValueSummary}.
+     *
+     * @param firstElements count of the first elements kept in summary
+     * @return policy
+     */
+    public static FailedValuePolicy summary(int firstElements) {
+        if (firstElements < 0) {
+            throw new InvalidParameterException("Count of elements can't be negative: " +
+                    firstElements);
+        }
+
+        return new FailedValuePolicy(Retention.SUMMARY, firstElements, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get the same policy which truncates strings (failed values and elements of
+     * summary) to given length.
+     *
+     * @param maxStringLength max length of kept strings
+     * @return policy
+     */
+    public FailedValuePolicy withMaxStringLength(int maxStringLength) {
+        if (maxStringLength < 1) {
+            throw new InvalidParameterException("Max length of string must be positive: " +
+                    maxStringLength);
+        }
+
+        return new FailedValuePolicy(retention, firstElements, maxStringLength);
+    }
+
+    /**
+     * Get value which is kept in error.
+     *
+     * @param failedValue failed value
+     * @return kept value
+     */
+    public Object apply(Object failedValue) {
+        switch (retention) {
+            case DROP:
+                return null;
+
+            case SUMMARY:
+                if (failedValue instanceof Collection) {
+                    var collection = (Collection<?>) failedValue;
+                    return new FailedValueSummary(collection.getClass().getName(),
+                            collection.size(), firstElementsOf(collection));
+                } else if (failedValue instanceof Map) {
+                    var map = (Map<?, ?>) failedValue;
+                    return new FailedValueSummary(map.getClass().getName(), map.size(),
+                            firstEntriesOf(map));
+                }
+        }
+
+        return truncate(failedValue);
+    }
+
+    /**
+     * Truncate string.
+     *
+     * @param value value
+     * @return truncated string or value itself, if it isn't long string
+     */
+    private Object truncate(Object value) {
+        if (value instanceof String && ((String) value).length() > maxStringLength) {
+            return ((String) value).substring(0, maxStringLength);
+        }
+
+        return value;
+    }
+
+    /**
+     * Get the first elements of Collection.
+     *
+     * @param collection collection
+     * @return the first elements
+     */
+    private ArrayList<Object> firstElementsOf(Collection<?> collection) {
+        var elements = new ArrayList<>(Math.min(firstElements, collection.size()));
+        for (var element : collection) {
+            if (elements.size() == firstElements) {
+                break;
+            }
+            elements.add(truncate(element));
+        }
+
+        return elements;
+    }
+
+    /**
+     * Get the first entries of Map.
+     *
+     * @param map map
+     * @return the first entries
+     */
+    private ArrayList<Object> firstEntriesOf(Map<?, ?> map) {
+        var entries = new ArrayList<>(Math.min(firstElements, map.size()));
+        for (var entry : map.entrySet()) {
+            if (entries.size() == firstElements) {
+                break;
+            }
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(truncate(entry.getKey()),
+                    truncate(entry.getValue())));
+        }
+
+        return entries;
+    }
+
+    /**
+     * Getter for retention field.
+     *
+     * @return kind of retention
+     */
+    public Retention getRetention() {
+        return retention;
+    }
+
+    /**
+     * Getter for firstElements field.
+     *
+     * @return count of the first elements of Collection or Map which are kept in summary
+     */
+    public int getFirstElements() {
+        return firstElements;
+    }
+
+    /**
+     * Getter for maxStringLength field.
+     *
+     * @return max length of kept strings
+     */
+    public int getMaxStringLength() {
+        return maxStringLength;
+    }
+}
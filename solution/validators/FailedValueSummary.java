@@ -0,0 +1,113 @@
+package solution.validators;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Summary of Collection or Map which is kept in error instead of failed value.
+ * For more information check {@link FailedValuePolicy}.
+ */
+public class FailedValueSummary {
+
+    /**
+     * Name of class of failed value.
+     */
+    private final String typeName;
+
+    /**
+     * Size of failed value.
+     */
+    private final int size;
+
+    /**
+     * The first elements (entries of Map).
+     */
+    private final List<Object> firstElements;
+
+    /**
+     * Constructor.
+     *
+     * @param typeName name of class of failed value
+     * @param size size of failed value
+     * @param firstElements the first elements (entries of Map)
+     */
+    public FailedValueSummary(String typeName, int size, List<Object> firstElements) {
+        this.typeName = typeName;
+        this.size = size;
+        this.firstElements = Collections.unmodifiableList(firstElements);
+    }
+
+    /**
+     * Getter for typeName field.
+     *
+     * @return name of class of failed value
+     */
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * Getter for size field.
+     *
+     * @return size of failed value
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Getter for firstElements field.
+     *
+     * @return the first elements (entries of Map)
+     */
+    public List<Object> getFirstElements() {
+        return firstElements;
+    }
+
+    /**
+     * Check if summaries are equal.
+     *
+     * @param object other object
+     * @return true if summaries have the same type, size and elements
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof FailedValueSummary)) {
+            return false;
+        }
+
+        var other = (FailedValueSummary) object;
+        return size == other.size && typeName.equals(other.typeName) &&
+                firstElements.equals(other.firstElements);
+    }
+
+    /**
+     * Get hash code.
+     *
+     * @return hash code
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(typeName, size, firstElements);
+    }
+
+    /**
+     * Get description: class, size and the first elements.
+     *
+     * @return description, for example "java.util.ArrayList(size=2000000)[1, 2, 3, ...]"
+     */
+    @Override
+    public String toString() {
+        var elements = firstElements.toString();
+        if (firstElements.size() < size) {
+            elements = elements.substring(0, elements.length() - 1) +
+                    (firstElements.isEmpty() ? "...]" : ", ...]");
+        }
+
+        return typeName + "(size=" + size + ")" + elements;
+    }
+}
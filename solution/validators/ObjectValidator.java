@@ -1,429 +1,1024 @@
 package solution.validators;
 
-import solution.utils.TypeChecker;
-import solution.utils.ValueContainer;
-import solution.annotations.*;
-import solution.validators.supporting_validators.AnnotationValidator;
-import solution.validators.supporting_validators.TypeValidator;
-
-import java.lang.annotation.Annotation;
-import java.lang.reflect.*;
+import solution.utils.TypeKind;
+import solution.validators.generated.PrecompiledValidators;
+import solution.validators.jfr.ClassValidationEvent;
+import solution.validators.jfr.CollectionValidationEvent;
+import solution.validators.metrics.ClassMetrics;
+import solution.validators.metrics.FieldCounters;
+import solution.validators.metrics.ValidationMetrics;
+import solution.validators.plan.ConstraintHandler;
+import solution.validators.plan.FieldPlan;
+import solution.validators.plan.FusedConstraints;
+import solution.validators.plan.TypePlan;
+import solution.validators.plan.ValidationPlan;
+
 import java.security.InvalidParameterException;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Main validator.
+ * <p>
+ * Validator only runs {@link ValidationPlan} of classes, all reflection
+ * analysis is done once, when the plan is built. Classes with validators generated
+ * at build time (see {@link PrecompiledValidators}) are validated by them without
+ * any plan. Validator has no state:
+ * everything related to single run lives in {@link ValidationContext},
+ * so one instance can be shared between threads.
+ * </p>
+ * <p>
+ * Constraints of every value are checked at once by {@link FusedConstraints},
+ * "@NotNull" of content of immutable JDK collections, which can't contain null,
+ * isn't checked at all.
+ * </p>
+ * <p>
+ * Object graph is walked without recursion: objects, collections and nested lists are
+ * frames ({@link TraversalFrame}) in work stack of run, so depth of graph isn't limited
+ * by stack of thread. Errors are reported in the same order as by recursive walk.
+ * </p>
+ * <p>
+ * Validator created with {@link ValidationMetrics} records evaluations and failures
+ * of constraints and latency of validation of objects. Such validator always runs
+ * plans (precompiled validators aren't instrumented).
+ * </p>
+ * <p>
+ * If JFR events {@link ClassValidationEvent} and {@link CollectionValidationEvent}
+ * are enabled in recording, validator emits them for objects and large collections.
+ * </p>
  */
-public class ObjectValidator implements Validator {
+public class ObjectValidator extends AbstractValidator {
+
+    /**
+     * Runtime metrics, null if they aren't recorded.
+     */
+    private final ValidationMetrics metrics;
+
+    /**
+     * Constructor of validator without metrics.
+     */
+    public ObjectValidator() {
+        this(null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param metrics runtime metrics, null if they aren't recorded.
+     *                For more information check {@link ValidationMetrics}
+     */
+    public ObjectValidator(ValidationMetrics metrics) {
+        this.metrics = metrics;
+    }
 
     /**
-     * Validate object.
+     * Validate object inside of validation run.
      *
-     * @param object object
-     * @return set of errors. For more information check {@link ValidationError}
+     * @param object  object
+     * @param context context of validation run
      */
     @Override
-    public Set<ValidationError> validate(Object object) {
-        return validateWithPathTracker(object, new StringBuilder("/"));
+    public void validate(Object object, ValidationContext context) {
+        validateWithPathTracker(object, context);
+    }
+
+    /**
+     * Resolve validator of objects of given class.
+     *
+     * @param type validated class
+     * @return validator of class
+     */
+    @Override
+    public ClassValidator resolve(Class<?> type) {
+        var precompiled = metrics == null ? PrecompiledValidators.get(type) : null;
+        if (precompiled != null) {
+            return precompiled;
+        }
+
+        var plan = ValidationPlan.of(type);
+        if (!plan.isConstrained()) {
+            return UNCONSTRAINED;
+        }
+
+        return (object, context) -> traverse(new FieldsFrame(object, plan, false), context);
     }
 
     /**
      * Validate object and track path.
      *
-     * @param object      object
-     * @param pathTracker path tracker
-     * @return set of errors. For more information check {@link ValidationError}
+     * @param object  object
+     * @param context context of validation run
      */
-    private Set<ValidationError> validateWithPathTracker(Object object,
-                                                         StringBuilder pathTracker) {
+    private void validateWithPathTracker(Object object, ValidationContext context) {
         if (object != null) {
-            if (hasSingleConstrainedAnnotation(object)) {
-                try {
-                    handleFields(object, pathTracker);
-                } catch (IllegalAccessException exception) {
-                    exception.printStackTrace();
-                }
+            var precompiled = metrics == null ?
+                    PrecompiledValidators.get(object.getClass()) : null;
+            if (precompiled != null) {
+                precompiled.validate(object, context);
+                return;
             }
-        }
 
-        return AnnotationValidator.getErrorSet();
+            var plan = ValidationPlan.of(object.getClass());
+            if (plan.isConstrained()) {
+                traverse(new FieldsFrame(object, plan, false), context);
+            }
+        }
     }
 
     /**
-     * Add content to path tracker.
+     * Walk object graph from frame: resume the top frame of work stack until
+     * the given frame is finished.
      *
-     * @param pathTracker path tracker
-     * @param content     content
+     * @param frame       the first frame
+     * @param context     context of validation run
      */
-    private void addToPathTracker(StringBuilder pathTracker, String content) {
-        pathTracker.append(content).append("/");
+    private static void traverse(TraversalFrame frame, ValidationContext context) {
+        var frames = context.getFrames();
+        var base = frames.size();
+        frames.push(frame);
+
+        try {
+            while (frames.size() > base) {
+                if (frames.peek().resume(context)) {
+                    frames.pop();
+                }
+            }
+        } finally {
+            while (frames.size() > base) {
+                frames.pop();
+            }
+        }
     }
 
     /**
-     * Remove content from path tracker.
+     * Enter nested object: object of class with plan is pushed as frame, other objects
+     * are validated at once (precompiled validators walk their objects by themselves).
      *
-     * @param pathTracker path tracker
-     * @param content     content
+     * @param value       nested object
+     * @param context     context of validation run
+     * @return true if frame of object is pushed
      */
-    private void removeFromPathTracker(StringBuilder pathTracker, String content) {
-        var currentPath = pathTracker.substring(0, pathTracker.length() - 1);
-        var startIndex = Math.max(0, currentPath.lastIndexOf("/"));
-        var endIndex = startIndex + content.length() + 1;
+    private boolean pushNested(Object value, ValidationContext context) {
+        if (context.getNestedValidator() != this) {
+            context.validateNested(value);
+            return false;
+        }
+
+        if (!context.beginNested(value)) {
+            return false;
+        }
+
+        var precompiled = metrics == null ? PrecompiledValidators.get(value.getClass()) : null;
+        if (precompiled != null) {
+            precompiled.validate(value, context);
+            context.endNested();
+            return false;
+        }
 
-        pathTracker.delete(startIndex, endIndex);
+        var plan = ValidationPlan.of(value.getClass());
+        if (!plan.isConstrained()) {
+            context.endNested();
+            return false;
+        }
+
+        context.getFrames().push(new FieldsFrame(value, plan, true));
+        return true;
     }
 
     /**
-     * Validate fields of object.
+     * Push frame of List, Map or Collection.
      *
-     * @param object      object
-     * @param pathTracker path tracker
-     * @throws IllegalAccessException is thrown when something is going wrong with reflection access.
+     * @param value       value
+     * @param type        plan for type of value
+     * @param context     context of validation run
+     * @return true if frame is pushed
      */
-    private void handleFields(Object object,
-                              StringBuilder pathTracker) throws IllegalAccessException {
-        var fields = object.getClass().getDeclaredFields();
-        for (var field : fields) {
-            TypeValidator.ensureCorrectFieldType(field);
+    private boolean pushContainer(Object value, TypePlan type, ValidationContext context) {
+        if (value == null) {
+            return false;
+        }
 
-            addToPathTracker(pathTracker, field.getName());
+        TraversalFrame frame;
+        switch (type.getKind()) {
+            case LIST:
+                frame = new ListFrame((List<?>) value, type);
+                break;
 
-            if (TypeChecker.isCustomClass(field.getAnnotatedType().getType().getTypeName())) {
-                validateWithPathTracker(field.get(object), pathTracker);
-            }
+            case MAP:
+                frame = new MapFrame((Map<?, ?>) value, type);
+                break;
 
-            handleFieldAnnotations(field, field.getAnnotatedType().getDeclaredAnnotations(),
-                    object, pathTracker);
+            case COLLECTION:
+                frame = new CollectionFrame((Collection<?>) value, type);
+                break;
 
-            removeFromPathTracker(pathTracker, field.getName());
+            default:
+                return false;
         }
+
+        context.getFrames().push(frame);
+        return true;
     }
 
     /**
-     * Handle annotation.
+     * Handle field with integral primitive type. Value is read without boxing.
      *
      * @param object      object
-     * @param field       field
-     * @param annotation  annotation
-     * @param container   value container. For more information check {@link ValueContainer}
-     * @param pathTracker path tracker
+     * @param fieldPlan   plan for field
+     * @param context     context of validation run
      */
-    private void handleAnnotation(Object object, Field field, Annotation annotation,
-                                  ValueContainer container, StringBuilder pathTracker) {
-        var annotationType = annotation.annotationType();
+    private void handlePrimitiveField(Object object, FieldPlan fieldPlan,
+                                      ValidationContext context) {
+        var value = fieldPlan.getAccessor().getLong(object);
 
-        if (annotationType == Positive.class) {
-            AnnotationValidator.validatePositive(object, field, container, pathTracker);
-        }
+        for (var constraint : fieldPlan.getType().getConstraints()) {
+            switch (constraint.getKind()) {
+                case POSITIVE:
+                case NEGATIVE:
+                case IN_RANGE:
+                case CUSTOM:
+                    var failed = !constraint.test(value);
+                    if (metrics != null) {
+                        context.getFieldCounters().record(constraint.getKind(), failed);
+                    }
+                    if (failed) {
+                        context.report(constraint.getMessage(), value);
+                    }
+                    break;
 
-        if (annotationType == Negative.class) {
-            AnnotationValidator.validateNegative(object, field, container, pathTracker);
+                default:
+                    throw new InvalidParameterException("Invalid type of field \"" +
+                            fieldPlan.getName() + "\" with " +
+                            "\"@" + constraint.getKind() + "\" annotation");
+            }
         }
+    }
 
-        if (annotationType == NotNull.class) {
-            AnnotationValidator.validateNotNull(object, field, container, pathTracker);
+    /**
+     * Handle annotation.
+     *
+     * @param value       value
+     * @param constraint  handler of constraint resolved from annotation
+     * @param context     context of validation run
+     */
+    private void handleAnnotation(Object value, ConstraintHandler constraint,
+                                  ValidationContext context) {
+        var failed = value == null ? !constraint.acceptsNull() : !constraint.test(value);
+        if (metrics != null) {
+            context.getFieldCounters().record(constraint.getKind(), failed);
         }
 
-        if (annotationType == NotBlank.class) {
-            AnnotationValidator.validateNotBlank(object, field, container, pathTracker);
+        if (failed) {
+            context.report(constraint.getMessage(),
+                    value == null ? "null" : constraint.getFailedValue(value));
         }
+    }
 
-        if (annotationType == NotEmpty.class) {
-            AnnotationValidator.validateNotEmpty(object, field, container, pathTracker);
+    /**
+     * Handle annotations of value.
+     *
+     * @param value       value
+     * @param type        plan for type of value
+     * @param context     context of validation run
+     */
+    private void handleAnnotations(Object value, TypePlan type, ValidationContext context) {
+        if (metrics != null) {
+            for (var constraint : type.getConstraints()) {
+                handleAnnotation(value, constraint, context);
+            }
+            return;
         }
 
-        if (annotationType == Size.class) {
-            var minSize = ((Size) annotation).min();
-            var maxSize = ((Size) annotation).max();
-            AnnotationValidator.validateSize(object, field, minSize, maxSize,
-                    container, pathTracker);
+        var failed = type.getFused().test(value);
+        if (failed == 0) {
+            return;
         }
 
-        if (annotationType == InRange.class) {
-            var minValue = ((InRange) annotation).min();
-            var maxValue = ((InRange) annotation).max();
-            AnnotationValidator.validateInRange(object, field, minValue, maxValue,
-                    container, pathTracker);
+        var constraints = type.getConstraints();
+        for (; failed != 0; failed &= failed - 1) {
+            var constraint = constraints[Long.numberOfTrailingZeros(failed)];
+            context.report(constraint.getMessage(),
+                    value == null ? "null" : constraint.getFailedValue(value));
         }
+    }
 
-        if (annotationType == AnyOf.class) {
-            var values = ((AnyOf) annotation).value();
-            AnnotationValidator.validateAnyOf(object, field, values,
-                    container, pathTracker);
+    /**
+     * Check if constraints of content can be skipped: they are just "@NotNull" and
+     * content can't contain null (metrics count every check, so nothing is skipped
+     * when they are recorded).
+     *
+     * @param type        plan for type of content
+     * @param container   collection or map with content
+     * @return true if constraints of content can be skipped
+     */
+    private boolean canSkipContent(TypePlan type, Object container) {
+        if (metrics != null || !type.getFused().isNullCheckOnly()) {
+            return false;
         }
+
+        return container instanceof Map ? FusedConstraints.isNullFree((Map<?, ?>) container) :
+                FusedConstraints.isNullFree((Collection<?>) container);
     }
 
     /**
-     * Handle Map.
+     * Handle content of Map or Collection without index in path.
      *
-     * @param object      object
-     * @param field       field
-     * @param pathTracker path tracker
+     * @param values      keys, values or elements
+     * @param type        plan for type of content
+     * @param context     context of validation run
+     * @param content     path segment of content
+     * @param container   collection or map with content
      */
-    private void handleMap(Object object, Field field, StringBuilder pathTracker) {
-        Map<?, ?> map = null;
-
-        var annotations = ((AnnotatedParameterizedType) field.getAnnotatedType())
-                .getAnnotatedActualTypeArguments();
+    private void handleContent(Collection<?> values, TypePlan type, ValidationContext context,
+                               PathSegment content, Object container) {
+        if (type.getConstraints().length == 0 || context.isAborted() ||
+                canSkipContent(type, container)) {
+            return;
+        }
 
-        var keyAnnotations = annotations[0].getDeclaredAnnotations();
-        ensureAnnotationsCapability(keyAnnotations, annotations[0], field);
+        if (context.isParallel(values)) {
+            context.forEachParallel(values, false, (value, index, partContext) -> {
+                partContext.enter(content);
+                handleAnnotations(value, type, partContext);
+                partContext.exit(content);
+            });
+            return;
+        }
 
-        var valueAnnotations = annotations[1].getDeclaredAnnotations();
-        ensureAnnotationsCapability(valueAnnotations, annotations[1], field);
+        for (var value : values) {
+            context.enter(content);
+            handleAnnotations(value, type, context);
+            context.exit(content);
 
-        try {
-            map = (Map<?, ?>) field.get(object);
-        } catch (IllegalAccessException exception) {
-            exception.printStackTrace();
+            if (context.isAborted()) {
+                return;
+            }
         }
+    }
 
-        if (map == null) {
-            return;
+    /**
+     * Begin JFR event of collection, if collection is large and event is enabled.
+     *
+     * @param size size of collection
+     * @return started event or null
+     */
+    private static CollectionValidationEvent beginCollectionEvent(int size) {
+        if (size < CollectionValidationEvent.MIN_SIZE) {
+            return null;
         }
 
-        handleMapContent(map.keySet(), field, keyAnnotations,
-                pathTracker, "key");
-        handleMapContent(map.values(), field, valueAnnotations,
-                pathTracker, "value");
+        var event = new CollectionValidationEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
 
-        handleNestedCustomClasses(map.keySet(), pathTracker, "key");
-        handleNestedCustomClasses(map.values(), pathTracker, "value");
+        event.begin();
+        return event;
     }
 
     /**
-     * Handle map content.
+     * Commit JFR event of collection.
      *
-     * @param values      map
-     * @param field       field
-     * @param annotations annotations
-     * @param pathTracker path tracker
-     * @param contentKind keys or values
+     * @param event       event started by {@link #beginCollectionEvent(int)} or null
+     * @param kind        kind of collection
+     * @param collection  collection (keys for Map)
+     * @param context     context of validation run
      */
-    private void handleMapContent(Collection<?> values, Field field,
-                                  Annotation[] annotations,
-                                  StringBuilder pathTracker, String contentKind) {
-        for (var value : values) {
-            addToPathTracker(pathTracker, "[some " + contentKind + " index]");
-            for (var annotation : annotations) {
-                handleAnnotation(value, field, annotation, ValueContainer.OBJECT, pathTracker);
-            }
-            removeFromPathTracker(pathTracker, "[some " + contentKind + " index]");
+    private static void commitCollectionEvent(CollectionValidationEvent event, String kind,
+                                              Collection<?> collection,
+                                              ValidationContext context) {
+        if (event == null) {
+            return;
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.set(context.getDottedPath(), kind, collection.size(),
+                    context.isParallel(collection));
+            event.commit();
         }
     }
 
     /**
-     * Handle nested classes.
-     *
-     * @param collection  collection for processing
-     * @param pathTracker path tracker
+     * Phases of work with field.
+     */
+    private enum FieldPhase {
+        ENTER, // Path isn't entered yet
+        CONSTRAINTS, // Nested object is validated, constraints aren't checked yet
+        EXIT // Value is handled, path must be left
+    }
+
+    /**
+     * Frame of object: fields are handled one by one.
      */
-    private void handleNestedCustomClasses(Collection<?> collection, StringBuilder pathTracker,
-                                           String mapContent) {
-        int currentIndex = 0;
-        var collectionTypeName = collection.getClass().getName();
-        for (var value : collection) {
-            if (value == null) {
-                continue;
+    private class FieldsFrame extends TraversalFrame {
+
+        /**
+         * Validated object.
+         */
+        private final Object object;
+
+        /**
+         * Validation plan of object class.
+         */
+        private final ValidationPlan<?> plan;
+
+        /**
+         * Flag: object is nested one, entered by {@link ValidationContext#beginNested}.
+         */
+        private final boolean nested;
+
+        /**
+         * Index of current field.
+         */
+        private int index;
+
+        /**
+         * Phase of work with current field.
+         */
+        private FieldPhase phase = FieldPhase.ENTER;
+
+        /**
+         * Value of current field.
+         */
+        private Object value;
+
+        /**
+         * Flag: frame is started.
+         */
+        private boolean started;
+
+        /**
+         * Started JFR event or null.
+         */
+        private ClassValidationEvent event;
+
+        /**
+         * Metrics of object class, null if they aren't recorded.
+         */
+        private ClassMetrics classMetrics;
+
+        /**
+         * Counters of field which contains object.
+         */
+        private FieldCounters outerCounters;
+
+        /**
+         * Start time of validation of root object.
+         */
+        private long start;
+
+        /**
+         * Constructor.
+         *
+         * @param object      object
+         * @param plan        validation plan of object class
+         * @param nested      true if object is nested one
+         */
+        private FieldsFrame(Object object, ValidationPlan<?> plan, boolean nested) {
+            this.object = object;
+            this.plan = plan;
+            this.nested = nested;
+        }
+
+        /**
+         * Continue work with fields.
+         *
+         * @param context context of validation run
+         * @return true if all fields are handled or validation is aborted
+         */
+        @Override
+        public boolean resume(ValidationContext context) {
+            if (!started) {
+                begin(context);
             }
-            if (TypeChecker.isCustomClass(value.getClass().getName())) {
-                String content = "[some index]";
-                if (TypeChecker.isList(collectionTypeName)) {
-                    content = "[" + currentIndex + "]";
+
+            var fields = plan.getFields();
+            while (index < fields.size()) {
+                var fieldPlan = fields.get(index);
+                var type = fieldPlan.getType();
+
+                switch (phase) {
+                    case ENTER:
+                        if (classMetrics != null) {
+                            context.setFieldCounters(classMetrics.getField(index));
+                        }
+                        if (!fieldPlan.isCustomClass() && type.getKind() == TypePlan.Kind.SCALAR &&
+                                type.getConstraints().length == 0) {
+                            ++index;
+                            break;
+                        }
+
+                        context.enter(fieldPlan.getSegment());
+                        if (fieldPlan.isIntegralPrimitive()) {
+                            handlePrimitiveField(object, fieldPlan, context);
+                            phase = FieldPhase.EXIT;
+                            break;
+                        }
+
+                        value = fieldPlan.getAccessor().get(object);
+                        phase = FieldPhase.CONSTRAINTS;
+                        if (fieldPlan.isCustomClass() && pushNested(value, context)) {
+                            return false;
+                        }
+                        break;
+
+                    case CONSTRAINTS:
+                        phase = FieldPhase.EXIT;
+                        if (!context.isAborted()) {
+                            handleAnnotations(value, type, context);
+                            if (pushContainer(value, type, context)) {
+                                return false;
+                            }
+                        }
+                        break;
+
+                    case EXIT:
+                        context.exit(fieldPlan.getSegment());
+                        value = null;
+                        phase = FieldPhase.ENTER;
+                        if (context.isAborted()) {
+                            finish(context);
+                            return true;
+                        }
+                        ++index;
                 }
-                else if (TypeChecker.isMap(collectionTypeName)) {
-                    content = "[some " + mapContent + " index]";
+            }
+
+            finish(context);
+            return true;
+        }
+
+        /**
+         * Start JFR event and metrics of object.
+         *
+         * @param context context of validation run
+         */
+        private void begin(ValidationContext context) {
+            started = true;
+
+            var event = new ClassValidationEvent();
+            if (event.isEnabled()) {
+                event.begin();
+                this.event = event;
+            }
+
+            if (metrics != null) {
+                classMetrics = metrics.of(plan);
+                outerCounters = context.getFieldCounters();
+                start = outerCounters == null ? System.nanoTime() : 0;
+            }
+        }
+
+        /**
+         * Record metrics and commit JFR event of object. Latency is recorded only for
+         * the root object of validation run (it includes nested objects).
+         *
+         * @param context context of validation run
+         */
+        private void finish(ValidationContext context) {
+            if (classMetrics != null) {
+                if (outerCounters == null) {
+                    classMetrics.getLatency().record(System.nanoTime() - start);
                 }
-                addToPathTracker(pathTracker, content);
+                context.setFieldCounters(outerCounters);
+            }
 
-                validateWithPathTracker(value, pathTracker);
-                removeFromPathTracker(pathTracker, content);
+            if (event != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.set(plan.getType(), context.getDottedPath());
+                    event.commit();
+                }
+            }
 
+            if (nested) {
+                context.endNested();
             }
-            ++currentIndex;
         }
     }
 
     /**
-     * Handle Collection.
-     *
-     * @param object      object
-     * @param field       field
-     * @param pathTracker path tracker
+     * Frame of List: constraints of elements, nested objects, then nested lists.
      */
-    private void handleCollection(Object object, Field field, StringBuilder pathTracker) {
-        Collection<?> collection = null;
-        var annotations = ((AnnotatedParameterizedType) field.getAnnotatedType())
-                .getAnnotatedActualTypeArguments()[0].getDeclaredAnnotations();
+    private class ListFrame extends TraversalFrame {
 
-        ensureAnnotationsCapability(annotations,
-                ((AnnotatedParameterizedType) field.getAnnotatedType())
-                .getAnnotatedActualTypeArguments()[0], field);
+        /**
+         * Validated list.
+         */
+        private final List<?> list;
 
-        try {
-            collection = (Collection<?>) field.get(object);
-        } catch (IllegalAccessException exception) {
-            exception.printStackTrace();
-        }
+        /**
+         * Plan for type of elements.
+         */
+        private final TypePlan elementType;
 
-        if (collection == null) {
-            return;
+        /**
+         * Count of finished phases.
+         */
+        private int phase;
+
+        /**
+         * Started JFR event or null.
+         */
+        private CollectionValidationEvent event;
+
+        /**
+         * Constructor.
+         *
+         * @param list        list
+         * @param type        plan for type of list
+         */
+        private ListFrame(List<?> list, TypePlan type) {
+            this.list = list;
+            this.elementType = type.getElement();
         }
 
-        for (var value : collection) {
-            addToPathTracker(pathTracker, "[some index]");
-            for (var annotation : annotations) {
-                handleAnnotation(value, field, annotation, ValueContainer.OBJECT, pathTracker);
+        /**
+         * Continue work with list.
+         *
+         * @param context context of validation run
+         * @return true if list is handled
+         */
+        @Override
+        public boolean resume(ValidationContext context) {
+            switch (phase++) {
+                case 0:
+                    event = beginCollectionEvent(list.size());
+                    if (handleElementAnnotations(context)) {
+                        context.getFrames().push(new ElementsFrame(list, ""));
+                        return false;
+                    }
+                    break;
+
+                case 1:
+                    if (elementType.getKind() != TypePlan.Kind.LIST || context.isAborted()) {
+                        break;
+                    }
+
+                    if (context.isParallel(list)) {
+                        context.forEachParallel(list, true, (value, index, partContext) -> {
+                            partContext.enterIndex(index);
+                            if (value != null) {
+                                traverse(new ListFrame((List<?>) value, elementType), partContext);
+                            }
+                            partContext.exitIndex();
+                        });
+                        break;
+                    }
+
+                    context.getFrames().push(new NestedListsFrame(list, elementType));
+                    return false;
             }
-            removeFromPathTracker(pathTracker, "[some index]");
+
+            commitCollectionEvent(event, "List", list, context);
+            return true;
         }
 
-        handleNestedCustomClasses(collection, pathTracker, "");
+        /**
+         * Check constraints of elements.
+         *
+         * @param context context of validation run
+         * @return false if validation is aborted
+         */
+        private boolean handleElementAnnotations(ValidationContext context) {
+            var checked = elementType.getConstraints().length != 0 &&
+                    !canSkipContent(elementType, list);
+
+            if (checked && context.isParallel(list)) {
+                context.forEachParallel(list, true, (value, index, partContext) -> {
+                    partContext.enterIndex(index);
+                    handleAnnotations(value, elementType, partContext);
+                    partContext.exitIndex();
+                });
+            } else if (checked) {
+                int currentIndex = 0;
+                for (var value : list) {
+                    context.enterIndex(currentIndex);
+                    handleAnnotations(value, elementType, context);
+                    context.exitIndex();
+
+                    if (context.isAborted()) {
+                        return false;
+                    }
+                    ++currentIndex;
+                }
+            }
+
+            return !context.isAborted();
+        }
     }
 
     /**
-     * Handle List.
-     *
-     * @param object        object
-     * @param field         field
-     * @param annotatedType annotated type
-     * @param pathTracker   path tracker
+     * Frame of Map: constraints of keys and values, then nested objects.
      */
-    private void handleList(Object object, Field field, AnnotatedType annotatedType,
-                            StringBuilder pathTracker) {
-        var list = (List<?>) object;
-        var annotations = ((AnnotatedParameterizedType) annotatedType)
-                .getAnnotatedActualTypeArguments()[0].getDeclaredAnnotations();
+    private class MapFrame extends TraversalFrame {
 
-        var nestedType = ((AnnotatedParameterizedType) annotatedType)
-                .getAnnotatedActualTypeArguments()[0];
-        ensureAnnotationsCapability(annotations, nestedType, field);
+        /**
+         * Validated map.
+         */
+        private final Map<?, ?> map;
 
-        if (list == null) {
-            return;
+        /**
+         * Plan for type of map.
+         */
+        private final TypePlan type;
+
+        /**
+         * Count of finished phases.
+         */
+        private int phase;
+
+        /**
+         * Started JFR event or null.
+         */
+        private CollectionValidationEvent event;
+
+        /**
+         * Constructor.
+         *
+         * @param map         map
+         * @param type        plan for type of map
+         */
+        private MapFrame(Map<?, ?> map, TypePlan type) {
+            this.map = map;
+            this.type = type;
         }
 
-        int currentIndex = 0;
-        for (var value : list) {
-            addToPathTracker(pathTracker, "[" + currentIndex + "]");
+        /**
+         * Continue work with map.
+         *
+         * @param context context of validation run
+         * @return true if map is handled
+         */
+        @Override
+        public boolean resume(ValidationContext context) {
+            switch (phase++) {
+                case 0:
+                    event = beginCollectionEvent(map.size());
+                    handleContent(map.keySet(), type.getKey(), context,
+                            PathSegment.MAP_KEY, map);
+                    handleContent(map.values(), type.getValue(), context,
+                            PathSegment.MAP_VALUE, map);
+
+                    context.getFrames().push(new ElementsFrame(map.keySet(), "key"));
+                    return false;
 
-            for (var annotation : annotations) {
-                handleAnnotation(value, field, annotation,
-                        ValueContainer.OBJECT, pathTracker);
+                case 1:
+                    context.getFrames().push(new ElementsFrame(map.values(), "value"));
+                    return false;
             }
-            removeFromPathTracker(pathTracker, "[" + currentIndex + "]");
-            ++currentIndex;
-        }
 
-        handleNestedCustomClasses(list, pathTracker, "");
-        handleNestedLists(list, field, annotatedType, pathTracker);
+            commitCollectionEvent(event, "Map", map.keySet(), context);
+            return true;
+        }
     }
 
     /**
-     * Handle nested lists.
-     *
-     * @param list          byteList
-     * @param field         field
-     * @param annotatedType annotated type
-     * @param pathTracker   path tracker
+     * Frame of Collection: constraints of elements, then nested objects.
      */
-    private void handleNestedLists(List<?> list, Field field, AnnotatedType annotatedType,
-                                   StringBuilder pathTracker) {
-        int currentIndex = 0;
-        for (var value : list) {
-            addToPathTracker(pathTracker, "[" + currentIndex + "]");
-
-            var inner = ((AnnotatedParameterizedType) annotatedType).
-                    getAnnotatedActualTypeArguments()[0].getType().getTypeName();
-
-            if (TypeChecker.isList(inner)) {
-                handleList(value, field, ((AnnotatedParameterizedType) annotatedType).
-                        getAnnotatedActualTypeArguments()[0], pathTracker);
-            } else {
-                removeFromPathTracker(pathTracker, "[" + currentIndex + "]");
-                return;
-            }
+    private class CollectionFrame extends TraversalFrame {
+
+        /**
+         * Validated collection.
+         */
+        private final Collection<?> collection;
+
+        /**
+         * Plan for type of collection.
+         */
+        private final TypePlan type;
+
+        /**
+         * Flag: constraints of elements are checked, frame of nested objects is pushed.
+         */
+        private boolean elementsPushed;
+
+        /**
+         * Started JFR event or null.
+         */
+        private CollectionValidationEvent event;
 
-            removeFromPathTracker(pathTracker, "[" + currentIndex + "]");
+        /**
+         * Constructor.
+         *
+         * @param collection  collection
+         * @param type        plan for type of collection
+         */
+        private CollectionFrame(Collection<?> collection, TypePlan type) {
+            this.collection = collection;
+            this.type = type;
+        }
+
+        /**
+         * Continue work with collection.
+         *
+         * @param context context of validation run
+         * @return true if collection is handled
+         */
+        @Override
+        public boolean resume(ValidationContext context) {
+            if (!elementsPushed) {
+                event = beginCollectionEvent(collection.size());
+                handleContent(collection, type.getElement(), context, PathSegment.ELEMENT,
+                        collection);
+
+                elementsPushed = true;
+                context.getFrames().push(new ElementsFrame(collection, ""));
+                return false;
+            }
 
-            ++currentIndex;
+            commitCollectionEvent(event, "Collection", collection, context);
+            return true;
         }
     }
 
     /**
-     * Handle field annotations.
-     *
-     * @param field            field
-     * @param fieldAnnotations annotations of field
-     * @param object           object
-     * @param pathTracker      path tracker
+     * Frame of objects of custom classes inside of collection.
      */
-    private void handleFieldAnnotations(Field field, Annotation[] fieldAnnotations,
-                                        Object object, StringBuilder pathTracker) {
-        if (field == null) {
-            throw new InvalidParameterException();
+    private class ElementsFrame extends TraversalFrame {
+
+        /**
+         * Collection for processing.
+         */
+        private final Collection<?> collection;
+
+        /**
+         * "key" or "value" for content of Map, empty string - otherwise.
+         */
+        private final String mapContent;
+
+        /**
+         * Iterator of collection, null if walk isn't started.
+         */
+        private Iterator<?> iterator;
+
+        /**
+         * Flag: collection is List, so index of element is used in path.
+         */
+        private boolean isList;
+
+        /**
+         * Path segment for collections which aren't List.
+         */
+        private PathSegment content;
+
+        /**
+         * Index of current nested object (nulls aren't counted).
+         */
+        private int index;
+
+        /**
+         * Constructor.
+         *
+         * @param collection  collection for processing
+         * @param mapContent  "key" or "value" for content of Map, empty string - otherwise
+         */
+        private ElementsFrame(Collection<?> collection, String mapContent) {
+            this.collection = collection;
+            this.mapContent = mapContent;
         }
 
-        ensureAnnotationsCapability(fieldAnnotations, field.getAnnotatedType(), field);
+        /**
+         * Continue walk of collection.
+         *
+         * @param context context of validation run
+         * @return true if collection is walked or validation is aborted
+         */
+        @Override
+        public boolean resume(ValidationContext context) {
+            if (iterator != null) {
+                if (!exitElement(context)) {
+                    return true;
+                }
+            } else if (context.isAborted() ||
+                    context.validateNestedElementsInParallel(collection, mapContent)) {
+                return true;
+            } else {
+                iterator = collection.iterator();
+                isList = TypeKind.of(collection.getClass()) == TypeKind.LIST;
+                content = ValidationContext.getNestedContent(mapContent);
+            }
+
+            while (iterator.hasNext()) {
+                var value = iterator.next();
+                if (value == null) {
+                    continue;
+                }
 
-        for (var annotation : fieldAnnotations) {
-            handleAnnotation(object, field, annotation,
-                    ValueContainer.FIELD, pathTracker);
+                if (TypeKind.of(value.getClass()).isCustom()) {
+                    if (isList) {
+                        context.enterIndex(index);
+                    } else {
+                        context.enter(content);
+                    }
+
+                    if (pushNested(value, context)) {
+                        return false;
+                    }
+                    if (!exitElement(context)) {
+                        return true;
+                    }
+                } else {
+                    ++index;
+                }
+            }
+
+            return true;
         }
 
-        if (TypeChecker.isParameterizedList(field)) {
-            try {
-                handleList(field.get(object), field, field.getAnnotatedType(),
-                        pathTracker);
-            } catch (IllegalAccessException exception) {
-                exception.printStackTrace();
+        /**
+         * Leave path of nested object.
+         *
+         * @param context context of validation run
+         * @return false if validation is aborted
+         */
+        private boolean exitElement(ValidationContext context) {
+            if (isList) {
+                context.exitIndex();
+            } else {
+                context.exit(content);
             }
-        } else if (TypeChecker.isParameterizedMap(field)) {
-            handleMap(object, field, pathTracker);
-        } else if (TypeChecker.isParameterizedCollection(field)) {
-            handleCollection(object, field, pathTracker);
+
+            ++index;
+            return !context.isAborted();
         }
     }
 
     /**
-     * Check capability of annotations.
-     *
-     * @param annotations array of annotations.
-     * @param type        filed name (just for error message)
+     * Frame of nested lists inside of List.
      */
-    private static void ensureAnnotationsCapability(Annotation[] annotations,
-                                                    AnnotatedType type, Field field) {
+    private class NestedListsFrame extends TraversalFrame {
+
+        /**
+         * List of nested lists.
+         */
+        private final List<?> list;
+
+        /**
+         * Plan for type of nested lists.
+         */
+        private final TypePlan elementType;
 
-        var fieldName = type.getType().getTypeName();
-        var annotationNames = Arrays.stream(annotations)
-                .map(a -> a.annotationType().getName())
-                .collect(Collectors.toList());
+        /**
+         * Iterator of list, null if walk isn't started.
+         */
+        private Iterator<?> iterator;
 
-        TypeValidator.ensureCorrespondence(type, annotations, field.getName());
+        /**
+         * Index of current nested list.
+         */
+        private int index;
 
-        if (annotationNames.contains("solution.annotations.Positive") &&
-                annotationNames.contains("solution.annotations.Negative")) {
-            throw new InvalidParameterException("Field \"" + fieldName + "\"" +
-                    " has \"Positive\" and \"Negative\" annotations at the same time");
+        /**
+         * Constructor.
+         *
+         * @param list        list
+         * @param elementType plan for type of nested lists
+         */
+        private NestedListsFrame(List<?> list, TypePlan elementType) {
+            this.list = list;
+            this.elementType = elementType;
         }
-    }
 
-    /**
-     * Check that the object has negativeInt single annotation - "@Constrained".
-     *
-     * @param object object
-     * @return true if object has negativeInt single "@Constrained" annotation, false - otherwise
-     */
-    private boolean hasSingleConstrainedAnnotation(Object object) {
-        if (object.getClass().isAnnotationPresent(Constrained.class)) {
-            if (object.getClass().getDeclaredAnnotations().length == 1) {
+        /**
+         * Continue walk of list.
+         *
+         * @param context context of validation run
+         * @return true if list is walked or validation is aborted
+         */
+        @Override
+        public boolean resume(ValidationContext context) {
+            if (iterator == null) {
+                iterator = list.iterator();
+            } else if (!exitElement(context)) {
                 return true;
             }
 
-            throw new InvalidParameterException("Invalid annotation class");
+            while (iterator.hasNext()) {
+                var value = iterator.next();
+                context.enterIndex(index);
+                if (value != null) {
+                    context.getFrames().push(new ListFrame((List<?>) value, elementType));
+                    return false;
+                }
+                if (!exitElement(context)) {
+                    return true;
+                }
+            }
+
+            return true;
         }
 
-        return false;
+        /**
+         * Leave path of nested list.
+         *
+         * @param context context of validation run
+         * @return false if validation is aborted
+         */
+        private boolean exitElement(ValidationContext context) {
+            context.exitIndex();
+            ++index;
+            return !context.isAborted();
+        }
     }
 }
@@ -0,0 +1,243 @@
+package solution.validators;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Segment of path to value which causes the error.
+ */
+public class PathSegment {
+
+    /**
+     * Kinds of segments.
+     */
+    public enum Kind {
+        FIELD, // Field of object, "name" is name of field
+        INDEX, // Element of List, "index" is its index
+        ELEMENT, // Element of other Collection
+        MAP_KEY, // Key of Map
+        MAP_VALUE // Value of Map
+    }
+
+    /**
+     * Segment for element of Collection.
+     */
+    public static final PathSegment ELEMENT = new PathSegment(Kind.ELEMENT, "[some index]", -1);
+
+    /**
+     * Segment for key of Map.
+     */
+    public static final PathSegment MAP_KEY =
+            new PathSegment(Kind.MAP_KEY, "[some key index]", -1);
+
+    /**
+     * Segment for value of Map.
+     */
+    public static final PathSegment MAP_VALUE =
+            new PathSegment(Kind.MAP_VALUE, "[some value index]", -1);
+
+    /**
+     * Kind of segment.
+     */
+    private final Kind kind;
+
+    /**
+     * Name of field or content of segment in dotted path.
+     */
+    private final String name;
+
+    /**
+     * Index of List, -1 for other segments.
+     */
+    private final int index;
+
+    /**
+     * Constructor.
+     *
+     * @param kind kind of segment
+     * @param name name of field or content of segment in dotted path
+     * @param index index of List
+     */
+    private PathSegment(Kind kind, String name, int index) {
+        this.kind = kind;
+        this.name = name;
+        this.index = index;
+    }
+
+    /**
+     * Create segment for field.
+     *
+     * @param name name of field
+     * @return segment
+     */
+    public static PathSegment field(String name) {
+        return new PathSegment(Kind.FIELD, name, -1);
+    }
+
+    /**
+     * Create segment for element of List.
+     *
+     * @param index index
+     * @return segment
+     */
+    public static PathSegment index(int index) {
+        return new PathSegment(Kind.INDEX, null, index);
+    }
+
+    /**
+     * Create segment for content of path tracker ("[some index]", "[some key index]",
+     * "[some value index]", index of List or name of field).
+     *
+     * @param content content
+     * @return segment
+     */
+    private static PathSegment of(String content) {
+        switch (content) {
+            case "[some index]":
+                return ELEMENT;
+
+            case "[some key index]":
+                return MAP_KEY;
+
+            case "[some value index]":
+                return MAP_VALUE;
+        }
+
+        if (content.length() > 2 && content.charAt(0) == '[' &&
+                content.charAt(content.length() - 1) == ']') {
+            try {
+                return index(Integer.parseInt(content.substring(1, content.length() - 1)));
+            } catch (NumberFormatException exception) {
+                return field(content);
+            }
+        }
+
+        return field(content);
+    }
+
+    /**
+     * Parse path in format of path tracker ("/field/[1]/"). It's used only for errors
+     * created from string path, validators push typed segments.
+     *
+     * @param path path
+     * @return segments
+     */
+    public static List<PathSegment> parse(String path) {
+        if (path == null || path.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return Arrays.stream(path.split("/"))
+                .filter(content -> !content.isEmpty())
+                .map(PathSegment::of)
+                .toList();
+    }
+
+    /**
+     * Render segments as dotted path ("field[1].other").
+     *
+     * @param segments segments
+     * @return dotted path
+     */
+    public static String toDottedPath(List<PathSegment> segments) {
+        if (segments.isEmpty()) {
+            return "/";
+        }
+
+        var builder = new StringBuilder();
+        for (var segment : segments) {
+            switch (segment.kind) {
+                case FIELD:
+                    if (builder.length() != 0) {
+                        builder.append('.');
+                    }
+                    builder.append(segment.name);
+                    break;
+
+                case INDEX:
+                    builder.append('[').append(segment.index).append(']');
+                    break;
+
+                default:
+                    builder.append(segment.name);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Render segments as JSON Pointer (RFC 6901). Elements of Collection and Map
+     * have no index, so they are rendered as "*", "*key" and "*value".
+     *
+     * @param segments segments
+     * @return JSON Pointer
+     */
+    public static String toJsonPointer(List<PathSegment> segments) {
+        var builder = new StringBuilder();
+        for (var segment : segments) {
+            builder.append('/');
+            switch (segment.kind) {
+                case FIELD:
+                    builder.append(segment.name.replace("~", "~0").replace("/", "~1"));
+                    break;
+
+                case INDEX:
+                    builder.append(segment.index);
+                    break;
+
+                case ELEMENT:
+                    builder.append('*');
+                    break;
+
+                case MAP_KEY:
+                    builder.append("*key");
+                    break;
+
+                case MAP_VALUE:
+                    builder.append("*value");
+                    break;
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Getter for kind field.
+     *
+     * @return kind of segment
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Getter for name field.
+     *
+     * @return name of field, null for other segments
+     */
+    public String getName() {
+        return kind == Kind.FIELD ? name : null;
+    }
+
+    /**
+     * Getter for index field.
+     *
+     * @return index of List, -1 for other segments
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Render segment as in dotted path.
+     *
+     * @return segment
+     */
+    @Override
+    public String toString() {
+        return kind == Kind.INDEX ? "[" + index + "]" : name;
+    }
+}
@@ -0,0 +1,138 @@
+package solution.validators;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Path to current value: stack of segments (fields, content of collections or indices of List).
+ * <p>
+ * Entering and leaving segments only moves pointer. Segments of fields and content are
+ * shared constants, segments of indices are built only when error is reported, so
+ * validation of valid objects doesn't allocate anything for path.
+ * </p>
+ */
+public class PathStack {
+
+    /**
+     * Initial count of segments.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Segments, null for index of List.
+     */
+    private PathSegment[] segments;
+
+    /**
+     * Indices of List (for segments without name).
+     */
+    private int[] indices;
+
+    /**
+     * Count of segments.
+     */
+    private int size;
+
+    /**
+     * Constructor of empty path.
+     */
+    public PathStack() {
+        this.segments = new PathSegment[INITIAL_CAPACITY];
+        this.indices = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Constructor of copy of path.
+     *
+     * @param other path
+     */
+    public PathStack(PathStack other) {
+        var capacity = Math.max(INITIAL_CAPACITY, other.size * 2);
+        this.segments = Arrays.copyOf(other.segments, capacity);
+        this.indices = Arrays.copyOf(other.indices, capacity);
+        this.size = other.size;
+    }
+
+    /**
+     * Add segment of field or content of collection.
+     *
+     * @param segment segment. For more information check {@link PathSegment}
+     */
+    public void push(PathSegment segment) {
+        ensureCapacity();
+        segments[size++] = segment;
+    }
+
+    /**
+     * Add index of List.
+     *
+     * @param index index
+     */
+    public void pushIndex(int index) {
+        ensureCapacity();
+        segments[size] = null;
+        indices[size++] = index;
+    }
+
+    /**
+     * Remove last segment.
+     */
+    public void pop() {
+        if (size > 0) {
+            segments[--size] = null;
+        }
+    }
+
+    /**
+     * Grow arrays if they are full.
+     */
+    private void ensureCapacity() {
+        if (size == segments.length) {
+            segments = Arrays.copyOf(segments, size * 2);
+            indices = Arrays.copyOf(indices, size * 2);
+        }
+    }
+
+    /**
+     * Get count of segments.
+     *
+     * @return count of segments
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Build segments of path.
+     *
+     * @return segments. For more information check {@link PathSegment}
+     */
+    public List<PathSegment> toSegments() {
+        var result = new PathSegment[size];
+        for (var i = 0; i < size; i++) {
+            result[i] = segments[i] == null ? PathSegment.index(indices[i]) : segments[i];
+        }
+
+        return List.of(result);
+    }
+
+    /**
+     * Build string of path in format of path tracker ("/field/[1]/").
+     *
+     * @return string of path
+     */
+    @Override
+    public String toString() {
+        var builder = new StringBuilder("/");
+        for (var i = 0; i < size; i++) {
+            if (segments[i] == null) {
+                builder.append('[').append(indices[i]).append(']');
+            } else {
+                builder.append(segments[i]);
+            }
+            builder.append('/');
+        }
+
+        return builder.toString();
+    }
+}
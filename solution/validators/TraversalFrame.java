@@ -0,0 +1,21 @@
+package solution.validators;
+
+/**
+ * Unit of work of engine which walks object graph without recursion.
+ * <p>
+ * Frames are kept in work stack of run ({@link ValidationContext#getFrames()}).
+ * Engine resumes the top frame until it's finished. Frame which needs nested work
+ * (nested object or collection) pushes frame for it and waits: it's resumed
+ * when nested frame is finished.
+ * </p>
+ */
+public abstract class TraversalFrame {
+
+    /**
+     * Continue work of frame.
+     *
+     * @param context context of validation run
+     * @return true if frame is finished, false if it pushed nested frame
+     */
+    public abstract boolean resume(ValidationContext context);
+}
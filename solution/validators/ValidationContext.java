@@ -0,0 +1,1036 @@
+package solution.validators;
+
+import solution.utils.MessageBuilder;
+import solution.utils.TypeKind;
+import solution.validators.metrics.FieldCounters;
+
+import java.security.InvalidParameterException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * State of single validation run.
+ * <p>
+ * Context is created for every call of {@link Validator#validate(Object)},
+ * so validators themselves stay stateless and can be shared between threads.
+ * When count of errors reaches limit of {@link ValidationOptions}, run is aborted:
+ * validators check {@link #isAborted()} and return right away.
+ * </p>
+ * <p>
+ * In parallel mode large collections are split into parts. Every part is validated
+ * with own child context (which starts with path of collection and buffers its
+ * errors in order), then buffers are merged in order of parts, so result is the same
+ * as in sequential run.
+ * </p>
+ * <p>
+ * Nested objects are tracked by identity. Reference to object which is being
+ * validated (one of objects containing it) is cyclic: it isn't followed and it's
+ * handled by {@link CyclePolicy}. Errors of validated object are kept, so the same
+ * object met again (shared sub-object) isn't validated again: its errors are
+ * reported with paths moved to the new place. Objects with cut references inside
+ * (cyclic ones or ones deeper than depth limit) aren't reused, because their errors
+ * depend on the place where they are met.
+ * </p>
+ * <p>
+ * Nested objects deeper than {@link ValidationOptions#getMaxDepth()} aren't validated,
+ * such references are reported as errors. Engines which walk object graph without
+ * recursion keep their work in {@link #getFrames()}.
+ * </p>
+ */
+public class ValidationContext {
+
+    /**
+     * Handler of element of collection.
+     */
+    @FunctionalInterface
+    public interface ElementHandler {
+
+        /**
+         * Handle element.
+         *
+         * @param element element
+         * @param index index of element
+         * @param context context which must be used for element
+         */
+        void handle(Object element, int index, ValidationContext context);
+    }
+
+    /**
+     * Expected count of nested objects of run (map of visited objects grows if needed).
+     */
+    private static final int INITIAL_VISITED_SIZE = 4;
+
+    /**
+     * Count of values saved for every nested object: depth of path, index of
+     * the first error in log, count of errors, count of cut references and
+     * count of errors which didn't fit into log and max depth reached before object.
+     */
+    private static final int NESTED_STATE_SIZE = 6;
+
+    /**
+     * Max count of errors of nested objects kept in log. Objects whose errors
+     * don't fit into log aren't reused, they are validated again when met again,
+     * so memory of run doesn't depend on count of errors.
+     */
+    private static final int MAX_LOG_SIZE = 1024;
+
+    /**
+     * Receiver of errors: sink of run for root context, ordered buffer for child context.
+     * For more information check {@link ErrorSink}.
+     */
+    private final ErrorSink sink;
+
+    /**
+     * Path to current value. For more information check {@link PathStack}.
+     */
+    private final PathStack path;
+
+    /**
+     * Options of validation run.
+     */
+    private final ValidationOptions options;
+
+    /**
+     * Validator of nested objects.
+     */
+    private final ClassValidator nestedValidator;
+
+    /**
+     * Max count of errors.
+     */
+    private final int maxErrors;
+
+    /**
+     * Flag: errors are collected (otherwise, they are only counted and path isn't tracked).
+     */
+    private final boolean collectingErrors;
+
+    /**
+     * Context of collection for child context, null for root context.
+     */
+    private final ValidationContext parent;
+
+    /**
+     * Root object of run, null for child context.
+     */
+    private Object root;
+
+    /**
+     * Nested objects met in run by identity: depth of their path (Integer) for objects
+     * which are being validated, {@link ValidatedObject} for validated ones.
+     * Created for the first nested object.
+     */
+    private IdentityHashMap<Object, Object> visited;
+
+    /**
+     * Errors of nested objects in order (they are reused for shared objects),
+     * created for the first such error. Log keeps at most {@link #MAX_LOG_SIZE} errors.
+     */
+    private ErrorBuffer log;
+
+    /**
+     * Count of errors of nested objects which didn't fit into log.
+     */
+    private int unloggedCount;
+
+    /**
+     * Max nesting depth reached inside of the innermost nested object which is
+     * being validated.
+     */
+    private int deepest;
+
+    /**
+     * Count of nested objects which are being validated.
+     */
+    private int nestingDepth;
+
+    /**
+     * Nesting depth of context of collection for child context, 0 for root context.
+     */
+    private final int baseDepth;
+
+    /**
+     * Nested objects which are being validated by this context, by nesting depth
+     * (relative to base depth).
+     */
+    private Object[] nestedObjects;
+
+    /**
+     * State of run saved when nested object is entered ({@link #NESTED_STATE_SIZE}
+     * values for every object in {@link #nestedObjects}).
+     */
+    private int[] nestedStates;
+
+    /**
+     * Count of references which weren't followed: cyclic ones and ones deeper
+     * than depth limit.
+     */
+    private int cutCount;
+
+    /**
+     * Work stack of engine which walks object graph without recursion,
+     * created on the first use.
+     */
+    private ArrayDeque<TraversalFrame> frames;
+
+    /**
+     * Counters of constraints of current field, null if metrics aren't recorded.
+     * For more information check {@link solution.validators.metrics.ValidationMetrics}.
+     */
+    private FieldCounters fieldCounters;
+
+    /**
+     * Count of reported errors.
+     */
+    private int errorCount;
+
+    /**
+     * Count of validated nested objects.
+     */
+    private int nestedCount;
+
+    /**
+     * Flag: limit of errors is reached.
+     */
+    private boolean aborted;
+
+    /**
+     * Constructor.
+     *
+     * @param nestedValidator validator of nested objects
+     */
+    public ValidationContext(ClassValidator nestedValidator) {
+        this(nestedValidator, ValidationOptions.ALL_ERRORS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param nestedValidator validator of nested objects
+     * @param options options of validation run
+     */
+    public ValidationContext(ClassValidator nestedValidator, ValidationOptions options) {
+        this(nestedValidator, options, new ErrorSetSink());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param nestedValidator validator of nested objects
+     * @param options options of validation run
+     * @param sink receiver of errors. For more information check {@link ErrorSink}
+     */
+    public ValidationContext(ClassValidator nestedValidator, ValidationOptions options,
+                             ErrorSink sink) {
+        this.sink = sink;
+        this.parent = null;
+        this.baseDepth = 0;
+        this.path = new PathStack();
+        this.options = options;
+        this.nestedValidator = nestedValidator;
+        this.maxErrors = options.getMaxErrors();
+        this.collectingErrors = options.isCollectingErrors();
+    }
+
+    /**
+     * Constructor of child context for part of collection.
+     *
+     * @param parent parent context
+     */
+    private ValidationContext(ValidationContext parent) {
+        this.sink = new ErrorBuffer();
+        this.parent = parent;
+        this.path = new PathStack(parent.path);
+        this.options = parent.options;
+        this.nestedValidator = parent.nestedValidator;
+        this.maxErrors = parent.maxErrors - parent.errorCount;
+        this.collectingErrors = parent.collectingErrors;
+        this.fieldCounters = parent.fieldCounters;
+        this.nestingDepth = parent.nestingDepth;
+        this.baseDepth = parent.nestingDepth;
+        this.deepest = parent.nestingDepth;
+    }
+
+    /**
+     * Add segment of field or content of collection to path.
+     *
+     * @param segment segment. For more information check {@link PathSegment}
+     */
+    public void enter(PathSegment segment) {
+        if (collectingErrors) {
+            path.push(segment);
+        }
+    }
+
+    /**
+     * Add index of List to path.
+     *
+     * @param index index
+     */
+    public void enterIndex(int index) {
+        if (collectingErrors) {
+            path.pushIndex(index);
+        }
+    }
+
+    /**
+     * Remove segment of field or content of collection from path.
+     *
+     * @param segment segment. For more information check {@link PathSegment}
+     */
+    public void exit(PathSegment segment) {
+        exitSegment();
+    }
+
+    /**
+     * Remove index of List from path.
+     */
+    public void exitIndex() {
+        exitSegment();
+    }
+
+    /**
+     * Remove last segment from path.
+     */
+    private void exitSegment() {
+        if (collectingErrors) {
+            path.pop();
+        }
+    }
+
+    /**
+     * Add error for current path.
+     *
+     * @param message error message
+     * @param failedValue failed value
+     */
+    public void report(String message, Object failedValue) {
+        if (aborted) {
+            return;
+        }
+
+        if (collectingErrors) {
+            emit(path.toSegments(), message, options.getFailedValuePolicy().apply(failedValue));
+        } else {
+            countError();
+        }
+    }
+
+    /**
+     * Pass error to sink (and log, if it's error of nested object) and count it.
+     *
+     * @param segments path of error
+     * @param message error message
+     * @param failedValue failed value (policy is already applied)
+     */
+    private void emit(List<PathSegment> segments, String message, Object failedValue) {
+        sink.accept(segments, message, failedValue);
+
+        if (nestingDepth != 0) {
+            if (log == null) {
+                log = new ErrorBuffer();
+            }
+
+            if (log.size() < MAX_LOG_SIZE) {
+                log.accept(segments, message, failedValue);
+            } else {
+                ++unloggedCount;
+            }
+        }
+
+        countError();
+    }
+
+    /**
+     * Count reported error.
+     */
+    private void countError() {
+        if (++errorCount >= maxErrors) {
+            aborted = true;
+        }
+    }
+
+    /**
+     * Add errors of child context (in their order) while limit isn't reached.
+     *
+     * @param child child context
+     */
+    private void merge(ValidationContext child) {
+        nestedCount += child.nestedCount;
+        cutCount += child.cutCount;
+        deepest = Math.max(deepest, child.deepest);
+
+        if (collectingErrors) {
+            var buffer = (ErrorBuffer) child.sink;
+            for (var i = 0; i < buffer.size() && !aborted; ++i) {
+                emit(buffer.getPath(i), buffer.getMessage(i), buffer.getFailedValue(i));
+            }
+        } else {
+            for (var i = 0; i < child.errorCount && !aborted; ++i) {
+                countError();
+            }
+        }
+    }
+
+    /**
+     * Check if limit of errors is reached, so validation must stop.
+     *
+     * @return true if validation is aborted
+     */
+    public boolean isAborted() {
+        return aborted;
+    }
+
+    /**
+     * Check if any error is reported.
+     *
+     * @return true if there are errors
+     */
+    public boolean hasErrors() {
+        return errorCount != 0;
+    }
+
+    /**
+     * Get count of errors.
+     *
+     * @return count of reported errors
+     */
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Get count of validated nested objects (including ones without constraints).
+     *
+     * @return count of nested objects
+     */
+    public int getNestedCount() {
+        return nestedCount;
+    }
+
+    /**
+     * Get count of errors of nested objects kept for reuse (it doesn't exceed
+     * {@link #MAX_LOG_SIZE}).
+     *
+     * @return count of errors in log
+     */
+    public int getLoggedErrorCount() {
+        return log == null ? 0 : log.size();
+    }
+
+    /**
+     * Get path to current value in dotted form.
+     *
+     * @return path. For more information check {@link PathSegment#toDottedPath(java.util.List)}
+     */
+    public String getDottedPath() {
+        return PathSegment.toDottedPath(path.toSegments());
+    }
+
+    /**
+     * Validate root object of run.
+     *
+     * @param object object
+     * @param validator validator of object
+     */
+    public void validateRoot(Object object, ClassValidator validator) {
+        root = object;
+        validator.validate(object, this);
+    }
+
+    /**
+     * Validate nested object. Cyclic reference isn't followed, errors of object which
+     * is already validated are reused.
+     *
+     * @param object object
+     */
+    public void validateNested(Object object) {
+        if (beginNested(object)) {
+            nestedValidator.validate(object, this);
+            endNested();
+        }
+    }
+
+    /**
+     * Enter nested object. If object must be validated, it must be validated by
+     * {@link #getNestedValidator()} and then {@link #endNested()} must be called.
+     * Otherwise, object is handled here: cyclic references and references deeper
+     * than depth limit are cut, errors of already validated object are reported again.
+     *
+     * @param object object
+     * @return true if object must be validated
+     */
+    public boolean beginNested(Object object) {
+        if (object == null) {
+            return false;
+        }
+
+        var state = stateOf(object);
+        if (state instanceof Integer) {
+            ++cutCount;
+            if (options.getCyclePolicy() == CyclePolicy.REPORT) {
+                report(MessageBuilder.getCycleErrorMessage(), object);
+            }
+            return false;
+        }
+
+        if (nestingDepth >= options.getMaxDepth()) {
+            ++cutCount;
+            report(MessageBuilder.getDepthErrorMessage(options.getMaxDepth()), object);
+            return false;
+        }
+
+        // Errors of object are reused only if its nested objects stay within depth limit
+        if (state != null && nestingDepth + ((ValidatedObject) state).height <
+                options.getMaxDepth()) {
+            var validated = (ValidatedObject) state;
+            deepest = Math.max(deepest, nestingDepth + 1 + validated.height);
+            reuse(validated);
+            return false;
+        }
+
+        if (visited == null) {
+            visited = new IdentityHashMap<>(INITIAL_VISITED_SIZE);
+        }
+        if (nestedObjects == null) {
+            nestedObjects = new Object[INITIAL_VISITED_SIZE];
+            nestedStates = new int[INITIAL_VISITED_SIZE * NESTED_STATE_SIZE];
+        }
+
+        var level = nestingDepth - baseDepth;
+        if (level == nestedObjects.length) {
+            nestedObjects = Arrays.copyOf(nestedObjects, level * 2);
+            nestedStates = Arrays.copyOf(nestedStates, level * 2 * NESTED_STATE_SIZE);
+        }
+
+        var pathDepth = path.size();
+        nestedObjects[level] = object;
+        nestedStates[level * NESTED_STATE_SIZE] = pathDepth;
+        nestedStates[level * NESTED_STATE_SIZE + 1] = log == null ? 0 : log.size();
+        nestedStates[level * NESTED_STATE_SIZE + 2] = errorCount;
+        nestedStates[level * NESTED_STATE_SIZE + 3] = cutCount;
+        nestedStates[level * NESTED_STATE_SIZE + 4] = unloggedCount;
+        nestedStates[level * NESTED_STATE_SIZE + 5] = deepest;
+
+        ++nestedCount;
+        ++nestingDepth;
+        deepest = nestingDepth;
+        visited.put(object, pathDepth);
+        return true;
+    }
+
+    /**
+     * Leave nested object entered by {@link #beginNested(Object)}: keep its errors for
+     * reuse, if they don't depend on the place where object is met and all of them
+     * are in log.
+     */
+    public void endNested() {
+        var level = --nestingDepth - baseDepth;
+        var object = nestedObjects[level];
+        nestedObjects[level] = null;
+
+        var pathDepth = nestedStates[level * NESTED_STATE_SIZE];
+        var firstError = nestedStates[level * NESTED_STATE_SIZE + 1];
+        var errorsBefore = nestedStates[level * NESTED_STATE_SIZE + 2];
+        var cutsBefore = nestedStates[level * NESTED_STATE_SIZE + 3];
+        var unloggedBefore = nestedStates[level * NESTED_STATE_SIZE + 4];
+        var deepestBefore = nestedStates[level * NESTED_STATE_SIZE + 5];
+
+        // Depth of the deepest object inside of this one, counted from it
+        var height = deepest - nestingDepth - 1;
+        deepest = Math.max(deepest, deepestBefore);
+
+        if (aborted || cutCount != cutsBefore || unloggedCount != unloggedBefore) {
+            visited.remove(object);
+        } else if (errorCount == errorsBefore && height == 0) {
+            visited.put(object, ValidatedObject.VALID);
+        } else {
+            visited.put(object, new ValidatedObject(log, firstError, pathDepth,
+                    errorCount - errorsBefore, height));
+        }
+    }
+
+    /**
+     * Get state of nested object in this run (child context checks contexts of
+     * containing collections too, they don't change while children are validated).
+     *
+     * @param object object
+     * @return depth of path (Integer) if object is being validated,
+     * {@link ValidatedObject} if it's validated, null if it's met for the first time
+     */
+    private Object stateOf(Object object) {
+        for (var context = this; context != null; context = context.parent) {
+            if (object == context.root) {
+                return 0;
+            }
+
+            if (context.visited != null) {
+                var state = context.visited.get(object);
+                if (state != null) {
+                    return state;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Report errors of already validated object again, for current path.
+     *
+     * @param validated validated object
+     */
+    private void reuse(ValidatedObject validated) {
+        if (!collectingErrors) {
+            for (var i = 0; i < validated.errorCount && !aborted; ++i) {
+                countError();
+            }
+            return;
+        }
+
+        var prefix = path.toSegments();
+        var end = validated.firstError + validated.errorCount;
+        for (var i = validated.firstError; i < end && !aborted; ++i) {
+            var segments = validated.log.getPath(i);
+            var rerooted = new PathSegment[prefix.size() + segments.size() -
+                    validated.pathDepth];
+            for (var j = 0; j < prefix.size(); ++j) {
+                rerooted[j] = prefix.get(j);
+            }
+            for (var j = validated.pathDepth; j < segments.size(); ++j) {
+                rerooted[prefix.size() + j - validated.pathDepth] = segments.get(j);
+            }
+
+            emit(List.of(rerooted), validated.log.getMessage(i),
+                    validated.log.getFailedValue(i));
+        }
+    }
+
+    /**
+     * Validate objects of custom classes inside of collection.
+     *
+     * @param collection collection for processing
+     * @param mapContent "key" or "value" for content of Map, empty string - otherwise
+     */
+    public void validateNestedElements(Collection<?> collection, String mapContent) {
+        if (validateNestedElementsInParallel(collection, mapContent)) {
+            return;
+        }
+
+        int currentIndex = 0;
+        var isList = TypeKind.of(collection.getClass()) == TypeKind.LIST;
+        var content = getNestedContent(mapContent);
+
+        for (var value : collection) {
+            if (value == null) {
+                continue;
+            }
+            if (TypeKind.of(value.getClass()).isCustom()) {
+                if (isList) {
+                    enterIndex(currentIndex);
+                } else {
+                    enter(content);
+                }
+
+                validateNested(value);
+                exitSegment();
+
+                if (aborted) {
+                    return;
+                }
+            }
+            ++currentIndex;
+        }
+    }
+
+    /**
+     * Validate objects of custom classes inside of collection in parallel, if
+     * collection is large enough. Otherwise, collection must be walked sequentially.
+     *
+     * @param collection collection for processing
+     * @param mapContent "key" or "value" for content of Map, empty string - otherwise
+     * @return true if collection is validated, false if it must be walked sequentially
+     */
+    public boolean validateNestedElementsInParallel(Collection<?> collection,
+                                                    String mapContent) {
+        var isList = TypeKind.of(collection.getClass()) == TypeKind.LIST;
+
+        // Index of nested object doesn't count nulls, so lists with nulls stay sequential
+        if (!isParallel(collection) || (isList && containsNull(collection))) {
+            return false;
+        }
+
+        var content = getNestedContent(mapContent);
+        forEachParallel(collection, isList, (value, index, context) -> {
+            if (value != null && TypeKind.of(value.getClass()).isCustom()) {
+                if (isList) {
+                    context.enterIndex(index);
+                } else {
+                    context.enter(content);
+                }
+
+                context.validateNested(value);
+                context.exitSegment();
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Get path segment for object of custom class inside of collection.
+     *
+     * @param mapContent "key" or "value" for content of Map, empty string - otherwise
+     * @return path segment (it's used for collections which aren't List)
+     */
+    public static PathSegment getNestedContent(String mapContent) {
+        return mapContent.isEmpty() ? PathSegment.ELEMENT : getMapContent(mapContent);
+    }
+
+    /**
+     * Check if collection must be validated in parallel.
+     *
+     * @param collection collection
+     * @return true if parallel mode is on and collection is large enough
+     */
+    public boolean isParallel(Collection<?> collection) {
+        return options.getPool() != null && !aborted &&
+                collection.size() >= options.getParallelThreshold();
+    }
+
+    /**
+     * Handle elements of collection in parallel and merge their errors in order.
+     * <p>
+     * If indices are needed and collection can't be split into parts of known size,
+     * elements are handled sequentially.
+     * </p>
+     *
+     * @param collection collection
+     * @param indexed true if handler needs indices of elements
+     * @param handler handler of element
+     */
+    public void forEachParallel(Collection<?> collection, boolean indexed,
+                                ElementHandler handler) {
+        var spliterator = collection.spliterator();
+        var task = new ElementsTask(this, spliterator, 0, handler,
+                !indexed || spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+
+        if (ForkJoinTask.inForkJoinPool() && ForkJoinTask.getPool() == options.getPool()) {
+            task.invoke();
+        } else {
+            options.getPool().invoke(task);
+        }
+
+        merge(task.result);
+    }
+
+    /**
+     * Check if collection contains null.
+     *
+     * @param collection collection
+     * @return true if collection contains null
+     */
+    private static boolean containsNull(Collection<?> collection) {
+        for (var value : collection) {
+            if (value == null) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Get path segment for element of Map.
+     *
+     * @param mapContent "key" or "value"
+     * @return path segment
+     */
+    private static PathSegment getMapContent(String mapContent) {
+        switch (mapContent) {
+            case "key":
+                return PathSegment.MAP_KEY;
+
+            case "value":
+                return PathSegment.MAP_VALUE;
+        }
+
+        throw new InvalidParameterException("Invalid content of Map \"" + mapContent + "\"");
+    }
+
+    /**
+     * Get errors of root context created without own sink.
+     *
+     * @return set of errors
+     * @throws IllegalStateException if errors are passed to sink given by user
+     */
+    public Set<ValidationError> getErrorSet() {
+        if (!(sink instanceof ErrorSetSink)) {
+            throw new IllegalStateException("Errors are passed to sink");
+        }
+
+        return ((ErrorSetSink) sink).getErrors();
+    }
+
+    /**
+     * Getter for fieldCounters field.
+     *
+     * @return counters of constraints of current field, null if metrics aren't recorded
+     */
+    public FieldCounters getFieldCounters() {
+        return fieldCounters;
+    }
+
+    /**
+     * Setter for fieldCounters field.
+     *
+     * @param fieldCounters counters of constraints of current field
+     */
+    public void setFieldCounters(FieldCounters fieldCounters) {
+        this.fieldCounters = fieldCounters;
+    }
+
+    /**
+     * Get work stack of engine which walks object graph without recursion.
+     *
+     * @return stack of frames. For more information check {@link TraversalFrame}
+     */
+    public ArrayDeque<TraversalFrame> getFrames() {
+        if (frames == null) {
+            frames = new ArrayDeque<>();
+        }
+
+        return frames;
+    }
+
+    /**
+     * Getter for nestedValidator field.
+     *
+     * @return validator of nested objects
+     */
+    public ClassValidator getNestedValidator() {
+        return nestedValidator;
+    }
+
+    /**
+     * Getter for path field.
+     *
+     * @return path to current value
+     */
+    public PathStack getPath() {
+        return path;
+    }
+
+    /**
+     * Validated nested object: its errors in log of context.
+     */
+    private static class ValidatedObject {
+
+        /**
+         * Validated object without errors.
+         */
+        private static final ValidatedObject VALID = new ValidatedObject(null, 0, 0, 0, 0);
+
+        /**
+         * Log with errors of object.
+         */
+        private final ErrorBuffer log;
+
+        /**
+         * Index of the first error of object in log.
+         */
+        private final int firstError;
+
+        /**
+         * Depth of path of object, errors keep their segments after it.
+         */
+        private final int pathDepth;
+
+        /**
+         * Count of errors of object.
+         */
+        private final int errorCount;
+
+        /**
+         * Depth of the deepest nested object inside of object, counted from it.
+         */
+        private final int height;
+
+        /**
+         * Constructor.
+         *
+         * @param log log with errors of object
+         * @param firstError index of the first error of object in log
+         * @param pathDepth depth of path of object
+         * @param errorCount count of errors of object
+         * @param height depth of the deepest nested object inside of object
+         */
+        ValidatedObject(ErrorBuffer log, int firstError, int pathDepth, int errorCount,
+                        int height) {
+            this.log = log;
+            this.firstError = firstError;
+            this.pathDepth = pathDepth;
+            this.errorCount = errorCount;
+            this.height = height;
+        }
+    }
+
+    /**
+     * Ordered buffer of errors of child context (and log of errors of nested objects).
+     */
+    private static class ErrorBuffer implements ErrorSink {
+
+        /**
+         * Path, message and failed value of every error in turn.
+         */
+        private final List<Object> errors = new ArrayList<>();
+
+        /**
+         * Add error to buffer.
+         *
+         * @param path path to value
+         * @param message message of failed constraint
+         * @param failedValue value which doesn't satisfy constraint
+         */
+        @Override
+        public void accept(List<PathSegment> path, String message, Object failedValue) {
+            errors.add(path);
+            errors.add(message);
+            errors.add(failedValue);
+        }
+
+        /**
+         * Get count of errors.
+         *
+         * @return count of errors
+         */
+        int size() {
+            return errors.size() / 3;
+        }
+
+        /**
+         * Get path of error.
+         *
+         * @param index index of error
+         * @return path to value
+         */
+        @SuppressWarnings("unchecked")
+        List<PathSegment> getPath(int index) {
+            return (List<PathSegment>) errors.get(3 * index);
+        }
+
+        /**
+         * Get message of error.
+         *
+         * @param index index of error
+         * @return message of failed constraint
+         */
+        String getMessage(int index) {
+            return (String) errors.get(3 * index + 1);
+        }
+
+        /**
+         * Get failed value of error.
+         *
+         * @param index index of error
+         * @return value which doesn't satisfy constraint
+         */
+        Object getFailedValue(int index) {
+            return errors.get(3 * index + 2);
+        }
+    }
+
+    /**
+     * Task which handles part of collection.
+     */
+    private static class ElementsTask extends RecursiveAction {
+
+        /**
+         * Version of serialized form (tasks are never serialized).
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Context of collection.
+         */
+        private final ValidationContext parent;
+
+        /**
+         * Part of collection.
+         */
+        private final Spliterator<?> spliterator;
+
+        /**
+         * Index of the first element of part.
+         */
+        private final int firstIndex;
+
+        /**
+         * Handler of element.
+         */
+        private final ElementHandler handler;
+
+        /**
+         * Flag: part can be split.
+         */
+        private final boolean splittable;
+
+        /**
+         * Context with errors of part.
+         */
+        private ValidationContext result;
+
+        /**
+         * Constructor.
+         *
+         * @param parent context of collection
+         * @param spliterator part of collection
+         * @param firstIndex index of the first element of part
+         * @param handler handler of element
+         * @param splittable true if part can be split
+         */
+        ElementsTask(ValidationContext parent, Spliterator<?> spliterator, int firstIndex,
+                     ElementHandler handler, boolean splittable) {
+            this.parent = parent;
+            this.spliterator = spliterator;
+            this.firstIndex = firstIndex;
+            this.handler = handler;
+            this.splittable = splittable;
+        }
+
+        /**
+         * Split part or handle its elements.
+         */
+        @Override
+        protected void compute() {
+            var prefix = splittable &&
+                    spliterator.estimateSize() > parent.options.getParallelThreshold() ?
+                    spliterator.trySplit() : null;
+
+            if (prefix == null) {
+                result = new ValidationContext(parent);
+                var index = new int[]{firstIndex};
+                while (!result.aborted && spliterator.tryAdvance(value ->
+                        handler.handle(value, index[0]++, result))) {
+                    // Handler is called by tryAdvance
+                }
+                return;
+            }
+
+            var left = new ElementsTask(parent, prefix, firstIndex, handler, true);
+            var right = new ElementsTask(parent, spliterator,
+                    firstIndex + (int) prefix.getExactSizeIfKnown(), handler, true);
+            invokeAll(left, right);
+
+            result = left.result;
+            result.merge(right.result);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package solution.validators;
+
+/**
+ * Engines of validation.
+ */
+public enum ValidationEngine {
+    INTERPRETER, // Validation plan is interpreted by ObjectValidator
+    GENERATED // Dedicated validator class is generated for every constrained class
+}
@@ -1,5 +1,7 @@
 package solution.validators;
 
+import java.util.List;
+
 /**
  * Description of error content.
  */
@@ -19,6 +21,20 @@ public interface ValidationError {
      */
     String getPath();
 
+    /**
+     * Return segments of path to field which causes the error.
+     *
+     * @return segments of path. For more information check {@link PathSegment}
+     */
+    List<PathSegment> getPathSegments();
+
+    /**
+     * Return path to field which causes the error as JSON Pointer ("/field/1/other").
+     *
+     * @return JSON Pointer
+     */
+    String getJsonPointer();
+
     /**
      * Get failed value.
      *
@@ -0,0 +1,252 @@
+package solution.validators;
+
+import java.security.InvalidParameterException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Options of validation run.
+ * <p>
+ * Options are immutable: {@link #parallel(ForkJoinPool, int)},
+ * {@link #withFailedValuePolicy(FailedValuePolicy)}, {@link #withCyclePolicy(CyclePolicy)}
+ * and {@link #withMaxDepth(int)} return new options.
+ * </p>
+ */
+public class ValidationOptions {
+
+    /**
+     * Collect all errors (default options).
+     */
+    public static final ValidationOptions ALL_ERRORS = new ValidationOptions(Integer.MAX_VALUE,
+            true, null, 0, FailedValuePolicy.FULL, CyclePolicy.STOP, Integer.MAX_VALUE);
+
+    /**
+     * Stop on the first error.
+     */
+    public static final ValidationOptions FAIL_FAST = new ValidationOptions(1, true, null, 0,
+            FailedValuePolicy.FULL, CyclePolicy.STOP, Integer.MAX_VALUE);
+
+    /**
+     * Stop on the first error without creating errors and paths (used by
+     * {@link Validator#isValid(Object)}).
+     */
+    public static final ValidationOptions VALIDITY_CHECK = new ValidationOptions(1, false, null, 0,
+            FailedValuePolicy.FULL, CyclePolicy.STOP, Integer.MAX_VALUE);
+
+    /**
+     * Max count of errors, validation stops when it's reached.
+     */
+    private final int maxErrors;
+
+    /**
+     * Flag: errors are collected (otherwise, they are only counted).
+     */
+    private final boolean collectingErrors;
+
+    /**
+     * Pool for parallel validation of large collections, null if validation is sequential.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Min size of collection which is validated in parallel. It's also max size of
+     * part of collection validated by single task.
+     */
+    private final int parallelThreshold;
+
+    /**
+     * Policy of retention of failed values in errors.
+     */
+    private final FailedValuePolicy failedValuePolicy;
+
+    /**
+     * Policy of handling of cyclic references.
+     */
+    private final CyclePolicy cyclePolicy;
+
+    /**
+     * Max depth of nested objects (count of objects containing them, except root).
+     */
+    private final int maxDepth;
+
+    /**
+     * Constructor.
+     *
+     * @param maxErrors max count of errors
+     * @param collectingErrors true if errors are collected
+     * @param pool pool for parallel validation, null if validation is sequential
+     * @param parallelThreshold min size of collection which is validated in parallel
+     * @param failedValuePolicy policy of retention of failed values
+     * @param cyclePolicy policy of handling of cyclic references
+     * @param maxDepth max depth of nested objects
+     */
+    private ValidationOptions(int maxErrors, boolean collectingErrors, ForkJoinPool pool,
+                              int parallelThreshold, FailedValuePolicy failedValuePolicy,
+                              CyclePolicy cyclePolicy, int maxDepth) {
+        this.maxErrors = maxErrors;
+        this.collectingErrors = collectingErrors;
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
+        this.failedValuePolicy = failedValuePolicy;
+        this.cyclePolicy = cyclePolicy;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Get options which stop validation after given count of errors.
+     *
+     * @param maxErrors max count of errors
+     * @return options
+     */
+    public static ValidationOptions maxErrors(int maxErrors) {
+        if (maxErrors < 1) {
+            throw new InvalidParameterException("Max count of errors must be positive: " +
+                    maxErrors);
+        }
+
+        return new ValidationOptions(maxErrors, true, null, 0, FailedValuePolicy.FULL,
+                CyclePolicy.STOP, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get the same options with parallel validation of large collections.
+     * <p>
+     * Lists, Maps and Collections with at least "threshold" elements are split into
+     * parts which are validated by tasks of given pool. Errors (and their paths) are
+     * the same as in sequential run.
+     * </p>
+     *
+     * @param pool pool for validation tasks
+     * @param threshold min size of collection which is validated in parallel
+     * @return options
+     */
+    public ValidationOptions parallel(ForkJoinPool pool, int threshold) {
+        if (pool == null) {
+            throw new InvalidParameterException("Pool must be not null");
+        }
+        if (threshold < 1) {
+            throw new InvalidParameterException("Threshold must be positive: " + threshold);
+        }
+
+        return new ValidationOptions(maxErrors, collectingErrors, pool, threshold,
+                failedValuePolicy, cyclePolicy, maxDepth);
+    }
+
+    /**
+     * Get the same options with sequential validation.
+     *
+     * @return options
+     */
+    public ValidationOptions sequential() {
+        return pool == null ? this : new ValidationOptions(maxErrors, collectingErrors, null, 0,
+                failedValuePolicy, cyclePolicy, maxDepth);
+    }
+
+    /**
+     * Get the same options with given policy of retention of failed values.
+     *
+     * @param policy policy. For more information check {@link FailedValuePolicy}
+     * @return options
+     */
+    public ValidationOptions withFailedValuePolicy(FailedValuePolicy policy) {
+        if (policy == null) {
+            throw new InvalidParameterException("Policy must be not null");
+        }
+
+        return new ValidationOptions(maxErrors, collectingErrors, pool, parallelThreshold,
+                policy, cyclePolicy, maxDepth);
+    }
+
+    /**
+     * Get the same options with given policy of handling of cyclic references.
+     *
+     * @param policy policy. For more information check {@link CyclePolicy}
+     * @return options
+     */
+    public ValidationOptions withCyclePolicy(CyclePolicy policy) {
+        if (policy == null) {
+            throw new InvalidParameterException("Policy must be not null");
+        }
+
+        return new ValidationOptions(maxErrors, collectingErrors, pool, parallelThreshold,
+                failedValuePolicy, policy, maxDepth);
+    }
+
+    /**
+     * Get the same options with limit of depth of nested objects. Nested object
+     * deeper than limit isn't validated, its reference is reported as error.
+     *
+     * @param maxDepth max depth of nested objects (0 - nested objects aren't validated)
+     * @return options
+     */
+    public ValidationOptions withMaxDepth(int maxDepth) {
+        if (maxDepth < 0) {
+            throw new InvalidParameterException("Max depth must be not negative: " + maxDepth);
+        }
+
+        return new ValidationOptions(maxErrors, collectingErrors, pool, parallelThreshold,
+                failedValuePolicy, cyclePolicy, maxDepth);
+    }
+
+    /**
+     * Getter for maxErrors field.
+     *
+     * @return max count of errors
+     */
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    /**
+     * Getter for collectingErrors field.
+     *
+     * @return true if errors are collected, false if they are only counted
+     */
+    public boolean isCollectingErrors() {
+        return collectingErrors;
+    }
+
+    /**
+     * Getter for pool field.
+     *
+     * @return pool for parallel validation, null if validation is sequential
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Getter for parallelThreshold field.
+     *
+     * @return min size of collection which is validated in parallel
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Getter for failedValuePolicy field.
+     *
+     * @return policy of retention of failed values in errors
+     */
+    public FailedValuePolicy getFailedValuePolicy() {
+        return failedValuePolicy;
+    }
+
+    /**
+     * Getter for cyclePolicy field.
+     *
+     * @return policy of handling of cyclic references
+     */
+    public CyclePolicy getCyclePolicy() {
+        return cyclePolicy;
+    }
+
+    /**
+     * Getter for maxDepth field.
+     *
+     * @return max depth of nested objects
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+}
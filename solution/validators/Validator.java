@@ -1,6 +1,17 @@
 package solution.validators;
 
+import solution.validators.batch.BatchResult;
+import solution.validators.batch.Partition;
+import solution.validators.generated.GeneratedObjectValidator;
+import solution.validators.plan.ValidationPlan;
+import solution.validators.warmup.PrewarmOptions;
+import solution.validators.warmup.PrewarmResult;
+import solution.validators.warmup.Prewarmer;
+
+import java.security.InvalidParameterException;
 import java.util.Set;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
 
 /**
  * Description of validator.
@@ -14,4 +25,171 @@ public interface Validator {
      * @return set of errors. For more information check {@link ValidationError}
      */
     Set<ValidationError> validate(Object object);
+
+    /**
+     * Validate object with options (for example, stop on the first error).
+     *
+     * @param object object
+     * @param options options of validation. For more information check {@link ValidationOptions}
+     * @return set of errors. For more information check {@link ValidationError}
+     */
+    Set<ValidationError> validate(Object object, ValidationOptions options);
+
+    /**
+     * Validate object and pass every error to sink right when it's found.
+     * Errors aren't kept, so memory doesn't depend on count of errors.
+     *
+     * @param object object
+     * @param sink receiver of errors. For more information check {@link ErrorSink}
+     * @return count of errors
+     */
+    int validate(Object object, ErrorSink sink);
+
+    /**
+     * Validate object with options and pass every error to sink right when it's found.
+     *
+     * @param object object
+     * @param options options of validation. For more information check {@link ValidationOptions}
+     * @param sink receiver of errors. For more information check {@link ErrorSink}
+     * @return count of errors
+     */
+    int validate(Object object, ValidationOptions options, ErrorSink sink);
+
+    /**
+     * Check if object is valid.
+     * <p>
+     * Validation stops on the first error, no errors and paths are created.
+     * </p>
+     *
+     * @param object object
+     * @return true if object has no errors
+     */
+    boolean isValid(Object object);
+
+    /**
+     * Validate items. Validator of every class is resolved once per batch.
+     *
+     * @param items items
+     * @return result of batch. For more information check {@link BatchResult}
+     */
+    BatchResult validateAll(Iterable<?> items);
+
+    /**
+     * Validate items with options. If options have pool, items are validated
+     * by it in parallel.
+     *
+     * @param items items
+     * @param options options of validation. For more information check {@link ValidationOptions}
+     * @return result of batch. For more information check {@link BatchResult}
+     */
+    BatchResult validateAll(Iterable<?> items, ValidationOptions options);
+
+    /**
+     * Validate items of stream. Parallel stream is validated in parallel.
+     *
+     * @param items items
+     * @return result of batch. For more information check {@link BatchResult}
+     */
+    BatchResult validateAll(Stream<?> items);
+
+    /**
+     * Validate items of stream with options.
+     *
+     * @param items items
+     * @param options options of validation. For more information check {@link ValidationOptions}
+     * @return result of batch. For more information check {@link BatchResult}
+     */
+    BatchResult validateAll(Stream<?> items, ValidationOptions options);
+
+    /**
+     * Get collector which partitions stream into valid items and invalid items
+     * with their errors.
+     *
+     * @param <T> type of items
+     * @return collector. For more information check {@link Partition}
+     */
+    <T> Collector<T, ?, Partition<T>> partitioning();
+
+    /**
+     * Get collector which partitions stream into valid items and invalid items
+     * with their errors.
+     *
+     * @param options options of validation. For more information check {@link ValidationOptions}
+     * @param <T> type of items
+     * @return collector. For more information check {@link Partition}
+     */
+    <T> Collector<T, ?, Partition<T>> partitioning(ValidationOptions options);
+
+    /**
+     * Compile validation plan for given class.
+     * <p>
+     * Plan is built once and cached, so repeated calls are cheap.
+     * </p>
+     *
+     * @param type validated class
+     * @param <T> validated type
+     * @return validation plan. For more information check {@link ValidationPlan}
+     */
+    static <T> ValidationPlan<T> compile(Class<T> type) {
+        return ValidationPlan.of(type);
+    }
+
+    /**
+     * Build plans of all constrained classes from index generated at build time
+     * ("META-INF/solution/constrained.idx"), so the first validations don't pay for
+     * class analysis. Validator is created by {@link #create()}.
+     *
+     * @return result of warm-up. For more information check {@link PrewarmResult}
+     */
+    static PrewarmResult prewarm() {
+        return prewarm(create(), PrewarmOptions.PLANS_ONLY);
+    }
+
+    /**
+     * Warm constrained classes from index up with given validator: build plans,
+     * resolve validators of classes and validate sample instances (if options
+     * supply them).
+     *
+     * @param validator validator used by application
+     * @param options options of warm-up. For more information check {@link PrewarmOptions}
+     * @return result of warm-up. For more information check {@link PrewarmResult}
+     */
+    static PrewarmResult prewarm(Validator validator, PrewarmOptions options) {
+        return Prewarmer.prewarm(validator, options);
+    }
+
+    /**
+     * Create validator with given engine.
+     *
+     * @param engine engine of validation. For more information check {@link ValidationEngine}
+     * @return validator
+     */
+    static Validator create(ValidationEngine engine) {
+        switch (engine) {
+            case INTERPRETER:
+                return new ObjectValidator();
+
+            case GENERATED:
+                return new GeneratedObjectValidator();
+        }
+
+        throw new InvalidParameterException("Invalid engine of validation");
+    }
+
+    /**
+     * Create validator with engine from system property "solution.validator.engine"
+     * ("interpreter" by default).
+     *
+     * @return validator
+     */
+    static Validator create() {
+        var engine = System.getProperty("solution.validator.engine", "interpreter");
+
+        try {
+            return create(ValidationEngine.valueOf(engine.toUpperCase()));
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidParameterException("Invalid engine of validation \"" +
+                    engine + "\"");
+        }
+    }
 }
@@ -0,0 +1,237 @@
+package solution.validators.batch;
+
+import solution.validators.AbstractValidator;
+import solution.validators.ValidationError;
+import solution.validators.ValidationOptions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collector;
+
+/**
+ * Result of batch validation.
+ * <p>
+ * Only invalid items are kept: their indices (in ascending order) and their errors,
+ * so result of large valid batch takes almost no memory.
+ * </p>
+ */
+public class BatchResult {
+
+    /**
+     * Count of validated items.
+     */
+    private final int total;
+
+    /**
+     * Indices of invalid items in ascending order.
+     */
+    private final int[] invalidIndices;
+
+    /**
+     * Errors of invalid items (in the same order as indices).
+     */
+    private final List<Set<ValidationError>> errors;
+
+    /**
+     * Constructor.
+     *
+     * @param total count of validated items
+     * @param invalidIndices indices of invalid items
+     * @param errors errors of invalid items
+     */
+    private BatchResult(int total, int[] invalidIndices, List<Set<ValidationError>> errors) {
+        this.total = total;
+        this.invalidIndices = invalidIndices;
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Get collector which validates items of stream.
+     *
+     * @param validator validator
+     * @param options options of validation. For more information check {@link ValidationOptions}
+     * @return collector
+     */
+    public static Collector<Object, Accumulator, BatchResult> collector(
+            AbstractValidator validator, ValidationOptions options) {
+
+        return Collector.of(
+                () -> new Accumulator(validator, options),
+                Accumulator::accept,
+                Accumulator::combine,
+                Accumulator::toResult
+        );
+    }
+
+    /**
+     * Getter for total field.
+     *
+     * @return count of validated items
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Get count of invalid items.
+     *
+     * @return count of invalid items
+     */
+    public int getInvalidCount() {
+        return invalidIndices.length;
+    }
+
+    /**
+     * Get count of valid items.
+     *
+     * @return count of valid items
+     */
+    public int getValidCount() {
+        return total - invalidIndices.length;
+    }
+
+    /**
+     * Check if all items are valid.
+     *
+     * @return true if all items are valid
+     */
+    public boolean isValid() {
+        return invalidIndices.length == 0;
+    }
+
+    /**
+     * Getter for invalidIndices field.
+     *
+     * @return indices of invalid items in ascending order
+     */
+    public int[] getInvalidIndices() {
+        return invalidIndices.clone();
+    }
+
+    /**
+     * Check if item is valid.
+     *
+     * @param index index of item
+     * @return true if item is valid
+     */
+    public boolean isValid(int index) {
+        return Arrays.binarySearch(invalidIndices, index) < 0;
+    }
+
+    /**
+     * Get errors of item.
+     *
+     * @param index index of item
+     * @return set of errors, empty if item is valid
+     */
+    public Set<ValidationError> getErrors(int index) {
+        var position = Arrays.binarySearch(invalidIndices, index);
+        return position < 0 ? Collections.emptySet() : errors.get(position);
+    }
+
+    /**
+     * Getter for errors field.
+     *
+     * @return errors of invalid items (in the same order as indices)
+     */
+    public List<Set<ValidationError>> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Mutable result of part of batch.
+     */
+    public static class Accumulator {
+
+        /**
+         * Validator of items.
+         */
+        private final ItemValidator validator;
+
+        /**
+         * Count of validated items.
+         */
+        private int total;
+
+        /**
+         * Indices of invalid items.
+         */
+        private int[] invalidIndices = new int[8];
+
+        /**
+         * Count of invalid items.
+         */
+        private int invalidCount;
+
+        /**
+         * Errors of invalid items.
+         */
+        private final List<Set<ValidationError>> errors = new ArrayList<>();
+
+        /**
+         * Constructor.
+         *
+         * @param validator validator
+         * @param options options of validation. For more information check {@link ValidationOptions}
+         */
+        public Accumulator(AbstractValidator validator, ValidationOptions options) {
+            this.validator = new ItemValidator(validator, options);
+        }
+
+        /**
+         * Validate next item.
+         *
+         * @param item item
+         */
+        public void accept(Object item) {
+            var itemErrors = validator.validate(item);
+            if (itemErrors != null) {
+                addInvalid(total, itemErrors);
+            }
+
+            total++;
+        }
+
+        /**
+         * Append result of the next part of batch.
+         *
+         * @param other result of the next part
+         * @return this accumulator
+         */
+        public Accumulator combine(Accumulator other) {
+            for (var i = 0; i < other.invalidCount; i++) {
+                addInvalid(total + other.invalidIndices[i], other.errors.get(i));
+            }
+
+            total += other.total;
+            return this;
+        }
+
+        /**
+         * Add invalid item.
+         *
+         * @param index index of item
+         * @param itemErrors errors of item
+         */
+        private void addInvalid(int index, Set<ValidationError> itemErrors) {
+            if (invalidCount == invalidIndices.length) {
+                invalidIndices = Arrays.copyOf(invalidIndices, invalidCount * 2);
+            }
+
+            invalidIndices[invalidCount++] = index;
+            errors.add(itemErrors);
+        }
+
+        /**
+         * Build result.
+         *
+         * @return result of batch
+         */
+        public BatchResult toResult() {
+            return new BatchResult(total, Arrays.copyOf(invalidIndices, invalidCount), errors);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package solution.validators.batch;
+
+import solution.validators.ValidationError;
+
+import java.util.Set;
+
+/**
+ * Invalid item with its errors.
+ *
+ * @param <T> type of item
+ */
+public class InvalidItem<T> {
+
+    /**
+     * Item.
+     */
+    private final T item;
+
+    /**
+     * Errors of item.
+     */
+    private final Set<ValidationError> errors;
+
+    /**
+     * Constructor.
+     *
+     * @param item item
+     * @param errors errors of item
+     */
+    public InvalidItem(T item, Set<ValidationError> errors) {
+        this.item = item;
+        this.errors = errors;
+    }
+
+    /**
+     * Getter for item field.
+     *
+     * @return item
+     */
+    public T getItem() {
+        return item;
+    }
+
+    /**
+     * Getter for errors field.
+     *
+     * @return errors of item
+     */
+    public Set<ValidationError> getErrors() {
+        return errors;
+    }
+}
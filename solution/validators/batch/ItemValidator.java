@@ -0,0 +1,101 @@
+package solution.validators.batch;
+
+import solution.validators.AbstractValidator;
+import solution.validators.ClassValidator;
+import solution.validators.ValidationContext;
+import solution.validators.ValidationError;
+import solution.validators.ValidationOptions;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validator of items of one batch.
+ * <p>
+ * Validator of every class is resolved once: the last class is checked first
+ * (batches usually contain items of one class), other classes are kept in map.
+ * Instance isn't thread-safe, parallel batches use one instance per thread of work.
+ * </p>
+ */
+public class ItemValidator {
+
+    /**
+     * Validator which resolves validators of classes and validates nested objects.
+     */
+    private final AbstractValidator validator;
+
+    /**
+     * Options of validation.
+     */
+    private final ValidationOptions options;
+
+    /**
+     * Class of the last validated item.
+     */
+    private Class<?> lastType;
+
+    /**
+     * Validator of the last validated class.
+     */
+    private ClassValidator lastValidator;
+
+    /**
+     * Validators of other classes.
+     */
+    private Map<Class<?>, ClassValidator> validators;
+
+    /**
+     * Constructor.
+     *
+     * @param validator validator
+     * @param options options of validation. For more information check {@link ValidationOptions}
+     */
+    public ItemValidator(AbstractValidator validator, ValidationOptions options) {
+        this.validator = validator;
+        this.options = options;
+    }
+
+    /**
+     * Validate item.
+     *
+     * @param item item (null item is valid)
+     * @return set of errors, null if item is valid
+     */
+    public Set<ValidationError> validate(Object item) {
+        if (item == null) {
+            return null;
+        }
+
+        var context = new ValidationContext(validator, options);
+        context.validateRoot(item, resolve(item.getClass()));
+
+        if (!context.hasErrors()) {
+            return null;
+        }
+
+        return options.isCollectingErrors() ? context.getErrorSet() : Collections.emptySet();
+    }
+
+    /**
+     * Resolve validator of class.
+     *
+     * @param type class of item
+     * @return validator of class
+     */
+    private ClassValidator resolve(Class<?> type) {
+        if (type == lastType) {
+            return lastValidator;
+        }
+
+        if (validators == null) {
+            validators = new HashMap<>();
+        }
+
+        var classValidator = validators.computeIfAbsent(type, validator::resolve);
+        lastType = type;
+        lastValidator = classValidator;
+        return classValidator;
+    }
+}
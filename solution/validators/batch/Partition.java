@@ -0,0 +1,144 @@
+package solution.validators.batch;
+
+import solution.validators.AbstractValidator;
+import solution.validators.ValidationOptions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * Items of stream partitioned into valid items and invalid items with their errors.
+ * Both parts keep order of stream.
+ *
+ * @param <T> type of items
+ */
+public class Partition<T> {
+
+    /**
+     * Valid items.
+     */
+    private final List<T> valid;
+
+    /**
+     * Invalid items with their errors.
+     */
+    private final List<InvalidItem<T>> invalid;
+
+    /**
+     * Constructor.
+     *
+     * @param valid valid items
+     * @param invalid invalid items with their errors
+     */
+    private Partition(List<T> valid, List<InvalidItem<T>> invalid) {
+        this.valid = Collections.unmodifiableList(valid);
+        this.invalid = Collections.unmodifiableList(invalid);
+    }
+
+    /**
+     * Get collector which partitions items of stream.
+     *
+     * @param validator validator
+     * @param options options of validation. For more information check {@link ValidationOptions}
+     * @param <T> type of items
+     * @return collector
+     */
+    public static <T> Collector<T, ?, Partition<T>> collector(
+            AbstractValidator validator, ValidationOptions options) {
+
+        return Collector.<T, Accumulator<T>, Partition<T>>of(
+                () -> new Accumulator<>(validator, options),
+                Accumulator::accept,
+                Accumulator::combine,
+                Accumulator::toPartition
+        );
+    }
+
+    /**
+     * Getter for valid field.
+     *
+     * @return valid items
+     */
+    public List<T> getValid() {
+        return valid;
+    }
+
+    /**
+     * Getter for invalid field.
+     *
+     * @return invalid items with their errors
+     */
+    public List<InvalidItem<T>> getInvalid() {
+        return invalid;
+    }
+
+    /**
+     * Mutable partition of part of stream.
+     *
+     * @param <T> type of items
+     */
+    public static class Accumulator<T> {
+
+        /**
+         * Validator of items.
+         */
+        private final ItemValidator validator;
+
+        /**
+         * Valid items.
+         */
+        private final List<T> valid = new ArrayList<>();
+
+        /**
+         * Invalid items with their errors.
+         */
+        private final List<InvalidItem<T>> invalid = new ArrayList<>();
+
+        /**
+         * Constructor.
+         *
+         * @param validator validator
+         * @param options options of validation. For more information check {@link ValidationOptions}
+         */
+        public Accumulator(AbstractValidator validator, ValidationOptions options) {
+            this.validator = new ItemValidator(validator, options);
+        }
+
+        /**
+         * Validate next item.
+         *
+         * @param item item
+         */
+        public void accept(T item) {
+            var errors = validator.validate(item);
+            if (errors == null) {
+                valid.add(item);
+            } else {
+                invalid.add(new InvalidItem<>(item, errors));
+            }
+        }
+
+        /**
+         * Append partition of the next part of stream.
+         *
+         * @param other partition of the next part
+         * @return this accumulator
+         */
+        public Accumulator<T> combine(Accumulator<T> other) {
+            valid.addAll(other.valid);
+            invalid.addAll(other.invalid);
+            return this;
+        }
+
+        /**
+         * Build partition.
+         *
+         * @return partition
+         */
+        public Partition<T> toPartition() {
+            return new Partition<>(valid, invalid);
+        }
+    }
+}
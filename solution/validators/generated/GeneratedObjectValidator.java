@@ -0,0 +1,83 @@
+package solution.validators.generated;
+
+import solution.validators.AbstractValidator;
+import solution.validators.ClassValidator;
+import solution.validators.ObjectValidator;
+import solution.validators.ValidationContext;
+import solution.validators.plan.ValidationPlan;
+
+/**
+ * Validator which runs dedicated generated validator for every constrained class.
+ * <p>
+ * Validators are generated once per class, when class is validated for the first
+ * time (classes with validators generated at build time use them instead).
+ * If validator can't be generated (for example, Java compiler isn't available
+ * at runtime or class is loaded by class loader which generated class can't link
+ * against), class is validated by {@link ObjectValidator}: errors are the same.
+ * </p>
+ */
+public class GeneratedObjectValidator extends AbstractValidator {
+
+    /**
+     * Validator for classes which can't have generated validator.
+     */
+    private static final ClassValidator INTERPRETER = new ObjectValidator();
+
+    /**
+     * Cache of validators of classes.
+     */
+    private static final ClassValue<ClassValidator> VALIDATORS = new ClassValue<>() {
+        @Override
+        protected ClassValidator computeValue(Class<?> type) {
+            var precompiled = PrecompiledValidators.get(type);
+            if (precompiled != null) {
+                return precompiled;
+            }
+
+            var plan = ValidationPlan.of(type);
+            if (!plan.isConstrained()) {
+                return UNCONSTRAINED;
+            }
+
+            try {
+                return GeneratedValidatorFactory.create(plan);
+            } catch (IllegalStateException | LinkageError exception) {
+                return INTERPRETER;
+            }
+        }
+    };
+
+    /**
+     * Resolve validator of objects of given class.
+     *
+     * @param type validated class
+     * @return validator of class
+     */
+    @Override
+    public ClassValidator resolve(Class<?> type) {
+        return VALIDATORS.get(type);
+    }
+
+    /**
+     * Validate object inside of validation run.
+     *
+     * @param object object
+     * @param context context of validation run
+     */
+    @Override
+    public void validate(Object object, ValidationContext context) {
+        if (object != null) {
+            VALIDATORS.get(object.getClass()).validate(object, context);
+        }
+    }
+
+    /**
+     * Get validator used for class.
+     *
+     * @param type validated class
+     * @return validator of class
+     */
+    public static ClassValidator getClassValidator(Class<?> type) {
+        return VALIDATORS.get(type);
+    }
+}
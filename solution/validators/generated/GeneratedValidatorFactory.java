@@ -0,0 +1,78 @@
+package solution.validators.generated;
+
+import solution.validators.ClassValidator;
+import solution.validators.plan.ValidationPlan;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+
+/**
+ * Factory of validators generated for single class and defined as hidden classes.
+ * <p>
+ * Getters of fields are passed to hidden class as class data, so generated
+ * code reads private fields without reflection and without access checks.
+ * </p>
+ */
+public class GeneratedValidatorFactory {
+
+    /**
+     * Package of generated classes (the same as package of this factory).
+     */
+    private static final String PACKAGE_NAME =
+            GeneratedValidatorFactory.class.getPackageName();
+
+    /**
+     * Generate validator for class.
+     *
+     * @param plan validation plan of class. For more information check {@link ValidationPlan}
+     * @return validator of class
+     */
+    public static ClassValidator create(ValidationPlan<?> plan) {
+        var className = getValidatorName(plan.getType());
+        var writer = new ValidatorSourceWriter(PACKAGE_NAME, className,
+                (index, fieldName, integralPrimitive) ->
+                        "java.lang.invoke.MethodHandles.classDataAt(lookup, " +
+                                "java.lang.constant.ConstantDescs.DEFAULT_NAME, " +
+                                "java.lang.invoke.MethodHandle.class, " + index + ")");
+        var getters = new ArrayList<MethodHandle>();
+
+        for (var fieldPlan : plan.getFields()) {
+            var index = writer.writeField(fieldPlan.getName(),
+                    fieldPlan.isIntegralPrimitive(), fieldPlan.isCustomClass(),
+                    fieldPlan.getType());
+            if (index != -1) {
+                var accessor = fieldPlan.getAccessor();
+                getters.add(fieldPlan.isIntegralPrimitive() ?
+                        accessor.getLongGetter() : accessor.getGetter());
+            }
+        }
+
+        var bytecode = JavaSourceCompiler.compile(PACKAGE_NAME + "." + className,
+                writer.toSource());
+
+        try {
+            var lookup = MethodHandles.lookup()
+                    .defineHiddenClassWithClassData(bytecode, getters, true);
+            var constructor = lookup.findConstructor(lookup.lookupClass(),
+                    MethodType.methodType(void.class));
+            return (ClassValidator) constructor.invoke();
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException("Can't define validator \"" + className + "\"",
+                    throwable);
+        }
+    }
+
+    /**
+     * Get simple name of validator for class.
+     *
+     * @param type validated class
+     * @return simple name of validator
+     */
+    public static String getValidatorName(Class<?> type) {
+        return type.getName().replaceAll("[^A-Za-z0-9]", "_") + "_Validator";
+    }
+}
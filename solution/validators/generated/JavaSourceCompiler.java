@@ -0,0 +1,102 @@
+package solution.validators.generated;
+
+import solution.validators.ClassValidator;
+
+import javax.tools.*;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory compiler of generated validators.
+ * <p>
+ * Source isn't written to disk: it's compiled by system Java compiler and
+ * bytecode is returned as array, so it can be defined as hidden class.
+ * </p>
+ */
+public class JavaSourceCompiler {
+
+    /**
+     * Compile source of single class.
+     *
+     * @param className binary name of class
+     * @param source Java source
+     * @return bytecode of class
+     * @throws IllegalStateException if class can't be compiled
+     */
+    public static byte[] compile(String className, String source) {
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("Java compiler isn't available");
+        }
+
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        var standardManager = compiler.getStandardFileManager(diagnostics, null, null);
+        var output = new ByteArrayOutputStream();
+
+        var fileManager = new ForwardingJavaFileManager<>(standardManager) {
+            @Override
+            public JavaFileObject getJavaFileForOutput(Location location, String name,
+                                                       JavaFileObject.Kind kind,
+                                                       FileObject sibling) {
+                return new SimpleJavaFileObject(URI.create("bytes:///" +
+                        name.replace('.', '/') + kind.extension), kind) {
+                    @Override
+                    public OutputStream openOutputStream() {
+                        return output;
+                    }
+                };
+            }
+        };
+
+        var sourceFile = new SimpleJavaFileObject(URI.create("string:///" +
+                className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+
+        var options = List.of("-proc:none", "-g:none", "-classpath", resolveClassPath());
+        var success = compiler.getTask(null, fileManager, diagnostics, options,
+                null, List.of(sourceFile)).call();
+
+        if (!success) {
+            throw new IllegalStateException("Can't compile validator \"" + className +
+                    "\": " + diagnostics.getDiagnostics());
+        }
+
+        return output.toByteArray();
+    }
+
+    /**
+     * Resolve class path of compiler: location of validator classes and class path
+     * of application.
+     *
+     * @return class path
+     * @throws IllegalStateException if location of validator classes can't be resolved
+     */
+    private static String resolveClassPath() {
+        var entries = new ArrayList<String>();
+
+        var codeSource = ClassValidator.class.getProtectionDomain().getCodeSource();
+        if (codeSource != null && codeSource.getLocation() != null) {
+            try {
+                entries.add(Path.of(codeSource.getLocation().toURI()).toString());
+            } catch (URISyntaxException | IllegalArgumentException exception) {
+                throw new IllegalStateException("Can't resolve class path of compiler",
+                        exception);
+            }
+        }
+
+        entries.add(System.getProperty("java.class.path", ""));
+
+        return String.join(File.pathSeparator, entries);
+    }
+}
@@ -0,0 +1,121 @@
+package solution.validators.generated;
+
+import solution.validators.ClassValidator;
+import solution.validators.plan.ConstraintRegistry;
+import solution.validators.plan.ValidationPlan;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.WeakHashMap;
+
+/**
+ * Registry of validators generated at build time by
+ * {@link solution.processing.ConstrainedProcessor}.
+ * <p>
+ * Registry files "META-INF/solution/validators.idx" of class loader map binary
+ * names of constrained classes to binary names of their validators.
+ * </p>
+ */
+public class PrecompiledValidators {
+
+    /**
+     * Path of registry file.
+     */
+    public static final String REGISTRY = "META-INF/solution/validators.idx";
+
+    /**
+     * Registries of class loaders.
+     */
+    private static final Map<ClassLoader, Properties> REGISTRIES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Cache of precompiled validators of classes.
+     */
+    private static final ClassValue<ClassValidator> VALIDATORS = new ClassValue<>() {
+        @Override
+        protected ClassValidator computeValue(Class<?> type) {
+            return load(type);
+        }
+    };
+
+    /**
+     * Get precompiled validator of class.
+     *
+     * @param type validated class
+     * @return validator or null, if class has no precompiled validator
+     */
+    public static ClassValidator get(Class<?> type) {
+        return VALIDATORS.get(type);
+    }
+
+    /**
+     * Load precompiled validator of class.
+     *
+     * @param type validated class
+     * @return validator or null, if class has no precompiled validator
+     */
+    private static ClassValidator load(Class<?> type) {
+        var loader = type.getClassLoader();
+        if (loader == null) {
+            return null;
+        }
+
+        var validatorName = REGISTRIES.computeIfAbsent(loader,
+                PrecompiledValidators::readRegistry).getProperty(type.getName());
+        if (validatorName == null) {
+            return null;
+        }
+
+        // Validators generated at build time know only built-in constraints
+        if (ConstraintRegistry.getInstance().isCustomized() &&
+                ValidationPlan.of(type).hasCustomConstraints()) {
+            return null;
+        }
+
+        try {
+            var validatorClass = Class.forName(validatorName, true, loader);
+            var constructor = MethodHandles.publicLookup().findConstructor(validatorClass,
+                    MethodType.methodType(void.class));
+            return (ClassValidator) constructor.invoke();
+        } catch (LinkageError | ReflectiveOperationException exception) {
+            // Validator can't be initialized (for example, its dictionary can't be opened)
+            // or registry entry is stale: class is validated by plan, which reports
+            // the same failure when it's checked
+            return null;
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Read all registry files of class loader.
+     *
+     * @param loader class loader
+     * @return entries of registries
+     */
+    private static Properties readRegistry(ClassLoader loader) {
+        var registry = new Properties();
+
+        try {
+            var resources = loader.getResources(REGISTRY);
+            while (resources.hasMoreElements()) {
+                try (var in = resources.nextElement().openStream()) {
+                    registry.load(in);
+                } catch (IOException | IllegalArgumentException exception) {
+                    // Registry file can't be read: its classes are validated by plan
+                }
+            }
+        } catch (IOException exception) {
+            // Registries can't be found: all classes are validated by plan
+        }
+
+        return registry;
+    }
+}
@@ -0,0 +1,752 @@
+package solution.validators.generated;
+
+import solution.utils.ValueType;
+import solution.validators.plan.Constraint;
+import solution.validators.plan.ConstraintHandler;
+import solution.validators.plan.ConstraintKind;
+import solution.validators.plan.TypePlan;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Writer of Java source for dedicated validator of single class.
+ * <p>
+ * Generated class implements {@link solution.validators.ClassValidator}.
+ * Fields are read through static final method handles, segments of path to fields,
+ * bounds of "@Size" and "@InRange", values of "@AnyOf" and error messages are written
+ * as constants, dictionaries of "@AnyOfDictionary" are opened once, when class is
+ * initialized.
+ * Generated code produces the same errors as {@link solution.validators.ObjectValidator}.
+ * </p>
+ */
+public class ValidatorSourceWriter {
+
+    /**
+     * Source of expressions which initialize getters of fields.
+     */
+    public interface GetterSource {
+
+        /**
+         * Get expression of type MethodHandle which reads field.
+         * <p>
+         * Expression may use local variable "lookup" (lookup of generated class)
+         * and may throw ReflectiveOperationException. Type of handle must be
+         * (Object)long for integral primitive fields and (Object)Object - otherwise.
+         * If expression is null, field is read directly (validated class must be set).
+         * </p>
+         *
+         * @param index index of getter
+         * @param fieldName name of field
+         * @param integralPrimitive true if field has integral primitive type
+         * @return Java expression
+         */
+        String getterExpression(int index, String fieldName, boolean integralPrimitive);
+    }
+
+    /**
+     * Name of local variable with validated object cast to validated class.
+     */
+    private static final String TARGET = "target";
+
+    /**
+     * Package of generated class.
+     */
+    private final String packageName;
+
+    /**
+     * Simple name of generated class.
+     */
+    private final String className;
+
+    /**
+     * Canonical name of validated class, null if it can't be referred from generated class.
+     */
+    private final String targetType;
+
+    /**
+     * Source of getter expressions.
+     */
+    private final GetterSource getterSource;
+
+    /**
+     * Getter expressions in order of getter indices.
+     */
+    private final List<String> getters = new ArrayList<>();
+
+    /**
+     * Names of fields in order of indices of their path segments.
+     */
+    private final List<String> segments = new ArrayList<>();
+
+    /**
+     * Paths to dictionaries of "@AnyOfDictionary" in order of their indices.
+     */
+    private final List<String> dictionaries = new ArrayList<>();
+
+    /**
+     * Body of validation method.
+     */
+    private final StringBuilder body = new StringBuilder();
+
+    /**
+     * Current indentation level.
+     */
+    private int indent = 2;
+
+    /**
+     * Counter for unique names of local variables.
+     */
+    private int variableCounter;
+
+    /**
+     * Constructor.
+     *
+     * @param packageName package of generated class
+     * @param className simple name of generated class
+     * @param getterSource source of getter expressions
+     */
+    public ValidatorSourceWriter(String packageName, String className,
+                                 GetterSource getterSource) {
+        this(packageName, className, null, getterSource);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param packageName package of generated class
+     * @param className simple name of generated class
+     * @param targetType canonical name of validated class, null if fields are read only by getters
+     * @param getterSource source of getter expressions
+     */
+    public ValidatorSourceWriter(String packageName, String className, String targetType,
+                                 GetterSource getterSource) {
+        this.packageName = packageName;
+        this.className = className;
+        this.targetType = targetType;
+        this.getterSource = getterSource;
+    }
+
+    /**
+     * Check if field has nothing to validate.
+     *
+     * @param customClass true if declared type of field is custom class
+     * @param type plan for type of field
+     * @return true if field can be skipped
+     */
+    public static boolean isTrivial(boolean customClass, TypePlan type) {
+        return !customClass && type.getKind() == TypePlan.Kind.SCALAR &&
+                type.getConstraints().length == 0;
+    }
+
+    /**
+     * Write validation of field.
+     *
+     * @param name name of field
+     * @param integralPrimitive true if field has integral primitive type
+     * @param customClass true if declared type of field is custom class
+     * @param type plan for type of field
+     * @return index of getter for this field, -1 if field has nothing to validate or
+     * it's read directly
+     */
+    public int writeField(String name, boolean integralPrimitive, boolean customClass,
+                          TypePlan type) {
+        if (isTrivial(customClass, type)) {
+            return -1;
+        }
+
+        var getterIndex = getters.size();
+        var getter = getterSource.getterExpression(getterIndex, name, integralPrimitive);
+        String read;
+        if (getter == null) {
+            if (targetType == null) {
+                throw new IllegalStateException("Field \"" + name + "\" can't be read directly");
+            }
+            read = TARGET + "." + name;
+            getterIndex = -1;
+        } else {
+            getters.add(getter);
+            read = "(" + (integralPrimitive ? "long" : "Object") + ") GETTER_" + getterIndex +
+                    ".invokeExact(object)";
+        }
+
+        var segment = "SEGMENT_" + segments.size();
+        segments.add(name);
+
+        line("// Field \"" + name + "\"");
+        line("context.enter(" + segment + ");");
+        open("{");
+
+        if (integralPrimitive) {
+            line("long value = " + read + ";");
+            for (var constraint : type.getConstraints()) {
+                writeNumberConstraint(builtIn(constraint), "value");
+            }
+        } else {
+            line("Object value = " + read + ";");
+            if (customClass) {
+                line("context.validateNested(value);");
+            }
+            writeConstraints(type, "value");
+            writeContent(type, "value");
+        }
+
+        close("}");
+        line("context.exit(" + segment + ");");
+        writeAbortCheck();
+
+        return getterIndex;
+    }
+
+    /**
+     * Get Java source of generated class.
+     *
+     * @return source
+     */
+    public String toSource() {
+        var source = new StringBuilder();
+
+        source.append("package ").append(packageName).append(";\n\n");
+        source.append("/**\n * Validator of \"").append(targetType == null ? className : targetType)
+                .append("\" generated by solution.validators.generated.ValidatorSourceWriter.\n */\n");
+        source.append("public final class ").append(className)
+                .append(" implements solution.validators.ClassValidator {\n\n");
+
+        for (var i = 0; i < getters.size(); ++i) {
+            source.append("    private static final java.lang.invoke.MethodHandle GETTER_")
+                    .append(i).append(";\n");
+        }
+
+        for (var i = 0; i < segments.size(); ++i) {
+            source.append("    private static final solution.validators.PathSegment SEGMENT_")
+                    .append(i).append(" =\n            solution.validators.PathSegment.field(")
+                    .append(literal(segments.get(i))).append(");\n");
+        }
+
+        for (var i = 0; i < dictionaries.size(); ++i) {
+            source.append("    private static final solution.utils.MappedDictionary DICTIONARY_")
+                    .append(i).append(" =\n            solution.utils.MappedDictionary.open(")
+                    .append(literal(dictionaries.get(i))).append(");\n");
+        }
+        if (getters.isEmpty() && !(segments.isEmpty() && dictionaries.isEmpty())) {
+            source.append("\n");
+        }
+
+        if (!getters.isEmpty()) {
+            source.append("\n    static {\n");
+            source.append("        try {\n");
+            source.append("            var lookup = java.lang.invoke.MethodHandles.lookup();\n");
+            for (var i = 0; i < getters.size(); ++i) {
+                source.append("            GETTER_").append(i).append(" = ")
+                        .append(getters.get(i)).append(";\n");
+            }
+            source.append("        } catch (ReflectiveOperationException exception) {\n");
+            source.append("            throw new ExceptionInInitializerError(exception);\n");
+            source.append("        }\n");
+            source.append("    }\n\n");
+        }
+
+        source.append("    @Override\n");
+        source.append("    public void validate(Object object, " +
+                "solution.validators.ValidationContext context) {\n");
+        source.append("        try {\n");
+        source.append("            validateFields(object, context);\n");
+        source.append("        } catch (RuntimeException | Error exception) {\n");
+        source.append("            throw exception;\n");
+        source.append("        } catch (Throwable throwable) {\n");
+        source.append("            throw new IllegalStateException(throwable);\n");
+        source.append("        }\n");
+        source.append("    }\n\n");
+
+        source.append("    private static void validateFields(Object object, " +
+                "solution.validators.ValidationContext context) throws Throwable {\n");
+        if (targetType != null) {
+            source.append("        ").append(targetType).append(" ").append(TARGET)
+                    .append(" = (").append(targetType).append(") object;\n");
+        }
+        source.append(body);
+        source.append("    }\n");
+        source.append("}\n");
+
+        return source.toString();
+    }
+
+    /**
+     * Write constraints of value.
+     *
+     * @param type plan for type of value
+     * @param variable name of variable with value
+     */
+    private void writeConstraints(TypePlan type, String variable) {
+        var constraints = type.getConstraints();
+        var checksValue = false;
+        for (var constraint : constraints) {
+            if (builtIn(constraint).getKind() == ConstraintKind.NOT_NULL) {
+                open("if (" + variable + " == null) {");
+                report(constraint.getMessage(), "\"null\"");
+                close("}");
+            } else {
+                checksValue = true;
+            }
+        }
+
+        // "@NotNull" fails only for null and other constraints - only for other values,
+        // so errors are reported in the same order as declared
+        if (!checksValue) {
+            return;
+        }
+
+        if (type.getValueType() == null) {
+            throw new IllegalStateException("Constraints can't be applied to value " +
+                    "without known type");
+        }
+
+        open("if (" + variable + " != null) {");
+        for (var constraint : constraints) {
+            if (constraint.getKind() != ConstraintKind.NOT_NULL) {
+                writeConstraint((Constraint) constraint, type.getValueType(), variable);
+            }
+        }
+        close("}");
+    }
+
+    /**
+     * Get built-in constraint, which can be written as code.
+     *
+     * @param handler handler of constraint
+     * @return built-in constraint
+     */
+    private static Constraint builtIn(ConstraintHandler handler) {
+        if (!(handler instanceof Constraint)) {
+            throw new IllegalStateException("Custom constraint " +
+                    handler.getClass().getName() + " can't be generated");
+        }
+
+        return (Constraint) handler;
+    }
+
+    /**
+     * Write content of List, Map or Collection.
+     *
+     * @param type plan for type of value
+     * @param variable name of variable with value
+     */
+    private void writeContent(TypePlan type, String variable) {
+        switch (type.getKind()) {
+            case LIST:
+                writeList(type, variable);
+                return;
+
+            case MAP:
+                writeMap(type, variable);
+                return;
+
+            case COLLECTION:
+                writeCollection(type, variable);
+        }
+    }
+
+    /**
+     * Write content of List (may be, nested lists).
+     *
+     * @param type plan for type of list
+     * @param variable name of variable with list
+     */
+    private void writeList(TypePlan type, String variable) {
+        var id = variableCounter++;
+        var list = "list" + id;
+        var index = "index" + id;
+        var element = "element" + id;
+        var elementType = type.getElement();
+
+        open("{");
+        line("java.util.List<?> " + list + " = (java.util.List<?>) " + variable + ";");
+        open("if (" + list + " != null) {");
+
+        if (elementType.getConstraints().length != 0) {
+            line("int " + index + " = 0;");
+            open("for (Object " + element + " : " + list + ") {");
+            line("context.enterIndex(" + index + ");");
+            writeConstraints(elementType, element);
+            line("context.exitIndex();");
+            writeAbortCheck();
+            line("++" + index + ";");
+            close("}");
+        }
+
+        line("context.validateNestedElements(" + list + ", \"\");");
+        writeAbortCheck();
+
+        if (elementType.getKind() == TypePlan.Kind.LIST) {
+            var nestedIndex = "nestedIndex" + id;
+            line("int " + nestedIndex + " = 0;");
+            open("for (Object " + element + " : " + list + ") {");
+            line("context.enterIndex(" + nestedIndex + ");");
+            writeList(elementType, element);
+            line("context.exitIndex();");
+            writeAbortCheck();
+            line("++" + nestedIndex + ";");
+            close("}");
+        }
+
+        close("}");
+        close("}");
+    }
+
+    /**
+     * Write content of Map.
+     *
+     * @param type plan for type of map
+     * @param variable name of variable with map
+     */
+    private void writeMap(TypePlan type, String variable) {
+        var id = variableCounter++;
+        var map = "map" + id;
+
+        open("{");
+        line("java.util.Map<?, ?> " + map + " = (java.util.Map<?, ?>) " + variable + ";");
+        open("if (" + map + " != null) {");
+        writeContentConstraints(type.getKey(), map + ".keySet()", "key" + id,
+                "solution.validators.PathSegment.MAP_KEY");
+        writeContentConstraints(type.getValue(), map + ".values()", "value" + id,
+                "solution.validators.PathSegment.MAP_VALUE");
+        line("context.validateNestedElements(" + map + ".keySet(), \"key\");");
+        writeAbortCheck();
+        line("context.validateNestedElements(" + map + ".values(), \"value\");");
+        writeAbortCheck();
+        close("}");
+        close("}");
+    }
+
+    /**
+     * Write content of Collection.
+     *
+     * @param type plan for type of collection
+     * @param variable name of variable with collection
+     */
+    private void writeCollection(TypePlan type, String variable) {
+        var id = variableCounter++;
+        var collection = "collection" + id;
+
+        open("{");
+        line("java.util.Collection<?> " + collection + " = (java.util.Collection<?>) " +
+                variable + ";");
+        open("if (" + collection + " != null) {");
+        writeContentConstraints(type.getElement(), collection, "element" + id,
+                "solution.validators.PathSegment.ELEMENT");
+        line("context.validateNestedElements(" + collection + ", \"\");");
+        writeAbortCheck();
+        close("}");
+        close("}");
+    }
+
+    /**
+     * Write constraints of content without index in path.
+     *
+     * @param type plan for type of content
+     * @param iterable expression with content
+     * @param element name of variable with element
+     * @param segment expression with path segment of content
+     */
+    private void writeContentConstraints(TypePlan type, String iterable, String element,
+                                         String segment) {
+        if (type.getConstraints().length == 0) {
+            return;
+        }
+
+        open("for (Object " + element + " : " + iterable + ") {");
+        line("context.enter(" + segment + ");");
+        writeConstraints(type, element);
+        line("context.exit(" + segment + ");");
+        writeAbortCheck();
+        close("}");
+    }
+
+    /**
+     * Write constraint of integral primitive value.
+     *
+     * @param constraint constraint
+     * @param variable name of "long" variable with value
+     */
+    private void writeNumberConstraint(Constraint constraint, String variable) {
+        switch (constraint.getKind()) {
+            case POSITIVE:
+                open("if (" + variable + " <= 0L) {");
+                report(constraint.getMessage(), variable);
+                close("}");
+                return;
+
+            case NEGATIVE:
+                open("if (" + variable + " >= 0L) {");
+                report(constraint.getMessage(), variable);
+                close("}");
+                return;
+
+            case IN_RANGE:
+                open("if (" + variable + " < " + constraint.getMin() + "L || " +
+                        variable + " > " + constraint.getMax() + "L) {");
+                report(constraint.getMessage(), variable);
+                close("}");
+                return;
+        }
+
+        throw new IllegalStateException("Constraint " + constraint.getKind() +
+                " can't be applied to primitive value");
+    }
+
+    /**
+     * Write constraint of reference value, which isn't null.
+     *
+     * @param constraint constraint
+     * @param valueType value type. For more information check {@link ValueType}
+     * @param variable name of variable with value
+     */
+    private void writeConstraint(Constraint constraint, ValueType valueType,
+                                 String variable) {
+        switch (constraint.getKind()) {
+            case POSITIVE:
+            case NEGATIVE:
+            case IN_RANGE:
+                ensureNumber(constraint, valueType);
+                var number = "number" + variableCounter++;
+                line("long " + number + " = ((Number) " + variable + ").longValue();");
+                writeNumberConstraint(constraint, number);
+                break;
+
+            case NOT_BLANK:
+                ensureString(constraint, valueType);
+                open("if (((String) " + variable + ").isBlank()) {");
+                report(constraint.getMessage(), variable);
+                close("}");
+                break;
+
+            case ANY_OF:
+                ensureString(constraint, valueType);
+                writeAnyOf(constraint, variable);
+                break;
+
+            case ANY_OF_DICTIONARY:
+                ensureString(constraint, valueType);
+                open("if (!" + dictionaryField(constraint.getValues()[0]) +
+                        ".contains((String) " + variable + ")) {");
+                report(constraint.getMessage(), variable);
+                close("}");
+                break;
+
+            case NOT_EMPTY:
+                open("if (" + sizeExpression(constraint, valueType, variable) + " == 0) {");
+                report(constraint.getMessage(), variable);
+                close("}");
+                break;
+
+            case SIZE:
+                var size = "size" + variableCounter++;
+                line("int " + size + " = " +
+                        sizeExpression(constraint, valueType, variable) + ";");
+                open("if (" + size + " < " + (int) constraint.getMin() + " || " +
+                        size + " > " + (int) constraint.getMax() + ") {");
+                report(constraint.getMessage(), variable);
+                close("}");
+                break;
+
+            default:
+                throw new IllegalStateException("Unknown constraint " + constraint.getKind());
+        }
+    }
+
+    /**
+     * Get name of static field with dictionary, field is declared for the first use
+     * of dictionary.
+     *
+     * @param path path to dictionary
+     * @return name of field
+     */
+    private String dictionaryField(String path) {
+        var index = dictionaries.indexOf(path);
+        if (index < 0) {
+            index = dictionaries.size();
+            dictionaries.add(path);
+        }
+
+        return "DICTIONARY_" + index;
+    }
+
+    /**
+     * Write "@AnyOf" constraint as switch with constant labels. Repeated values
+     * are written once, because labels of switch must be distinct.
+     *
+     * @param constraint constraint
+     * @param variable name of variable with value
+     */
+    private void writeAnyOf(Constraint constraint, String variable) {
+        var values = new LinkedHashSet<>(Arrays.asList(constraint.getValues()));
+        if (values.isEmpty()) {
+            throw new IllegalStateException("Constraint " + constraint.getKind() +
+                    " has no values");
+        }
+
+        open("switch ((String) " + variable + ") {");
+        for (var value : values) {
+            line("case " + literal(value) + ":");
+        }
+        line("    break;");
+        open("default:");
+        report(constraint.getMessage(), variable);
+        close("");
+        close("}");
+    }
+
+    /**
+     * Get expression with size of value ("length" for strings).
+     *
+     * @param constraint constraint (just for error message)
+     * @param valueType value type. For more information check {@link ValueType}
+     * @param variable name of variable with value
+     * @return Java expression
+     */
+    private static String sizeExpression(Constraint constraint, ValueType valueType,
+                                         String variable) {
+        switch (valueType) {
+            case LIST:
+            case SET:
+                return "((java.util.Collection<?>) " + variable + ").size()";
+
+            case MAP:
+                return "((java.util.Map<?, ?>) " + variable + ").size()";
+
+            case STRING:
+                return "((String) " + variable + ").length()";
+        }
+
+        throw new IllegalStateException("Constraint " + constraint.getKind() +
+                " can't be applied to " + valueType);
+    }
+
+    /**
+     * Check that constraint can be applied to numeric value.
+     *
+     * @param constraint constraint
+     * @param valueType value type. For more information check {@link ValueType}
+     */
+    private static void ensureNumber(Constraint constraint, ValueType valueType) {
+        switch (valueType) {
+            case BYTE:
+            case SHORT:
+            case INTEGER:
+            case LONG:
+                return;
+        }
+
+        throw new IllegalStateException("Constraint " + constraint.getKind() +
+                " can't be applied to " + valueType);
+    }
+
+    /**
+     * Check that constraint can be applied to String value.
+     *
+     * @param constraint constraint
+     * @param valueType value type. For more information check {@link ValueType}
+     */
+    private static void ensureString(Constraint constraint, ValueType valueType) {
+        if (valueType != ValueType.STRING) {
+            throw new IllegalStateException("Constraint " + constraint.getKind() +
+                    " can't be applied to " + valueType);
+        }
+    }
+
+    /**
+     * Write return from validation if run is aborted.
+     */
+    private void writeAbortCheck() {
+        open("if (context.isAborted()) {");
+        line("return;");
+        close("}");
+    }
+
+    /**
+     * Write report of error.
+     *
+     * @param message error message
+     * @param failedValue expression with failed value
+     */
+    private void report(String message, String failedValue) {
+        line("context.report(" + literal(message) + ", " + failedValue + ");");
+    }
+
+    /**
+     * Write line and increase indentation.
+     *
+     * @param text text of line
+     */
+    private void open(String text) {
+        line(text);
+        ++indent;
+    }
+
+    /**
+     * Decrease indentation and write line.
+     *
+     * @param text text of line
+     */
+    private void close(String text) {
+        --indent;
+        if (!text.isEmpty()) {
+            line(text);
+        }
+    }
+
+    /**
+     * Write line with current indentation.
+     *
+     * @param text text of line
+     */
+    private void line(String text) {
+        body.append("    ".repeat(indent)).append(text).append('\n');
+    }
+
+    /**
+     * Get Java string literal.
+     *
+     * @param value string
+     * @return literal
+     */
+    public static String literal(String value) {
+        var literal = new StringBuilder("\"");
+
+        for (var i = 0; i < value.length(); ++i) {
+            var symbol = value.charAt(i);
+            switch (symbol) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+
+                case '\n':
+                    literal.append("\\n");
+                    break;
+
+                case '\r':
+                    literal.append("\\r");
+                    break;
+
+                case '\t':
+                    literal.append("\\t");
+                    break;
+
+                default:
+                    if (symbol < 0x20 || symbol > 0x7e) {
+                        literal.append(String.format("\\u%04x", (int) symbol));
+                    } else {
+                        literal.append(symbol);
+                    }
+            }
+        }
+
+        return literal.append('"').toString();
+    }
+}
@@ -0,0 +1,49 @@
+package solution.validators.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event of validation of single object (nested objects included) by
+ * {@link solution.validators.ObjectValidator}.
+ * <p>
+ * Event is disabled by default, it must be enabled in settings of recording
+ * ("solution.ClassValidation#enabled=true").
+ * </p>
+ */
+@Name("solution.ClassValidation")
+@Label("Class Validation")
+@Category({"Solution", "Validation"})
+@Description("Validation of fields of single object")
+@Enabled(false)
+@StackTrace(false)
+public class ClassValidationEvent extends Event {
+
+    /**
+     * Class of object.
+     */
+    @Label("Validated Class")
+    Class<?> validatedClass;
+
+    /**
+     * Path to object.
+     */
+    @Label("Path")
+    String path;
+
+    /**
+     * Set validated object.
+     *
+     * @param type class of object
+     * @param path path to object
+     */
+    public void set(Class<?> type, String path) {
+        this.validatedClass = type;
+        this.path = path;
+    }
+}
@@ -0,0 +1,70 @@
+package solution.validators.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event of validation of large List, Map or Collection (at least
+ * {@link #MIN_SIZE} elements) by {@link solution.validators.ObjectValidator}.
+ * <p>
+ * Event is disabled by default, it must be enabled in settings of recording
+ * ("solution.CollectionValidation#enabled=true").
+ * </p>
+ */
+@Name("solution.CollectionValidation")
+@Label("Collection Validation")
+@Category({"Solution", "Validation"})
+@Description("Validation of content of large collection")
+@Enabled(false)
+@StackTrace(false)
+public class CollectionValidationEvent extends Event {
+
+    /**
+     * Min size of collection with event.
+     */
+    public static final int MIN_SIZE = 1000;
+
+    /**
+     * Path to collection.
+     */
+    @Label("Path")
+    String path;
+
+    /**
+     * Kind of collection: "List", "Map" or "Collection".
+     */
+    @Label("Kind")
+    String kind;
+
+    /**
+     * Size of collection.
+     */
+    @Label("Size")
+    int size;
+
+    /**
+     * Flag: collection is validated in parallel.
+     */
+    @Label("Parallel")
+    boolean parallel;
+
+    /**
+     * Set validated collection.
+     *
+     * @param path path to collection
+     * @param kind kind of collection
+     * @param size size of collection
+     * @param parallel true if collection is validated in parallel
+     */
+    public void set(String path, String kind, int size, boolean parallel) {
+        this.path = path;
+        this.kind = kind;
+        this.size = size;
+        this.parallel = parallel;
+    }
+}
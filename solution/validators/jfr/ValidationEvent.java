@@ -0,0 +1,66 @@
+package solution.validators.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event of validation run (single call of
+ * {@link solution.validators.Validator#validate(Object)} or
+ * {@link solution.validators.Validator#isValid(Object)}).
+ * <p>
+ * Event is disabled by default, it must be enabled in settings of recording
+ * ("solution.Validation#enabled=true").
+ * </p>
+ */
+@Name("solution.Validation")
+@Label("Validation")
+@Category({"Solution", "Validation"})
+@Description("Validation of object with all nested objects")
+@Enabled(false)
+@StackTrace(false)
+public class ValidationEvent extends Event {
+
+    /**
+     * Class of validated object.
+     */
+    @Label("Root Class")
+    Class<?> rootClass;
+
+    /**
+     * Count of validated objects (root and nested ones).
+     */
+    @Label("Object Count")
+    int objectCount;
+
+    /**
+     * Count of errors.
+     */
+    @Label("Error Count")
+    int errorCount;
+
+    /**
+     * Flag: errors are collected (otherwise, validation only checks validity).
+     */
+    @Label("Collecting Errors")
+    boolean collectingErrors;
+
+    /**
+     * Set results of validation run.
+     *
+     * @param object validated object
+     * @param objectCount count of validated objects
+     * @param errorCount count of errors
+     * @param collectingErrors true if errors are collected
+     */
+    public void set(Object object, int objectCount, int errorCount, boolean collectingErrors) {
+        this.rootClass = object == null ? null : object.getClass();
+        this.objectCount = objectCount;
+        this.errorCount = errorCount;
+        this.collectingErrors = collectingErrors;
+    }
+}
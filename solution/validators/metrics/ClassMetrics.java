@@ -0,0 +1,102 @@
+package solution.validators.metrics;
+
+import solution.validators.plan.ConstraintKind;
+import solution.validators.plan.ValidationPlan;
+
+import java.util.LinkedHashMap;
+
+/**
+ * Metrics of validated class: latency of validation runs of its objects (nested
+ * objects included) and counters of constraints of every field.
+ */
+public class ClassMetrics {
+
+    /**
+     * Validated class.
+     */
+    private final Class<?> type;
+
+    /**
+     * Names of fields (in order of plan).
+     */
+    private final String[] fieldNames;
+
+    /**
+     * Counters of constraints of fields (in order of plan).
+     */
+    private final FieldCounters[] fields;
+
+    /**
+     * Latency of validation runs of objects.
+     */
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * Constructor.
+     *
+     * @param plan validation plan of class. For more information check {@link ValidationPlan}
+     */
+    ClassMetrics(ValidationPlan<?> plan) {
+        var fieldPlans = plan.getFields();
+
+        this.type = plan.getType();
+        this.fieldNames = new String[fieldPlans.size()];
+        this.fields = new FieldCounters[fieldPlans.size()];
+        for (var i = 0; i < fieldPlans.size(); i++) {
+            fieldNames[i] = fieldPlans.get(i).getName();
+            fields[i] = new FieldCounters();
+        }
+    }
+
+    /**
+     * Get counters of field.
+     *
+     * @param index index of field in plan
+     * @return counters of constraints of field
+     */
+    public FieldCounters getField(int index) {
+        return fields[index];
+    }
+
+    /**
+     * Getter for latency field.
+     *
+     * @return histogram of latency of validation runs of objects
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * Add statistics of constraints of given kind of all fields.
+     *
+     * @param kind kind of constraint
+     * @param total statistics of other classes
+     * @return sum of statistics
+     */
+    ConstraintStats addTo(ConstraintKind kind, ConstraintStats total) {
+        var evaluations = total.getEvaluations();
+        var failures = total.getFailures();
+        for (var field : fields) {
+            var stats = field.snapshot(kind);
+            evaluations += stats.getEvaluations();
+            failures += stats.getFailures();
+        }
+
+        return new ConstraintStats(evaluations, failures);
+    }
+
+    /**
+     * Get snapshot of metrics.
+     *
+     * @return snapshot. For more information check {@link ClassStats}
+     */
+    public ClassStats snapshot() {
+        var fieldStats = new LinkedHashMap<String, ConstraintStats>();
+        for (var i = 0; i < fields.length; i++) {
+            fieldStats.put(fieldNames[i], fields[i].snapshot());
+        }
+
+        return new ClassStats(type, latency.snapshot(), fieldStats);
+    }
+}
@@ -0,0 +1,76 @@
+package solution.validators.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of {@link ClassMetrics}.
+ */
+public class ClassStats {
+
+    /**
+     * Validated class.
+     */
+    private final Class<?> type;
+
+    /**
+     * Latency of validation runs of objects.
+     */
+    private final HistogramSnapshot latency;
+
+    /**
+     * Statistics of constraints of fields by names of fields (in order of declaration).
+     */
+    private final Map<String, ConstraintStats> fields;
+
+    /**
+     * Constructor.
+     *
+     * @param type validated class
+     * @param latency latency of validation runs of objects
+     * @param fields statistics of constraints of fields by names of fields
+     */
+    public ClassStats(Class<?> type, HistogramSnapshot latency,
+                      Map<String, ConstraintStats> fields) {
+        this.type = type;
+        this.latency = latency;
+        this.fields = Collections.unmodifiableMap(fields);
+    }
+
+    /**
+     * Get statistics of constraints of field.
+     *
+     * @param name name of field
+     * @return statistics, null if field isn't validated
+     */
+    public ConstraintStats getField(String name) {
+        return fields.get(name);
+    }
+
+    /**
+     * Getter for type field.
+     *
+     * @return validated class
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Getter for latency field.
+     *
+     * @return latency of validation runs of objects (nested objects included)
+     */
+    public HistogramSnapshot getLatency() {
+        return latency;
+    }
+
+    /**
+     * Getter for fields field.
+     *
+     * @return statistics of constraints of fields by names of fields
+     */
+    public Map<String, ConstraintStats> getFields() {
+        return fields;
+    }
+}
@@ -0,0 +1,40 @@
+package solution.validators.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Striped counters of evaluations and failures of constraints.
+ */
+public class ConstraintCounters {
+
+    /**
+     * Count of evaluations.
+     */
+    private final LongAdder evaluations = new LongAdder();
+
+    /**
+     * Count of failures.
+     */
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * Register evaluation.
+     *
+     * @param failed true if value doesn't satisfy constraint
+     */
+    public void record(boolean failed) {
+        evaluations.increment();
+        if (failed) {
+            failures.increment();
+        }
+    }
+
+    /**
+     * Get snapshot of counters.
+     *
+     * @return snapshot. For more information check {@link ConstraintStats}
+     */
+    public ConstraintStats snapshot() {
+        return new ConstraintStats(evaluations.sum(), failures.sum());
+    }
+}
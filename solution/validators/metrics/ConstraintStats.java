@@ -0,0 +1,65 @@
+package solution.validators.metrics;
+
+/**
+ * Immutable snapshot of {@link ConstraintCounters}.
+ */
+public class ConstraintStats {
+
+    /**
+     * Count of evaluations.
+     */
+    private final long evaluations;
+
+    /**
+     * Count of failures.
+     */
+    private final long failures;
+
+    /**
+     * Constructor.
+     *
+     * @param evaluations count of evaluations
+     * @param failures count of failures
+     */
+    public ConstraintStats(long evaluations, long failures) {
+        this.evaluations = evaluations;
+        this.failures = failures;
+    }
+
+    /**
+     * Get part of evaluations which failed.
+     *
+     * @return failure rate from 0 to 1, 0 if there are no evaluations
+     */
+    public double getFailureRate() {
+        return evaluations == 0 ? 0 : (double) failures / evaluations;
+    }
+
+    /**
+     * Getter for evaluations field.
+     *
+     * @return count of evaluations
+     */
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    /**
+     * Getter for failures field.
+     *
+     * @return count of failures
+     */
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * Get short description.
+     *
+     * @return counts
+     */
+    @Override
+    public String toString() {
+        return "evaluations=" + evaluations + " failures=" + failures;
+    }
+}
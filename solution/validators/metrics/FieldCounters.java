@@ -0,0 +1,69 @@
+package solution.validators.metrics;
+
+import solution.validators.plan.ConstraintKind;
+
+/**
+ * Counters of constraints of field by kind of constraint.
+ * <p>
+ * Evaluation is counted once (for field and kind together), totals by kind are
+ * summed up only when snapshot is taken.
+ * </p>
+ */
+public class FieldCounters {
+
+    /**
+     * Kinds of constraints.
+     */
+    private static final ConstraintKind[] KINDS = ConstraintKind.values();
+
+    /**
+     * Counters by kind (ordinal of kind is index).
+     */
+    private final ConstraintCounters[] counters = new ConstraintCounters[KINDS.length];
+
+    /**
+     * Constructor.
+     */
+    public FieldCounters() {
+        for (var i = 0; i < KINDS.length; i++) {
+            counters[i] = new ConstraintCounters();
+        }
+    }
+
+    /**
+     * Register evaluation of constraint.
+     *
+     * @param kind kind of constraint
+     * @param failed true if value doesn't satisfy constraint
+     */
+    public void record(ConstraintKind kind, boolean failed) {
+        counters[kind.ordinal()].record(failed);
+    }
+
+    /**
+     * Get snapshot of counters of given kind.
+     *
+     * @param kind kind of constraint
+     * @return snapshot. For more information check {@link ConstraintStats}
+     */
+    public ConstraintStats snapshot(ConstraintKind kind) {
+        return counters[kind.ordinal()].snapshot();
+    }
+
+    /**
+     * Get snapshot of counters of all kinds together.
+     *
+     * @return snapshot. For more information check {@link ConstraintStats}
+     */
+    public ConstraintStats snapshot() {
+        var evaluations = 0L;
+        var failures = 0L;
+        for (var kind : KINDS) {
+            var stats = snapshot(kind);
+            evaluations += stats.getEvaluations();
+            failures += stats.getFailures();
+        }
+
+        return new ConstraintStats(evaluations, failures);
+    }
+}
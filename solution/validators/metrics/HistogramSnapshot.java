@@ -0,0 +1,122 @@
+package solution.validators.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Immutable snapshot of {@link LatencyHistogram}. All values are in nanoseconds.
+ */
+public class HistogramSnapshot {
+
+    /**
+     * Counts of values in buckets.
+     */
+    private final long[] counts;
+
+    /**
+     * Count of values.
+     */
+    private final long count;
+
+    /**
+     * Sum of values.
+     */
+    private final long sum;
+
+    /**
+     * Min value.
+     */
+    private final long min;
+
+    /**
+     * Max value.
+     */
+    private final long max;
+
+    /**
+     * Constructor.
+     *
+     * @param counts counts of values in buckets
+     * @param sum sum of values
+     * @param min min value
+     * @param max max value
+     */
+    HistogramSnapshot(long[] counts, long sum, long min, long max) {
+        this.counts = counts;
+        this.count = Arrays.stream(counts).sum();
+        this.sum = sum;
+        this.min = count == 0 ? 0 : min;
+        this.max = max;
+    }
+
+    /**
+     * Get value at percentile: the highest value of the first bucket, where count of
+     * values which aren't greater reaches percentile (but not greater than max).
+     *
+     * @param percentile percentile from 0 to 100
+     * @return value at percentile, 0 if histogram is empty
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+
+        var rank = Math.max(1, (long) Math.ceil(Math.min(percentile, 100) / 100 * count));
+        var seen = 0L;
+        for (var i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.highestOf(i), max);
+            }
+        }
+
+        return max;
+    }
+
+    /**
+     * Get mean value.
+     *
+     * @return mean value, 0 if histogram is empty
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * Getter for count field.
+     *
+     * @return count of values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Getter for min field.
+     *
+     * @return min value, 0 if histogram is empty
+     */
+    public long getMin() {
+        return min;
+    }
+
+    /**
+     * Getter for max field.
+     *
+     * @return max value, 0 if histogram is empty
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Get short description.
+     *
+     * @return count, mean and percentiles
+     */
+    @Override
+    public String toString() {
+        return String.format("count=%d mean=%.1fns p50=%dns p99=%dns p99.9=%dns max=%dns",
+                count, getMean(), getValueAtPercentile(50), getValueAtPercentile(99),
+                getValueAtPercentile(99.9), max);
+    }
+}
@@ -0,0 +1,139 @@
+package solution.validators.metrics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of latencies in nanoseconds with log-linear buckets (as in HdrHistogram).
+ * <p>
+ * Values less than 32 have own buckets, every range [2^e; 2^(e+1)) above is split
+ * into 32 buckets of the same width, so relative error of recorded value is less
+ * than 1/32 (about 3%) for any magnitude. Buckets are striped counters created on
+ * first use, so recording from many threads doesn't contend and histogram of
+ * rarely used class stays small.
+ * </p>
+ */
+public class LatencyHistogram {
+
+    /**
+     * Count of bits of sub-bucket index.
+     */
+    static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * Count of sub-buckets in every power of two.
+     */
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Count of buckets (enough for any non-negative long).
+     */
+    static final int BUCKET_COUNT = SUB_BUCKET_COUNT * (64 - SUB_BUCKET_BITS);
+
+    /**
+     * Buckets, null if nothing is recorded into bucket yet.
+     */
+    private final AtomicReferenceArray<LongAdder> buckets =
+            new AtomicReferenceArray<>(BUCKET_COUNT);
+
+    /**
+     * Sum of recorded values.
+     */
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * Min recorded value.
+     */
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+
+    /**
+     * Max recorded value.
+     */
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Record value.
+     *
+     * @param nanos latency in nanoseconds (negative values are recorded as 0)
+     */
+    public void record(long nanos) {
+        var value = Math.max(nanos, 0);
+        var index = bucketOf(value);
+
+        var bucket = buckets.get(index);
+        if (bucket == null) {
+            buckets.compareAndSet(index, null, new LongAdder());
+            bucket = buckets.get(index);
+        }
+
+        bucket.increment();
+        sum.add(value);
+        min.accumulate(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Get snapshot of histogram. Snapshot is consistent only if nothing is recorded
+     * at the same time, otherwise it can miss values recorded concurrently.
+     *
+     * @return snapshot. For more information check {@link HistogramSnapshot}
+     */
+    public HistogramSnapshot snapshot() {
+        var counts = new long[BUCKET_COUNT];
+        for (var i = 0; i < BUCKET_COUNT; i++) {
+            var bucket = buckets.get(i);
+            if (bucket != null) {
+                counts[i] = bucket.sum();
+            }
+        }
+
+        return new HistogramSnapshot(counts, sum.sum(), min.get(), max.get());
+    }
+
+    /**
+     * Get index of bucket of value.
+     *
+     * @param value non-negative value
+     * @return index of bucket
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        var exponent = 63 - Long.numberOfLeadingZeros(value);
+        var shift = exponent - SUB_BUCKET_BITS;
+        return SUB_BUCKET_COUNT * (shift + 1) + (int) ((value >>> shift) - SUB_BUCKET_COUNT);
+    }
+
+    /**
+     * Get the lowest value of bucket.
+     *
+     * @param index index of bucket
+     * @return the lowest value
+     */
+    static long lowestOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        var shift = index / SUB_BUCKET_COUNT - 1;
+        return (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+    }
+
+    /**
+     * Get the highest value of bucket.
+     *
+     * @param index index of bucket
+     * @return the highest value
+     */
+    static long highestOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        var shift = index / SUB_BUCKET_COUNT - 1;
+        return lowestOf(index) + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,72 @@
+package solution.validators.metrics;
+
+import solution.validators.plan.ConstraintKind;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of {@link ValidationMetrics}.
+ */
+public class MetricsSnapshot {
+
+    /**
+     * Statistics of constraints by kind.
+     */
+    private final Map<ConstraintKind, ConstraintStats> constraints;
+
+    /**
+     * Statistics of validated classes.
+     */
+    private final Map<Class<?>, ClassStats> classes;
+
+    /**
+     * Constructor.
+     *
+     * @param constraints statistics of constraints by kind
+     * @param classes statistics of validated classes
+     */
+    public MetricsSnapshot(Map<ConstraintKind, ConstraintStats> constraints,
+                           Map<Class<?>, ClassStats> classes) {
+        this.constraints = Collections.unmodifiableMap(constraints);
+        this.classes = Collections.unmodifiableMap(classes);
+    }
+
+    /**
+     * Get statistics of constraints of given kind.
+     *
+     * @param kind kind of constraint
+     * @return statistics (zero counts if constraint isn't evaluated)
+     */
+    public ConstraintStats getConstraint(ConstraintKind kind) {
+        return constraints.get(kind);
+    }
+
+    /**
+     * Get statistics of class.
+     *
+     * @param type validated class
+     * @return statistics, null if class isn't validated
+     */
+    public ClassStats getClassStats(Class<?> type) {
+        return classes.get(type);
+    }
+
+    /**
+     * Getter for constraints field.
+     *
+     * @return statistics of constraints by kind
+     */
+    public Map<ConstraintKind, ConstraintStats> getConstraints() {
+        return constraints;
+    }
+
+    /**
+     * Getter for classes field.
+     *
+     * @return statistics of validated classes
+     */
+    public Map<Class<?>, ClassStats> getClasses() {
+        return classes;
+    }
+}
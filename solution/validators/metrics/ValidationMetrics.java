@@ -0,0 +1,66 @@
+package solution.validators.metrics;
+
+import solution.validators.plan.ConstraintKind;
+import solution.validators.plan.ValidationPlan;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runtime metrics of validation: evaluations and failures of constraints by kind
+ * and by class/field, latency of validation runs by class of validated object.
+ * <p>
+ * Metrics are optional: validator records them only if it's created with metrics
+ * (see {@link solution.validators.ObjectValidator#ObjectValidator(ValidationMetrics)}).
+ * All counters are striped, so the overhead stays small when many threads
+ * validate at the same time. Metrics can be read at any moment with
+ * {@link #snapshot()}.
+ * </p>
+ */
+public class ValidationMetrics {
+
+    /**
+     * Metrics of validated classes.
+     */
+    private final ConcurrentHashMap<Class<?>, ClassMetrics> classes = new ConcurrentHashMap<>();
+
+    /**
+     * Get metrics of class.
+     *
+     * @param plan validation plan of class. For more information check {@link ValidationPlan}
+     * @return metrics of class
+     */
+    public ClassMetrics of(ValidationPlan<?> plan) {
+        var metrics = classes.get(plan.getType());
+        if (metrics == null) {
+            metrics = classes.computeIfAbsent(plan.getType(), type -> new ClassMetrics(plan));
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Get snapshot of metrics.
+     *
+     * @return snapshot. For more information check {@link MetricsSnapshot}
+     */
+    public MetricsSnapshot snapshot() {
+        var constraintStats = new EnumMap<ConstraintKind, ConstraintStats>(ConstraintKind.class);
+        var classStats = new HashMap<Class<?>, ClassStats>();
+        for (var kind : ConstraintKind.values()) {
+            constraintStats.put(kind, new ConstraintStats(0, 0));
+        }
+
+        for (var metrics : classes.values()) {
+            for (var kind : ConstraintKind.values()) {
+                constraintStats.put(kind, metrics.addTo(kind, constraintStats.get(kind)));
+            }
+
+            var stats = metrics.snapshot();
+            classStats.put(stats.getType(), stats);
+        }
+
+        return new MetricsSnapshot(constraintStats, classStats);
+    }
+}
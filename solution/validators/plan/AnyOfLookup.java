@@ -0,0 +1,330 @@
+package solution.validators.plan;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Precompiled lookup of valid values of "@AnyOf".
+ * <p>
+ * Lookup is built once, when plan is built:
+ * <ul>
+ *     <li>small sets (up to {@link #SMALL_SET_SIZE} values) use table of keys made of
+ *     length and the first char of values, so value is compared with "equals"
+ *     only when its length and the first char match;</li>
+ *     <li>large sets use minimal perfect hash (hash and displace): every valid
+ *     value has own slot, so check is one slot lookup and one "equals".</li>
+ * </ul>
+ * Hash of value is {@link String#hashCode()} (it's cached by String), so values
+ * with the same hash code can't be separated: for such sets lookup falls back to
+ * {@link HashSet}.
+ * </p>
+ */
+public abstract class AnyOfLookup {
+
+    /**
+     * Max size of set which uses table of lengths and the first chars.
+     */
+    public static final int SMALL_SET_SIZE = 16;
+
+    /**
+     * Check if value is valid.
+     *
+     * @param value value
+     * @return true if value is one of valid values
+     */
+    public abstract boolean contains(String value);
+
+    /**
+     * Build lookup of valid values.
+     *
+     * @param values valid values
+     * @return lookup
+     */
+    public static AnyOfLookup of(String[] values) {
+        var distinct = new HashSet<>(Arrays.asList(values)).toArray(new String[0]);
+        Arrays.sort(distinct);
+
+        if (distinct.length <= SMALL_SET_SIZE) {
+            return new SmallSetLookup(distinct);
+        }
+
+        var perfectHash = PerfectHashLookup.build(distinct);
+        return perfectHash != null ? perfectHash : new HashSetLookup(distinct);
+    }
+
+    /**
+     * Lookup by length and the first char.
+     */
+    static class SmallSetLookup extends AnyOfLookup {
+
+        /**
+         * Keys of values: length in high bits, the first char in low 16 bits.
+         */
+        private final int[] keys;
+
+        /**
+         * Valid values (in order of keys).
+         */
+        private final String[] values;
+
+        /**
+         * Constructor.
+         *
+         * @param values distinct valid values
+         */
+        SmallSetLookup(String[] values) {
+            this.values = values;
+            this.keys = new int[values.length];
+            for (var i = 0; i < values.length; i++) {
+                keys[i] = keyOf(values[i]);
+            }
+        }
+
+        /**
+         * Get key of value.
+         *
+         * @param value value
+         * @return length in high bits, the first char in low 16 bits
+         */
+        private static int keyOf(String value) {
+            return value.isEmpty() ? 0 : (value.length() << 16) | value.charAt(0);
+        }
+
+        /**
+         * Check if value is valid.
+         *
+         * @param value value
+         * @return true if value is one of valid values
+         */
+        @Override
+        public boolean contains(String value) {
+            var key = keyOf(value);
+            for (var i = 0; i < keys.length; i++) {
+                if (keys[i] == key && values[i].equals(value)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+
+    /**
+     * Lookup by minimal perfect hash.
+     */
+    static class PerfectHashLookup extends AnyOfLookup {
+
+        /**
+         * Average count of values in bucket of the first level.
+         */
+        private static final int BUCKET_SIZE = 4;
+
+        /**
+         * Max displacement which is tried for bucket.
+         */
+        private static final int MAX_DISPLACEMENT = 1 << 16;
+
+        /**
+         * Displacements of buckets.
+         */
+        private final int[] displacements;
+
+        /**
+         * Valid values by slots.
+         */
+        private final String[] slots;
+
+        /**
+         * Constructor.
+         *
+         * @param displacements displacements of buckets
+         * @param slots valid values by slots
+         */
+        private PerfectHashLookup(int[] displacements, String[] slots) {
+            this.displacements = displacements;
+            this.slots = slots;
+        }
+
+        /**
+         * Build perfect hash: values are split into buckets by hash, then for every
+         * bucket (the largest first) displacement is chosen, so all values of bucket
+         * get free slots.
+         *
+         * @param values distinct valid values
+         * @return lookup or null, if perfect hash can't be built (some values have
+         * the same hash code)
+         */
+        static PerfectHashLookup build(String[] values) {
+            var size = values.length;
+            var hashes = new HashSet<Integer>(size * 2);
+            for (var value : values) {
+                if (!hashes.add(value.hashCode())) {
+                    return null;
+                }
+            }
+
+            var bucketCount = (size + BUCKET_SIZE - 1) / BUCKET_SIZE;
+
+            var buckets = new int[bucketCount][];
+            var bucketSizes = new int[bucketCount];
+            for (var value : values) {
+                bucketSizes[bucketOf(value.hashCode(), bucketCount)]++;
+            }
+            for (var i = 0; i < bucketCount; i++) {
+                buckets[i] = new int[bucketSizes[i]];
+                bucketSizes[i] = 0;
+            }
+            for (var i = 0; i < size; i++) {
+                var bucket = bucketOf(values[i].hashCode(), bucketCount);
+                buckets[bucket][bucketSizes[bucket]++] = i;
+            }
+
+            var order = new Integer[bucketCount];
+            for (var i = 0; i < bucketCount; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (first, second) ->
+                    Integer.compare(buckets[second].length, buckets[first].length));
+
+            var displacements = new int[bucketCount];
+            var slots = new String[size];
+            var bucketSlots = new int[BUCKET_SIZE * 8];
+            for (var bucket : order) {
+                var members = buckets[bucket];
+                if (members.length == 0) {
+                    break;
+                }
+                if (members.length > bucketSlots.length) {
+                    bucketSlots = new int[members.length];
+                }
+
+                var displacement = findDisplacement(values, members, slots, bucketSlots);
+                if (displacement < 0) {
+                    return null;
+                }
+
+                displacements[bucket] = displacement;
+                for (var i = 0; i < members.length; i++) {
+                    slots[bucketSlots[i]] = values[members[i]];
+                }
+            }
+
+            return new PerfectHashLookup(displacements, slots);
+        }
+
+        /**
+         * Find displacement which gives free and distinct slots to all values of bucket.
+         *
+         * @param values valid values
+         * @param members indices of values of bucket
+         * @param slots occupied slots
+         * @param bucketSlots slots of values of bucket (result)
+         * @return displacement or -1, if it isn't found
+         */
+        private static int findDisplacement(String[] values, int[] members, String[] slots,
+                                            int[] bucketSlots) {
+            search:
+            for (var displacement = 0; displacement < MAX_DISPLACEMENT; displacement++) {
+                for (var i = 0; i < members.length; i++) {
+                    var slot = slotOf(values[members[i]].hashCode(), displacement, slots.length);
+                    if (slots[slot] != null) {
+                        continue search;
+                    }
+                    for (var j = 0; j < i; j++) {
+                        if (bucketSlots[j] == slot) {
+                            continue search;
+                        }
+                    }
+                    bucketSlots[i] = slot;
+                }
+
+                return displacement;
+            }
+
+            return -1;
+        }
+
+        /**
+         * Get bucket of hash.
+         *
+         * @param hash hash code of value
+         * @param bucketCount count of buckets
+         * @return index of bucket
+         */
+        private static int bucketOf(int hash, int bucketCount) {
+            return Math.floorMod(mix(hash), bucketCount);
+        }
+
+        /**
+         * Get slot of hash.
+         *
+         * @param hash hash code of value
+         * @param displacement displacement of bucket
+         * @param slotCount count of slots
+         * @return index of slot
+         */
+        private static int slotOf(int hash, int displacement, int slotCount) {
+            return Math.floorMod(mix(hash ^ (displacement * 0x9E3779B9)) + displacement,
+                    slotCount);
+        }
+
+        /**
+         * Mix bits of hash (finalizer of MurmurHash3).
+         *
+         * @param hash hash
+         * @return mixed hash
+         */
+        private static int mix(int hash) {
+            hash ^= hash >>> 16;
+            hash *= 0x85EBCA6B;
+            hash ^= hash >>> 13;
+            hash *= 0xC2B2AE35;
+            return hash ^ (hash >>> 16);
+        }
+
+        /**
+         * Check if value is valid.
+         *
+         * @param value value
+         * @return true if value is one of valid values
+         */
+        @Override
+        public boolean contains(String value) {
+            var hash = value.hashCode();
+            var displacement = displacements[bucketOf(hash, displacements.length)];
+            return value.equals(slots[slotOf(hash, displacement, slots.length)]);
+        }
+    }
+
+    /**
+     * Lookup by HashSet (values with the same hash codes).
+     */
+    static class HashSetLookup extends AnyOfLookup {
+
+        /**
+         * Valid values.
+         */
+        private final Set<String> values;
+
+        /**
+         * Constructor.
+         *
+         * @param values distinct valid values
+         */
+        HashSetLookup(String[] values) {
+            this.values = Set.of(values);
+        }
+
+        /**
+         * Check if value is valid.
+         *
+         * @param value value
+         * @return true if value is one of valid values
+         */
+        @Override
+        public boolean contains(String value) {
+            return values.contains(value);
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package solution.validators.plan;
+
+import solution.utils.MappedDictionary;
+import solution.utils.MessageBuilder;
+
+import java.security.InvalidParameterException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Handler of built-in constraint annotations.
+ * <p>
+ * Parameters of annotation and error message are resolved once, when plan is built,
+ * so checks don't allocate anything. All built-in constraints share this class,
+ * so call sites of checks stay monomorphic.
+ * </p>
+ */
+public class Constraint implements ConstraintHandler {
+
+    /**
+     * Kind of constraint.
+     */
+    private final ConstraintKind kind;
+
+    /**
+     * Min value ("@Size", "@InRange").
+     */
+    private final long min;
+
+    /**
+     * Max value ("@Size", "@InRange").
+     */
+    private final long max;
+
+    /**
+     * Valid values ("@AnyOf") or path to dictionary ("@AnyOfDictionary").
+     */
+    private final String[] values;
+
+    /**
+     * Precompiled lookup of valid values ("@AnyOf"), null for other constraints.
+     */
+    private final AnyOfLookup lookup;
+
+    /**
+     * Dictionary of valid values ("@AnyOfDictionary"), opened on the first check.
+     */
+    private volatile MappedDictionary dictionary;
+
+    /**
+     * Error message.
+     */
+    private final String message;
+
+    /**
+     * Constructor.
+     *
+     * @param kind kind of constraint
+     * @param min min value
+     * @param max max value
+     * @param values valid values
+     */
+    private Constraint(ConstraintKind kind, long min, long max, String[] values) {
+        this.kind = kind;
+        this.min = min;
+        this.max = max;
+        this.values = values;
+        this.lookup = kind == ConstraintKind.ANY_OF ? AnyOfLookup.of(values) : null;
+        this.message = buildMessage();
+    }
+
+    /**
+     * Build error message.
+     *
+     * @return error message or null, if it can't be built for given parameters
+     */
+    private String buildMessage() {
+        switch (kind) {
+            case POSITIVE:
+                return MessageBuilder.getErrorMessage("Positive");
+
+            case NEGATIVE:
+                return MessageBuilder.getErrorMessage("Negative");
+
+            case NOT_NULL:
+                return MessageBuilder.getErrorMessage("NotNull");
+
+            case NOT_BLANK:
+                return MessageBuilder.getErrorMessage("NotBlank");
+
+            case NOT_EMPTY:
+                return MessageBuilder.getErrorMessage("NotEmpty");
+
+            case SIZE:
+                return MessageBuilder.getErrorMessage(min, max, "size");
+
+            case IN_RANGE:
+                return MessageBuilder.getErrorMessage(min, max, "value");
+
+            case ANY_OF:
+                return values.length == 0 ? null : MessageBuilder.getErrorMessage(values);
+
+            case ANY_OF_DICTIONARY:
+                return MessageBuilder.getDictionaryErrorMessage(values[0]);
+        }
+
+        return null;
+    }
+
+    /**
+     * Check if null satisfies constraint.
+     *
+     * @return false for "@NotNull", true otherwise
+     */
+    @Override
+    public boolean acceptsNull() {
+        return kind != ConstraintKind.NOT_NULL;
+    }
+
+    /**
+     * Check integral value.
+     *
+     * @param value value
+     * @return true if value satisfies constraint
+     */
+    @Override
+    public boolean test(long value) {
+        switch (kind) {
+            case POSITIVE:
+                return value > 0;
+
+            case NEGATIVE:
+                return value < 0;
+
+            case IN_RANGE:
+                return min <= value && value <= max;
+        }
+
+        throw new InvalidParameterException("\"@" + kind + "\" can't be applied to number");
+    }
+
+    /**
+     * Check value which isn't null ("@NotNull" is always satisfied).
+     *
+     * @param value value
+     * @return true if value satisfies constraint
+     */
+    @Override
+    public boolean test(Object value) {
+        switch (kind) {
+            case POSITIVE:
+            case NEGATIVE:
+            case IN_RANGE:
+                return test(((Number) value).longValue());
+
+            case NOT_NULL:
+                return true;
+
+            case NOT_BLANK:
+                return !((String) value).isBlank();
+
+            case NOT_EMPTY:
+                return sizeOf(value) != 0;
+
+            case SIZE:
+                var size = sizeOf(value);
+                return min <= size && size <= max;
+
+            case ANY_OF:
+                return value instanceof String && lookup.contains((String) value);
+
+            case ANY_OF_DICTIONARY:
+                return value instanceof String && getDictionary().contains((String) value);
+        }
+
+        throw new InvalidParameterException("Invalid type of annotation");
+    }
+
+    /**
+     * Get dictionary of valid values ("@AnyOfDictionary"). Dictionary isn't opened
+     * when plan is built, because plans are built by annotation processor too.
+     *
+     * @return dictionary
+     */
+    public MappedDictionary getDictionary() {
+        var result = dictionary;
+        if (result == null) {
+            result = MappedDictionary.open(values[0]);
+            dictionary = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * Get failed value for error: numbers are reported as Long.
+     *
+     * @param value value which doesn't satisfy constraint
+     * @return failed value
+     */
+    @Override
+    public Object getFailedValue(Object value) {
+        switch (kind) {
+            case POSITIVE:
+            case NEGATIVE:
+            case IN_RANGE:
+                return ((Number) value).longValue();
+        }
+
+        return value;
+    }
+
+    /**
+     * Get size of String, Collection or Map.
+     *
+     * @param value value
+     * @return size
+     */
+    static int sizeOf(Object value) {
+        if (value instanceof String) {
+            return ((String) value).length();
+        } else if (value instanceof Collection) {
+            return ((Collection<?>) value).size();
+        } else if (value instanceof Map) {
+            return ((Map<?, ?>) value).size();
+        }
+
+        throw new InvalidParameterException("Invalid type of container");
+    }
+
+    /**
+     * Create built-in constraint.
+     *
+     * @param kind kind of constraint
+     * @param min min value ("@Size", "@InRange")
+     * @param max max value ("@Size", "@InRange")
+     * @param values valid values ("@AnyOf") or path to dictionary ("@AnyOfDictionary")
+     * @return constraint
+     */
+    public static Constraint create(ConstraintKind kind, long min, long max, String[] values) {
+        return new Constraint(kind, min, max, values);
+    }
+
+    /**
+     * Getter for kind field.
+     *
+     * @return kind of constraint
+     */
+    @Override
+    public ConstraintKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Getter for min field.
+     *
+     * @return min value
+     */
+    public long getMin() {
+        return min;
+    }
+
+    /**
+     * Getter for max field.
+     *
+     * @return max value
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Getter for values field.
+     *
+     * @return valid values
+     */
+    public String[] getValues() {
+        return values;
+    }
+
+    /**
+     * Getter for message field.
+     *
+     * @return error message
+     */
+    @Override
+    public String getMessage() {
+        return message == null ? MessageBuilder.getErrorMessage(values) : message;
+    }
+}
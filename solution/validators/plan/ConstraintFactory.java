@@ -0,0 +1,20 @@
+package solution.validators.plan;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Factory of handlers of constraint annotation.
+ *
+ * @param <A> type of annotation
+ */
+@FunctionalInterface
+public interface ConstraintFactory<A extends Annotation> {
+
+    /**
+     * Create handler for annotation.
+     *
+     * @param annotation annotation
+     * @return handler. For more information check {@link ConstraintHandler}
+     */
+    ConstraintHandler create(A annotation);
+}
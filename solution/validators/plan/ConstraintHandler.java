@@ -0,0 +1,65 @@
+package solution.validators.plan;
+
+/**
+ * Handler of constraint annotation.
+ * <p>
+ * Handler is created once per annotated type, when plan is built (see
+ * {@link ConstraintRegistry}), so parameters of annotation are read once and
+ * handler must be immutable. Built-in annotations are handled by {@link Constraint}.
+ * </p>
+ */
+public interface ConstraintHandler {
+
+    /**
+     * Check value which isn't null.
+     *
+     * @param value value
+     * @return true if value satisfies constraint
+     */
+    boolean test(Object value);
+
+    /**
+     * Check value of integral primitive field.
+     *
+     * @param value value
+     * @return true if value satisfies constraint
+     */
+    default boolean test(long value) {
+        return test((Object) value);
+    }
+
+    /**
+     * Check if null satisfies constraint.
+     *
+     * @return true if null satisfies constraint
+     */
+    default boolean acceptsNull() {
+        return true;
+    }
+
+    /**
+     * Get error message.
+     *
+     * @return error message
+     */
+    String getMessage();
+
+    /**
+     * Get failed value for error.
+     *
+     * @param value value which doesn't satisfy constraint
+     * @return failed value
+     */
+    default Object getFailedValue(Object value) {
+        return value;
+    }
+
+    /**
+     * Get kind of constraint (generated validators inline built-in constraints).
+     *
+     * @return kind of constraint, {@link ConstraintKind#CUSTOM} for custom handlers
+     */
+    default ConstraintKind getKind() {
+        return ConstraintKind.CUSTOM;
+    }
+}
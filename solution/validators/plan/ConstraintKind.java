@@ -0,0 +1,17 @@
+package solution.validators.plan;
+
+/**
+ * Kinds of constraints.
+ */
+public enum ConstraintKind {
+    POSITIVE,
+    NEGATIVE,
+    NOT_NULL,
+    NOT_BLANK,
+    NOT_EMPTY,
+    SIZE,
+    IN_RANGE,
+    ANY_OF,
+    ANY_OF_DICTIONARY,
+    CUSTOM // Constraint registered in ConstraintRegistry
+}
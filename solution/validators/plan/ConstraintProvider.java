@@ -0,0 +1,19 @@
+package solution.validators.plan;
+
+/**
+ * Provider of custom constraints.
+ * <p>
+ * Providers are loaded by {@link java.util.ServiceLoader} from
+ * "META-INF/services/solution.validators.plan.ConstraintProvider", when
+ * {@link ConstraintRegistry} is used for the first time.
+ * </p>
+ */
+public interface ConstraintProvider {
+
+    /**
+     * Register factories of constraints.
+     *
+     * @param registry registry. For more information check {@link ConstraintRegistry}
+     */
+    void registerConstraints(ConstraintRegistry registry);
+}
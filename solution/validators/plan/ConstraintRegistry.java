@@ -0,0 +1,134 @@
+package solution.validators.plan;
+
+import solution.annotations.*;
+
+import java.lang.annotation.Annotation;
+import java.security.InvalidParameterException;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of constraint factories keyed by annotation type.
+ * <p>
+ * Registry is consulted only when plan is built. Constraints must be registered
+ * before the first validation of classes which use them.
+ * </p>
+ */
+public class ConstraintRegistry {
+
+    /**
+     * Registry instance.
+     */
+    private static final ConstraintRegistry INSTANCE = new ConstraintRegistry();
+
+    /**
+     * Factories of constraints.
+     */
+    private final Map<Class<? extends Annotation>, ConstraintFactory<?>> factories =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Flag: custom constraints are registered.
+     */
+    private volatile boolean customized;
+
+    /**
+     * Constructor. Registers built-in constraints and loads providers.
+     */
+    private ConstraintRegistry() {
+        registerBuiltIn(Positive.class,
+                a -> Constraint.create(ConstraintKind.POSITIVE, 0, 0, null));
+        registerBuiltIn(Negative.class,
+                a -> Constraint.create(ConstraintKind.NEGATIVE, 0, 0, null));
+        registerBuiltIn(NotNull.class,
+                a -> Constraint.create(ConstraintKind.NOT_NULL, 0, 0, null));
+        registerBuiltIn(NotBlank.class,
+                a -> Constraint.create(ConstraintKind.NOT_BLANK, 0, 0, null));
+        registerBuiltIn(NotEmpty.class,
+                a -> Constraint.create(ConstraintKind.NOT_EMPTY, 0, 0, null));
+        registerBuiltIn(Size.class,
+                a -> Constraint.create(ConstraintKind.SIZE, a.min(), a.max(), null));
+        registerBuiltIn(InRange.class,
+                a -> Constraint.create(ConstraintKind.IN_RANGE, a.min(), a.max(), null));
+        registerBuiltIn(AnyOf.class,
+                a -> Constraint.create(ConstraintKind.ANY_OF, 0, 0, a.value().clone()));
+        registerBuiltIn(AnyOfDictionary.class, a -> Constraint.create(
+                ConstraintKind.ANY_OF_DICTIONARY, 0, 0, new String[]{a.value()}));
+
+        for (var provider : ServiceLoader.load(ConstraintProvider.class,
+                ConstraintRegistry.class.getClassLoader())) {
+            provider.registerConstraints(this);
+        }
+    }
+
+    /**
+     * Getter for registry instance.
+     *
+     * @return registry
+     */
+    public static ConstraintRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Register built-in constraint.
+     *
+     * @param annotationType type of annotation
+     * @param factory factory of handlers
+     * @param <A> type of annotation
+     */
+    private <A extends Annotation> void registerBuiltIn(Class<A> annotationType,
+                                                        ConstraintFactory<A> factory) {
+        factories.put(annotationType, factory);
+    }
+
+    /**
+     * Register custom constraint.
+     *
+     * @param annotationType type of annotation
+     * @param factory factory of handlers
+     * @param <A> type of annotation
+     */
+    public <A extends Annotation> void register(Class<A> annotationType,
+                                                ConstraintFactory<A> factory) {
+        if (annotationType.getPackageName().equals("solution.annotations")) {
+            throw new InvalidParameterException("Built-in annotation \"" +
+                    annotationType.getSimpleName() + "\" can't be registered again");
+        }
+
+        customized = true;
+        factories.put(annotationType, factory);
+    }
+
+    /**
+     * Create handler for annotation.
+     *
+     * @param annotation annotation
+     * @return handler or null, if annotation isn't constraint
+     */
+    @SuppressWarnings("unchecked")
+    public ConstraintHandler create(Annotation annotation) {
+        var factory = (ConstraintFactory<Annotation>) factories.get(annotation.annotationType());
+        return factory == null ? null : factory.create(annotation);
+    }
+
+    /**
+     * Check if annotation type is registered.
+     *
+     * @param annotationType type of annotation
+     * @return true if annotation is constraint
+     */
+    public boolean isRegistered(Class<? extends Annotation> annotationType) {
+        return factories.containsKey(annotationType);
+    }
+
+    /**
+     * Check if custom constraints are registered.
+     *
+     * @return true if custom constraints are registered
+     */
+    public boolean isCustomized() {
+        return customized;
+    }
+}
@@ -0,0 +1,123 @@
+package solution.validators.plan;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Reader of field values.
+ * <p>
+ * Method handles are resolved once per field. Values of integral primitive
+ * fields ("byte", "short", "int", "long") can be read as "long" without boxing.
+ * </p>
+ */
+public class FieldAccessor {
+
+    /**
+     * Getter adapted to type (Object)Object.
+     */
+    private final MethodHandle getter;
+
+    /**
+     * Getter adapted to type (Object)long, null for non-integral fields.
+     */
+    private final MethodHandle longGetter;
+
+    /**
+     * Name of field (just for error message).
+     */
+    private final String name;
+
+    /**
+     * Constructor.
+     *
+     * @param field accessible field
+     */
+    FieldAccessor(Field field) {
+        this.name = field.getName();
+
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflectGetter(field);
+        } catch (IllegalAccessException exception) {
+            throw new IllegalStateException("Field \"" + name + "\" isn't accessible",
+                    exception);
+        }
+
+        if (Modifier.isStatic(field.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+
+        this.getter = handle.asType(MethodType.methodType(Object.class, Object.class));
+        this.longGetter = isIntegralPrimitive(field.getType())
+                ? handle.asType(MethodType.methodType(long.class, Object.class))
+                : null;
+    }
+
+    /**
+     * Check if given type is integral primitive.
+     *
+     * @param type type
+     * @return true for "byte", "short", "int" and "long", false - otherwise
+     */
+    static boolean isIntegralPrimitive(Class<?> type) {
+        return type == byte.class || type == short.class ||
+                type == int.class || type == long.class;
+    }
+
+    /**
+     * Getter for getter field.
+     *
+     * @return method handle of type (Object)Object
+     */
+    public MethodHandle getGetter() {
+        return getter;
+    }
+
+    /**
+     * Getter for longGetter field.
+     *
+     * @return method handle of type (Object)long, null for non-integral fields
+     */
+    public MethodHandle getLongGetter() {
+        return longGetter;
+    }
+
+    /**
+     * Read value of field.
+     *
+     * @param object object
+     * @return value of field (primitives are boxed)
+     */
+    public Object get(Object object) {
+        try {
+            return (Object) getter.invokeExact(object);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException("Can't read field \"" + name + "\"", throwable);
+        }
+    }
+
+    /**
+     * Read value of integral primitive field without boxing.
+     *
+     * @param object object
+     * @return value of field
+     */
+    public long getLong(Object object) {
+        if (longGetter == null) {
+            throw new IllegalStateException("Field \"" + name + "\" isn't integral primitive");
+        }
+
+        try {
+            return (long) longGetter.invokeExact(object);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException("Can't read field \"" + name + "\"", throwable);
+        }
+    }
+}
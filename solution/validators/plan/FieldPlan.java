@@ -0,0 +1,142 @@
+package solution.validators.plan;
+
+import solution.utils.TypeKind;
+import solution.validators.PathSegment;
+
+import java.lang.reflect.Field;
+
+/**
+ * Plan for field of constrained class.
+ */
+public class FieldPlan {
+
+    /**
+     * Field (accessible).
+     */
+    private final Field field;
+
+    /**
+     * Name of field.
+     */
+    private final String name;
+
+    /**
+     * Segment of path to field.
+     */
+    private final PathSegment segment;
+
+    /**
+     * Name of declared type of field.
+     */
+    private final String typeName;
+
+    /**
+     * Flag: declared type of field is custom class.
+     */
+    private final boolean customClass;
+
+    /**
+     * Flag: field has integral primitive type, so it's read without boxing.
+     */
+    private final boolean integralPrimitive;
+
+    /**
+     * Reader of field values.
+     */
+    private final FieldAccessor accessor;
+
+    /**
+     * Plan for annotated type of field.
+     */
+    private final TypePlan type;
+
+    /**
+     * Constructor. Schema of field must be verified by {@link SchemaVerifier}.
+     *
+     * @param field field
+     */
+    FieldPlan(Field field) {
+        field.setAccessible(true);
+
+        this.field = field;
+        this.name = field.getName();
+        this.segment = PathSegment.field(name);
+        this.typeName = field.getAnnotatedType().getType().getTypeName();
+        this.customClass = TypeKind.of(field.getGenericType()).isCustom();
+        this.integralPrimitive = FieldAccessor.isIntegralPrimitive(field.getType());
+        this.accessor = new FieldAccessor(field);
+        this.type = TypePlan.ofField(field);
+    }
+
+    /**
+     * Getter for field field.
+     *
+     * @return field
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Getter for name field.
+     *
+     * @return name of field
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Getter for segment field.
+     *
+     * @return segment of path to field. For more information check {@link PathSegment}
+     */
+    public PathSegment getSegment() {
+        return segment;
+    }
+
+    /**
+     * Getter for typeName field.
+     *
+     * @return name of declared type of field
+     */
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /**
+     * Check if declared type of field is custom class.
+     *
+     * @return true if declared type of field is custom class, false - otherwise
+     */
+    public boolean isCustomClass() {
+        return customClass;
+    }
+
+    /**
+     * Check if field has integral primitive type.
+     *
+     * @return true for "byte", "short", "int" and "long" fields, false - otherwise
+     */
+    public boolean isIntegralPrimitive() {
+        return integralPrimitive;
+    }
+
+    /**
+     * Getter for accessor field.
+     *
+     * @return reader of field values
+     */
+    public FieldAccessor getAccessor() {
+        return accessor;
+    }
+
+    /**
+     * Getter for type field.
+     *
+     * @return plan for annotated type of field
+     */
+    public TypePlan getType() {
+        return type;
+    }
+}
@@ -0,0 +1,363 @@
+package solution.validators.plan;
+
+import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * All constraints of annotated type fused into one check.
+ * <p>
+ * Fused check is built once, when plan is built:
+ * <ul>
+ *     <li>null is checked once: result for null is precomputed;</li>
+ *     <li>number ("@Positive", "@Negative", "@InRange") and size ("@NotEmpty",
+ *     "@Size") of value are read once and shared by constraints;</li>
+ *     <li>constraints which can't fail ("@Size" and "@InRange" with full range) are
+ *     dropped, implied ones ("@NotEmpty" with "@Size(min >= 1)", "@Positive" with
+ *     "@InRange(min >= 1)", "@Negative" with "@InRange(max <= -1)") are checked only
+ *     when their stronger constraint fails;</li>
+ *     <li>cheap constraints are checked first.</li>
+ * </ul>
+ * Result of check is bit mask of failed constraints in declaration order, so errors
+ * are reported in the same order as if every constraint were checked separately.
+ * </p>
+ */
+public class FusedConstraints {
+
+    /**
+     * Max count of constraints of one type.
+     */
+    public static final int MAX_CONSTRAINTS = Long.SIZE;
+
+    /**
+     * Classes of immutable JDK collections which never contain null
+     * ({@link List#of} with 1 or 2 elements, {@link Set#of}, {@link Map#of} and their
+     * copies). Lists with more elements share class with {@link java.util.stream.Stream#toList},
+     * which allows null, so they aren't here.
+     */
+    private static final Set<Class<?>> NULL_HOSTILE_CLASSES = Set.of(
+            List.of(1).getClass(), Set.of(1).getClass(), Set.of(1, 2, 3).getClass(),
+            Map.of(1, 1).getClass(), Map.of(1, 1, 2, 2).getClass());
+
+    /**
+     * Fused check without constraints.
+     */
+    private static final FusedConstraints EMPTY = new FusedConstraints(new Check[0], 0);
+
+    /**
+     * Constraint with position in declaration order.
+     */
+    private static class Check {
+
+        /**
+         * Kind of constraint.
+         */
+        private final ConstraintKind kind;
+
+        /**
+         * Handler of constraint.
+         */
+        private final ConstraintHandler handler;
+
+        /**
+         * Bit of constraint in result (position in declaration order).
+         */
+        private final long bit;
+
+        /**
+         * Bit of stronger constraint, which implies this one, 0 if there is no such one.
+         */
+        private long impliedBy;
+
+        /**
+         * Constructor.
+         *
+         * @param handler handler of constraint
+         * @param index position of constraint in declaration order
+         */
+        private Check(ConstraintHandler handler, int index) {
+            this.kind = handler.getKind();
+            this.handler = handler;
+            this.bit = 1L << index;
+        }
+
+        /**
+         * Get min value ("@Size", "@InRange").
+         *
+         * @return min value
+         */
+        private long min() {
+            return ((Constraint) handler).getMin();
+        }
+
+        /**
+         * Get max value ("@Size", "@InRange").
+         *
+         * @return max value
+         */
+        private long max() {
+            return ((Constraint) handler).getMax();
+        }
+    }
+
+    /**
+     * Checks of values which aren't null in order of their cost.
+     */
+    private final Check[] checks;
+
+    /**
+     * Failed constraints for null.
+     */
+    private final long nullFailures;
+
+    /**
+     * Flag: number of value is used.
+     */
+    private final boolean numeric;
+
+    /**
+     * Flag: size of value is used.
+     */
+    private final boolean sized;
+
+    /**
+     * Flag: all constraints are "@NotNull".
+     */
+    private final boolean nullCheckOnly;
+
+    /**
+     * Constructor.
+     *
+     * @param checks checks of values which aren't null in order of their cost
+     * @param nullFailures failed constraints for null
+     */
+    private FusedConstraints(Check[] checks, long nullFailures) {
+        this.checks = checks;
+        this.nullFailures = nullFailures;
+
+        var numeric = false;
+        var sized = false;
+        for (var check : checks) {
+            switch (check.kind) {
+                case POSITIVE:
+                case NEGATIVE:
+                case IN_RANGE:
+                    numeric = true;
+                    break;
+
+                case NOT_EMPTY:
+                case SIZE:
+                    sized = true;
+                    break;
+            }
+        }
+        this.numeric = numeric;
+        this.sized = sized;
+        this.nullCheckOnly = checks.length == 0 && nullFailures != 0;
+    }
+
+    /**
+     * Fuse constraints of type.
+     *
+     * @param constraints handlers of constraints in declaration order
+     * @return fused check
+     */
+    public static FusedConstraints of(ConstraintHandler[] constraints) {
+        if (constraints.length == 0) {
+            return EMPTY;
+        }
+
+        if (constraints.length > MAX_CONSTRAINTS) {
+            throw new InvalidParameterException("Type can't have more than " +
+                    MAX_CONSTRAINTS + " constraints");
+        }
+
+        var nullFailures = 0L;
+        var checks = new ArrayList<Check>(constraints.length);
+        for (var i = 0; i < constraints.length; i++) {
+            var check = new Check(constraints[i], i);
+            if (!check.handler.acceptsNull()) {
+                nullFailures |= check.bit;
+            }
+            if (!isAlwaysSatisfied(check)) {
+                checks.add(check);
+            }
+        }
+
+        for (var check : checks) {
+            for (var stronger : checks) {
+                if (implies(stronger, check)) {
+                    check.impliedBy = stronger.bit;
+                    break;
+                }
+            }
+        }
+
+        checks.sort(Comparator.comparingInt(FusedConstraints::costOf)
+                .thenComparingInt(check -> check.impliedBy == 0 ? 0 : 1));
+
+        return new FusedConstraints(checks.toArray(new Check[0]), nullFailures);
+    }
+
+    /**
+     * Check if constraint is satisfied by any value which isn't null.
+     *
+     * @param check constraint
+     * @return true if constraint can't fail for value which isn't null
+     */
+    private static boolean isAlwaysSatisfied(Check check) {
+        switch (check.kind) {
+            case NOT_NULL:
+                return true;
+
+            case SIZE:
+                return check.min() <= 0 && check.max() >= Integer.MAX_VALUE;
+
+            case IN_RANGE:
+                return check.min() == Long.MIN_VALUE && check.max() == Long.MAX_VALUE;
+        }
+
+        return false;
+    }
+
+    /**
+     * Check if one constraint implies another one.
+     *
+     * @param stronger constraint
+     * @param weaker constraint
+     * @return true if every value which satisfies stronger constraint satisfies weaker one
+     */
+    private static boolean implies(Check stronger, Check weaker) {
+        switch (weaker.kind) {
+            case NOT_EMPTY:
+                return stronger.kind == ConstraintKind.SIZE && stronger.min() >= 1;
+
+            case POSITIVE:
+                return stronger.kind == ConstraintKind.IN_RANGE && stronger.min() >= 1;
+
+            case NEGATIVE:
+                return stronger.kind == ConstraintKind.IN_RANGE && stronger.max() <= -1;
+        }
+
+        return false;
+    }
+
+    /**
+     * Get relative cost of constraint.
+     *
+     * @param check constraint
+     * @return cost
+     */
+    private static int costOf(Check check) {
+        switch (check.kind) {
+            case POSITIVE:
+            case NEGATIVE:
+            case IN_RANGE:
+            case NOT_EMPTY:
+            case SIZE:
+                return 0;
+
+            case ANY_OF:
+                return 1;
+
+            case NOT_BLANK:
+                return 2;
+
+            case ANY_OF_DICTIONARY:
+                return 3;
+        }
+
+        return 4;
+    }
+
+    /**
+     * Check value.
+     *
+     * @param value value
+     * @return bit mask of failed constraints (bit i is set if constraint i failed)
+     */
+    public long test(Object value) {
+        if (value == null) {
+            return nullFailures;
+        }
+
+        var number = numeric ? ((Number) value).longValue() : 0;
+        var size = sized ? Constraint.sizeOf(value) : 0;
+        var failed = 0L;
+
+        for (var check : checks) {
+            if (check.impliedBy != 0 && (failed & check.impliedBy) == 0) {
+                continue;
+            }
+
+            boolean passed;
+            switch (check.kind) {
+                case POSITIVE:
+                    passed = number > 0;
+                    break;
+
+                case NEGATIVE:
+                    passed = number < 0;
+                    break;
+
+                case IN_RANGE:
+                    passed = check.min() <= number && number <= check.max();
+                    break;
+
+                case NOT_EMPTY:
+                    passed = size != 0;
+                    break;
+
+                case SIZE:
+                    passed = check.min() <= size && size <= check.max();
+                    break;
+
+                default:
+                    passed = check.handler.test(value);
+            }
+
+            if (!passed) {
+                failed |= check.bit;
+            }
+        }
+
+        return failed;
+    }
+
+    /**
+     * Check if all constraints are "@NotNull", so values which aren't null
+     * always satisfy them.
+     *
+     * @return true if all constraints are "@NotNull"
+     */
+    public boolean isNullCheckOnly() {
+        return nullCheckOnly;
+    }
+
+    /**
+     * Check if collection surely doesn't contain null: it's immutable JDK collection
+     * which rejects null ({@link List#of} with 1 or 2 elements, {@link Set#of} and their
+     * copies). Check takes constant time, other collections aren't inspected.
+     *
+     * @param collection collection
+     * @return true if collection can't contain null
+     */
+    public static boolean isNullFree(Collection<?> collection) {
+        return NULL_HOSTILE_CLASSES.contains(collection.getClass());
+    }
+
+    /**
+     * Check if keys and values of map surely aren't null: it's immutable JDK map
+     * ({@link Map#of} and its copies).
+     *
+     * @param map map
+     * @return true if map can't contain null
+     */
+    public static boolean isNullFree(Map<?, ?> map) {
+        return NULL_HOSTILE_CLASSES.contains(map.getClass());
+    }
+}
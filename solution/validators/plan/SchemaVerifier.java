@@ -0,0 +1,149 @@
+package solution.validators.plan;
+
+import solution.annotations.Constrained;
+import solution.annotations.Negative;
+import solution.annotations.NotNull;
+import solution.annotations.Positive;
+import solution.utils.TypeKind;
+import solution.validators.supporting_validators.TypeValidator;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.ParameterizedType;
+import java.security.InvalidParameterException;
+
+/**
+ * Verification of schema of constrained classes.
+ * <p>
+ * Schema can't change at runtime, so it's verified once per class, before its
+ * {@link ValidationPlan} is built; result (including error) is cached with the plan.
+ * The same checks run at build time in {@link solution.processing.ConstrainedProcessor}.
+ * </p>
+ */
+public class SchemaVerifier {
+
+    /**
+     * Verify schema of class.
+     *
+     * @param type class
+     * @return true if class has "@Constrained" annotation
+     * @throws InvalidParameterException if schema is invalid
+     */
+    public static boolean verify(Class<?> type) {
+        if (!type.isAnnotationPresent(Constrained.class)) {
+            return false;
+        }
+
+        if (type.getDeclaredAnnotations().length != 1) {
+            throw new InvalidParameterException("Invalid annotation class");
+        }
+
+        for (var field : type.getDeclaredFields()) {
+            verifyField(field.getName(), field.getType().getName(),
+                    field.getAnnotatedType(), field.getType().isPrimitive());
+        }
+
+        return true;
+    }
+
+    /**
+     * Verify field.
+     *
+     * @param name name of field
+     * @param rawTypeName name of raw type of field
+     * @param annotatedType annotated type of field
+     * @param primitive true if field has primitive type
+     * @throws InvalidParameterException if field can't be validated
+     */
+    public static void verifyField(String name, String rawTypeName,
+                                   AnnotatedType annotatedType, boolean primitive) {
+        TypeValidator.ensureCorrectType(rawTypeName, annotatedType.getType());
+        verifyType(annotatedType, name);
+
+        if (primitive && contains(annotatedType.getDeclaredAnnotations(), NotNull.class)) {
+            throw new InvalidParameterException("Field \"" + name
+                    + "\" has primitive type." +
+                    "\nYou can't apply \"@NotNull\" annotation");
+        }
+    }
+
+    /**
+     * Verify annotated type and its content (in the same order as plan is built).
+     *
+     * @param annotatedType annotated type
+     * @param fieldName name of field (just for error message)
+     */
+    private static void verifyType(AnnotatedType annotatedType, String fieldName) {
+        verifyAnnotations(annotatedType, fieldName);
+
+        var type = annotatedType.getType();
+        if (!(type instanceof ParameterizedType) ||
+                !(annotatedType instanceof AnnotatedParameterizedType)) {
+            return;
+        }
+
+        var arguments = ((AnnotatedParameterizedType) annotatedType)
+                .getAnnotatedActualTypeArguments();
+        var kind = TypeKind.of(type);
+
+        if (kind == TypeKind.LIST) {
+            verifyListElement(arguments[0], fieldName);
+        } else if (kind == TypeKind.MAP) {
+            verifyAnnotations(arguments[0], fieldName);
+            verifyAnnotations(arguments[1], fieldName);
+        } else if (kind.isCollection()) {
+            verifyAnnotations(arguments[0], fieldName);
+        }
+    }
+
+    /**
+     * Verify content of List (may be, nested list).
+     *
+     * @param elementType annotated type of content
+     * @param fieldName name of field (just for error message)
+     */
+    private static void verifyListElement(AnnotatedType elementType, String fieldName) {
+        verifyAnnotations(elementType, fieldName);
+
+        if (TypeKind.of(elementType.getType()) == TypeKind.LIST &&
+                elementType instanceof AnnotatedParameterizedType) {
+            verifyListElement(((AnnotatedParameterizedType) elementType)
+                    .getAnnotatedActualTypeArguments()[0], fieldName);
+        }
+    }
+
+    /**
+     * Check that annotations can be applied to type.
+     *
+     * @param type annotated type
+     * @param fieldName name of field (just for error message)
+     */
+    private static void verifyAnnotations(AnnotatedType type, String fieldName) {
+        var annotations = type.getDeclaredAnnotations();
+        TypeValidator.ensureCorrespondence(type, annotations, fieldName);
+
+        if (contains(annotations, Positive.class) && contains(annotations, Negative.class)) {
+            throw new InvalidParameterException("Field \"" + type.getType().getTypeName() +
+                    "\"" + " has \"Positive\" and \"Negative\" annotations at the same time");
+        }
+    }
+
+    /**
+     * Check if annotations contain annotation of given type.
+     *
+     * @param annotations annotations
+     * @param annotationType type of annotation
+     * @return true if annotation is found
+     */
+    private static boolean contains(Annotation[] annotations,
+                                    Class<? extends Annotation> annotationType) {
+        for (var annotation : annotations) {
+            if (annotation.annotationType() == annotationType) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
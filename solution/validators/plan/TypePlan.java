@@ -0,0 +1,279 @@
+package solution.validators.plan;
+
+import solution.utils.TypeChecker;
+import solution.utils.TypeKind;
+import solution.utils.ValueType;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+
+/**
+ * Plan for annotated type: constraints and nested-type shape.
+ */
+public class TypePlan {
+
+    /**
+     * Shapes of types.
+     */
+    public enum Kind {
+        SCALAR, // Constraints are applied to the value itself
+        LIST, // Value is List, "element" describes its content
+        MAP, // Value is Map, "key" and "value" describe its content
+        COLLECTION // Value is other Collection, "element" describes its content
+    }
+
+    /**
+     * Empty array of constraints.
+     */
+    private static final ConstraintHandler[] NO_CONSTRAINTS = new ConstraintHandler[0];
+
+    /**
+     * Shape of type.
+     */
+    private final Kind kind;
+
+    /**
+     * Constraints of type.
+     */
+    private final ConstraintHandler[] constraints;
+
+    /**
+     * Constraints fused into one check.
+     */
+    private final FusedConstraints fused;
+
+    /**
+     * Value type resolved from declared type, null if constraints can't be applied to it.
+     */
+    private final ValueType valueType;
+
+    /**
+     * Plan for content of List or Collection.
+     */
+    private final TypePlan element;
+
+    /**
+     * Plan for keys of Map.
+     */
+    private final TypePlan key;
+
+    /**
+     * Plan for values of Map.
+     */
+    private final TypePlan value;
+
+    /**
+     * Constructor.
+     *
+     * @param kind shape of type
+     * @param constraints constraints
+     * @param valueType value type. For more information check {@link ValueType}
+     * @param element plan for content of List or Collection
+     * @param key plan for keys of Map
+     * @param value plan for values of Map
+     */
+    private TypePlan(Kind kind, ConstraintHandler[] constraints, ValueType valueType,
+                     TypePlan element, TypePlan key, TypePlan value) {
+        this.kind = kind;
+        this.constraints = constraints;
+        this.fused = FusedConstraints.of(constraints);
+        this.valueType = valueType;
+        this.element = element;
+        this.key = key;
+        this.value = value;
+    }
+
+    /**
+     * Build plan for type of field.
+     *
+     * @param field field
+     * @return plan
+     */
+    static TypePlan ofField(Field field) {
+        return of(field.getAnnotatedType());
+    }
+
+    /**
+     * Build plan for annotated type of field. Schema of type must be verified
+     * by {@link SchemaVerifier}.
+     *
+     * @param annotatedType annotated type of field
+     * @return plan
+     */
+    public static TypePlan of(AnnotatedType annotatedType) {
+        var constraints = resolveConstraints(annotatedType.getDeclaredAnnotations());
+        var valueType = resolveValueType(annotatedType);
+        var type = annotatedType.getType();
+
+        if (TypeChecker.isParameterizedList(type)) {
+            return new TypePlan(Kind.LIST, constraints, valueType,
+                    ofListElement(annotatedType), null, null);
+        } else if (TypeChecker.isParameterizedMap(type)) {
+            var arguments = ((AnnotatedParameterizedType) annotatedType)
+                    .getAnnotatedActualTypeArguments();
+            return new TypePlan(Kind.MAP, constraints, valueType, null,
+                    ofScalar(arguments[0]), ofScalar(arguments[1]));
+        } else if (TypeChecker.isParameterizedCollection(type)) {
+            var arguments = ((AnnotatedParameterizedType) annotatedType)
+                    .getAnnotatedActualTypeArguments();
+            return new TypePlan(Kind.COLLECTION, constraints, valueType,
+                    ofScalar(arguments[0]), null, null);
+        }
+
+        return new TypePlan(Kind.SCALAR, constraints, valueType, null, null, null);
+    }
+
+    /**
+     * Build plan for content of List (may be, nested list).
+     *
+     * @param listType annotated type of List
+     * @return plan
+     */
+    private static TypePlan ofListElement(AnnotatedType listType) {
+        var elementType = ((AnnotatedParameterizedType) listType)
+                .getAnnotatedActualTypeArguments()[0];
+
+        if (TypeKind.of(elementType.getType()) == TypeKind.LIST &&
+                elementType instanceof AnnotatedParameterizedType) {
+            return new TypePlan(Kind.LIST,
+                    resolveConstraints(elementType.getDeclaredAnnotations()),
+                    resolveValueType(elementType), ofListElement(elementType),
+                    null, null);
+        }
+
+        return ofScalar(elementType);
+    }
+
+    /**
+     * Build plan for content of Collection or Map.
+     *
+     * @param type annotated type of content
+     * @return plan
+     */
+    private static TypePlan ofScalar(AnnotatedType type) {
+        return new TypePlan(Kind.SCALAR, resolveConstraints(type.getDeclaredAnnotations()),
+                resolveValueType(type), null, null, null);
+    }
+
+    /**
+     * Resolve value type from declared type.
+     *
+     * @param type annotated type
+     * @return value type or null, if constraints can't be applied to it
+     */
+    private static ValueType resolveValueType(AnnotatedType type) {
+        return TypeKind.of(type.getType()).toValueType();
+    }
+
+    /**
+     * Resolve constraints from annotations. For more information check
+     * {@link ConstraintRegistry}.
+     *
+     * @param annotations annotations
+     * @return handlers of constraints
+     */
+    private static ConstraintHandler[] resolveConstraints(Annotation[] annotations) {
+        if (annotations.length == 0) {
+            return NO_CONSTRAINTS;
+        }
+
+        var registry = ConstraintRegistry.getInstance();
+        var constraints = new ArrayList<ConstraintHandler>(annotations.length);
+        for (var annotation : annotations) {
+            var constraint = registry.create(annotation);
+            if (constraint != null) {
+                constraints.add(constraint);
+            }
+        }
+
+        return constraints.toArray(NO_CONSTRAINTS);
+    }
+
+    /**
+     * Check if type or its content has constraints registered in
+     * {@link ConstraintRegistry} by user.
+     *
+     * @return true if there are custom constraints
+     */
+    public boolean hasCustomConstraints() {
+        for (var constraint : constraints) {
+            if (constraint.getKind() == ConstraintKind.CUSTOM) {
+                return true;
+            }
+        }
+
+        for (var content : new TypePlan[]{element, key, value}) {
+            if (content != null && content.hasCustomConstraints()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Getter for kind field.
+     *
+     * @return shape of type
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Getter for constraints field.
+     *
+     * @return handlers of constraints
+     */
+    public ConstraintHandler[] getConstraints() {
+        return constraints;
+    }
+
+    /**
+     * Getter for fused field.
+     *
+     * @return constraints fused into one check
+     */
+    public FusedConstraints getFused() {
+        return fused;
+    }
+
+    /**
+     * Getter for valueType field.
+     *
+     * @return value type resolved from declared type, null if constraints can't be applied to it
+     */
+    public ValueType getValueType() {
+        return valueType;
+    }
+
+    /**
+     * Getter for element field.
+     *
+     * @return plan for content of List or Collection
+     */
+    public TypePlan getElement() {
+        return element;
+    }
+
+    /**
+     * Getter for key field.
+     *
+     * @return plan for keys of Map
+     */
+    public TypePlan getKey() {
+        return key;
+    }
+
+    /**
+     * Getter for value field.
+     *
+     * @return plan for values of Map
+     */
+    public TypePlan getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,136 @@
+package solution.validators.plan;
+
+import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validation plan for class.
+ * <p>
+ * Plan is built once per class and holds everything that the validator
+ * used to compute with reflection on every call: accessible fields,
+ * resolved constraints with their parameters and nested-type shapes.
+ * </p>
+ *
+ * @param <T> validated type
+ */
+public class ValidationPlan<T> {
+
+    /**
+     * Cache of plans or errors of schema verification. {@link ClassValue} doesn't
+     * prevent classes from unloading.
+     */
+    private static final ClassValue<Object> PLANS = new ClassValue<>() {
+        @Override
+        protected Object computeValue(Class<?> type) {
+            try {
+                return new ValidationPlan<>(type, SchemaVerifier.verify(type));
+            } catch (InvalidParameterException exception) {
+                return exception;
+            }
+        }
+    };
+
+    /**
+     * Validated type.
+     */
+    private final Class<T> type;
+
+    /**
+     * Flag: type has "@Constrained" annotation.
+     */
+    private final boolean constrained;
+
+    /**
+     * Plans for declared fields (plan is shared by all validators, so list is immutable).
+     */
+    private final List<FieldPlan> fields;
+
+    /**
+     * Constructor.
+     *
+     * @param type validated type (its schema is verified)
+     * @param constrained true if type has "@Constrained" annotation
+     */
+    private ValidationPlan(Class<T> type, boolean constrained) {
+        this.type = type;
+        this.constrained = constrained;
+
+        if (!constrained) {
+            this.fields = List.of();
+            return;
+        }
+
+        var declaredFields = type.getDeclaredFields();
+        var fieldPlans = new ArrayList<FieldPlan>(declaredFields.length);
+        for (var field : declaredFields) {
+            fieldPlans.add(new FieldPlan(field));
+        }
+        this.fields = List.copyOf(fieldPlans);
+    }
+
+    /**
+     * Get plan for given type. Schema of type is verified once: if it's invalid,
+     * the same error is thrown on every call.
+     *
+     * @param type type
+     * @param <T> type
+     * @return cached plan
+     * @throws InvalidParameterException if schema of type is invalid
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ValidationPlan<T> of(Class<T> type) {
+        var plan = PLANS.get(type);
+        if (plan instanceof ValidationPlan) {
+            return (ValidationPlan<T>) plan;
+        }
+
+        var cause = (InvalidParameterException) plan;
+        var exception = new InvalidParameterException(cause.getMessage());
+        exception.initCause(cause);
+        throw exception;
+    }
+
+    /**
+     * Getter for type field.
+     *
+     * @return validated type
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Check if type has "@Constrained" annotation.
+     *
+     * @return true if type is validated, false - otherwise
+     */
+    public boolean isConstrained() {
+        return constrained;
+    }
+
+    /**
+     * Check if fields have constraints registered in {@link ConstraintRegistry}
+     * by user.
+     *
+     * @return true if there are custom constraints
+     */
+    public boolean hasCustomConstraints() {
+        for (var field : fields) {
+            if (field.getType().hasCustomConstraints()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Getter for fields field.
+     *
+     * @return plans for declared fields
+     */
+    public List<FieldPlan> getFields() {
+        return fields;
+    }
+}
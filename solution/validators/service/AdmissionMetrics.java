@@ -0,0 +1,181 @@
+package solution.validators.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of admission of {@link ValidationService}.
+ * <p>
+ * Queue time is time between submission and start of validation (waiting for
+ * permit and for thread). Counters are striped, so updates from many threads
+ * don't contend.
+ * </p>
+ */
+public class AdmissionMetrics {
+
+    /**
+     * Count of submitted validations.
+     */
+    private final LongAdder submitted = new LongAdder();
+
+    /**
+     * Count of started validations.
+     */
+    private final LongAdder started = new LongAdder();
+
+    /**
+     * Count of completed validations (successfully or not).
+     */
+    private final LongAdder completed = new LongAdder();
+
+    /**
+     * Count of validations which weren't started (service is closed or thread is interrupted).
+     */
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Total queue time in nanoseconds.
+     */
+    private final LongAdder totalQueueNanos = new LongAdder();
+
+    /**
+     * Max queue time in nanoseconds.
+     */
+    private final LongAccumulator maxQueueNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Count of running validations.
+     */
+    private final AtomicInteger active = new AtomicInteger();
+
+    /**
+     * Max count of running validations.
+     */
+    private final LongAccumulator maxActive = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Register submission.
+     */
+    void onSubmit() {
+        submitted.increment();
+    }
+
+    /**
+     * Register start of validation.
+     *
+     * @param queueNanos queue time in nanoseconds
+     */
+    void onStart(long queueNanos) {
+        started.increment();
+        totalQueueNanos.add(queueNanos);
+        maxQueueNanos.accumulate(queueNanos);
+        maxActive.accumulate(active.incrementAndGet());
+    }
+
+    /**
+     * Register end of validation.
+     */
+    void onComplete() {
+        active.decrementAndGet();
+        completed.increment();
+    }
+
+    /**
+     * Register validation which wasn't started.
+     */
+    void onReject() {
+        rejected.increment();
+    }
+
+    /**
+     * Get count of submitted validations.
+     *
+     * @return count of submitted validations
+     */
+    public long getSubmitted() {
+        return submitted.sum();
+    }
+
+    /**
+     * Get count of started validations.
+     *
+     * @return count of started validations
+     */
+    public long getStarted() {
+        return started.sum();
+    }
+
+    /**
+     * Get count of completed validations.
+     *
+     * @return count of completed validations
+     */
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    /**
+     * Get count of validations which weren't started.
+     *
+     * @return count of rejected validations
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Get count of validations waiting for start.
+     *
+     * @return count of queued validations
+     */
+    public long getQueued() {
+        return submitted.sum() - started.sum() - rejected.sum();
+    }
+
+    /**
+     * Get count of running validations.
+     *
+     * @return count of running validations
+     */
+    public int getActive() {
+        return active.get();
+    }
+
+    /**
+     * Get max count of running validations.
+     *
+     * @return max count of running validations
+     */
+    public long getMaxActive() {
+        return maxActive.get();
+    }
+
+    /**
+     * Get total queue time.
+     *
+     * @return total queue time in nanoseconds
+     */
+    public long getTotalQueueNanos() {
+        return totalQueueNanos.sum();
+    }
+
+    /**
+     * Get mean queue time.
+     *
+     * @return mean queue time in nanoseconds, 0 if nothing was started
+     */
+    public long getMeanQueueNanos() {
+        var count = started.sum();
+        return count == 0 ? 0 : totalQueueNanos.sum() / count;
+    }
+
+    /**
+     * Get max queue time.
+     *
+     * @return max queue time in nanoseconds
+     */
+    public long getMaxQueueNanos() {
+        return maxQueueNanos.get();
+    }
+}
@@ -0,0 +1,242 @@
+package solution.validators.service;
+
+import solution.validators.ValidationError;
+import solution.validators.ValidationOptions;
+import solution.validators.Validator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.security.InvalidParameterException;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous validation service.
+ * <p>
+ * Every submission runs on its own virtual thread (when runtime supports them, otherwise
+ * on pool of platform threads), count of validations running at the same time is
+ * bounded by semaphore. Validators keep no per-thread state, so millions of short-lived
+ * threads don't leave any caches behind.
+ * </p>
+ */
+public class ValidationService implements AutoCloseable {
+
+    /**
+     * Factory of virtual-thread-per-task executor, null if runtime has no virtual threads.
+     */
+    private static final MethodHandle VIRTUAL_EXECUTOR = findVirtualExecutor();
+
+    /**
+     * Validator.
+     */
+    private final Validator validator;
+
+    /**
+     * Executor of validations.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Permits of running validations.
+     */
+    private final Semaphore permits;
+
+    /**
+     * Metrics of admission.
+     */
+    private final AdmissionMetrics metrics = new AdmissionMetrics();
+
+    /**
+     * Constructor. Validations run on virtual threads (if runtime supports them).
+     *
+     * @param validator validator
+     * @param maxConcurrent max count of validations running at the same time
+     */
+    public ValidationService(Validator validator, int maxConcurrent) {
+        this(validator, maxConcurrent, newExecutor(maxConcurrent));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param validator validator
+     * @param maxConcurrent max count of validations running at the same time
+     * @param executor executor of validations (it's shut down, when service is closed)
+     */
+    public ValidationService(Validator validator, int maxConcurrent, ExecutorService executor) {
+        if (maxConcurrent < 1) {
+            throw new InvalidParameterException("Max count of concurrent validations " +
+                    "must be positive: " + maxConcurrent);
+        }
+
+        this.validator = validator;
+        this.executor = executor;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Find factory of virtual-thread-per-task executor.
+     *
+     * @return factory or null, if runtime has no virtual threads
+     */
+    private static MethodHandle findVirtualExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class,
+                    "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Check if runtime supports virtual threads.
+     *
+     * @return true if validations run on virtual threads by default
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VIRTUAL_EXECUTOR != null;
+    }
+
+    /**
+     * Create default executor: virtual thread per task or, if runtime has no virtual
+     * threads, pool of platform (daemon) threads.
+     *
+     * @param parallelism count of platform threads
+     * @return executor
+     */
+    public static ExecutorService newExecutor(int parallelism) {
+        if (VIRTUAL_EXECUTOR != null) {
+            try {
+                return (ExecutorService) VIRTUAL_EXECUTOR.invokeExact();
+            } catch (Throwable exception) {
+                throw new IllegalStateException("Can't create executor", exception);
+            }
+        }
+
+        return Executors.newFixedThreadPool(Math.max(1, parallelism), runnable -> {
+            var thread = new Thread(runnable, "validation-service");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Submit object for validation.
+     *
+     * @param object object
+     * @return future of set of errors. For more information check {@link ValidationError}
+     */
+    public CompletableFuture<Set<ValidationError>> submit(Object object) {
+        return submit(object, ValidationOptions.ALL_ERRORS);
+    }
+
+    /**
+     * Submit object for validation with options.
+     *
+     * @param object object
+     * @param options options of validation. For more information check {@link ValidationOptions}
+     * @return future of set of errors. For more information check {@link ValidationError}
+     */
+    public CompletableFuture<Set<ValidationError>> submit(Object object,
+                                                          ValidationOptions options) {
+        var future = new CompletableFuture<Set<ValidationError>>();
+        var submittedAt = System.nanoTime();
+        metrics.onSubmit();
+
+        try {
+            executor.execute(() -> run(object, options, future, submittedAt));
+        } catch (RejectedExecutionException exception) {
+            metrics.onReject();
+            future.completeExceptionally(exception);
+        }
+
+        return future;
+    }
+
+    /**
+     * Wait for permit and validate object.
+     *
+     * @param object object
+     * @param options options of validation
+     * @param future future of errors
+     * @param submittedAt time of submission
+     */
+    private void run(Object object, ValidationOptions options,
+                     CompletableFuture<Set<ValidationError>> future, long submittedAt) {
+
+        if (future.isDone()) {
+            metrics.onReject();
+            return;
+        }
+
+        try {
+            permits.acquire();
+        } catch (InterruptedException exception) {
+            metrics.onReject();
+            future.completeExceptionally(new CancellationException("Validation is interrupted"));
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        metrics.onStart(System.nanoTime() - submittedAt);
+        Set<ValidationError> errors = null;
+        Throwable failure = null;
+        try {
+            errors = validator.validate(object, options);
+        } catch (Throwable exception) {
+            failure = exception;
+        } finally {
+            metrics.onComplete();
+            permits.release();
+        }
+
+        // Future is completed after release, so its callbacks see the permit as free
+        if (failure == null) {
+            future.complete(errors);
+        } else {
+            future.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * Getter for metrics field.
+     *
+     * @return metrics of admission. For more information check {@link AdmissionMetrics}
+     */
+    public AdmissionMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Get count of free permits.
+     *
+     * @return count of validations which can be started without waiting
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Stop accepting validations and wait for submitted ones.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                // Wait for submitted validations
+            }
+        } catch (InterruptedException exception) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package solution.validators.supporting_validators;
 
-import solution.utils.TypeChecker;
 import solution.annotation_handlers.*;
 import solution.validators.ValidationError;
+import solution.utils.TypeKind;
 import solution.utils.ValueContainer;
 import solution.utils.ValueType;
 
@@ -13,19 +13,39 @@ import java.util.Set;
 
 /**
  * General annotation handler.
+ * <p>
+ * Each instance collects errors into its own set, so one instance must not
+ * be shared between concurrent validations.
+ * </p>
  */
 public class AnnotationValidator {
 
     /**
      * Set with errors. for more info check {@link ValidationError}.
      */
-    private static final Set<ValidationError> errorSet = new HashSet<>();
+    private final Set<ValidationError> errorSet;
+
+    /**
+     * Constructor.
+     */
+    public AnnotationValidator() {
+        this(new HashSet<>());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param errorSet set for collecting errors
+     */
+    public AnnotationValidator(Set<ValidationError> errorSet) {
+        this.errorSet = errorSet;
+    }
 
     /**
      * Return error set.
      * @return error set
      */
-    public static Set<ValidationError> getErrorSet() {
+    public Set<ValidationError> getErrorSet() {
         return errorSet;
     }
 
@@ -37,8 +57,8 @@ public class AnnotationValidator {
      * @param container value container. For more info check {@link ValueContainer}
      * @param pathTracker path tracker
      */
-    public static void validateNotNull(Object object, Field field, ValueContainer container,
-                                       StringBuilder pathTracker) {
+    public void validateNotNull(Object object, Field field, ValueContainer container,
+                                StringBuilder pathTracker) {
         NotNullHandler.handle(object, field, errorSet, container, pathTracker);
     }
 
@@ -50,42 +70,44 @@ public class AnnotationValidator {
      * @param container value container. For more info check {@link ValueContainer}
      * @param pathTracker path tracker
      */
-    public static void validatePositive(Object object, Field field, ValueContainer container,
-                                        StringBuilder pathTracker) {
-        if (field == null) {
-            throw new InvalidParameterException("Field was null");
-        }
+    public void validatePositive(Object object, Field field, ValueContainer container,
+                                 StringBuilder pathTracker) {
+        var value = getValue(object, field, container);
 
-        field.setAccessible(true);
-
-        if (isNullValue(object, field, container)) {
-            return;
+        if (value != null) {
+            validatePositiveValue(value, getTypeKind(value, field, container),
+                    field, pathTracker);
         }
+    }
 
-        String typeName = getTypeName(object, field, container);
-
-        switch (typeName) {
-            case "java.lang.Byte":
-            case "byte":
-                PositiveHandler.handle(object, field, errorSet, container,
+    /**
+     * Validate already read value with "@Positive" annotation.
+     *
+     * @param value value (not null)
+     * @param kind kind of value type. For more information check {@link TypeKind}
+     * @param field field (just for error message)
+     * @param pathTracker path tracker
+     */
+    private void validatePositiveValue(Object value, TypeKind kind, Field field,
+                                       StringBuilder pathTracker) {
+        switch (kind) {
+            case BYTE:
+                PositiveHandler.handle(value, field, errorSet, ValueContainer.OBJECT,
                         ValueType.BYTE, pathTracker);
                 return;
 
-            case "java.lang.Short":
-            case "short":
-                PositiveHandler.handle(object, field, errorSet, container,
+            case SHORT:
+                PositiveHandler.handle(value, field, errorSet, ValueContainer.OBJECT,
                         ValueType.SHORT, pathTracker);
                 return;
 
-            case "java.lang.Integer":
-            case "int":
-                PositiveHandler.handle(object, field, errorSet, container,
+            case INTEGER:
+                PositiveHandler.handle(value, field, errorSet, ValueContainer.OBJECT,
                         ValueType.INTEGER, pathTracker);
                 return;
 
-            case "java.lang.Long":
-            case "long":
-                PositiveHandler.handle(object, field, errorSet, container,
+            case LONG:
+                PositiveHandler.handle(value, field, errorSet, ValueContainer.OBJECT,
                         ValueType.LONG, pathTracker);
                 return;
         }
@@ -103,42 +125,44 @@ public class AnnotationValidator {
      * @param container value container. For more info check {@link ValueContainer}
      * @param pathTracker path tracker
      */
-    public static void validateNegative(Object object, Field field, ValueContainer container,
-                                        StringBuilder pathTracker) {
-        if (field == null) {
-            throw new InvalidParameterException("Field was null");
-        }
+    public void validateNegative(Object object, Field field, ValueContainer container,
+                                 StringBuilder pathTracker) {
+        var value = getValue(object, field, container);
 
-        field.setAccessible(true);
-
-        if (isNullValue(object, field, container)) {
-            return;
+        if (value != null) {
+            validateNegativeValue(value, getTypeKind(value, field, container),
+                    field, pathTracker);
         }
+    }
 
-        String typeName = getTypeName(object, field, container);
-
-        switch (typeName) {
-            case "java.lang.Byte":
-            case "byte":
-                NegativeHandler.handle(object, field, errorSet, container,
+    /**
+     * Validate already read value with "@Negative" annotation.
+     *
+     * @param value value (not null)
+     * @param kind kind of value type. For more information check {@link TypeKind}
+     * @param field field (just for error message)
+     * @param pathTracker path tracker
+     */
+    private void validateNegativeValue(Object value, TypeKind kind, Field field,
+                                       StringBuilder pathTracker) {
+        switch (kind) {
+            case BYTE:
+                NegativeHandler.handle(value, field, errorSet, ValueContainer.OBJECT,
                         ValueType.BYTE, pathTracker);
                 return;
 
-            case "java.lang.Short":
-            case "short":
-                NegativeHandler.handle(object, field, errorSet, container,
+            case SHORT:
+                NegativeHandler.handle(value, field, errorSet, ValueContainer.OBJECT,
                         ValueType.SHORT, pathTracker);
                 return;
 
-            case "java.lang.Integer":
-            case "int":
-                NegativeHandler.handle(object, field, errorSet, container,
+            case INTEGER:
+                NegativeHandler.handle(value, field, errorSet, ValueContainer.OBJECT,
                         ValueType.INTEGER, pathTracker);
                 return;
 
-            case "java.lang.Long":
-            case "long":
-                NegativeHandler.handle(object, field, errorSet, container,
+            case LONG:
+                NegativeHandler.handle(value, field, errorSet, ValueContainer.OBJECT,
                         ValueType.LONG, pathTracker);
                 return;
         }
@@ -156,26 +180,33 @@ public class AnnotationValidator {
      * @param container value container. For more info check {@link ValueContainer}
      * @param pathTracker path tracker
      */
-    public static void validateNotBlank(Object object, Field field, ValueContainer container,
-                                        StringBuilder pathTracker) {
-        if (field == null) {
-            throw new InvalidParameterException("Field was null");
-        }
+    public void validateNotBlank(Object object, Field field, ValueContainer container,
+                                 StringBuilder pathTracker) {
+        var value = getValue(object, field, container);
 
-        field.setAccessible(true);
-
-        if (isNullValue(object, field, container)) {
-            return;
+        if (value != null) {
+            validateNotBlankValue(value, getTypeKind(value, field, container),
+                    field, pathTracker);
         }
-        String typeName = getTypeName(object, field, container);
+    }
 
-        if (!(typeName.equals("java.lang.String"))) {
+    /**
+     * Validate already read value with "@NotBlank" annotation.
+     *
+     * @param value value (not null)
+     * @param kind kind of value type. For more information check {@link TypeKind}
+     * @param field field (just for error message)
+     * @param pathTracker path tracker
+     */
+    private void validateNotBlankValue(Object value, TypeKind kind, Field field,
+                                       StringBuilder pathTracker) {
+        if (kind != TypeKind.STRING) {
             throw new InvalidParameterException("Field \"" + field.getName() +
                     "\" must has negativeInt type \"String\"" +
                     ", because there is \"@NotBlank\" annotation (may be, inner type)");
         }
 
-        NotBlankHandler.handle(object, field, errorSet, container, pathTracker);
+        NotBlankHandler.handle(value, field, errorSet, ValueContainer.OBJECT, pathTracker);
     }
 
     /**
@@ -187,26 +218,34 @@ public class AnnotationValidator {
      * @param container value container. For more info check {@link ValueContainer}
      * @param pathTracker path tracker
      */
-    public static void validateAnyOf(Object object, Field field, String[] values,
-                                     ValueContainer container, StringBuilder pathTracker) {
-        if (field == null) {
-            throw new InvalidParameterException("Field was null");
-        }
-        field.setAccessible(true);
+    public void validateAnyOf(Object object, Field field, String[] values,
+                              ValueContainer container, StringBuilder pathTracker) {
+        var value = getValue(object, field, container);
 
-        if (isNullValue(object, field, container)) {
-            return;
+        if (value != null) {
+            validateAnyOfValue(value, getTypeKind(value, field, container),
+                    field, values, pathTracker);
         }
+    }
 
-        String typeName = getTypeName(object, field, container);
-
-        if (!(typeName.equals("java.lang.String"))) {
+    /**
+     * Validate already read value with "@AnyOf" annotation.
+     *
+     * @param value value (not null)
+     * @param kind kind of value type. For more information check {@link TypeKind}
+     * @param field field (just for error message)
+     * @param values possible values for given field value
+     * @param pathTracker path tracker
+     */
+    private void validateAnyOfValue(Object value, TypeKind kind, Field field,
+                                    String[] values, StringBuilder pathTracker) {
+        if (kind != TypeKind.STRING) {
             throw new InvalidParameterException("Field \"" + field.getName() +
                     "\" must be negativeInt \"String\"" +
                     ", because there is \"@AnyOf\" annotation (may be, inner type)");
         }
 
-        AnyOfHandler.handle(object, field, errorSet, values, container, pathTracker);
+        AnyOfHandler.handle(value, field, errorSet, values, ValueContainer.OBJECT, pathTracker);
     }
 
     /**
@@ -217,33 +256,40 @@ public class AnnotationValidator {
      * @param container value container. For more info check {@link ValueContainer}
      * @param pathTracker path tracker
      */
-    public static void validateNotEmpty(Object object, Field field, ValueContainer container,
-                                        StringBuilder pathTracker) {
-        if (field == null) {
-            throw new InvalidParameterException("Field was null");
-        }
-        field.setAccessible(true);
+    public void validateNotEmpty(Object object, Field field, ValueContainer container,
+                                 StringBuilder pathTracker) {
+        var value = getValue(object, field, container);
 
-        if (isNullValue(object, field, container)) {
-            return;
+        if (value != null) {
+            validateNotEmptyValue(value, getTypeKind(value, field, container),
+                    field, pathTracker);
         }
+    }
 
-        String typeName = getTypeName(object, field, container);
-
-        if (TypeChecker.isList(typeName)) {
-            NotEmptyHandler.handle(object, field, errorSet, container,
+    /**
+     * Validate already read value with "@NotEmpty" annotation.
+     *
+     * @param value value (not null)
+     * @param kind kind of value type. For more information check {@link TypeKind}
+     * @param field field (just for error message)
+     * @param pathTracker path tracker
+     */
+    private void validateNotEmptyValue(Object value, TypeKind kind, Field field,
+                                       StringBuilder pathTracker) {
+        if (kind == TypeKind.LIST) {
+            NotEmptyHandler.handle(value, field, errorSet, ValueContainer.OBJECT,
                     ValueType.LIST, pathTracker);
             return;
-        } else if (TypeChecker.isSet(typeName)) {
-            NotEmptyHandler.handle(object, field, errorSet, container,
+        } else if (kind == TypeKind.SET) {
+            NotEmptyHandler.handle(value, field, errorSet, ValueContainer.OBJECT,
                     ValueType.SET, pathTracker);
             return;
-        } else if (TypeChecker.isMap(typeName)) {
-            NotEmptyHandler.handle(object, field, errorSet, container,
+        } else if (kind == TypeKind.MAP) {
+            NotEmptyHandler.handle(value, field, errorSet, ValueContainer.OBJECT,
                     ValueType.MAP, pathTracker);
             return;
-        } else if (typeName.equals("java.lang.String")) {
-            NotEmptyHandler.handle(object, field, errorSet, container,
+        } else if (kind == TypeKind.STRING) {
+            NotEmptyHandler.handle(value, field, errorSet, ValueContainer.OBJECT,
                     ValueType.STRING, pathTracker);
             return;
         }
@@ -263,17 +309,28 @@ public class AnnotationValidator {
      * @param container value container. For more info check {@link ValueContainer}
      * @param pathTracker path tracker
      */
-    public static void validateSize(Object object, Field field, int minSize, int maxSize,
-                                    ValueContainer container, StringBuilder pathTracker) {
-        if (field == null) {
-            throw new InvalidParameterException("Field was null");
-        }
-        field.setAccessible(true);
+    public void validateSize(Object object, Field field, int minSize, int maxSize,
+                             ValueContainer container, StringBuilder pathTracker) {
+        var value = getValue(object, field, container);
 
-        if (isNullValue(object, field, container)) {
-            return;
+        if (value != null) {
+            validateSizeValue(value, getTypeKind(value, field, container),
+                    field, minSize, maxSize, pathTracker);
         }
+    }
 
+    /**
+     * Validate already read value with "@Size" annotation.
+     *
+     * @param value value (not null)
+     * @param kind kind of value type. For more information check {@link TypeKind}
+     * @param field field (just for error message)
+     * @param minSize min possible size
+     * @param maxSize max possible size
+     * @param pathTracker path tracker
+     */
+    private void validateSizeValue(Object value, TypeKind kind, Field field,
+                                   int minSize, int maxSize, StringBuilder pathTracker) {
         if (maxSize < minSize) {
             throw new InvalidParameterException("Field \"" + field.getName() +
                     "\" has wrong bounds" +
@@ -281,23 +338,21 @@ public class AnnotationValidator {
                     maxSize + " < " + minSize + " (may be, inner type)");
         }
 
-        String typeName = getTypeName(object, field, container);
-
-        if (TypeChecker.isList(typeName)) {
-            SizeHandler.handle(object, field, errorSet, minSize, maxSize,
-                    container, ValueType.LIST, pathTracker);
+        if (kind == TypeKind.LIST) {
+            SizeHandler.handle(value, field, errorSet, minSize, maxSize,
+                    ValueContainer.OBJECT, ValueType.LIST, pathTracker);
             return;
-        } else if (TypeChecker.isSet(typeName)) {
-            SizeHandler.handle(object, field, errorSet, minSize, maxSize,
-                    container, ValueType.SET, pathTracker);
+        } else if (kind == TypeKind.SET) {
+            SizeHandler.handle(value, field, errorSet, minSize, maxSize,
+                    ValueContainer.OBJECT, ValueType.SET, pathTracker);
             return;
-        } else if (TypeChecker.isMap(typeName)) {
-            SizeHandler.handle(object, field, errorSet, minSize, maxSize,
-                    container, ValueType.MAP, pathTracker);
+        } else if (kind == TypeKind.MAP) {
+            SizeHandler.handle(value, field, errorSet, minSize, maxSize,
+                    ValueContainer.OBJECT, ValueType.MAP, pathTracker);
             return;
-        } else if (typeName.equals("java.lang.String")) {
-            SizeHandler.handle(object, field, errorSet, minSize, maxSize,
-                    container, ValueType.STRING, pathTracker);
+        } else if (kind == TypeKind.STRING) {
+            SizeHandler.handle(value, field, errorSet, minSize, maxSize,
+                    ValueContainer.OBJECT, ValueType.STRING, pathTracker);
             return;
         }
 
@@ -316,49 +371,55 @@ public class AnnotationValidator {
      * @param container value container. For more info check {@link ValueContainer}
      * @param pathTracker path tracker
      */
-    public static void validateInRange(Object object, Field field, long minValue,
-                                       long maxValue, ValueContainer container,
-                                       StringBuilder pathTracker) {
-        if (field == null) {
-            throw new InvalidParameterException("Field was null");
-        }
-        field.setAccessible(true);
-
-        if (isNullValue(object, field, container)) {
-            return;
+    public void validateInRange(Object object, Field field, long minValue,
+                                long maxValue, ValueContainer container,
+                                StringBuilder pathTracker) {
+        var value = getValue(object, field, container);
+
+        if (value != null) {
+            validateInRangeValue(value, getTypeKind(value, field, container),
+                    field, minValue, maxValue, pathTracker);
         }
+    }
 
+    /**
+     * Validate already read value with "@InRange" annotation.
+     *
+     * @param value value (not null)
+     * @param kind kind of value type. For more information check {@link TypeKind}
+     * @param field field (just for error message)
+     * @param minValue min possible value
+     * @param maxValue max possible value
+     * @param pathTracker path tracker
+     */
+    private void validateInRangeValue(Object value, TypeKind kind, Field field,
+                                      long minValue, long maxValue,
+                                      StringBuilder pathTracker) {
         if (minValue > maxValue) {
             throw new InvalidParameterException("Field \"" + field.getName()
                     + "\" has wrong bounds" + " in annotation \"InRange\". " +
                     "max < min: " + maxValue + " < " + minValue + " (may be, inner type)");
         }
 
-        String typeName = getTypeName(object, field, container);
-
-        switch (typeName) {
-            case "java.lang.Byte":
-            case "byte":
-                InRangeHandler.handle(object, field, errorSet, minValue, maxValue,
-                        container, ValueType.BYTE, pathTracker);
+        switch (kind) {
+            case BYTE:
+                InRangeHandler.handle(value, field, errorSet, minValue, maxValue,
+                        ValueContainer.OBJECT, ValueType.BYTE, pathTracker);
                 return;
 
-            case "java.lang.Short":
-            case "short":
-                InRangeHandler.handle(object, field, errorSet, minValue, maxValue,
-                        container, ValueType.SHORT, pathTracker);
+            case SHORT:
+                InRangeHandler.handle(value, field, errorSet, minValue, maxValue,
+                        ValueContainer.OBJECT, ValueType.SHORT, pathTracker);
                 return;
 
-            case "java.lang.Integer":
-            case "int":
-                InRangeHandler.handle(object, field, errorSet, minValue, maxValue,
-                        container, ValueType.INTEGER, pathTracker);
+            case INTEGER:
+                InRangeHandler.handle(value, field, errorSet, minValue, maxValue,
+                        ValueContainer.OBJECT, ValueType.INTEGER, pathTracker);
                 return;
 
-            case "java.lang.Long":
-            case "long":
-                InRangeHandler.handle(object, field, errorSet, minValue, maxValue,
-                        container, ValueType.LONG, pathTracker);
+            case LONG:
+                InRangeHandler.handle(value, field, errorSet, minValue, maxValue,
+                        ValueContainer.OBJECT, ValueType.LONG, pathTracker);
                 return;
         }
 
@@ -368,48 +429,51 @@ public class AnnotationValidator {
     }
 
     /**
-     * Get type name depending on value container.
+     * Get kind of type depending on value container.
      *
-     * @param object object
+     * @param value value (not null)
      * @param field field
      * @param container value container. For more information check {@link ValueContainer}
-     * @return type name
+     * @return kind of type. For more information check {@link TypeKind}
      */
-    private static String getTypeName(Object object, Field field, ValueContainer container) {
+    private static TypeKind getTypeKind(Object value, Field field, ValueContainer container) {
         switch (container) {
             case FIELD:
-                return field.getAnnotatedType().getType().getTypeName();
+                return TypeKind.of(field.getGenericType());
 
             case OBJECT:
-                return object.getClass().getTypeName();
+                return TypeKind.of(value.getClass());
         }
 
         throw new InvalidParameterException("Invalid type of container");
     }
 
     /**
-     * Check if given field value or object is null.
+     * Get value depending on value container.
      *
      * @param object object
      * @param field field
      * @param container value container. For more information check {@link ValueContainer}
-     * @return true, if field value or object is null, false - otherwise
+     * @return field value or object itself
      */
-    private static boolean isNullValue(Object object, Field field, ValueContainer container) {
+    private static Object getValue(Object object, Field field, ValueContainer container) {
+        if (field == null) {
+            throw new InvalidParameterException("Field was null");
+        }
+
         switch (container) {
             case OBJECT:
-                return object == null;
+                return object;
 
             case FIELD:
                 try {
-                    if (field.get(object) == null) {
-                        return true;
-                    }
+                    field.setAccessible(true);
+                    return field.get(object);
                 } catch (IllegalAccessException exception) {
                     exception.printStackTrace();
                 }
 
-                return false;
+                return null;
         }
 
         throw new InvalidParameterException("Invalid type of container");
@@ -1,24 +1,18 @@
 package solution.validators.supporting_validators;
 
 import solution.utils.TypeChecker;
+import solution.utils.TypeKind;
 import solution.annotations.*;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.security.InvalidParameterException;
-import java.util.List;
-import java.util.stream.Stream;
 
 /**
  * Type validator.
  */
 public class TypeValidator {
 
-    /**
-     * Special flag for checking nested lists.
-     */
-    private static boolean isParameterizedType = true;
-
     /**
      * Check if field type is collection of collections.
      *
@@ -27,18 +21,26 @@ public class TypeValidator {
     public static void ensureCorrectFieldType(Field field) {
         field.setAccessible(true);
 
-        var fieldName = field.getType().getName();
-
-        var fieldType = field.getAnnotatedType().getType();
+        ensureCorrectType(field.getType().getName(), field.getAnnotatedType().getType());
+    }
 
+    /**
+     * Check if type is collection of collections.
+     *
+     * @param fieldName name of raw type (just for error message)
+     * @param fieldType generic type
+     */
+    public static void ensureCorrectType(String fieldName, Type fieldType) {
         if (fieldType instanceof ParameterizedType) {
             var innerTypes = ((ParameterizedType) fieldType).getActualTypeArguments();
 
-            if (TypeChecker.isMap(fieldName)) {
+            var kind = TypeKind.of(fieldType);
+
+            if (kind == TypeKind.MAP) {
                 processMap(innerTypes, fieldName);
-            } else if (TypeChecker.isList(fieldName)) {
+            } else if (kind == TypeKind.LIST) {
                 processList(innerTypes[0], fieldName);
-            } else if (TypeChecker.isCollection(fieldName)) {
+            } else if (kind.isCollection()) {
                 processCollection(innerTypes[0], fieldName);
             }
         }
@@ -57,34 +59,37 @@ public class TypeValidator {
             processNestedList(annotatedType, fieldName);
         }
 
-        var typeName = annotatedType.getType().getTypeName();
+        var kind = TypeKind.of(annotatedType.getType());
         for (var annotation : annotations) {
             if (annotation.annotationType() == Positive.class) {
-                checkAnnotationsForNumber(typeName, fieldName, "Positive");
+                checkAnnotationsForNumber(kind, fieldName, "Positive");
             }
             if (annotation.annotationType() == Negative.class) {
-                checkAnnotationsForNumber(typeName, fieldName, "Negative");
+                checkAnnotationsForNumber(kind, fieldName, "Negative");
             }
             if (annotation.annotationType() == NotBlank.class) {
-                checkAnnotationsForString(typeName, fieldName, "NotBlank");
+                checkAnnotationsForString(kind, fieldName, "NotBlank");
             }
             if (annotation.annotationType() == NotEmpty.class) {
-                checkAnnotationsForCollection(typeName, fieldName, "NotEmpty");
+                checkAnnotationsForCollection(kind, fieldName, "NotEmpty");
             }
             if (annotation.annotationType() == Size.class) {
-                checkAnnotationsForCollection(typeName, fieldName, "Size");
+                checkAnnotationsForCollection(kind, fieldName, "Size");
                 var minSize = ((Size) annotation).min();
                 var maxSize = ((Size) annotation).max();
                 checkBounds(minSize, maxSize, "Size", fieldName);
             }
             if (annotation.annotationType() == InRange.class) {
-                checkAnnotationsForNumber(typeName, fieldName, "InRange");
+                checkAnnotationsForNumber(kind, fieldName, "InRange");
                 var minValue = ((InRange) annotation).min();
                 var maxValue = ((InRange) annotation).max();
                 checkBounds(minValue, maxValue, "InRange", fieldName);
             }
             if (annotation.annotationType() == AnyOf.class) {
-                checkAnnotationsForString(typeName, fieldName, "AnyOf");
+                checkAnnotationsForString(kind, fieldName, "AnyOf");
+            }
+            if (annotation.annotationType() == AnyOfDictionary.class) {
+                checkAnnotationsForString(kind, fieldName, "AnyOfDictionary");
             }
         }
     }
@@ -104,16 +109,14 @@ public class TypeValidator {
     /**
      * Check that given annotation can be applied to collection types.
      *
-     * @param fieldType field type
+     * @param fieldType kind of field type. For more information check {@link TypeKind}
      * @param fieldName field name
      * @param annotation annotation
      */
-    private static void checkAnnotationsForCollection(String fieldType, String fieldName,
+    private static void checkAnnotationsForCollection(TypeKind fieldType, String fieldName,
                                                       String annotation) {
-        if (!(TypeChecker.isList(fieldType) ||
-                TypeChecker.isSet(fieldType) ||
-                TypeChecker.isMap(fieldType) ||
-                fieldType.equals("java.lang.String"))) {
+        if (!(fieldType == TypeKind.LIST || fieldType == TypeKind.SET ||
+                fieldType == TypeKind.MAP || fieldType == TypeKind.STRING)) {
             throw new InvalidParameterException("Field \"" + fieldName + "\" can't " +
                     "have \"@" + annotation + "\" annotation (may be, inner type)");
         }
@@ -138,13 +141,13 @@ public class TypeValidator {
     /**
      * Check that given annotation can be applied to String type.
      *
-     * @param fieldType field type
+     * @param fieldType kind of field type. For more information check {@link TypeKind}
      * @param fieldName field name
      * @param annotation annotation
      */
-    private static void checkAnnotationsForString(String fieldType, String fieldName,
+    private static void checkAnnotationsForString(TypeKind fieldType, String fieldName,
                                                   String annotation) {
-        if (!fieldType.equals("java.lang.String")) {
+        if (fieldType != TypeKind.STRING) {
             throw new InvalidParameterException("Field \"" + fieldName + "\" can't " +
                     "have \"@" + annotation + "\" annotation (may be, inner type)");
         }
@@ -153,15 +156,13 @@ public class TypeValidator {
     /**
      * Check that given annotation can be applied to numeric types.
      *
-     * @param fieldType field type
+     * @param fieldType kind of field type. For more information check {@link TypeKind}
      * @param fieldName field name
      * @param annotation annotation
      */
-    private static void checkAnnotationsForNumber(String fieldType, String fieldName,
+    private static void checkAnnotationsForNumber(TypeKind fieldType, String fieldName,
                                                   String annotation) {
-        if (Stream.of("Byte", "Short", "Integer", "Long").
-                noneMatch(a -> ("java.lang." + a).equals(fieldType)) &&
-                !List.of("byte", "short", "int", "long").contains(fieldType)) {
+        if (!fieldType.isIntegral()) {
             throw new InvalidParameterException("Field \"" + fieldName + "\" can't " +
                     "have \"@" + annotation + "\" annotation (may be, inner type)");
         }
@@ -174,7 +175,7 @@ public class TypeValidator {
      * @param fieldName name of field (just for error message)
      */
     private static void processCollection(Type innerType, String fieldName) {
-        if (TypeChecker.isCollectionOrMap(innerType.getTypeName())) {
+        if (TypeKind.of(innerType).isContainer()) {
             throw new InvalidParameterException("Invalid type of field \""
                     + fieldName + "\".\nYou can't create \"Collection\"/\"Set\"" +
                     " of collections (except \"List\" of lists)");
@@ -189,7 +190,7 @@ public class TypeValidator {
      */
     private static void processMap(Type[] innerTypes, String fieldName) {
         for (var innerType : innerTypes) {
-            if (TypeChecker.isCollectionOrMap(innerType.getTypeName())) {
+            if (TypeKind.of(innerType).isContainer()) {
                 throw new InvalidParameterException("Invalid type of field \""
                         + fieldName + "\".\nYou can't create \"Map\" of collections");
             }
@@ -207,22 +208,9 @@ public class TypeValidator {
             processList(((ParameterizedType) type).getActualTypeArguments()[0],
                     fieldName);
         }
-        var typeName = type.getTypeName();
-
-
-        if (!isParameterizedType) {
-            if (!TypeChecker.isList(typeName) && TypeChecker.isCollectionOrMap(typeName)) {
-                throw new InvalidParameterException("Invalid type of field \""
-                        + fieldName + "\".\n\"List\" can't contain other collections" +
-                        " (except lists)");
-            }
-
-            return;
-        }
-
-        isParameterizedType = false;
+        var kind = TypeKind.of(type);
 
-        if (!TypeChecker.isList(typeName) && TypeChecker.isCollectionOrMap(typeName)) {
+        if (kind != TypeKind.LIST && kind.isContainer()) {
             throw new InvalidParameterException("Invalid type of field \""
                     + fieldName + "\".\n\"List\" can't contain other collections" +
                     " (except lists)");
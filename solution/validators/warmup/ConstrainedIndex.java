@@ -0,0 +1,57 @@
+package solution.validators.warmup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Index of constrained classes generated at build time by
+ * {@link solution.processing.ConstrainedProcessor}.
+ * <p>
+ * Index files "META-INF/solution/constrained.idx" contain binary names of
+ * "@Constrained" classes, one per line.
+ * </p>
+ */
+public class ConstrainedIndex {
+
+    /**
+     * Path of index file.
+     */
+    public static final String INDEX = "META-INF/solution/constrained.idx";
+
+    /**
+     * Read all index files of class loader.
+     *
+     * @param loader class loader
+     * @return binary names of constrained classes in alphabetical order
+     */
+    public static List<String> read(ClassLoader loader) {
+        var names = new TreeSet<String>();
+
+        try {
+            var resources = loader.getResources(INDEX);
+            while (resources.hasMoreElements()) {
+                try (var in = new BufferedReader(new InputStreamReader(
+                        resources.nextElement().openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = in.readLine()) != null) {
+                        line = line.strip();
+                        if (!line.isEmpty() && !line.startsWith("#")) {
+                            names.add(line);
+                        }
+                    }
+                } catch (IOException exception) {
+                    // Index file can't be read: its classes are just not listed
+                }
+            }
+        } catch (IOException exception) {
+            // Index files can't be found: no classes are listed
+        }
+
+        return new ArrayList<>(names);
+    }
+}
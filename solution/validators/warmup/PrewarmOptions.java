@@ -0,0 +1,149 @@
+package solution.validators.warmup;
+
+import java.security.InvalidParameterException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Options of warm-up.
+ * <p>
+ * Options are immutable: every "with" method returns new options.
+ * </p>
+ */
+public class PrewarmOptions {
+
+    /**
+     * Build plans sequentially without validations of samples (default options).
+     */
+    public static final PrewarmOptions PLANS_ONLY = new PrewarmOptions(0, List.of(), null, null);
+
+    /**
+     * Count of validations of every sample.
+     */
+    private final int iterations;
+
+    /**
+     * Sample instances supplied by application.
+     */
+    private final List<Object> samples;
+
+    /**
+     * Pool for parallel warm-up, null if warm-up is sequential.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Class loader of index and classes, null for context class loader.
+     */
+    private final ClassLoader classLoader;
+
+    /**
+     * Constructor.
+     *
+     * @param iterations count of validations of every sample
+     * @param samples sample instances
+     * @param pool pool for parallel warm-up
+     * @param classLoader class loader of index and classes
+     */
+    private PrewarmOptions(int iterations, List<Object> samples, ForkJoinPool pool,
+                           ClassLoader classLoader) {
+        this.iterations = iterations;
+        this.samples = samples;
+        this.pool = pool;
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Get options with validations of samples. Every sample (see
+     * {@link #withSamples(List)}) is validated given count of times, so JIT compiles
+     * hot paths before real traffic arrives.
+     *
+     * @param iterations count of validations of every sample
+     * @return options
+     */
+    public PrewarmOptions withIterations(int iterations) {
+        if (iterations < 0) {
+            throw new InvalidParameterException("Count of iterations can't be negative: " +
+                    iterations);
+        }
+
+        return new PrewarmOptions(iterations, samples, pool, classLoader);
+    }
+
+    /**
+     * Get options with sample instances. Samples should be typical objects of
+     * application (valid and invalid ones), so warm-up runs the same paths as real
+     * traffic.
+     *
+     * @param samples sample instances
+     * @return options
+     */
+    public PrewarmOptions withSamples(List<?> samples) {
+        if (samples == null) {
+            throw new InvalidParameterException("Samples can't be null");
+        }
+
+        return new PrewarmOptions(iterations, List.copyOf(samples), pool, classLoader);
+    }
+
+    /**
+     * Get options which warm classes up in parallel.
+     *
+     * @param pool pool for parallel warm-up
+     * @return options
+     */
+    public PrewarmOptions parallel(ForkJoinPool pool) {
+        return new PrewarmOptions(iterations, samples, pool, classLoader);
+    }
+
+    /**
+     * Get options with class loader of index and classes.
+     *
+     * @param classLoader class loader
+     * @return options
+     */
+    public PrewarmOptions withClassLoader(ClassLoader classLoader) {
+        return new PrewarmOptions(iterations, samples, pool, classLoader);
+    }
+
+    /**
+     * Getter for iterations field.
+     *
+     * @return count of validations of every sample
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Getter for samples field.
+     *
+     * @return sample instances
+     */
+    public List<Object> getSamples() {
+        return samples;
+    }
+
+    /**
+     * Getter for pool field.
+     *
+     * @return pool for parallel warm-up, null if warm-up is sequential
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Get class loader of index and classes.
+     *
+     * @return class loader (context class loader, if it isn't set)
+     */
+    public ClassLoader getClassLoader() {
+        if (classLoader != null) {
+            return classLoader;
+        }
+
+        var contextLoader = Thread.currentThread().getContextClassLoader();
+        return contextLoader != null ? contextLoader : PrewarmOptions.class.getClassLoader();
+    }
+}
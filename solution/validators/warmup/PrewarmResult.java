@@ -0,0 +1,83 @@
+package solution.validators.warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of warm-up.
+ */
+public class PrewarmResult {
+
+    /**
+     * Warmed classes.
+     */
+    private final List<Class<?>> classes;
+
+    /**
+     * Errors of classes which can't be warmed (binary name - error).
+     */
+    private final Map<String, Throwable> failures;
+
+    /**
+     * Count of validations of samples.
+     */
+    private final long validations;
+
+    /**
+     * Duration of warm-up in nanoseconds.
+     */
+    private final long durationNanos;
+
+    /**
+     * Constructor.
+     *
+     * @param classes warmed classes
+     * @param failures errors of classes which can't be warmed
+     * @param validations count of validations of samples
+     * @param durationNanos duration of warm-up in nanoseconds
+     */
+    public PrewarmResult(List<Class<?>> classes, Map<String, Throwable> failures,
+                         long validations, long durationNanos) {
+        this.classes = Collections.unmodifiableList(classes);
+        this.failures = Collections.unmodifiableMap(failures);
+        this.validations = validations;
+        this.durationNanos = durationNanos;
+    }
+
+    /**
+     * Getter for classes field.
+     *
+     * @return warmed classes
+     */
+    public List<Class<?>> getClasses() {
+        return classes;
+    }
+
+    /**
+     * Getter for failures field.
+     *
+     * @return errors of classes which can't be warmed (binary name - error)
+     */
+    public Map<String, Throwable> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Getter for validations field.
+     *
+     * @return count of validations of samples
+     */
+    public long getValidations() {
+        return validations;
+    }
+
+    /**
+     * Getter for durationNanos field.
+     *
+     * @return duration of warm-up in nanoseconds
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+}
@@ -0,0 +1,140 @@
+package solution.validators.warmup;
+
+import solution.validators.AbstractValidator;
+import solution.validators.Validator;
+import solution.validators.plan.ValidationPlan;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Warm-up of validation of constrained classes.
+ * <p>
+ * For every class from {@link ConstrainedIndex} plan is built (schema is verified),
+ * validator of class is resolved (generated validators are created). Then sample
+ * instances supplied by options are validated several times. Instances aren't
+ * created by warm-up: objects with default values would run only trivial paths.
+ * </p>
+ */
+public class Prewarmer {
+
+    /**
+     * Warm classes of index up.
+     *
+     * @param validator validator used by application
+     * @param options options of warm-up. For more information check {@link PrewarmOptions}
+     * @return result of warm-up. For more information check {@link PrewarmResult}
+     */
+    public static PrewarmResult prewarm(Validator validator, PrewarmOptions options) {
+        var loader = options.getClassLoader();
+        return prewarm(validator, options, ConstrainedIndex.read(loader), loader);
+    }
+
+    /**
+     * Warm given classes up.
+     *
+     * @param validator validator used by application
+     * @param options options of warm-up. For more information check {@link PrewarmOptions}
+     * @param classNames binary names of classes
+     * @param loader class loader of classes
+     * @return result of warm-up. For more information check {@link PrewarmResult}
+     */
+    public static PrewarmResult prewarm(Validator validator, PrewarmOptions options,
+                                        Collection<String> classNames, ClassLoader loader) {
+        var start = System.nanoTime();
+        var classes = new ConcurrentLinkedQueue<Class<?>>();
+        var failures = new ConcurrentHashMap<String, Throwable>();
+        var validations = new LongAdder();
+
+        if (options.getPool() == null) {
+            for (var name : classNames) {
+                prewarmClass(name, loader, validator, classes, failures);
+            }
+        } else {
+            options.getPool().invoke(ForkJoinTask.adapt(() -> classNames.parallelStream()
+                    .forEach(name -> prewarmClass(name, loader, validator, classes,
+                            failures))));
+        }
+
+        if (options.getIterations() > 0) {
+            if (options.getPool() == null) {
+                for (var sample : options.getSamples()) {
+                    validateSample(sample, validator, options, failures, validations);
+                }
+            } else {
+                options.getPool().invoke(ForkJoinTask.adapt(() -> options.getSamples()
+                        .parallelStream().forEach(sample -> validateSample(sample, validator,
+                                options, failures, validations))));
+            }
+        }
+
+        var warmed = new ArrayList<>(classes);
+        warmed.sort((first, second) -> first.getName().compareTo(second.getName()));
+        return new PrewarmResult(warmed, failures, validations.sum(), System.nanoTime() - start);
+    }
+
+    /**
+     * Warm class up.
+     *
+     * @param name binary name of class
+     * @param loader class loader of class
+     * @param validator validator used by application
+     * @param classes warmed classes
+     * @param failures errors of classes which can't be warmed
+     */
+    private static void prewarmClass(String name, ClassLoader loader, Validator validator,
+                                     Collection<Class<?>> classes,
+                                     Map<String, Throwable> failures) {
+        try {
+            var type = Class.forName(name, false, loader);
+            ValidationPlan.of(type);
+
+            if (validator instanceof AbstractValidator) {
+                ((AbstractValidator) validator).resolve(type);
+            }
+
+            classes.add(type);
+        } catch (Exception | LinkageError exception) {
+            failures.put(name, exception);
+        }
+    }
+
+    /**
+     * Validate sample several times.
+     *
+     * @param sample sample instance
+     * @param validator validator used by application
+     * @param options options of warm-up
+     * @param failures errors of samples which can't be validated (by name of class)
+     * @param validations counter of validations of samples
+     */
+    private static void validateSample(Object sample, Validator validator,
+                                       PrewarmOptions options, Map<String, Throwable> failures,
+                                       LongAdder validations) {
+        try {
+            for (var i = 0; i < options.getIterations(); i++) {
+                validator.validate(sample);
+                validator.isValid(sample);
+            }
+            validations.add(2L * options.getIterations());
+        } catch (RuntimeException exception) {
+            failures.put(sample.getClass().getName(), exception);
+        }
+    }
+
+    /**
+     * Get names of classes from index.
+     *
+     * @param options options of warm-up
+     * @return binary names of classes
+     */
+    public static List<String> getIndexedClasses(PrewarmOptions options) {
+        return ConstrainedIndex.read(options.getClassLoader());
+    }
+}
@@ -0,0 +1,284 @@
+package tests.processing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import solution.processing.ConstrainedProcessor;
+import solution.validators.ObjectValidator;
+import solution.validators.generated.PrecompiledValidators;
+import solution.validators.warmup.ConstrainedIndex;
+import tests.validators.test_forms.MainForm;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static tests.validators.ErrorDescriptions.describeSorted;
+
+@DisplayName("Constrained processor test")
+public class ConstrainedProcessorTest {
+
+    private static final Path TEST_FORMS = Path.of("tests", "validators", "test_forms");
+
+    @TempDir
+    Path output;
+
+    private DiagnosticCollector<JavaFileObject> diagnostics;
+
+    private boolean compile(List<Path> sources) {
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        assumeTrue(compiler != null);
+
+        diagnostics = new DiagnosticCollector<>();
+        var fileManager = compiler.getStandardFileManager(diagnostics, null, null);
+        var options = List.of("-d", output.toString(), "-classpath", classPath());
+
+        var task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                fileManager.getJavaFileObjectsFromPaths(sources));
+        task.setProcessors(List.of(new ConstrainedProcessor()));
+        return task.call();
+    }
+
+    private static String classPath() {
+        var entries = new ArrayList<String>();
+        for (var type : List.of(ConstrainedProcessor.class, MainForm.class, Test.class)) {
+            try {
+                entries.add(Path.of(type.getProtectionDomain().getCodeSource()
+                        .getLocation().toURI()).toString());
+            } catch (URISyntaxException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }
+        entries.add(System.getProperty("java.class.path"));
+        return String.join(File.pathSeparator, entries);
+    }
+
+    private Path source(String name, String content) throws IOException {
+        var path = output.resolve("sample").resolve(name + ".java");
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, "package sample;\n\nimport solution.annotations.*;\n" +
+                "import java.util.*;\n\n" + content);
+        return path;
+    }
+
+    private String errors() {
+        return diagnostics.getDiagnostics().stream()
+                .map(d -> d.getMessage(null))
+                .collect(Collectors.joining("\n"));
+    }
+
+    @Test
+    @DisplayName("Generate validator, registry and index test")
+    void generateValidator() throws Exception {
+        var sample = source("Sample", "@Constrained\npublic class Sample {\n" +
+                "    @InRange(min = 1, max = 3) private int count = 5;\n" +
+                "    List<@NotBlank String> names = List.of(\"a\", \" \");\n" +
+                "    private Map<@NotNull String, @Positive Long> prices = Map.of(\"a\", -1L);\n" +
+                "    @AnyOf({\"A\", \"B\"}) protected String kind = \"C\";\n" +
+                "}\n");
+
+        assertTrue(compile(List.of(sample)), this::errors);
+        assertTrue(Files.exists(output.resolve("sample/Sample_Validator.class")));
+        assertEquals("sample.Sample=sample.Sample_Validator",
+                Files.readString(output.resolve(PrecompiledValidators.REGISTRY)).trim());
+        assertEquals("sample.Sample",
+                Files.readString(output.resolve(ConstrainedIndex.INDEX)).trim());
+
+        try (var loader = new URLClassLoader(new URL[]{output.toUri().toURL()},
+                getClass().getClassLoader())) {
+            var type = loader.loadClass("sample.Sample");
+            assertEquals("sample.Sample_Validator",
+                    PrecompiledValidators.get(type).getClass().getName());
+
+            var errors = describeSorted(new ObjectValidator().validate(
+                    type.getConstructor().newInstance()));
+            assertEquals(List.of(
+                    "count value must be in range between 1 and 3 5",
+                    "kind must be one of \"A\", \"B\" C",
+                    "names[1] must be not blank \" \"",
+                    "prices[some value index] must be positive -1"), errors);
+        }
+    }
+
+    @Test
+    @DisplayName("Repeated values of @AnyOf test")
+    void repeatedAnyOfValues() throws Exception {
+        var sample = source("Repeated", "@Constrained\npublic class Repeated {\n" +
+                "    @AnyOf({\"a\", \"a\"}) String code = \"b\";\n" +
+                "    List<@AnyOf({\"x\", \"y\", \"x\"}) String> codes = List.of(\"x\", \"z\");\n" +
+                "}\n");
+
+        assertTrue(compile(List.of(sample)), this::errors);
+
+        try (var loader = new URLClassLoader(new URL[]{output.toUri().toURL()},
+                getClass().getClassLoader())) {
+            var type = loader.loadClass("sample.Repeated");
+            assertEquals("sample.Repeated_Validator",
+                    PrecompiledValidators.get(type).getClass().getName());
+
+            var errors = describeSorted(new ObjectValidator().validate(
+                    type.getConstructor().newInstance()));
+            assertEquals(List.of(
+                    "code must be one of \"a\", \"a\" b",
+                    "codes[1] must be one of \"x\", \"y\", \"x\" z"), errors);
+        }
+    }
+
+    @Test
+    @DisplayName("Class with @AnyOf without values is left to interpreter test")
+    void emptyAnyOf() throws Exception {
+        var sample = source("EmptyAnyOf", "@Constrained\npublic class EmptyAnyOf {\n" +
+                "    @AnyOf({}) String code;\n" +
+                "    @Positive int count = -1;\n" +
+                "}\n");
+
+        assertTrue(compile(List.of(sample)), this::errors);
+        assertFalse(Files.exists(output.resolve("sample/EmptyAnyOf_Validator.class")));
+        assertTrue(errors().contains("Validator isn't generated"), this::errors);
+
+        try (var loader = new URLClassLoader(new URL[]{output.toUri().toURL()},
+                getClass().getClassLoader())) {
+            var type = loader.loadClass("sample.EmptyAnyOf");
+            assertNull(PrecompiledValidators.get(type));
+
+            var errors = describeSorted(new ObjectValidator().validate(
+                    type.getConstructor().newInstance()));
+            assertEquals(List.of("count must be positive -1"), errors);
+        }
+    }
+
+    @Test
+    @DisplayName("Precompiled validators give the same errors test")
+    void sameErrors() throws Exception {
+        assumeTrue(Files.isDirectory(TEST_FORMS));
+
+        var sources = new ArrayList<Path>();
+        try (var files = Files.list(TEST_FORMS)) {
+            files.forEach(sources::add);
+        }
+        assertTrue(compile(sources), this::errors);
+
+        var expected = describeSorted(new ObjectValidator().validate(new MainForm()));
+
+        try (var loader = new ChildFirstLoader(output.toUri().toURL(),
+                getClass().getClassLoader())) {
+            var type = loader.loadClass(MainForm.class.getName());
+            assertNotSame(MainForm.class, type);
+            assertNotNull(PrecompiledValidators.get(type));
+
+            var actual = describeSorted(new ObjectValidator().validate(
+                    type.getConstructor().newInstance()));
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    @DisplayName("Schema errors are compile errors test")
+    void schemaErrors() throws Exception {
+        var positiveString = source("PositiveString", "@Constrained\n" +
+                "public class PositiveString {\n" +
+                "    @Positive private String value;\n" +
+                "}\n");
+        assertFalse(compile(List.of(positiveString)));
+        assertTrue(errors().contains("Field \"value\" can't have \"@Positive\" annotation"),
+                this::errors);
+
+        var mapOfLists = source("MapOfLists", "@Constrained\n" +
+                "public class MapOfLists {\n" +
+                "    private Map<String, List<String>> value;\n" +
+                "}\n");
+        assertFalse(compile(List.of(mapOfLists)));
+        assertTrue(errors().contains("You can't create \"Map\" of collections"), this::errors);
+
+        var notNullPrimitive = source("NotNullPrimitive", "@Constrained\n" +
+                "public class NotNullPrimitive {\n" +
+                "    @NotNull private int value;\n" +
+                "}\n");
+        assertFalse(compile(List.of(notNullPrimitive)));
+        assertTrue(errors().contains("You can't apply \"@NotNull\" annotation"), this::errors);
+
+        var wrongBounds = source("WrongBounds", "@Constrained\n" +
+                "public class WrongBounds {\n" +
+                "    @Size(min = 3, max = 1) private String value;\n" +
+                "}\n");
+        assertFalse(compile(List.of(wrongBounds)));
+        assertTrue(errors().contains("has wrong bounds"), this::errors);
+    }
+
+    @Test
+    @DisplayName("Incremental compilation keeps registry of other classes test")
+    void incrementalCompilation() throws Exception {
+        var first = source("First", "@Constrained\npublic class First {\n" +
+                "    @Positive int count = -1;\n" +
+                "}\n");
+        var second = source("Second", "@Constrained\npublic class Second {\n" +
+                "    @NotBlank String name = \" \";\n" +
+                "}\n");
+        var registry = output.resolve(PrecompiledValidators.REGISTRY);
+        var index = output.resolve(ConstrainedIndex.INDEX);
+
+        assertTrue(compile(List.of(first)), this::errors);
+        assertTrue(compile(List.of(second)), this::errors);
+        assertEquals(List.of("sample.First=sample.First_Validator",
+                "sample.Second=sample.Second_Validator"), Files.readAllLines(registry));
+        assertEquals(List.of("sample.First", "sample.Second"), Files.readAllLines(index));
+
+        // Class compiled again without generated validator loses its entry
+        source("First", "@Constrained\npublic class First {\n" +
+                "    @AnyOf({}) String code;\n" +
+                "    @Positive int count = -1;\n" +
+                "}\n");
+        Files.delete(output.resolve("sample/First_Validator.class"));
+        assertTrue(compile(List.of(first)), this::errors);
+        assertEquals(List.of("sample.Second=sample.Second_Validator"),
+                Files.readAllLines(registry));
+        assertEquals(List.of("sample.First", "sample.Second"), Files.readAllLines(index));
+
+        // Stale entry of registry leaves class to interpreter
+        Files.writeString(registry, "sample.First=sample.First_Validator\n",
+                StandardOpenOption.APPEND);
+        try (var loader = new URLClassLoader(new URL[]{output.toUri().toURL()},
+                getClass().getClassLoader())) {
+            var type = loader.loadClass("sample.First");
+            assertNull(PrecompiledValidators.get(type));
+            assertEquals(List.of("count must be positive -1"), describeSorted(
+                    new ObjectValidator().validate(type.getConstructor().newInstance())));
+            assertNotNull(PrecompiledValidators.get(loader.loadClass("sample.Second")));
+        }
+    }
+
+    /**
+     * Loader which loads test forms from given directory before parent.
+     */
+    private static class ChildFirstLoader extends URLClassLoader {
+
+        ChildFirstLoader(URL url, ClassLoader parent) {
+            super(new URL[]{url}, parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            synchronized (getClassLoadingLock(name)) {
+                if (name.startsWith(MainForm.class.getPackageName() + ".")) {
+                    var loaded = findLoadedClass(name);
+                    return loaded != null ? loaded : findClass(name);
+                }
+                return super.loadClass(name, resolve);
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package tests.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import solution.annotations.AnyOfDictionary;
+import solution.annotations.Constrained;
+import solution.utils.MappedDictionary;
+import solution.validators.ObjectValidator;
+import solution.validators.generated.GeneratedObjectValidator;
+import solution.validators.generated.ValidatorSourceWriter;
+import solution.validators.plan.TypePlan;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static tests.validators.ErrorDescriptions.describe;
+
+@DisplayName("Mapped dictionary test")
+public class MappedDictionaryTest {
+
+    private static final List<String> VALUES = List.of("TV", "Kitchen", "Toilet", "K\u00FCche",
+            "\u043A\u0443\u0445\u043D\u044F", "\u53A8\u623F", "\uD83D\uDECF bed", "a", "ab",
+            "abc", "b", "\u007F", "\u0080", "\u07FF", "\u0800", "\uFFFF");
+
+    @TempDir
+    static Path directory;
+
+    @Constrained
+    static class RoomForm {
+        private final List<@AnyOfDictionary("tests/utils/rooms.txt") String> rooms;
+
+        RoomForm(List<String> rooms) {
+            this.rooms = rooms;
+        }
+    }
+
+    @Constrained
+    static class StayForm {
+        private final @AnyOfDictionary("tests/utils/rooms.txt") String room;
+        private final List<@AnyOfDictionary("tests/utils/rooms.txt") String> extras;
+
+        StayForm(String room, List<String> extras) {
+            this.room = room;
+            this.extras = extras;
+        }
+    }
+
+    private static Path write(String name, List<String> lines) throws IOException {
+        return Files.write(directory.resolve(name), lines, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Values are found without decoding")
+    void contains() throws IOException {
+        var lines = new ArrayList<>(VALUES);
+        lines.add("");
+        lines.add("TV");
+        var dictionary = MappedDictionary.open(write("values.txt", lines).toString());
+
+        assertEquals(VALUES.size(), dictionary.size());
+        for (var value : VALUES) {
+            assertTrue(dictionary.contains(value), value);
+            assertTrue(dictionary.mightContain(value), value);
+        }
+
+        for (var value : List.of("", "tv", "T", "TV ", "Kitche", "Kitchens", "Kuche",
+                "\u043A\u0443\u0445\u043D\u0438", "\uD83D\uDECF", "\uD83D\uDECF bee", "abcd",
+                "\u0081", "\uD83D")) {
+            assertFalse(dictionary.contains(value), value);
+        }
+    }
+
+    @Test
+    @DisplayName("Values with unpaired surrogates are never found")
+    void unpairedSurrogates() throws IOException {
+        var dictionary = MappedDictionary.open(write("surrogates.txt",
+                List.of("x?y", "x\uD83D\uDECFy")).toString());
+
+        assertTrue(dictionary.contains("x\uD83D\uDECFy"));
+        assertTrue(dictionary.contains("x?y"));
+        assertFalse(dictionary.contains("x\uD83Dy"));
+        assertFalse(dictionary.contains("x\uDECFy"));
+    }
+
+    @Test
+    @DisplayName("Large dictionary and Bloom filter")
+    void largeDictionary() throws IOException {
+        var values = IntStream.range(0, 20_000).mapToObj(i -> "CODE-" + i)
+                .collect(Collectors.toList());
+        var dictionary = MappedDictionary.open(write("codes.txt", values).toString());
+
+        assertEquals(values.size(), dictionary.size());
+        for (var value : values) {
+            assertTrue(dictionary.contains(value), value);
+        }
+
+        var falsePositives = 0;
+        for (var i = 20_000; i < 40_000; i++) {
+            var value = "CODE-" + i;
+            assertFalse(dictionary.contains(value), value);
+            if (dictionary.mightContain(value)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 400, "False positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("Dictionaries are shared and can be compiled in advance")
+    void shared() throws IOException {
+        var source = write("shared.txt", List.of("one", "two"));
+        var dictionary = MappedDictionary.open(source.toString());
+
+        assertSame(dictionary, MappedDictionary.open(source.toString()));
+        assertSame(dictionary, MappedDictionary.open(
+                directory.resolve(".").resolve("shared.txt").toString()));
+
+        var compiled = directory.resolve("shared.sdic");
+        MappedDictionary.compile(source, compiled);
+        var precompiled = MappedDictionary.open(compiled.toString());
+        assertNotSame(dictionary, precompiled);
+        assertTrue(precompiled.contains("two"));
+        assertFalse(precompiled.contains("three"));
+    }
+
+    @Test
+    @DisplayName("Missing dictionary")
+    void missing() {
+        assertThrows(InvalidParameterException.class, () ->
+                MappedDictionary.open(directory.resolve("missing.txt").toString()));
+    }
+
+    @Test
+    @DisplayName("Validation with dictionary")
+    void validation() {
+        var form = new RoomForm(List.of("TV", "Kitchen", "Garage",
+                "\u043A\u0443\u0445\u043D\u044F", "tv"));
+        var errors = new ObjectValidator().validate(form);
+
+        var message = "must be one of values from dictionary \"tests/utils/rooms.txt\"";
+        assertEquals(Set.of("rooms[2] " + message + " Garage", "rooms[4] " + message + " tv"),
+                describe(errors));
+        assertEquals(describe(errors), describe(new GeneratedObjectValidator().validate(form)));
+    }
+
+    @Test
+    @DisplayName("Generated validator opens dictionary once")
+    void generatedSource() {
+        var writer = new ValidatorSourceWriter("sample", "StayForm_Validator",
+                (index, name, integralPrimitive) -> "null");
+        for (var field : StayForm.class.getDeclaredFields()) {
+            writer.writeField(field.getName(), false, false, TypePlan.of(field.getAnnotatedType()));
+        }
+
+        var source = writer.toSource();
+        var check = source.substring(source.indexOf("validateFields(Object"));
+        assertEquals(1, source.split("MappedDictionary.open\\(", -1).length - 1, source);
+        assertFalse(check.contains("MappedDictionary.open("), source);
+        assertTrue(check.contains("DICTIONARY_0.contains("), source);
+
+        var form = new StayForm("Garage", List.of("TV", "tv"));
+        assertEquals(describe(new ObjectValidator().validate(form)),
+                describe(new GeneratedObjectValidator().validate(form)));
+        assertEquals(2, new GeneratedObjectValidator().validate(form).size());
+    }
+}
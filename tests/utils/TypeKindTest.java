@@ -0,0 +1,68 @@
+package tests.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solution.utils.TypeKind;
+import solution.utils.ValueType;
+import tests.form_examples.GuestForm;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Type kind test")
+public class TypeKindTest {
+
+    static class GuestList extends ArrayList<GuestForm> {
+    }
+
+    private List<Map<String, Integer>> genericField;
+
+    @Test
+    @DisplayName("Classify classes")
+    void ofClass() {
+        assertEquals(TypeKind.INTEGER, TypeKind.of(int.class));
+        assertEquals(TypeKind.INTEGER, TypeKind.of(Integer.class));
+        assertEquals(TypeKind.LONG, TypeKind.of(Long.class));
+        assertEquals(TypeKind.OTHER_PRIMITIVE, TypeKind.of(double.class));
+        assertEquals(TypeKind.STRING, TypeKind.of(String.class));
+        assertEquals(TypeKind.LIST, TypeKind.of(List.of(1).getClass()));
+        assertEquals(TypeKind.LIST, TypeKind.of(GuestList.class));
+        assertEquals(TypeKind.SET, TypeKind.of(ConcurrentHashMap.newKeySet().getClass()));
+        assertEquals(TypeKind.SET, TypeKind.of(new HashMap<>().keySet().getClass()));
+        assertEquals(TypeKind.MAP, TypeKind.of(TreeMap.class));
+        assertEquals(TypeKind.COLLECTION, TypeKind.of(ArrayDeque.class));
+        assertEquals(TypeKind.COLLECTION, TypeKind.of(new HashMap<>().values().getClass()));
+        assertEquals(TypeKind.PLATFORM, TypeKind.of(LocalDate.class));
+        assertEquals(TypeKind.PLATFORM, TypeKind.of(GuestForm[].class));
+        assertEquals(TypeKind.CUSTOM, TypeKind.of(GuestForm.class));
+    }
+
+    @Test
+    @DisplayName("Classify types and names")
+    void ofType() throws NoSuchFieldException {
+        var type = TypeKindTest.class.getDeclaredField("genericField").getGenericType();
+        assertEquals(TypeKind.LIST, TypeKind.of(type));
+
+        assertEquals(TypeKind.LIST, TypeKind.ofName("java.util.List<java.lang.String>"));
+        assertEquals(TypeKind.SHORT, TypeKind.ofName("short"));
+        assertEquals(TypeKind.SHORT, TypeKind.ofName("java.lang.Short"));
+        assertEquals(TypeKind.COLLECTION, TypeKind.ofName("java.util.Queue"));
+        assertEquals(TypeKind.CUSTOM, TypeKind.ofName("com.example.MyList"));
+        assertEquals(TypeKind.CUSTOM, TypeKind.ofName("T"));
+    }
+
+    @Test
+    @DisplayName("Properties of kinds")
+    void properties() {
+        assertTrue(TypeKind.BYTE.isIntegral());
+        assertFalse(TypeKind.OTHER_PRIMITIVE.isIntegral());
+        assertTrue(TypeKind.COLLECTION.isCollection());
+        assertFalse(TypeKind.MAP.isCollection());
+        assertTrue(TypeKind.MAP.isContainer());
+        assertEquals(ValueType.SET, TypeKind.SET.toValueType());
+        assertNull(TypeKind.COLLECTION.toValueType());
+    }
+}
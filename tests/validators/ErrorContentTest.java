@@ -3,6 +3,9 @@ package tests.validators;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import solution.validators.ErrorContent;
+import solution.validators.PathSegment;
+
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -43,4 +46,32 @@ public class ErrorContentTest {
         var error3 = new ErrorContent("message", "/name/[0]/age/", "");
         assertEquals("name[0].age", error3.getPath());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Get path segments test")
+    void getPathSegments() {
+        var error = new ErrorContent("message", List.of(PathSegment.field("prices"),
+                PathSegment.MAP_VALUE), 0);
+        assertEquals("prices[some value index]", error.getPath());
+        assertSame(error.getPath(), error.getPath());
+
+        var parsed = new ErrorContent("message", "/guests/[1]/name/", "").getPathSegments();
+        assertEquals(3, parsed.size());
+        assertEquals(PathSegment.Kind.FIELD, parsed.get(0).getKind());
+        assertEquals("guests", parsed.get(0).getName());
+        assertEquals(PathSegment.Kind.INDEX, parsed.get(1).getKind());
+        assertEquals(1, parsed.get(1).getIndex());
+    }
+
+    @Test
+    @DisplayName("Get JSON Pointer test")
+    void getJsonPointer() {
+        var error1 = new ErrorContent("message", "/name/[0]/[1]/", "");
+        assertEquals("/name/0/1", error1.getJsonPointer());
+        var error2 = new ErrorContent("message", "/map/[some key index]/", "");
+        assertEquals("/map/*key", error2.getJsonPointer());
+        var error3 = new ErrorContent("message", List.of(PathSegment.field("a/b~c")), "");
+        assertEquals("/a~1b~0c", error3.getJsonPointer());
+        assertSame(error3.getJsonPointer(), error3.getJsonPointer());
+    }
+}
@@ -0,0 +1,46 @@
+package tests.validators;
+
+import solution.validators.ValidationError;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Descriptions of errors ("path message failedValue") for comparison in tests.
+ */
+public final class ErrorDescriptions {
+
+    private ErrorDescriptions() {
+    }
+
+    public static String describe(ValidationError error) {
+        return error.getPath() + " " + error.getMessage() + " " + error.getFailedValue();
+    }
+
+    public static Set<String> describe(Set<? extends ValidationError> errors) {
+        return errors.stream()
+                .map(ErrorDescriptions::describe)
+                .collect(Collectors.toSet());
+    }
+
+    public static List<String> describeSorted(Collection<? extends ValidationError> errors) {
+        return errors.stream()
+                .map(ErrorDescriptions::describe)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    public static List<String> describeInOrder(List<? extends ValidationError> errors) {
+        return errors.stream()
+                .map(ErrorDescriptions::describe)
+                .collect(Collectors.toList());
+    }
+
+    public static Set<String> describeWithoutValues(Set<? extends ValidationError> errors) {
+        return errors.stream()
+                .map(error -> error.getPath() + " " + error.getMessage())
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,110 @@
+package tests.validators;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solution.annotations.Constrained;
+import solution.annotations.Positive;
+import solution.validators.ErrorContent;
+import solution.validators.ErrorSink;
+import solution.validators.ObjectValidator;
+import solution.validators.PathSegment;
+import solution.validators.ValidationError;
+import solution.validators.ValidationOptions;
+import solution.validators.Validator;
+import tests.validators.test_forms.MainForm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static tests.validators.ErrorDescriptions.describe;
+
+@DisplayName("Error sink test")
+public class ErrorSinkTest {
+
+    @Constrained
+    static class NumbersForm {
+        private final List<@Positive Integer> numbers;
+
+        NumbersForm(List<Integer> numbers) {
+            this.numbers = numbers;
+        }
+    }
+
+    private static List<Integer> numbers(int size) {
+        return IntStream.range(0, size).map(i -> -i).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Sink gets the same errors as set")
+    void sameErrors() {
+        var validator = Validator.create();
+        var streamed = new ArrayList<ValidationError>();
+
+        var count = validator.validate(new MainForm(), (path, message, failedValue) ->
+                streamed.add(new ErrorContent(message, path, failedValue)));
+
+        var expected = validator.validate(new MainForm());
+        assertEquals(57, count);
+        assertEquals(expected.size(), streamed.size());
+        assertEquals(describe(expected), describe(Set.copyOf(streamed)));
+    }
+
+    @Test
+    @DisplayName("Sink gets errors in order of validation")
+    void order() {
+        var paths = new ArrayList<String>();
+        ErrorSink sink = (path, message, failedValue) -> {
+            assertEquals("must be positive", message);
+            paths.add(PathSegment.toDottedPath(path));
+        };
+
+        var count = new ObjectValidator().validate(new NumbersForm(numbers(5)), sink);
+
+        assertEquals(5, count);
+        assertEquals(List.of("numbers[0]", "numbers[1]", "numbers[2]", "numbers[3]",
+                "numbers[4]"), paths);
+    }
+
+    @Test
+    @DisplayName("Sink with options")
+    void options() {
+        var validator = new ObjectValidator();
+        var form = new NumbersForm(numbers(100_000));
+        var pool = new ForkJoinPool(4);
+
+        try {
+            var values = new ArrayList<Object>();
+            var count = validator.validate(form, ValidationOptions.ALL_ERRORS.parallel(pool, 1000),
+                    (path, message, failedValue) -> values.add(failedValue));
+
+            assertEquals(100_000, count);
+            assertEquals(List.of(0L, -1L, -2L), values.subList(0, 3));
+            assertEquals(-99_999L, values.get(99_999));
+        } finally {
+            pool.shutdown();
+        }
+
+        var calls = new int[1];
+        assertEquals(10, validator.validate(form, ValidationOptions.maxErrors(10),
+                (path, message, failedValue) -> ++calls[0]));
+        assertEquals(10, calls[0]);
+        assertEquals(1, validator.validate(form, ValidationOptions.VALIDITY_CHECK,
+                (path, message, failedValue) -> fail("Errors aren't collected")));
+    }
+
+    @Test
+    @DisplayName("Errors aren't kept by validator")
+    void streaming() {
+        var counter = new long[1];
+        var count = new ObjectValidator().validate(new NumbersForm(numbers(1_000_000)),
+                (path, message, failedValue) -> ++counter[0]);
+
+        assertEquals(1_000_000, count);
+        assertEquals(1_000_000, counter[0]);
+    }
+}
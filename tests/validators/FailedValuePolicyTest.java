@@ -0,0 +1,146 @@
+package tests.validators;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solution.annotations.AnyOf;
+import solution.annotations.Constrained;
+import solution.annotations.NotEmpty;
+import solution.annotations.Size;
+import solution.validators.FailedValuePolicy;
+import solution.validators.FailedValueSummary;
+import solution.validators.ObjectValidator;
+import solution.validators.ValidationError;
+import solution.validators.ValidationOptions;
+
+import java.lang.ref.WeakReference;
+import java.security.InvalidParameterException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Failed value policy test")
+public class FailedValuePolicyTest {
+
+    @Constrained
+    static class LargeForm {
+        @Size(min = 0, max = 5)
+        private final List<Integer> numbers;
+
+        @NotEmpty
+        private final Map<String, String> names;
+
+        @AnyOf({"a", "b"})
+        private final String text;
+
+        LargeForm(List<Integer> numbers, Map<String, String> names, String text) {
+            this.numbers = numbers;
+            this.names = names;
+            this.text = text;
+        }
+    }
+
+    private static LargeForm form() {
+        var names = new LinkedHashMap<String, String>();
+        return new LargeForm(IntStream.range(0, 1000).boxed().collect(Collectors.toList()),
+                names, "x".repeat(100));
+    }
+
+    private static Map<String, Object> failedValues(Set<ValidationError> errors) {
+        return errors.stream().collect(Collectors.toMap(ValidationError::getPath,
+                error -> String.valueOf(error.getFailedValue())));
+    }
+
+    @Test
+    @DisplayName("Full values are kept by default")
+    void full() {
+        var form = form();
+        var errors = new ObjectValidator().validate(form);
+
+        var numbers = errors.stream().filter(error -> error.getPath().equals("numbers"))
+                .findFirst().orElseThrow();
+        assertSame(form.numbers, numbers.getFailedValue());
+        assertEquals("x".repeat(100), failedValues(errors).get("text"));
+    }
+
+    @Test
+    @DisplayName("Collections are replaced with summary")
+    void summary() {
+        var options = ValidationOptions.ALL_ERRORS
+                .withFailedValuePolicy(FailedValuePolicy.summary(3).withMaxStringLength(10));
+        var errors = new ObjectValidator().validate(form(), options);
+
+        var values = failedValues(errors);
+        assertEquals("java.util.ArrayList(size=1000)[0, 1, 2, ...]", values.get("numbers"));
+        assertEquals("java.util.LinkedHashMap(size=0)[]", values.get("names"));
+        assertEquals("x".repeat(10), values.get("text"));
+
+        var numbers = (FailedValueSummary) errors.stream()
+                .filter(error -> error.getPath().equals("numbers"))
+                .findFirst().orElseThrow().getFailedValue();
+        assertEquals(1000, numbers.getSize());
+        assertEquals(List.of(0, 1, 2), numbers.getFirstElements());
+    }
+
+    @Test
+    @DisplayName("Summary of Map keeps the first entries")
+    void mapSummary() {
+        var map = new LinkedHashMap<String, String>();
+        map.put("first", "long value");
+        map.put("second", "b");
+
+        var summary = (FailedValueSummary) FailedValuePolicy.summary(1).withMaxStringLength(4)
+                .apply(map);
+        assertEquals(2, summary.getSize());
+        assertEquals(List.of(new AbstractMap.SimpleImmutableEntry<>("firs", "long")),
+                summary.getFirstElements());
+        assertEquals("java.util.LinkedHashMap(size=2)[firs=long, ...]", summary.toString());
+    }
+
+    @Test
+    @DisplayName("Failed values are dropped")
+    void drop() {
+        var options = ValidationOptions.ALL_ERRORS.withFailedValuePolicy(FailedValuePolicy.DROP);
+        var errors = new ObjectValidator().validate(form(), options);
+
+        assertEquals(3, errors.size());
+        for (var error : errors) {
+            assertNull(error.getFailedValue());
+        }
+    }
+
+    @Test
+    @DisplayName("Errors don't reference validated collection")
+    void noReference() {
+        var form = form();
+        var reference = new WeakReference<>(form.numbers);
+        var errors = new ObjectValidator().validate(form,
+                ValidationOptions.ALL_ERRORS.withFailedValuePolicy(FailedValuePolicy.summary(2)));
+
+        form = null;
+        var garbage = new ArrayList<byte[]>();
+        for (var i = 0; i < 100 && reference.get() != null; i++) {
+            System.gc();
+            garbage.add(new byte[1024]);
+        }
+
+        assertNull(reference.get());
+        assertEquals(3, errors.size());
+    }
+
+    @Test
+    @DisplayName("Invalid parameters of policy")
+    void invalidParameters() {
+        assertThrows(InvalidParameterException.class, () -> FailedValuePolicy.summary(-1));
+        assertThrows(InvalidParameterException.class,
+                () -> FailedValuePolicy.FULL.withMaxStringLength(0));
+        assertThrows(InvalidParameterException.class,
+                () -> ValidationOptions.ALL_ERRORS.withFailedValuePolicy(null));
+    }
+}
@@ -0,0 +1,185 @@
+package tests.validators;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solution.annotations.Constrained;
+import solution.annotations.NotBlank;
+import solution.annotations.NotNull;
+import solution.annotations.Positive;
+import solution.validators.CyclePolicy;
+import solution.validators.ErrorContent;
+import solution.validators.ObjectValidator;
+import solution.validators.ValidationContext;
+import solution.validators.ValidationOptions;
+import solution.validators.Validator;
+import solution.validators.metrics.ValidationMetrics;
+import solution.validators.plan.ConstraintKind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static tests.validators.ErrorDescriptions.describe;
+
+@DisplayName("Object graph test")
+public class ObjectGraphTest {
+
+    @Constrained
+    static class Guest {
+        private final @NotBlank String name;
+        private final @Positive int age;
+        private Booking booking;
+
+        Guest(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+
+    @Constrained
+    static class Booking {
+        private final @NotNull List<Guest> guests;
+        private final Map<String, Guest> byRoom;
+        private Booking self;
+
+        Booking(List<Guest> guests, Map<String, Guest> byRoom) {
+            this.guests = guests;
+            this.byRoom = byRoom;
+        }
+    }
+
+    private static List<String> streamed(Validator validator, Object object,
+                                         ValidationOptions options) {
+        var errors = new ArrayList<String>();
+        validator.validate(object, options, (path, message, failedValue) ->
+                errors.add(new ErrorContent(message, path, failedValue).getPath() + " " +
+                        message));
+        return errors;
+    }
+
+    private static Booking sharedBooking(int size, boolean shared) {
+        var guest = new Guest("", -1);
+        var guests = IntStream.range(0, size)
+                .mapToObj(i -> shared ? guest : new Guest("", -1))
+                .collect(Collectors.toList());
+        return new Booking(guests, Map.of("A", shared ? guest : new Guest("", -1)));
+    }
+
+    @Test
+    @DisplayName("Cyclic references are stopped")
+    void cycleStopped() {
+        var guest = new Guest("", 30);
+        var booking = new Booking(List.of(guest), Map.of());
+        guest.booking = booking;
+        booking.self = booking;
+
+        var errors = Validator.create().validate(booking);
+        assertEquals(1, errors.size());
+        assertEquals("guests[0].name", errors.iterator().next().getPath());
+        assertFalse(Validator.create().isValid(guest));
+    }
+
+    @Test
+    @DisplayName("Cyclic references are reported")
+    void cycleReported() {
+        var guest = new Guest("Anna", 30);
+        var booking = new Booking(List.of(guest), Map.of("A", guest));
+        guest.booking = booking;
+        booking.self = booking;
+
+        var options = ValidationOptions.ALL_ERRORS.withCyclePolicy(CyclePolicy.REPORT);
+        var errors = Validator.create().validate(booking, options).stream()
+                .map(error -> error.getPath() + " " + error.getMessage())
+                .collect(Collectors.toSet());
+
+        assertEquals(Set.of(
+                "guests[0].booking must not refer to object which contains it",
+                "byRoom[some value index].booking must not refer to object which contains it",
+                "self must not refer to object which contains it"), errors);
+        assertEquals(CyclePolicy.STOP, ValidationOptions.ALL_ERRORS.getCyclePolicy());
+    }
+
+    @Test
+    @DisplayName("Errors of shared objects are reused with their paths")
+    void sharedObjects() {
+        var validator = Validator.create();
+        var shared = sharedBooking(50, true);
+        var copies = sharedBooking(50, false);
+
+        assertEquals(102, validator.validate(shared).size());
+        assertEquals(describe(validator.validate(copies)), describe(validator.validate(shared)));
+        assertEquals(streamed(validator, copies, ValidationOptions.ALL_ERRORS),
+                streamed(validator, shared, ValidationOptions.ALL_ERRORS));
+        assertEquals(streamed(validator, copies, ValidationOptions.maxErrors(7)),
+                streamed(validator, shared, ValidationOptions.maxErrors(7)));
+        assertFalse(validator.isValid(shared));
+    }
+
+    @Test
+    @DisplayName("Shared objects are validated once")
+    void validatedOnce() {
+        var metrics = new ValidationMetrics();
+        var validator = new ObjectValidator(metrics);
+        validator.validate(sharedBooking(1000, true));
+
+        assertEquals(1, metrics.snapshot().getConstraint(ConstraintKind.NOT_BLANK)
+                .getEvaluations());
+    }
+
+    @Test
+    @DisplayName("Shared objects in parallel run")
+    void parallel() {
+        var pool = new ForkJoinPool(4);
+        try {
+            var options = ValidationOptions.ALL_ERRORS.parallel(pool, 16);
+            var validator = Validator.create();
+            var shared = sharedBooking(1000, true);
+
+            assertEquals(streamed(validator, sharedBooking(1000, false),
+                    ValidationOptions.ALL_ERRORS), streamed(validator, shared, options));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Log of errors of nested objects is bounded")
+    void boundedLog() {
+        var validator = new ObjectValidator();
+        var booking = sharedBooking(5000, false);
+        var count = new int[1];
+        var context = new ValidationContext(validator, ValidationOptions.ALL_ERRORS,
+                (path, message, failedValue) -> ++count[0]);
+
+        context.validateRoot(booking, validator);
+
+        assertEquals(10002, count[0]);
+        assertTrue(context.getLoggedErrorCount() <= 1024);
+    }
+
+    @Test
+    @DisplayName("Shared objects are reported after log is full")
+    void sharedAfterFullLog() {
+        var validator = Validator.create();
+        var guest = new Guest("", -1);
+        var guests = IntStream.range(0, 2000)
+                .mapToObj(i -> new Guest("", -1))
+                .collect(Collectors.toCollection(ArrayList::new));
+        guests.add(guest);
+        guests.add(guest);
+        var shared = new Booking(guests, Map.of("A", guest));
+
+        var copies = new ArrayList<>(guests.subList(0, 2000));
+        copies.add(new Guest("", -1));
+        copies.add(new Guest("", -1));
+
+        assertEquals(streamed(validator, new Booking(copies, Map.of("A", new Guest("", -1))),
+                ValidationOptions.ALL_ERRORS), streamed(validator, shared,
+                ValidationOptions.ALL_ERRORS));
+    }
+}
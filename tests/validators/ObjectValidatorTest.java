@@ -2,26 +2,47 @@ package tests.validators;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import solution.annotations.Constrained;
+import solution.annotations.Negative;
+import solution.annotations.NotBlank;
+import solution.annotations.NotNull;
+import solution.annotations.Positive;
 import solution.utils.MessageBuilder;
 import solution.validators.ErrorContent;
 import solution.validators.ObjectValidator;
 import solution.validators.ValidationError;
-import solution.validators.supporting_validators.*;
+import solution.validators.ValidationOptions;
+import tests.form_examples.BookingForm;
+import tests.form_examples.GuestForm;
 import tests.form_examples.Main;
 import tests.validators.test_forms.MainForm;
 
+import java.security.InvalidParameterException;
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static tests.validators.ErrorDescriptions.describeSorted;
 
 @DisplayName("Object validator test")
 public class ObjectValidatorTest {
 
+    private Set<ValidationError> errorSet;
+
     private boolean setContainsError(ValidationError expectedError) {
-        for (var value : AnnotationValidator.getErrorSet()) {
+        for (var value : errorSet) {
             if (value.getPath().equals(expectedError.getPath()) &&
                     value.getFailedValue().toString().equals((
                             expectedError.getFailedValue()).toString()) &&
@@ -37,7 +58,7 @@ public class ObjectValidatorTest {
     @DisplayName("Validate form test")
     void validateMainForm() {
         ObjectValidator validator = new ObjectValidator();
-        var errorSet = validator.validate(new MainForm());
+        errorSet = validator.validate(new MainForm());
         checkAnyOf();
         checkInRange();
         checkNegative();
@@ -53,7 +74,7 @@ public class ObjectValidatorTest {
     @DisplayName("Validate example form")
     void validateExample() {
         ObjectValidator validator = new ObjectValidator();
-        var errorSet = Main.getErrors(validator);
+        errorSet = Main.getErrors(validator);
         var messages = List.of(
                 "must be one of \"TV\", \"Kitchen\", \"Toilet\", \"room\"",
                 "size must be in range between 1 and 100",
@@ -83,6 +104,162 @@ public class ObjectValidatorTest {
         assertEquals(9, errorSet.size());
     }
 
+    @Test
+    @DisplayName("Validate example form from many threads")
+    void validateConcurrently() throws Exception {
+        ObjectValidator validator = new ObjectValidator();
+        var expected = describeSorted(Main.getErrors(validator));
+
+        var executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Callable<List<String>>> tasks = new ArrayList<>();
+            for (var i = 0; i < 2000; ++i) {
+                tasks.add(() -> describeSorted(Main.getErrors(validator)));
+            }
+
+            for (Future<List<String>> result : executor.invokeAll(tasks)) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(9, expected.size());
+    }
+
+    @Constrained
+    static class LongListForm {
+        private List<@Positive Integer> values;
+
+        LongListForm(List<Integer> values) {
+            this.values = values;
+        }
+    }
+
+    @Test
+    @DisplayName("Fail-fast and max-errors options test")
+    void validateWithOptions() {
+        ObjectValidator validator = new ObjectValidator();
+        var all = describeSorted(validator.validate(new MainForm()));
+
+        var first = describeSorted(validator.validate(new MainForm(), ValidationOptions.FAIL_FAST));
+        assertEquals(1, first.size());
+        assertTrue(all.containsAll(first));
+
+        var five = describeSorted(validator.validate(new MainForm(),
+                ValidationOptions.maxErrors(5)));
+        assertEquals(5, five.size());
+        assertTrue(all.containsAll(five));
+
+        assertEquals(all, describeSorted(validator.validate(new MainForm(),
+                ValidationOptions.maxErrors(1000))));
+        assertThrows(InvalidParameterException.class, () -> ValidationOptions.maxErrors(0));
+    }
+
+    @Test
+    @DisplayName("Validity check test")
+    void isValid() {
+        ObjectValidator validator = new ObjectValidator();
+        assertFalse(validator.isValid(new MainForm()));
+        assertTrue(validator.isValid(null));
+        assertTrue(validator.isValid(new BookingForm(
+                List.of(new GuestForm("Anna", "Renova", 30, "anna@edu.hse.ru")),
+                List.of("TV"), "House", 3, Map.of(1, 2))));
+    }
+
+    @Test
+    @DisplayName("Fail-fast stops on the first element test")
+    void failFastStopsOnFirstElement() {
+        var reads = new AtomicInteger();
+        var values = new AbstractList<Integer>() {
+            @Override
+            public Integer get(int index) {
+                reads.incrementAndGet();
+                return index == 0 ? -1 : 1;
+            }
+
+            @Override
+            public int size() {
+                return 1_000_000;
+            }
+        };
+
+        ObjectValidator validator = new ObjectValidator();
+        assertFalse(validator.isValid(new LongListForm(values)));
+        assertEquals(1, reads.get());
+
+        reads.set(0);
+        var errors = validator.validate(new LongListForm(values), ValidationOptions.FAIL_FAST);
+        assertEquals(List.of("values[0] must be positive -1"), describeSorted(errors));
+        assertEquals(1, reads.get());
+    }
+
+    @Constrained
+    static class LargeForm {
+        private List<GuestForm> guests;
+
+        private List<@NotNull @Positive Integer> numbers;
+
+        private List<List<@Negative Integer>> matrix;
+
+        private Set<@NotBlank String> names;
+
+        private Map<@Positive Integer, GuestForm> guestsByRoom;
+
+        LargeForm(int size, boolean withNulls) {
+            var guests = new ArrayList<GuestForm>();
+            var numbers = new ArrayList<Integer>();
+            var matrix = new ArrayList<List<Integer>>();
+            var names = new HashSet<String>();
+            var guestsByRoom = new HashMap<Integer, GuestForm>();
+
+            for (var i = 0; i < size; ++i) {
+                guests.add(withNulls && i % 97 == 0 ? null :
+                        new GuestForm(i % 13 == 0 ? "" : "Anna", "Renova", i % 90, "a@b.c"));
+                numbers.add(i % 11 == 0 ? null : i % 7 - 3);
+                matrix.add(List.of(-1, i % 5 == 0 ? 1 : -2));
+                names.add(i % 17 == 0 ? " ".repeat(i % 3) : "name" + i);
+                guestsByRoom.put(i % 19 == 0 ? -i : i,
+                        new GuestForm("Dima", i % 23 == 0 ? " " : "Kalmykov", 20, "d@e.f"));
+            }
+
+            this.guests = guests;
+            this.numbers = numbers;
+            this.matrix = matrix;
+            this.names = names;
+            this.guestsByRoom = guestsByRoom;
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel validation gives the same errors test")
+    void validateInParallel() {
+        ObjectValidator validator = new ObjectValidator();
+        var pool = new ForkJoinPool(4);
+        try {
+            for (var withNulls : List.of(false, true)) {
+                var form = new LargeForm(5000, withNulls);
+                var expected = describeSorted(validator.validate(form));
+                assertFalse(expected.isEmpty());
+
+                for (var threshold : List.of(1, 64, 1000, 10000)) {
+                    var parallel = ValidationOptions.ALL_ERRORS.parallel(pool, threshold);
+                    assertEquals(expected, describeSorted(validator.validate(form, parallel)));
+                }
+
+                for (var options : List.of(ValidationOptions.FAIL_FAST,
+                        ValidationOptions.maxErrors(100))) {
+                    assertEquals(describeSorted(validator.validate(form, options)),
+                            describeSorted(validator.validate(form, options.parallel(pool, 64))));
+                }
+
+                assertFalse(validator.isValid(form));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
     private void checkAnyOf() {
         var messages =
                 List.of(getMessage("2", "4"), getMessage("2", "3"),
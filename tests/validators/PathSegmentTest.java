@@ -0,0 +1,51 @@
+package tests.validators;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solution.validators.ObjectValidator;
+import solution.validators.PathSegment;
+import tests.validators.test_forms.MainForm;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Path segment test")
+public class PathSegmentTest {
+
+    @Test
+    @DisplayName("Parse path tracker")
+    void parse() {
+        var segments = PathSegment.parse("/[some index]/[some key index]/[some value index]/" +
+                "[12]/name/");
+        assertSame(PathSegment.ELEMENT, segments.get(0));
+        assertSame(PathSegment.MAP_KEY, segments.get(1));
+        assertSame(PathSegment.MAP_VALUE, segments.get(2));
+        assertEquals(PathSegment.Kind.INDEX, segments.get(3).getKind());
+        assertEquals(12, segments.get(3).getIndex());
+        assertEquals(PathSegment.Kind.FIELD, segments.get(4).getKind());
+        assertNull(PathSegment.ELEMENT.getName());
+    }
+
+    @Test
+    @DisplayName("Render dotted path")
+    void toDottedPath() {
+        assertEquals("a[1][2].b[some index]", PathSegment.toDottedPath(List.of(
+                PathSegment.field("a"), PathSegment.index(1), PathSegment.index(2),
+                PathSegment.field("b"), PathSegment.ELEMENT)));
+    }
+
+    @Test
+    @DisplayName("Dotted path of reported errors is the same as rendered from tracker format")
+    void renderedPathOfErrors() {
+        for (var error : new ObjectValidator().validate(new MainForm())) {
+            var segments = error.getPathSegments();
+            var tracker = new StringBuilder("/");
+            segments.forEach(segment -> tracker.append(segment).append('/'));
+
+            assertEquals(PathSegment.toDottedPath(PathSegment.parse(tracker.toString())),
+                    error.getPath());
+            assertEquals(segments.size(), error.getJsonPointer().split("/").length - 1);
+        }
+    }
+}
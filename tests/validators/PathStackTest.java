@@ -0,0 +1,76 @@
+package tests.validators;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solution.validators.PathSegment;
+import solution.validators.PathStack;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("Path stack test")
+public class PathStackTest {
+
+    @Test
+    @DisplayName("Push and pop segments")
+    void pushAndPop() {
+        var path = new PathStack();
+        assertEquals("/", path.toString());
+
+        path.push(PathSegment.field("guests"));
+        path.pushIndex(1);
+        path.push(PathSegment.field("firstName"));
+        assertEquals("/guests/[1]/firstName/", path.toString());
+        assertEquals(3, path.size());
+
+        path.pop();
+        path.pop();
+        path.pushIndex(2);
+        assertEquals("/guests/[2]/", path.toString());
+    }
+
+    @Test
+    @DisplayName("Grow deep path")
+    void growDeepPath() {
+        var path = new PathStack();
+        var expected = new StringBuilder("/");
+        for (var i = 0; i < 100; i++) {
+            path.pushIndex(i);
+            expected.append('[').append(i).append("]/");
+        }
+
+        assertEquals(expected.toString(), path.toString());
+        assertEquals(100, path.size());
+    }
+
+    @Test
+    @DisplayName("Copy path")
+    void copy() {
+        var path = new PathStack();
+        path.push(PathSegment.field("list"));
+        var copy = new PathStack(path);
+        copy.pushIndex(0);
+        path.pop();
+
+        assertEquals("/", path.toString());
+        assertEquals("/list/[0]/", copy.toString());
+    }
+
+    @Test
+    @DisplayName("Segments are copied as they are")
+    void toSegments() {
+        var field = PathSegment.field("prices");
+        var path = new PathStack();
+        path.push(field);
+        path.push(PathSegment.MAP_VALUE);
+        path.pushIndex(3);
+
+        var segments = path.toSegments();
+        assertEquals(3, segments.size());
+        assertSame(field, segments.get(0));
+        assertSame(PathSegment.MAP_VALUE, segments.get(1));
+        assertEquals(PathSegment.Kind.INDEX, segments.get(2).getKind());
+        assertEquals(3, segments.get(2).getIndex());
+        assertEquals("/prices/[some value index]/[3]/", path.toString());
+    }
+}
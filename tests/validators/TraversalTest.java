@@ -0,0 +1,153 @@
+package tests.validators;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solution.annotations.Constrained;
+import solution.annotations.NotNull;
+import solution.annotations.Positive;
+import solution.validators.ObjectValidator;
+import solution.validators.ValidationOptions;
+import solution.validators.Validator;
+import solution.validators.metrics.ValidationMetrics;
+
+import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static tests.validators.ErrorDescriptions.describeWithoutValues;
+
+@DisplayName("Traversal test")
+public class TraversalTest {
+
+    private static final int DEEP = 100_000;
+
+    @Constrained
+    static class Node {
+        private final @Positive int value;
+        private Node next;
+        private final List<@NotNull Node> children = new ArrayList<>();
+
+        Node(int value) {
+            this.value = value;
+        }
+    }
+
+    private static Node chain(int length, int lastValue) {
+        var head = new Node(length == 1 ? lastValue : 1);
+        var node = head;
+        for (var i = 1; i < length; i++) {
+            node.next = new Node(i == length - 1 ? lastValue : 1);
+            node = node.next;
+        }
+        return head;
+    }
+
+    @Test
+    @DisplayName("Deep chain of objects")
+    void deepChain() {
+        var errors = Validator.create().validate(chain(DEEP, -1));
+
+        assertEquals(1, errors.size());
+        var error = errors.iterator().next();
+        assertEquals("next.".repeat(DEEP - 1) + "value", error.getPath());
+        assertEquals(-1L, error.getFailedValue());
+        assertTrue(Validator.create().isValid(chain(DEEP, 1)));
+    }
+
+    @Test
+    @DisplayName("Deep chain of objects with metrics")
+    void deepChainWithMetrics() {
+        var validator = new ObjectValidator(new ValidationMetrics());
+        assertEquals(1, validator.validate(chain(DEEP, -1)).size());
+    }
+
+    @Test
+    @DisplayName("Deep tree of objects inside of lists")
+    void deepLists() {
+        var root = new Node(1);
+        var node = root;
+        for (var i = 0; i < DEEP; i++) {
+            var child = new Node(1);
+            node.children.add(new Node(i == DEEP - 1 ? 0 : 1));
+            node.children.add(child);
+            node = child;
+        }
+
+        var errors = Validator.create().validate(root);
+
+        assertEquals(1, errors.size());
+        assertEquals("children[1].".repeat(DEEP - 1) + "children[0].value",
+                errors.iterator().next().getPath());
+    }
+
+    @Test
+    @DisplayName("Errors keep order of recursive walk")
+    void errorOrder() {
+        var root = new Node(-1);
+        root.next = new Node(-2);
+        root.children.add(new Node(-3));
+        root.children.add(null);
+        root.children.add(new Node(-4));
+        root.next.children.add(new Node(-5));
+
+        var failedValues = new ArrayList<String>();
+        Validator.create().validate(root, (path, message, failedValue) ->
+                failedValues.add(failedValue.toString()));
+
+        assertEquals(List.of("-1", "-2", "-5", "null", "-3", "-4"), failedValues);
+    }
+
+    @Test
+    @DisplayName("Depth limit")
+    void depthLimit() {
+        var validator = Validator.create();
+        var options = ValidationOptions.ALL_ERRORS.withMaxDepth(3);
+
+        assertEquals(Set.of("next.next.next.next must not be nested deeper than 3 levels"),
+                describeWithoutValues(validator.validate(chain(10, 1), options)));
+        assertTrue(validator.isValid(chain(4, 1)));
+        assertTrue(validator.validate(chain(4, 1), options).isEmpty());
+
+        var head = chain(2, 1);
+        var errors = validator.validate(head, ValidationOptions.ALL_ERRORS.withMaxDepth(0));
+        assertEquals(Set.of("next must not be nested deeper than 0 levels"),
+                describeWithoutValues(errors));
+        assertSame(head.next, errors.iterator().next().getFailedValue());
+    }
+
+    @Test
+    @DisplayName("Shared object met deeper than depth limit")
+    void sharedPastDepthLimit() {
+        var options = ValidationOptions.ALL_ERRORS.withMaxDepth(2);
+
+        var shared = new Node(-1);
+        var root = new Node(1);
+        root.next = shared;
+        root.children.add(chain(2, 1));
+        root.children.get(0).next.next = shared;
+
+        assertEquals(Set.of("next.value must be positive",
+                        "children[0].next.next must not be nested deeper than 2 levels"),
+                describeWithoutValues(Validator.create().validate(root, options)));
+
+        var inner = chain(2, -1);
+        root = new Node(1);
+        root.next = inner;
+        root.children.add(new Node(1));
+        root.children.get(0).next = inner;
+
+        assertEquals(Set.of("next.next.value must be positive",
+                        "children[0].next.next must not be nested deeper than 2 levels"),
+                describeWithoutValues(Validator.create().validate(root, options)));
+    }
+
+    @Test
+    @DisplayName("Invalid depth limit")
+    void invalidDepthLimit() {
+        assertThrows(InvalidParameterException.class,
+                () -> ValidationOptions.ALL_ERRORS.withMaxDepth(-1));
+        assertEquals(Integer.MAX_VALUE, ValidationOptions.ALL_ERRORS.getMaxDepth());
+    }
+}
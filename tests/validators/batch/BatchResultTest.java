@@ -0,0 +1,146 @@
+package tests.validators.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solution.validators.ObjectValidator;
+import solution.validators.ValidationEngine;
+import solution.validators.ValidationOptions;
+import solution.validators.Validator;
+import solution.validators.batch.BatchResult;
+import tests.form_examples.GuestForm;
+import tests.validators.test_forms.PositiveForm;
+import tests.validators.test_forms.UnconstrainedForm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static tests.validators.ErrorDescriptions.describeSorted;
+
+@DisplayName("Batch validation test")
+public class BatchResultTest {
+
+    private final Validator validator = new ObjectValidator();
+
+    private List<Object> guests(int count) {
+        var guests = new ArrayList<Object>(count);
+        for (var i = 0; i < count; i++) {
+            guests.add(i % 3 == 0 ? new GuestForm("", "Doe", i % 100, "")
+                    : new GuestForm("John", "Doe", 20, "john@doe.com"));
+        }
+        return guests;
+    }
+
+    private void assertSameAsSingle(List<Object> items, BatchResult result) {
+        var expected = IntStream.range(0, items.size())
+                .filter(i -> !validator.isValid(items.get(i)))
+                .toArray();
+
+        assertEquals(items.size(), result.getTotal());
+        assertArrayEquals(expected, result.getInvalidIndices());
+        assertEquals(expected.length, result.getErrors().size());
+
+        for (var i = 0; i < items.size(); i++) {
+            assertEquals(describeSorted(validator.validate(items.get(i))),
+                    describeSorted(result.getErrors(i)));
+        }
+    }
+
+    @Test
+    @DisplayName("Validate iterable")
+    void validateIterable() {
+        var items = guests(100);
+        var result = validator.validateAll(items);
+
+        assertSameAsSingle(items, result);
+        assertEquals(34, result.getInvalidCount());
+        assertEquals(66, result.getValidCount());
+        assertFalse(result.isValid());
+        assertTrue(result.isValid(1));
+        assertFalse(result.isValid(0));
+    }
+
+    @Test
+    @DisplayName("Validate items of different classes")
+    void validateMixedItems() {
+        var items = new ArrayList<Object>(Arrays.asList(new PositiveForm(), null,
+                new UnconstrainedForm(), "text", new GuestForm("", "", 0, null)));
+        var result = validator.validateAll(items);
+
+        assertSameAsSingle(items, result);
+        assertArrayEquals(new int[]{0, 4}, result.getInvalidIndices());
+    }
+
+    @Test
+    @DisplayName("Validate parallel stream")
+    void validateParallelStream() {
+        var items = guests(10_000);
+        var sequential = validator.validateAll(items.stream());
+        var parallel = validator.validateAll(items.parallelStream());
+
+        assertSameAsSingle(items, parallel);
+        assertArrayEquals(sequential.getInvalidIndices(), parallel.getInvalidIndices());
+    }
+
+    @Test
+    @DisplayName("Validate iterable in pool")
+    void validateInPool() {
+        var items = guests(10_000);
+        var pool = new ForkJoinPool(4);
+
+        try {
+            for (var engine : ValidationEngine.values()) {
+                var result = Validator.create(engine).validateAll(items,
+                        ValidationOptions.ALL_ERRORS.parallel(pool, 1_000));
+                assertSameAsSingle(items, result);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Validate empty batch")
+    void validateEmpty() {
+        var result = validator.validateAll(List.of());
+
+        assertEquals(0, result.getTotal());
+        assertTrue(result.isValid());
+        assertEquals(Set.of(), result.getErrors(0));
+    }
+
+    @Test
+    @DisplayName("Validate batch with validity check")
+    void validateWithValidityCheck() {
+        var items = guests(30);
+        var result = validator.validateAll(items, ValidationOptions.VALIDITY_CHECK);
+
+        assertEquals(10, result.getInvalidCount());
+        assertTrue(result.getErrors().stream().allMatch(Set::isEmpty));
+    }
+
+    @Test
+    @DisplayName("Partition stream")
+    void partition() {
+        var items = guests(1_000);
+
+        for (var stream : List.of(items.stream(), items.parallelStream())) {
+            var partition = stream.collect(validator.partitioning());
+
+            assertEquals(666, partition.getValid().size());
+            assertEquals(334, partition.getInvalid().size());
+            assertSame(items.get(0), partition.getInvalid().get(0).getItem());
+            assertSame(items.get(3), partition.getInvalid().get(1).getItem());
+            assertSame(items.get(1), partition.getValid().get(0));
+
+            for (var invalid : partition.getInvalid()) {
+                assertEquals(describeSorted(validator.validate(invalid.getItem())),
+                        describeSorted(invalid.getErrors()));
+            }
+        }
+    }
+}
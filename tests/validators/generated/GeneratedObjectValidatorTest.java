@@ -0,0 +1,143 @@
+package tests.validators.generated;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solution.validators.ObjectValidator;
+import solution.validators.ValidationEngine;
+import solution.validators.ValidationOptions;
+import solution.validators.Validator;
+import solution.validators.generated.GeneratedObjectValidator;
+import solution.validators.generated.ValidatorSourceWriter;
+import tests.form_examples.BookingForm;
+import tests.form_examples.GuestForm;
+import tests.form_examples.Main;
+import tests.validators.test_forms.*;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static tests.validators.ErrorDescriptions.describeSorted;
+
+@DisplayName("Generated object validator test")
+public class GeneratedObjectValidatorTest {
+
+    private final Validator interpreter = new ObjectValidator();
+
+    private final Validator generated = new GeneratedObjectValidator();
+
+    @Test
+    @DisplayName("Validate form test")
+    void validateMainForm() {
+        var expected = describeSorted(interpreter.validate(new MainForm()));
+        var actual = describeSorted(generated.validate(new MainForm()));
+        assertEquals(57, actual.size());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Validate example form")
+    void validateExample() {
+        var expected = describeSorted(Main.getErrors(interpreter));
+        var actual = describeSorted(Main.getErrors(generated));
+        assertEquals(9, actual.size());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Validate forms of single annotation test")
+    void validateSingleAnnotationForms() {
+        for (var form : List.of(new AnyOfForm(), new InRangeForm(), new NegativeForm(),
+                new NotBlankForm(), new NotEmptyForm(), new NotNullForm(),
+                new PositiveForm(), new SizeForm(), new UnconstrainedForm())) {
+            assertEquals(describeSorted(interpreter.validate(form)),
+                    describeSorted(generated.validate(form)));
+        }
+    }
+
+    @Test
+    @DisplayName("Options give the same errors test")
+    void validateWithOptions() {
+        for (var options : List.of(ValidationOptions.FAIL_FAST, ValidationOptions.maxErrors(7))) {
+            assertEquals(describeSorted(interpreter.validate(new MainForm(), options)),
+                    describeSorted(generated.validate(new MainForm(), options)));
+        }
+        var pool = new ForkJoinPool(2);
+        try {
+            var parallel = ValidationOptions.ALL_ERRORS.parallel(pool, 1);
+            assertEquals(describeSorted(interpreter.validate(new MainForm())),
+                    describeSorted(generated.validate(new MainForm(), parallel)));
+        } finally {
+            pool.shutdownNow();
+        }
+        assertFalse(generated.isValid(new MainForm()));
+        assertTrue(generated.isValid(new UnconstrainedForm()));
+    }
+
+    @Test
+    @DisplayName("Validators are hidden classes test")
+    void hiddenClasses() {
+        for (var type : List.of(MainForm.class, BookingForm.class, GuestForm.class)) {
+            var validatorClass = GeneratedObjectValidator.getClassValidator(type).getClass();
+            assertTrue(validatorClass.isHidden());
+            assertNotSame(ObjectValidator.class, validatorClass);
+        }
+    }
+
+    @Test
+    @DisplayName("Validate null test")
+    void validateNull() {
+        assertTrue(generated.validate(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Create validator with engine test")
+    void createWithEngine() {
+        assertTrue(Validator.create(ValidationEngine.INTERPRETER) instanceof ObjectValidator);
+        assertTrue(Validator.create(ValidationEngine.GENERATED) instanceof GeneratedObjectValidator);
+        assertTrue(Validator.create() instanceof ObjectValidator);
+    }
+
+    @Test
+    @DisplayName("Class of child class loader test")
+    void childClassLoader() throws Exception {
+        var location = MainForm.class.getProtectionDomain().getCodeSource().getLocation();
+        try (var loader = new ChildFirstLoader(location, getClass().getClassLoader())) {
+            var type = loader.loadClass(MainForm.class.getName());
+            assertNotSame(MainForm.class, type);
+
+            var actual = describeSorted(generated.validate(type.getConstructor().newInstance()));
+            assertEquals(describeSorted(interpreter.validate(new MainForm())), actual);
+        }
+    }
+
+    @Test
+    @DisplayName("String literal test")
+    void literal() {
+        assertEquals("\"a\\\"b\\\\c\\n\\u00e9\"", ValidatorSourceWriter.literal("a\"b\\c\n\u00e9"));
+    }
+
+    /**
+     * Loader which loads test forms before parent.
+     */
+    private static class ChildFirstLoader extends URLClassLoader {
+
+        ChildFirstLoader(URL url, ClassLoader parent) {
+            super(new URL[]{url}, parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            synchronized (getClassLoadingLock(name)) {
+                if (name.startsWith(MainForm.class.getPackageName() + ".")) {
+                    var loaded = findLoadedClass(name);
+                    return loaded != null ? loaded : findClass(name);
+                }
+                return super.loadClass(name, resolve);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package tests.validators.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import solution.validators.ObjectValidator;
+import solution.validators.jfr.ClassValidationEvent;
+import solution.validators.jfr.CollectionValidationEvent;
+import solution.validators.jfr.ValidationEvent;
+import tests.form_examples.BookingForm;
+import tests.form_examples.GuestForm;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JFR events test")
+public class ValidationEventsTest {
+
+    private static BookingForm form(List<String> amenities) {
+        return new BookingForm(
+                List.of(new GuestForm("", "Renova", 8, "anna@edu.hse.ru"),
+                        new GuestForm("Dima", "Kalmykov", 40, "dima@edu.hse.ru")),
+                amenities, "House", 3, Map.of(1, 2));
+    }
+
+    private static List<RecordedEvent> record(Path file, boolean enabled, Runnable action)
+            throws IOException {
+        try (var recording = new Recording()) {
+            if (enabled) {
+                recording.enable(ValidationEvent.class);
+                recording.enable(ClassValidationEvent.class);
+                recording.enable(CollectionValidationEvent.class);
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("solution."))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Events are recorded when enabled")
+    void enabledEvents(@TempDir Path directory) throws IOException {
+        var validator = new ObjectValidator();
+        var amenities = Collections.nCopies(CollectionValidationEvent.MIN_SIZE, "TV");
+
+        var events = record(directory.resolve("enabled.jfr"), true, () -> {
+            assertEquals(3, validator.validate(form(amenities)).size());
+            assertFalse(validator.isValid(form(List.of("TV"))));
+        });
+
+        var runs = events.stream()
+                .filter(event -> event.getEventType().getName().equals("solution.Validation"))
+                .collect(Collectors.toList());
+        assertEquals(2, runs.size());
+        assertEquals(BookingForm.class.getName(), runs.get(0).getClass("rootClass").getName());
+        assertEquals(3, runs.get(0).getInt("objectCount"));
+        assertEquals(3, runs.get(0).getInt("errorCount"));
+        assertTrue(runs.get(0).getBoolean("collectingErrors"));
+        assertEquals(1, runs.get(1).getInt("errorCount"));
+        assertFalse(runs.get(1).getBoolean("collectingErrors"));
+        assertFalse(runs.get(0).getDuration().isNegative());
+
+        var classes = events.stream()
+                .filter(event -> event.getEventType().getName()
+                        .equals("solution.ClassValidation"))
+                .map(event -> event.getClass("validatedClass").getName() + " " +
+                        event.getString("path"))
+                .collect(Collectors.toList());
+        assertTrue(classes.contains(GuestForm.class.getName() + " guests[0]"), classes::toString);
+        assertTrue(classes.contains(BookingForm.class.getName() + " /"), classes::toString);
+
+        var collections = events.stream()
+                .filter(event -> event.getEventType().getName()
+                        .equals("solution.CollectionValidation"))
+                .collect(Collectors.toList());
+        assertEquals(1, collections.size());
+        assertEquals("amenities", collections.get(0).getString("path"));
+        assertEquals("List", collections.get(0).getString("kind"));
+        assertEquals(CollectionValidationEvent.MIN_SIZE, collections.get(0).getInt("size"));
+        assertFalse(collections.get(0).getBoolean("parallel"));
+    }
+
+    @Test
+    @DisplayName("Events are disabled by default")
+    void disabledEvents(@TempDir Path directory) throws IOException {
+        var validator = new ObjectValidator();
+
+        var events = record(directory.resolve("disabled.jfr"), false,
+                () -> validator.validate(form(List.of("TV"))));
+
+        assertTrue(events.isEmpty());
+        assertFalse(new ValidationEvent().isEnabled());
+    }
+}
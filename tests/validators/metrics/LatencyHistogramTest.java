@@ -0,0 +1,77 @@
+package tests.validators.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solution.validators.metrics.LatencyHistogram;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Latency histogram test")
+public class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Empty histogram")
+    void empty() {
+        var snapshot = new LatencyHistogram().snapshot();
+
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMin());
+        assertEquals(0, snapshot.getMax());
+        assertEquals(0, snapshot.getValueAtPercentile(99));
+        assertEquals(0.0, snapshot.getMean());
+    }
+
+    @Test
+    @DisplayName("Small values are exact")
+    void smallValues() {
+        var histogram = new LatencyHistogram();
+        for (var value = 0; value < 32; value++) {
+            histogram.record(value);
+        }
+        histogram.record(-5);
+
+        var snapshot = histogram.snapshot();
+        assertEquals(33, snapshot.getCount());
+        assertEquals(0, snapshot.getMin());
+        assertEquals(31, snapshot.getMax());
+        assertEquals(15, snapshot.getValueAtPercentile(50));
+        assertEquals(31, snapshot.getValueAtPercentile(100));
+    }
+
+    @Test
+    @DisplayName("Percentiles of large values have small relative error")
+    void largeValues() {
+        var histogram = new LatencyHistogram();
+        for (var value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1000L);
+        }
+
+        var snapshot = histogram.snapshot();
+        assertEquals(100_000, snapshot.getCount());
+        assertEquals(1000, snapshot.getMin());
+        assertEquals(100_000_000, snapshot.getMax());
+        assertEquals(50_000_500.0, snapshot.getMean(), 0.001);
+
+        for (var percentile : new double[]{1, 50, 90, 99, 99.9}) {
+            var expected = percentile * 1_000_000;
+            var actual = snapshot.getValueAtPercentile(percentile);
+            assertTrue(actual >= expected, percentile + ": " + actual);
+            assertTrue(actual <= expected * (1 + 1.0 / 32), percentile + ": " + actual);
+        }
+        assertEquals(100_000_000, snapshot.getValueAtPercentile(100));
+    }
+
+    @Test
+    @DisplayName("Concurrent recording")
+    void concurrentRecording() {
+        var histogram = new LatencyHistogram();
+        IntStream.range(0, 100_000).parallel().forEach(histogram::record);
+
+        var snapshot = histogram.snapshot();
+        assertEquals(100_000, snapshot.getCount());
+        assertEquals(99_999, snapshot.getMax());
+        assertEquals(49_999.5, snapshot.getMean(), 0.001);
+    }
+}
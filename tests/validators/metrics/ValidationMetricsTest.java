@@ -0,0 +1,116 @@
+package tests.validators.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solution.validators.ObjectValidator;
+import solution.validators.ValidationOptions;
+import solution.validators.metrics.ValidationMetrics;
+import solution.validators.plan.ConstraintKind;
+import tests.form_examples.BookingForm;
+import tests.form_examples.GuestForm;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static tests.validators.ErrorDescriptions.describe;
+
+@DisplayName("Validation metrics test")
+public class ValidationMetricsTest {
+
+    private static BookingForm invalidForm() {
+        return new BookingForm(
+                List.of(new GuestForm("", "Renova", 8, "anna@edu.hse.ru"),
+                        new GuestForm("Dima", "Kalmykov", 40, "dima@edu.hse.ru")),
+                List.of("TV", "Piano"), "Flat", 3, Map.of(1, 0));
+    }
+
+    @Test
+    @DisplayName("Count evaluations and failures by kind and by field")
+    void counters() {
+        var metrics = new ValidationMetrics();
+        var validator = new ObjectValidator(metrics);
+
+        var errors = validator.validate(invalidForm());
+        assertEquals(6, errors.size());
+
+        var snapshot = metrics.snapshot();
+        var anyOf = snapshot.getConstraint(ConstraintKind.ANY_OF);
+        assertEquals(3, anyOf.getEvaluations());
+        assertEquals(2, anyOf.getFailures());
+
+        var inRange = snapshot.getConstraint(ConstraintKind.IN_RANGE);
+        assertEquals(3, inRange.getEvaluations());
+        assertEquals(2, inRange.getFailures());
+        assertEquals(0, snapshot.getConstraint(ConstraintKind.NEGATIVE).getEvaluations());
+
+        var booking = snapshot.getClassStats(BookingForm.class);
+        assertEquals(List.of("guests", "amenities", "propertyType", "roomNumber",
+                "peopleInRoom"), List.copyOf(booking.getFields().keySet()));
+        assertEquals(3, booking.getField("amenities").getEvaluations());
+        assertEquals(1, booking.getField("amenities").getFailures());
+        assertEquals(1.0 / 3, booking.getField("amenities").getFailureRate());
+        assertEquals(4, booking.getField("guests").getEvaluations());
+        assertEquals(0, booking.getField("guests").getFailures());
+        assertEquals(1, booking.getField("roomNumber").getEvaluations());
+
+        var guest = snapshot.getClassStats(GuestForm.class);
+        assertEquals(2, guest.getField("age").getEvaluations());
+        assertEquals(1, guest.getField("age").getFailures());
+        assertEquals(2, guest.getField("firstName").getFailures());
+    }
+
+    @Test
+    @DisplayName("Record latency of validation runs by class of root object")
+    void latency() {
+        var metrics = new ValidationMetrics();
+        var validator = new ObjectValidator(metrics);
+
+        for (var i = 0; i < 10; i++) {
+            validator.validate(invalidForm());
+        }
+        assertFalse(validator.isValid(invalidForm()));
+
+        var snapshot = metrics.snapshot();
+        var booking = snapshot.getClassStats(BookingForm.class).getLatency();
+        var guest = snapshot.getClassStats(GuestForm.class).getLatency();
+        assertEquals(11, booking.getCount());
+        assertEquals(0, guest.getCount());
+        assertTrue(booking.getValueAtPercentile(50) > 0);
+        assertTrue(booking.getMax() >= booking.getValueAtPercentile(99));
+    }
+
+    @Test
+    @DisplayName("Parallel validation is counted")
+    void parallel() {
+        var metrics = new ValidationMetrics();
+        var validator = new ObjectValidator(metrics);
+        var pool = new ForkJoinPool(4);
+        try {
+            var amenities = Collections.nCopies(10_000, "TV");
+            var form = new BookingForm(List.of(new GuestForm("Anna", "Renova", 30, "a")),
+                    amenities, "House", 1, Map.of());
+
+            assertTrue(validator.validate(form, ValidationOptions.ALL_ERRORS.parallel(pool, 100))
+                    .isEmpty());
+        } finally {
+            pool.shutdown();
+        }
+
+        var amenities = metrics.snapshot().getClassStats(BookingForm.class)
+                .getField("amenities");
+        assertEquals(10_001, amenities.getEvaluations());
+        assertEquals(0, amenities.getFailures());
+    }
+
+    @Test
+    @DisplayName("Metrics don't change errors")
+    void sameErrors() {
+        assertEquals(describe(new ObjectValidator().validate(invalidForm())),
+                describe(new ObjectValidator(new ValidationMetrics()).validate(invalidForm())));
+        assertNull(new ValidationMetrics().snapshot().getClassStats(BookingForm.class));
+    }
+}
@@ -0,0 +1,86 @@
+package tests.validators.plan;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solution.validators.plan.AnyOfLookup;
+import solution.validators.plan.Constraint;
+import solution.validators.plan.ConstraintKind;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AnyOf lookup test")
+public class AnyOfLookupTest {
+
+    private static String[] codes(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "CODE-" + i).toArray(String[]::new);
+    }
+
+    private static void assertLookup(String[] values, AnyOfLookup lookup) {
+        for (var value : values) {
+            assertTrue(lookup.contains(value), value);
+            assertTrue(lookup.contains(new String(value.toCharArray())), value);
+        }
+
+        var valid = List.of(values);
+        for (var invalid : List.of("", "x", "CODE-", "CODE--1", "code-1", "TV ", "Kitchenette")) {
+            assertEquals(valid.contains(invalid), lookup.contains(invalid), invalid);
+        }
+    }
+
+    @Test
+    @DisplayName("Small sets use lengths and the first chars")
+    void smallSet() {
+        var values = new String[]{"TV", "Kitchen", "Toilet", "room", "", "Tv", "TV"};
+        var lookup = AnyOfLookup.of(values);
+
+        assertEquals("SmallSetLookup", lookup.getClass().getSimpleName());
+        assertLookup(values, lookup);
+        assertFalse(lookup.contains("Toilex"));
+        assertFalse(lookup.contains("Kitchem"));
+    }
+
+    @Test
+    @DisplayName("Large sets use perfect hash")
+    void largeSet() {
+        for (var count : new int[]{AnyOfLookup.SMALL_SET_SIZE + 1, 100, 500, 5000}) {
+            var values = codes(count);
+            var lookup = AnyOfLookup.of(values);
+
+            assertEquals("PerfectHashLookup", lookup.getClass().getSimpleName());
+            assertLookup(values, lookup);
+            assertFalse(lookup.contains("CODE-" + count));
+        }
+    }
+
+    @Test
+    @DisplayName("Values with the same hash code")
+    void sameHashCodes() {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+
+        var values = new ArrayList<>(List.of(codes(40)));
+        values.add("Aa");
+        values.add("BB");
+        var array = values.toArray(new String[0]);
+        var lookup = AnyOfLookup.of(array);
+
+        assertEquals("HashSetLookup", lookup.getClass().getSimpleName());
+        assertLookup(array, lookup);
+        assertTrue(AnyOfLookup.of(new String[]{"Aa", "BB"}).contains("BB"));
+    }
+
+    @Test
+    @DisplayName("Constraint uses lookup and builds message once")
+    void constraint() {
+        var constraint = Constraint.create(ConstraintKind.ANY_OF, 0, 0, codes(300));
+
+        assertTrue(constraint.test("CODE-299"));
+        assertFalse(constraint.test("CODE-300"));
+        assertFalse(constraint.test((Object) 299));
+        assertSame(constraint.getMessage(), constraint.getMessage());
+        assertTrue(constraint.getMessage().startsWith("must be one of \"CODE-0\", \"CODE-1\""));
+    }
+}
@@ -0,0 +1,121 @@
+package tests.validators.plan;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solution.annotations.Constrained;
+import solution.annotations.NotNull;
+import solution.annotations.Positive;
+import solution.validators.ValidationEngine;
+import solution.validators.Validator;
+import solution.validators.plan.Constraint;
+import solution.validators.plan.ConstraintHandler;
+import solution.validators.plan.ConstraintKind;
+import solution.validators.plan.ConstraintRegistry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.security.InvalidParameterException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Constraint registry test")
+public class ConstraintRegistryTest {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.TYPE_USE)
+    public @interface MultipleOf {
+        long value();
+    }
+
+    static class MultipleOfHandler implements ConstraintHandler {
+
+        private final long divisor;
+
+        MultipleOfHandler(MultipleOf annotation) {
+            this.divisor = annotation.value();
+        }
+
+        @Override
+        public boolean test(Object value) {
+            return test(((Number) value).longValue());
+        }
+
+        @Override
+        public boolean test(long value) {
+            return value % divisor == 0;
+        }
+
+        @Override
+        public String getMessage() {
+            return "Value must be multiple of " + divisor;
+        }
+    }
+
+    @Constrained
+    static class PackForm {
+        @MultipleOf(6)
+        private final int count;
+
+        @NotNull
+        private final List<@Positive @MultipleOf(2) Integer> sizes;
+
+        PackForm(int count, List<Integer> sizes) {
+            this.count = count;
+            this.sizes = sizes;
+        }
+    }
+
+    @BeforeAll
+    static void register() {
+        ConstraintRegistry.getInstance().register(MultipleOf.class, MultipleOfHandler::new);
+    }
+
+    @Test
+    @DisplayName("Built-in constraints are registered")
+    void builtIn() {
+        var registry = ConstraintRegistry.getInstance();
+        assertTrue(registry.isRegistered(Positive.class));
+        assertTrue(registry.isRegistered(NotNull.class));
+        assertFalse(registry.isRegistered(Constrained.class));
+        assertThrows(InvalidParameterException.class,
+                () -> registry.register(Positive.class, a -> null));
+    }
+
+    @Test
+    @DisplayName("Attributes are extracted once, when plan is built")
+    void plan() {
+        var plan = Validator.compile(PackForm.class);
+        assertTrue(plan.hasCustomConstraints());
+
+        var count = plan.getFields().get(0).getType().getConstraints()[0];
+        assertInstanceOf(MultipleOfHandler.class, count);
+        assertEquals(ConstraintKind.CUSTOM, count.getKind());
+        assertEquals(6, ((MultipleOfHandler) count).divisor);
+
+        var sizes = plan.getFields().get(1).getType().getElement().getConstraints();
+        assertInstanceOf(Constraint.class, sizes[0]);
+        assertInstanceOf(MultipleOfHandler.class, sizes[1]);
+    }
+
+    @Test
+    @DisplayName("Validate custom constraints with every engine")
+    void validate() {
+        for (var engine : ValidationEngine.values()) {
+            var validator = Validator.create(engine);
+            assertTrue(validator.isValid(new PackForm(12, List.of(2, 4))));
+
+            var errors = validator.validate(new PackForm(7, List.of(2, 3, -4)));
+            assertEquals(3, errors.size());
+            assertTrue(errors.stream().anyMatch(e -> e.getPath().equals("count") &&
+                    e.getMessage().equals("Value must be multiple of 6") &&
+                    e.getFailedValue().equals(7L)));
+            assertTrue(errors.stream().anyMatch(e -> e.getPath().equals("sizes[1]") &&
+                    e.getMessage().equals("Value must be multiple of 2")));
+            assertTrue(errors.stream().anyMatch(e -> e.getPath().equals("sizes[2]")));
+        }
+    }
+}
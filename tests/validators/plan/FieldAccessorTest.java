@@ -0,0 +1,85 @@
+package tests.validators.plan;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solution.annotations.Constrained;
+import solution.annotations.InRange;
+import solution.annotations.Negative;
+import solution.annotations.NotNull;
+import solution.validators.ObjectValidator;
+import solution.validators.Validator;
+import solution.validators.plan.FieldPlan;
+
+import java.security.InvalidParameterException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Field accessor test")
+public class FieldAccessorTest {
+
+    @Constrained
+    static class PrimitiveForm {
+        @InRange(min = 1, max = 3)
+        private byte byteValue = 4;
+
+        @Negative
+        private short shortValue = -2;
+
+        private int intValue = 7;
+
+        private long longValue = -9L;
+
+        private static String staticValue = "static";
+
+        private String stringValue = "string";
+    }
+
+    @Constrained
+    static class NotNullPrimitiveForm {
+        @NotNull
+        private int value;
+    }
+
+    private FieldPlan find(String name) {
+        return Validator.compile(PrimitiveForm.class).getFields().stream()
+                .filter(f -> f.getName().equals(name))
+                .findFirst().orElseThrow();
+    }
+
+    @Test
+    @DisplayName("Read primitive without boxing test")
+    void readPrimitive() {
+        var form = new PrimitiveForm();
+        assertTrue(find("byteValue").isIntegralPrimitive());
+        assertEquals(4, find("byteValue").getAccessor().getLong(form));
+        assertEquals(-2, find("shortValue").getAccessor().getLong(form));
+        assertEquals(7, find("intValue").getAccessor().getLong(form));
+        assertEquals(-9, find("longValue").getAccessor().getLong(form));
+        assertEquals(7, find("intValue").getAccessor().get(form));
+    }
+
+    @Test
+    @DisplayName("Read reference test")
+    void readReference() {
+        var form = new PrimitiveForm();
+        assertFalse(find("stringValue").isIntegralPrimitive());
+        assertEquals("string", find("stringValue").getAccessor().get(form));
+        assertEquals("static", find("staticValue").getAccessor().get(form));
+        assertThrows(IllegalStateException.class,
+                () -> find("stringValue").getAccessor().getLong(form));
+    }
+
+    @Test
+    @DisplayName("Validate primitive fields test")
+    void validatePrimitive() {
+        var errors = new ObjectValidator().validate(new PrimitiveForm());
+        assertEquals(1, errors.size());
+
+        var error = errors.iterator().next();
+        assertEquals("byteValue", error.getPath());
+        assertEquals(4L, error.getFailedValue());
+
+        assertThrows(InvalidParameterException.class,
+                () -> Validator.compile(NotNullPrimitiveForm.class));
+    }
+}
@@ -0,0 +1,139 @@
+package tests.validators.plan;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solution.annotations.*;
+import solution.validators.ErrorContent;
+import solution.validators.ObjectValidator;
+import solution.validators.ValidationError;
+import solution.validators.ValidationOptions;
+import solution.validators.metrics.ValidationMetrics;
+import solution.validators.plan.ConstraintHandler;
+import solution.validators.plan.FusedConstraints;
+import solution.validators.plan.TypePlan;
+import tests.validators.test_forms.MainForm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static tests.validators.ErrorDescriptions.describeInOrder;
+
+@DisplayName("Fused constraints test")
+public class FusedConstraintsTest {
+
+    @Constrained
+    static class FusedForm {
+        private final @NotNull @NotBlank @Size(min = 1, max = 5) @NotEmpty String name;
+        private final @InRange(min = 1, max = 10) @Positive @NotNull Integer count;
+        private final @Size(min = 0, max = Integer.MAX_VALUE) @NotEmpty List<@NotNull String> tags;
+        private final Map<@NotNull String, @NotNull @NotBlank String> labels;
+
+        FusedForm(String name, Integer count, List<String> tags, Map<String, String> labels) {
+            this.name = name;
+            this.count = count;
+            this.tags = tags;
+            this.labels = labels;
+        }
+    }
+
+    private static final List<@NotNull @NotBlank @Size(min = 1, max = 5) @NotEmpty String> NAME =
+            null;
+
+    private static final List<@InRange(min = -5, max = -1) @Negative @Positive Integer>
+            NUMBER = null;
+
+    private static TypePlan elementPlan(String field) throws ReflectiveOperationException {
+        var type = FusedConstraintsTest.class.getDeclaredField(field).getAnnotatedType();
+        return TypePlan.of(type).getElement();
+    }
+
+    private static List<String> streamed(ObjectValidator validator, Object object,
+                                         ValidationOptions options) {
+        var errors = new ArrayList<ValidationError>();
+        validator.validate(object, options, (path, message, failedValue) ->
+                errors.add(new ErrorContent(message, path, failedValue)));
+        return describeInOrder(errors);
+    }
+
+    @Test
+    @DisplayName("Failed constraints are reported in declaration order")
+    void failures() throws ReflectiveOperationException {
+        var fused = elementPlan("NAME").getFused();
+
+        assertEquals(0b0001, fused.test(null));
+        assertEquals(0, fused.test("Anna"));
+        assertEquals(0b0010, fused.test("  "));
+        assertEquals(0b0100, fused.test("Anna Maria"));
+        assertEquals(0b1110, fused.test(""));
+        assertFalse(fused.isNullCheckOnly());
+    }
+
+    @Test
+    @DisplayName("Implied constraints are checked when stronger ones fail")
+    void impliedConstraints() throws ReflectiveOperationException {
+        var fused = elementPlan("NUMBER").getFused();
+
+        assertEquals(0b100, fused.test(-3));
+        assertEquals(0b101, fused.test(-7));
+        assertEquals(0b011, fused.test(2));
+        assertEquals(0b111, fused.test(0));
+        assertEquals(0, fused.test(null));
+    }
+
+    @Test
+    @DisplayName("Constraints which can't fail are dropped")
+    void alwaysSatisfied() throws ReflectiveOperationException {
+        var field = FusedForm.class.getDeclaredField("tags");
+        var plan = TypePlan.of(field.getAnnotatedType());
+
+        assertEquals(0b10, plan.getFused().test(List.of()));
+        assertEquals(0, plan.getFused().test(List.of("a")));
+        assertTrue(plan.getElement().getFused().isNullCheckOnly());
+        assertEquals(0, FusedConstraints.of(new ConstraintHandler[0]).test(null));
+    }
+
+    @Test
+    @DisplayName("Null-hostile collections")
+    void nullFree() {
+        assertTrue(FusedConstraints.isNullFree(List.of("a")));
+        assertTrue(FusedConstraints.isNullFree(List.copyOf(new ArrayList<>(List.of("a", "b")))));
+        assertTrue(FusedConstraints.isNullFree(Set.of("a", "b", "c")));
+        assertTrue(FusedConstraints.isNullFree(Map.of("a", "b")));
+
+        assertFalse(FusedConstraints.isNullFree(Stream.of("a", null, "c").toList()));
+        assertFalse(FusedConstraints.isNullFree(Stream.of("a", "b", "c").toList()));
+        assertFalse(FusedConstraints.isNullFree(List.of("a", "b", "c", "d")));
+        assertFalse(FusedConstraints.isNullFree(Arrays.asList("a", "b", "c")));
+        assertFalse(FusedConstraints.isNullFree(new ArrayList<>(List.of("a"))));
+        assertFalse(FusedConstraints.isNullFree(new HashMap<>(Map.of("a", "b"))));
+    }
+
+    @Test
+    @DisplayName("Errors are the same as without fusion")
+    void sameErrors() {
+        var labels = new HashMap<String, String>();
+        labels.put(null, " ");
+        labels.put("a", null);
+        var forms = List.of(
+                new MainForm(),
+                new FusedForm("", 0, Stream.of("a", null).toList(), labels),
+                new FusedForm(null, null, List.of(), Map.of("a", "b")),
+                new FusedForm("Anna Maria", 12, Arrays.asList(null, "b"), Map.of()));
+
+        // Validator with metrics checks every constraint separately
+        var fused = new ObjectValidator();
+        var separate = new ObjectValidator(new ValidationMetrics());
+        for (var form : forms) {
+            for (var options : List.of(ValidationOptions.ALL_ERRORS,
+                    ValidationOptions.FAIL_FAST, ValidationOptions.maxErrors(3))) {
+                assertEquals(streamed(separate, form, options), streamed(fused, form, options));
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package tests.validators.plan;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solution.annotations.Constrained;
+import solution.annotations.Negative;
+import solution.annotations.NotNull;
+import solution.annotations.Positive;
+import solution.annotations.Size;
+import solution.validators.ObjectValidator;
+import solution.validators.plan.SchemaVerifier;
+import solution.validators.plan.ValidationPlan;
+import tests.form_examples.BookingForm;
+import tests.validators.test_forms.UnconstrainedForm;
+
+import java.security.InvalidParameterException;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Schema verifier test")
+public class SchemaVerifierTest {
+
+    @Constrained
+    static class PositiveStringForm {
+        private final List<@Positive String> values = List.of();
+    }
+
+    @Constrained
+    static class PrimitiveNotNullForm {
+        @NotNull
+        private int value;
+    }
+
+    @Constrained
+    static class SetOfListsForm {
+        private Set<List<String>> values;
+    }
+
+    @Constrained
+    static class ConflictForm {
+        private List<List<@Positive @Negative Integer>> values;
+    }
+
+    @Constrained
+    static class WrongBoundsForm {
+        @Size(min = 3, max = 1)
+        private String value;
+    }
+
+    @Test
+    @DisplayName("Verify valid schemas")
+    void verifyValid() {
+        assertTrue(SchemaVerifier.verify(BookingForm.class));
+        assertFalse(SchemaVerifier.verify(UnconstrainedForm.class));
+    }
+
+    @Test
+    @DisplayName("Verify invalid schemas")
+    void verifyInvalid() {
+        for (var type : List.of(PositiveStringForm.class, PrimitiveNotNullForm.class,
+                SetOfListsForm.class, ConflictForm.class, WrongBoundsForm.class)) {
+            assertThrows(InvalidParameterException.class, () -> SchemaVerifier.verify(type),
+                    type.getSimpleName());
+        }
+    }
+
+    @Test
+    @DisplayName("Error of verification is cached and thrown on every validation")
+    void cachedError() {
+        var validator = new ObjectValidator();
+        var first = assertThrows(InvalidParameterException.class,
+                () -> validator.validate(new PositiveStringForm()));
+        var second = assertThrows(InvalidParameterException.class,
+                () -> ValidationPlan.of(PositiveStringForm.class));
+
+        assertEquals(first.getMessage(), second.getMessage());
+        assertNotNull(first.getCause());
+        assertSame(first.getCause(), second.getCause());
+    }
+}
@@ -0,0 +1,73 @@
+package tests.validators.plan;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solution.validators.Validator;
+import solution.validators.plan.Constraint;
+import solution.validators.plan.ConstraintKind;
+import solution.validators.plan.TypePlan;
+import tests.form_examples.BookingForm;
+import tests.form_examples.GuestForm;
+import tests.validators.test_forms.UnconstrainedForm;
+
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Validation plan test")
+public class ValidationPlanTest {
+
+    @Test
+    @DisplayName("Plan is cached test")
+    void planIsCached() {
+        assertSame(Validator.compile(BookingForm.class), Validator.compile(BookingForm.class));
+        assertSame(BookingForm.class, Validator.compile(BookingForm.class).getType());
+    }
+
+    @Test
+    @DisplayName("Unconstrained class test")
+    void unconstrainedClass() {
+        var plan = Validator.compile(UnconstrainedForm.class);
+        assertFalse(plan.isConstrained());
+        assertEquals(0, plan.getFields().size());
+    }
+
+    @Test
+    @DisplayName("Field constraints test")
+    void fieldConstraints() {
+        var plan = Validator.compile(GuestForm.class);
+        assertTrue(plan.isConstrained());
+
+        var age = plan.getFields().stream()
+                .filter(f -> f.getName().equals("age"))
+                .findFirst().orElseThrow();
+        var constraints = age.getType().getConstraints();
+
+        assertThrows(UnsupportedOperationException.class, () -> plan.getFields().set(0, null));
+        assertEquals(TypePlan.Kind.SCALAR, age.getType().getKind());
+        assertEquals(1, constraints.length);
+        assertEquals(ConstraintKind.IN_RANGE, constraints[0].getKind());
+        assertEquals(10, ((Constraint) constraints[0]).getMin());
+        assertEquals(80, ((Constraint) constraints[0]).getMax());
+    }
+
+    @Test
+    @DisplayName("Nested type shape test")
+    void nestedTypeShape() {
+        var plan = Validator.compile(BookingForm.class);
+        var fields = plan.getFields();
+
+        var guests = fields.stream()
+                .filter(f -> f.getName().equals("guests")).findFirst().orElseThrow();
+        assertEquals(TypePlan.Kind.LIST, guests.getType().getKind());
+        assertEquals(ConstraintKind.NOT_NULL,
+                guests.getType().getElement().getConstraints()[0].getKind());
+
+        var peopleInRoom = fields.stream()
+                .filter(f -> f.getName().equals("peopleInRoom")).findFirst().orElseThrow();
+        assertEquals(TypePlan.Kind.MAP, peopleInRoom.getType().getKind());
+        assertEquals(ConstraintKind.NOT_NULL,
+                peopleInRoom.getType().getKey().getConstraints()[0].getKind());
+        assertEquals(ConstraintKind.IN_RANGE,
+                peopleInRoom.getType().getValue().getConstraints()[0].getKind());
+    }
+}
@@ -0,0 +1,103 @@
+package tests.validators.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import solution.validators.ObjectValidator;
+import solution.validators.ValidationError;
+import solution.validators.ValidationOptions;
+import solution.validators.Validator;
+import solution.validators.service.ValidationService;
+import tests.form_examples.GuestForm;
+import tests.validators.test_forms.MainForm;
+
+import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static tests.validators.ErrorDescriptions.describeSorted;
+
+@DisplayName("Validation service test")
+public class ValidationServiceTest {
+
+    private final Validator validator = new ObjectValidator();
+
+    @Test
+    @DisplayName("Submit forms")
+    void submit() {
+        try (var service = new ValidationService(validator, 8)) {
+            var futures = new ArrayList<CompletableFuture<Set<ValidationError>>>();
+            for (var i = 0; i < 1_000; i++) {
+                futures.add(service.submit(i % 2 == 0 ? new MainForm()
+                        : new GuestForm("John", "Doe", 20, "john@doe.com")));
+            }
+
+            var expected = describeSorted(validator.validate(new MainForm()));
+            for (var i = 0; i < futures.size(); i++) {
+                var errors = futures.get(i).join();
+                if (i % 2 == 0) {
+                    assertEquals(expected, describeSorted(errors));
+                } else {
+                    assertTrue(errors.isEmpty());
+                }
+            }
+
+            var metrics = service.getMetrics();
+            assertEquals(1_000, metrics.getSubmitted());
+            assertEquals(1_000, metrics.getStarted());
+            assertEquals(1_000, metrics.getCompleted());
+            assertEquals(0, metrics.getQueued());
+            assertEquals(0, metrics.getActive());
+            assertTrue(metrics.getMaxActive() <= 8);
+            assertTrue(metrics.getMaxQueueNanos() >= metrics.getMeanQueueNanos());
+        }
+    }
+
+    @Test
+    @DisplayName("Submit with options")
+    void submitWithOptions() {
+        try (var service = new ValidationService(validator, 2)) {
+            assertEquals(1, service.submit(new MainForm(), ValidationOptions.FAIL_FAST)
+                    .join().size());
+        }
+    }
+
+    @Test
+    @DisplayName("Bound count of running validations")
+    void boundConcurrency() {
+        try (var service = new ValidationService(validator, 1,
+                Executors.newFixedThreadPool(8))) {
+            var futures = new ArrayList<CompletableFuture<Set<ValidationError>>>();
+            for (var i = 0; i < 200; i++) {
+                futures.add(service.submit(new MainForm()));
+            }
+
+            futures.forEach(CompletableFuture::join);
+            assertEquals(1, service.getMetrics().getMaxActive());
+            assertEquals(1, service.getAvailablePermits());
+        }
+    }
+
+    @Test
+    @DisplayName("Submit after close")
+    void submitAfterClose() {
+        var service = new ValidationService(validator, 1);
+        service.close();
+
+        var future = service.submit(new MainForm());
+        var exception = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+        assertEquals(1, service.getMetrics().getRejected());
+    }
+
+    @Test
+    @DisplayName("Invalid count of permits")
+    void invalidPermits() {
+        assertThrows(InvalidParameterException.class, () -> new ValidationService(validator, 0));
+    }
+}
@@ -20,8 +20,10 @@ public class AnnotationValidatorTest {
 
     public List<Integer> list;
 
+    private final AnnotationValidator annotationValidator = new AnnotationValidator();
+
     private boolean setContainsError(ValidationError expectedError) {
-        for (var value : AnnotationValidator.getErrorSet()) {
+        for (var value : annotationValidator.getErrorSet()) {
             if (value.getPath().equals(expectedError.getPath()) &&
                     value.getFailedValue().toString().equals((
                             expectedError.getFailedValue()).toString()) &&
@@ -38,7 +40,7 @@ public class AnnotationValidatorTest {
     void validateNotNull() throws NoSuchFieldException {
         var list = AnnotationValidatorTest.class.getField("list");
         var pathTracker = new StringBuilder("/list/");
-        AnnotationValidator.validateNotNull(this, list,
+        annotationValidator.validateNotNull(this, list,
                 ValueContainer.FIELD, pathTracker);
         assertTrue(setContainsError(new ErrorContent(
                 "must be not null", "/list/", "null")));
@@ -57,12 +59,12 @@ public class AnnotationValidatorTest {
             var positiveList = Positive.class.getField("positiveList");
             var nullList = Positive.class.getField("nullList");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validatePositive(null, positiveList,
+            annotationValidator.validatePositive(null, positiveList,
                     ValueContainer.OBJECT, pathTracker);
-            AnnotationValidator.validatePositive(this, nullList,
+            annotationValidator.validatePositive(this, nullList,
                     ValueContainer.FIELD, pathTracker);
             assertThrows(InvalidParameterException.class, () -> {
-                AnnotationValidator.validatePositive(null, null,
+                annotationValidator.validatePositive(null, null,
                         ValueContainer.FIELD, pathTracker);
             });
         }
@@ -88,9 +90,9 @@ public class AnnotationValidatorTest {
             var negativeByte = Positive.class.getField("negativeByte");
             var positiveByte = Positive.class.getField("positiveByte");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validatePositive(this, negativeByte,
+            annotationValidator.validatePositive(this, negativeByte,
                     ValueContainer.FIELD, pathTracker);
-            AnnotationValidator.validatePositive(this, positiveByte,
+            annotationValidator.validatePositive(this, positiveByte,
                     ValueContainer.FIELD, pathTracker);
             assertTrue(setContainsError(new ErrorContent(
                     "must be positive", "", -3)));
@@ -104,9 +106,9 @@ public class AnnotationValidatorTest {
             var positiveLong = Positive.class.getField("positiveLong");
             var negativeLong = Positive.class.getField("negativeLong");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validatePositive(this, positiveLong,
+            annotationValidator.validatePositive(this, positiveLong,
                     ValueContainer.FIELD, pathTracker);
-            AnnotationValidator.validatePositive(this, negativeLong,
+            annotationValidator.validatePositive(this, negativeLong,
                     ValueContainer.FIELD, pathTracker);
             assertFalse(setContainsError(new ErrorContent(
                     "must be positive", "", 2)));
@@ -121,11 +123,11 @@ public class AnnotationValidatorTest {
             var positiveDouble = Positive.class.getField("positiveDouble");
             var pathTracker = new StringBuilder();
             assertThrows(InvalidParameterException.class, () -> {
-                AnnotationValidator.validatePositive(this, negativeDouble,
+                annotationValidator.validatePositive(this, negativeDouble,
                         ValueContainer.FIELD, pathTracker);
             });
             assertThrows(InvalidParameterException.class, () -> {
-                AnnotationValidator.validatePositive(this, positiveDouble,
+                annotationValidator.validatePositive(this, positiveDouble,
                         ValueContainer.FIELD, pathTracker);
             });
         }
@@ -136,9 +138,9 @@ public class AnnotationValidatorTest {
             var negativeInt = Positive.class.getField("negativeInt");
             var positiveInt = Positive.class.getField("positiveInt");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validatePositive(this, negativeInt,
+            annotationValidator.validatePositive(this, negativeInt,
                     ValueContainer.FIELD, pathTracker);
-            AnnotationValidator.validatePositive(this, positiveInt,
+            annotationValidator.validatePositive(this, positiveInt,
                     ValueContainer.FIELD, pathTracker);
             assertTrue(setContainsError(new ErrorContent(
                     "must be positive", "", -3)));
@@ -152,9 +154,9 @@ public class AnnotationValidatorTest {
             var positiveShort = Positive.class.getField("positiveShort");
             var negativeShort = Positive.class.getField("negativeShort");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validatePositive(this, positiveShort,
+            annotationValidator.validatePositive(this, positiveShort,
                     ValueContainer.FIELD, pathTracker);
-            AnnotationValidator.validatePositive(this, negativeShort,
+            annotationValidator.validatePositive(this, negativeShort,
                     ValueContainer.FIELD, pathTracker);
             assertFalse(setContainsError(new ErrorContent(
                     "must be positive", "", 5)));
@@ -176,12 +178,12 @@ public class AnnotationValidatorTest {
             var positiveList = Negative.class.getField("positiveList");
             var nullList = Negative.class.getField("nullList");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateNegative(null, positiveList,
+            annotationValidator.validateNegative(null, positiveList,
                     ValueContainer.OBJECT, pathTracker);
-            AnnotationValidator.validateNegative(this, nullList,
+            annotationValidator.validateNegative(this, nullList,
                     ValueContainer.FIELD, pathTracker);
             assertThrows(InvalidParameterException.class, () -> {
-                AnnotationValidator.validateNegative(null, null,
+                annotationValidator.validateNegative(null, null,
                         ValueContainer.FIELD, pathTracker);
             });
         }
@@ -207,9 +209,9 @@ public class AnnotationValidatorTest {
             var negativeByte = Negative.class.getField("negativeByte");
             var positiveByte = Negative.class.getField("positiveByte");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateNegative(this, negativeByte,
+            annotationValidator.validateNegative(this, negativeByte,
                     ValueContainer.FIELD, pathTracker);
-            AnnotationValidator.validateNegative(this, positiveByte,
+            annotationValidator.validateNegative(this, positiveByte,
                     ValueContainer.FIELD, pathTracker);
             assertFalse(setContainsError(new ErrorContent(
                     "must be negative", "", -3)));
@@ -223,9 +225,9 @@ public class AnnotationValidatorTest {
             var positiveLong = Negative.class.getField("positiveLong");
             var negativeLong = Negative.class.getField("negativeLong");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateNegative(this, positiveLong,
+            annotationValidator.validateNegative(this, positiveLong,
                     ValueContainer.FIELD, pathTracker);
-            AnnotationValidator.validateNegative(this, negativeLong,
+            annotationValidator.validateNegative(this, negativeLong,
                     ValueContainer.FIELD, pathTracker);
             assertTrue(setContainsError(new ErrorContent(
                     "must be negative", "", 2)));
@@ -240,11 +242,11 @@ public class AnnotationValidatorTest {
             var positiveDouble = Negative.class.getField("positiveDouble");
             var pathTracker = new StringBuilder();
             assertThrows(InvalidParameterException.class, () -> {
-                AnnotationValidator.validateNegative(this, negativeDouble,
+                annotationValidator.validateNegative(this, negativeDouble,
                         ValueContainer.FIELD, pathTracker);
             });
             assertThrows(InvalidParameterException.class, () -> {
-                AnnotationValidator.validateNegative(this, positiveDouble,
+                annotationValidator.validateNegative(this, positiveDouble,
                         ValueContainer.FIELD, pathTracker);
             });
         }
@@ -255,9 +257,9 @@ public class AnnotationValidatorTest {
             var negativeInt = Negative.class.getField("negativeInt");
             var positiveInt = Negative.class.getField("positiveInt");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateNegative(this, negativeInt,
+            annotationValidator.validateNegative(this, negativeInt,
                     ValueContainer.FIELD, pathTracker);
-            AnnotationValidator.validateNegative(this, positiveInt,
+            annotationValidator.validateNegative(this, positiveInt,
                     ValueContainer.FIELD, pathTracker);
             assertFalse(setContainsError(new ErrorContent(
                     "must be negative", "", -3)));
@@ -271,9 +273,9 @@ public class AnnotationValidatorTest {
             var positiveShort = Negative.class.getField("positiveShort");
             var negativeShort = Negative.class.getField("negativeShort");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateNegative(this, positiveShort,
+            annotationValidator.validateNegative(this, positiveShort,
                     ValueContainer.FIELD, pathTracker);
-            AnnotationValidator.validateNegative(this, negativeShort,
+            annotationValidator.validateNegative(this, negativeShort,
                     ValueContainer.FIELD, pathTracker);
             assertTrue(setContainsError(new ErrorContent(
                     "must be negative", "", 5)));
@@ -295,12 +297,12 @@ public class AnnotationValidatorTest {
             var positiveList = NotBlank.class.getField("positiveList");
             var nullList = NotBlank.class.getField("nullList");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateNotBlank(null, positiveList,
+            annotationValidator.validateNotBlank(null, positiveList,
                     ValueContainer.OBJECT, pathTracker);
-            AnnotationValidator.validateNotBlank(this, nullList,
+            annotationValidator.validateNotBlank(this, nullList,
                     ValueContainer.FIELD, pathTracker);
             assertThrows(InvalidParameterException.class, () -> {
-                AnnotationValidator.validateNotBlank(null, null,
+                annotationValidator.validateNotBlank(null, null,
                         ValueContainer.FIELD, pathTracker);
             });
         }
@@ -314,12 +316,12 @@ public class AnnotationValidatorTest {
             var emptyString = NotBlank.class.getField("emptyString");
             var doubleField = NotBlank.class.getField("doubleField");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateNotBlank(this, emptyString,
+            annotationValidator.validateNotBlank(this, emptyString,
                     ValueContainer.FIELD, pathTracker);
             assertTrue(setContainsError(new ErrorContent(
                     "must be not blank", "", "\"\"")));
             assertThrows(InvalidParameterException.class, () -> {
-                AnnotationValidator.validateNotBlank(this, doubleField,
+                annotationValidator.validateNotBlank(this, doubleField,
                         ValueContainer.FIELD, pathTracker);
             });
         }
@@ -339,12 +341,12 @@ public class AnnotationValidatorTest {
             var nullList = AnyOf.class.getField("nullList");
             var pathTracker = new StringBuilder();
             String[] values = {};
-            AnnotationValidator.validateAnyOf(null, positiveList, values,
+            annotationValidator.validateAnyOf(null, positiveList, values,
                     ValueContainer.OBJECT, pathTracker);
-            AnnotationValidator.validateAnyOf(this, nullList, values,
+            annotationValidator.validateAnyOf(this, nullList, values,
                     ValueContainer.FIELD, pathTracker);
             assertThrows(InvalidParameterException.class, () -> {
-                AnnotationValidator.validateAnyOf(null, null, values,
+                annotationValidator.validateAnyOf(null, null, values,
                         ValueContainer.FIELD, pathTracker);
             });
         }
@@ -362,18 +364,18 @@ public class AnnotationValidatorTest {
             var pathTracker = new StringBuilder();
             String[] values = {"negativeInt", "2"};
 
-            AnnotationValidator.validateAnyOf(this, validString, values,
+            annotationValidator.validateAnyOf(this, validString, values,
                     ValueContainer.FIELD, pathTracker);
             assertFalse(setContainsError(new ErrorContent(
                     "must be one of \"negativeInt\", \"2\"", "", "\"\"")));
 
-            AnnotationValidator.validateAnyOf(emptyString.get(this), emptyString, values,
+            annotationValidator.validateAnyOf(emptyString.get(this), emptyString, values,
                     ValueContainer.OBJECT, pathTracker);
             assertTrue(setContainsError(new ErrorContent(
                     "must be one of \"negativeInt\", \"2\"", "", "\"\"")));
 
             assertThrows(InvalidParameterException.class, () -> {
-                AnnotationValidator.validateAnyOf(this, doubleField, values,
+                annotationValidator.validateAnyOf(this, doubleField, values,
                         ValueContainer.FIELD, pathTracker);
             });
         }
@@ -392,12 +394,12 @@ public class AnnotationValidatorTest {
             var positiveList = NotEmpty.class.getField("positiveList");
             var nullList = NotEmpty.class.getField("nullList");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateNotEmpty(null, positiveList,
+            annotationValidator.validateNotEmpty(null, positiveList,
                     ValueContainer.OBJECT, pathTracker);
-            AnnotationValidator.validateNotEmpty(this, nullList,
+            annotationValidator.validateNotEmpty(this, nullList,
                     ValueContainer.FIELD, pathTracker);
             assertThrows(InvalidParameterException.class, () -> {
-                AnnotationValidator.validateNotEmpty(null, null,
+                annotationValidator.validateNotEmpty(null, null,
                         ValueContainer.FIELD, pathTracker);
             });
         }
@@ -413,7 +415,7 @@ public class AnnotationValidatorTest {
         void testList() throws NoSuchFieldException {
             var list = NotEmpty.class.getField("list");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateNotEmpty(this, list,
+            annotationValidator.validateNotEmpty(this, list,
                     ValueContainer.FIELD, pathTracker);
             assertTrue(setContainsError(new ErrorContent(
                     "must be not empty", "", List.of())));
@@ -424,7 +426,7 @@ public class AnnotationValidatorTest {
         void testSet() throws NoSuchFieldException {
             var set = NotEmpty.class.getField("set");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateNotEmpty(this, set,
+            annotationValidator.validateNotEmpty(this, set,
                     ValueContainer.FIELD, pathTracker);
             assertTrue(setContainsError(new ErrorContent(
                     "must be not empty", "", Set.of())));
@@ -435,7 +437,7 @@ public class AnnotationValidatorTest {
         void testMap() throws NoSuchFieldException {
             var map = NotEmpty.class.getField("map");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateNotEmpty(this, map,
+            annotationValidator.validateNotEmpty(this, map,
                     ValueContainer.FIELD, pathTracker);
             assertTrue(setContainsError(new ErrorContent(
                     "must be not empty", "", Map.of())));
@@ -446,7 +448,7 @@ public class AnnotationValidatorTest {
         void testString() throws NoSuchFieldException {
             var string = NotEmpty.class.getField("emptyString");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateNotEmpty(this, string,
+            annotationValidator.validateNotEmpty(this, string,
                     ValueContainer.FIELD, pathTracker);
             assertTrue(setContainsError(new ErrorContent(
                     "must be not empty", "", "")));
@@ -458,7 +460,7 @@ public class AnnotationValidatorTest {
             var invalid = NotEmpty.class.getField("invalid");
             var pathTracker = new StringBuilder();
             assertThrows(InvalidParameterException.class, () -> {
-                AnnotationValidator.validateNotEmpty(this, invalid,
+                annotationValidator.validateNotEmpty(this, invalid,
                         ValueContainer.FIELD, pathTracker);
             });
         }
@@ -477,12 +479,12 @@ public class AnnotationValidatorTest {
             var positiveList = Size.class.getField("positiveList");
             var nullList = Size.class.getField("nullList");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateSize(null, positiveList,
+            annotationValidator.validateSize(null, positiveList,
                     1, 2, ValueContainer.OBJECT, pathTracker);
-            AnnotationValidator.validateSize(this, nullList,
+            annotationValidator.validateSize(this, nullList,
                     1, 2, ValueContainer.FIELD, pathTracker);
             assertThrows(InvalidParameterException.class, () -> {
-                AnnotationValidator.validateSize(null, null,
+                annotationValidator.validateSize(null, null,
                         1, 2, ValueContainer.FIELD, pathTracker);
             });
         }
@@ -498,7 +500,7 @@ public class AnnotationValidatorTest {
         void testList() throws NoSuchFieldException {
             var list = Size.class.getField("list");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateSize(this, list, 1, 2,
+            annotationValidator.validateSize(this, list, 1, 2,
                     ValueContainer.FIELD, pathTracker);
 
             assertTrue(setContainsError(new ErrorContent(
@@ -510,7 +512,7 @@ public class AnnotationValidatorTest {
         void testSet() throws NoSuchFieldException {
             var set = Size.class.getField("set");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateSize(this, set, 1, 2,
+            annotationValidator.validateSize(this, set, 1, 2,
                     ValueContainer.FIELD, pathTracker);
             assertTrue(setContainsError(new ErrorContent(
                     "size must be in range between 1 and 2", "", Set.of())));
@@ -521,7 +523,7 @@ public class AnnotationValidatorTest {
         void testMap() throws NoSuchFieldException {
             var map = Size.class.getField("map");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateSize(this, map, 1, 2,
+            annotationValidator.validateSize(this, map, 1, 2,
                     ValueContainer.FIELD, pathTracker);
             assertTrue(setContainsError(new ErrorContent(
                     "size must be in range between 1 and 2", "", Map.of())));
@@ -532,7 +534,7 @@ public class AnnotationValidatorTest {
         void testString() throws NoSuchFieldException {
             var emptyString = Size.class.getField("emptyString");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateSize(this, emptyString, 1, 2,
+            annotationValidator.validateSize(this, emptyString, 1, 2,
                     ValueContainer.FIELD, pathTracker);
             assertTrue(setContainsError(new ErrorContent(
                     "size must be in range between 1 and 2", "", "")));
@@ -544,11 +546,11 @@ public class AnnotationValidatorTest {
             var invalid = Size.class.getField("invalid");
             var pathTracker = new StringBuilder();
             assertThrows(InvalidParameterException.class, () -> {
-                AnnotationValidator.validateSize(this, invalid,
+                annotationValidator.validateSize(this, invalid,
                         1, 2, ValueContainer.FIELD, pathTracker);
             });
             assertThrows(InvalidParameterException.class, () -> {
-                AnnotationValidator.validateSize(this, invalid,
+                annotationValidator.validateSize(this, invalid,
                         2, 1, ValueContainer.FIELD, pathTracker);
             });
         }
@@ -567,12 +569,12 @@ public class AnnotationValidatorTest {
             var positiveList = InRange.class.getField("positiveList");
             var nullList = InRange.class.getField("nullList");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateInRange(null, positiveList,
+            annotationValidator.validateInRange(null, positiveList,
                     1, 2, ValueContainer.OBJECT, pathTracker);
-            AnnotationValidator.validateInRange(this, nullList,
+            annotationValidator.validateInRange(this, nullList,
                     1, 2, ValueContainer.FIELD, pathTracker);
             assertThrows(InvalidParameterException.class, () -> {
-                AnnotationValidator.validateInRange(null, null,
+                annotationValidator.validateInRange(null, null,
                         1, 2, ValueContainer.FIELD, pathTracker);
             });
         }
@@ -600,9 +602,9 @@ public class AnnotationValidatorTest {
             var negativeByte = InRange.class.getField("negativeByte");
             var positiveByte = InRange.class.getField("positiveByte");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateInRange(this, negativeByte,
+            annotationValidator.validateInRange(this, negativeByte,
                     10, 12, ValueContainer.FIELD, pathTracker);
-            AnnotationValidator.validateInRange(this, positiveByte,
+            annotationValidator.validateInRange(this, positiveByte,
                     10, 12, ValueContainer.FIELD, pathTracker);
             assertTrue(setContainsError(new ErrorContent(
                     "value must be in range between 10 and 12", "", -3)));
@@ -616,9 +618,9 @@ public class AnnotationValidatorTest {
             var positiveLong = InRange.class.getField("positiveLong");
             var negativeLong = InRange.class.getField("negativeLong");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateInRange(this, positiveLong,
+            annotationValidator.validateInRange(this, positiveLong,
                     10, 12, ValueContainer.FIELD, pathTracker);
-            AnnotationValidator.validateInRange(this, negativeLong,
+            annotationValidator.validateInRange(this, negativeLong,
                     10, 12, ValueContainer.FIELD, pathTracker);
             assertTrue(setContainsError(new ErrorContent(
                     "value must be in range between 10 and 12", "", 2)));
@@ -634,19 +636,19 @@ public class AnnotationValidatorTest {
             var emptyList = InRange.class.getField("emptyList");
             var pathTracker = new StringBuilder();
             assertThrows(InvalidParameterException.class, () -> {
-                AnnotationValidator.validateInRange(this, negativeDouble,
+                annotationValidator.validateInRange(this, negativeDouble,
                         10, 12, ValueContainer.FIELD, pathTracker);
             });
             assertThrows(InvalidParameterException.class, () -> {
-                AnnotationValidator.validateInRange(this, emptyList,
+                annotationValidator.validateInRange(this, emptyList,
                         10, 12, ValueContainer.FIELD, pathTracker);
             });
             assertThrows(InvalidParameterException.class, () -> {
-                AnnotationValidator.validateInRange(this, positiveDouble,
+                annotationValidator.validateInRange(this, positiveDouble,
                         10, 12, ValueContainer.FIELD, pathTracker);
             });
             assertThrows(InvalidParameterException.class, () -> {
-                AnnotationValidator.validateInRange(this, positiveDouble,
+                annotationValidator.validateInRange(this, positiveDouble,
                         12, 10, ValueContainer.FIELD, pathTracker);
             });
         }
@@ -657,9 +659,9 @@ public class AnnotationValidatorTest {
             var negativeInt = InRange.class.getField("negativeInt");
             var positiveInt = InRange.class.getField("positiveInt");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateInRange(this, negativeInt,
+            annotationValidator.validateInRange(this, negativeInt,
                     10, 12, ValueContainer.FIELD, pathTracker);
-            AnnotationValidator.validateInRange(this, positiveInt,
+            annotationValidator.validateInRange(this, positiveInt,
                     10, 12, ValueContainer.FIELD, pathTracker);
             assertTrue(setContainsError(new ErrorContent(
                     "value must be in range between 10 and 12", "", -3)));
@@ -673,9 +675,9 @@ public class AnnotationValidatorTest {
             var positiveShort = InRange.class.getField("positiveShort");
             var negativeShort = InRange.class.getField("negativeShort");
             var pathTracker = new StringBuilder();
-            AnnotationValidator.validateInRange(this, positiveShort,
+            annotationValidator.validateInRange(this, positiveShort,
                     10, 12, ValueContainer.FIELD, pathTracker);
-            AnnotationValidator.validateInRange(this, negativeShort,
+            annotationValidator.validateInRange(this, negativeShort,
                     10, 12, ValueContainer.FIELD, pathTracker);
             assertTrue(setContainsError(new ErrorContent(
                     "value must be in range between 10 and 12", "", 5)));
@@ -0,0 +1,128 @@
+package tests.validators.warmup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import solution.annotations.Constrained;
+import solution.annotations.NotNull;
+import solution.validators.Validator;
+import solution.validators.warmup.ConstrainedIndex;
+import solution.validators.warmup.PrewarmOptions;
+import solution.validators.warmup.Prewarmer;
+import tests.form_examples.BookingForm;
+import tests.form_examples.GuestForm;
+
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.InvalidParameterException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Prewarmer test")
+public class PrewarmerTest {
+
+    @Constrained
+    @Deprecated
+    static class InvalidForm {
+        @NotNull
+        private String value;
+    }
+
+    @Constrained
+    static class NoDefaultConstructorForm {
+        @NotNull
+        private final String value;
+
+        NoDefaultConstructorForm(String value) {
+            this.value = value;
+        }
+    }
+
+    private static ClassLoader withIndex(Path directory, String... lines) throws IOException {
+        var index = directory.resolve(ConstrainedIndex.INDEX);
+        Files.createDirectories(index.getParent());
+        Files.write(index, List.of(lines));
+        return new URLClassLoader(new java.net.URL[]{directory.toUri().toURL()},
+                PrewarmerTest.class.getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Read index")
+    void readIndex(@TempDir Path directory) throws IOException {
+        var loader = withIndex(directory, "# comment", GuestForm.class.getName(), "",
+                BookingForm.class.getName(), GuestForm.class.getName());
+
+        assertEquals(List.of(BookingForm.class.getName(), GuestForm.class.getName()),
+                ConstrainedIndex.read(loader));
+    }
+
+    @Test
+    @DisplayName("Build plans of indexed classes")
+    void prewarmPlans(@TempDir Path directory) throws IOException {
+        var loader = withIndex(directory, BookingForm.class.getName(), GuestForm.class.getName());
+        var result = Validator.prewarm(Validator.create(),
+                PrewarmOptions.PLANS_ONLY.withClassLoader(loader));
+
+        assertEquals(List.of(BookingForm.class, GuestForm.class), result.getClasses());
+        assertTrue(result.getFailures().isEmpty());
+        assertEquals(0, result.getValidations());
+    }
+
+    @Test
+    @DisplayName("Report classes which can't be warmed")
+    void prewarmFailures(@TempDir Path directory) throws IOException {
+        var loader = withIndex(directory, InvalidForm.class.getName(), "tests.MissingForm",
+                GuestForm.class.getName());
+        var result = Prewarmer.prewarm(Validator.create(),
+                PrewarmOptions.PLANS_ONLY.withClassLoader(loader));
+
+        assertEquals(List.of(GuestForm.class), result.getClasses());
+        assertEquals(2, result.getFailures().size());
+        assertInstanceOf(InvalidParameterException.class,
+                result.getFailures().get(InvalidForm.class.getName()));
+        assertInstanceOf(ClassNotFoundException.class,
+                result.getFailures().get("tests.MissingForm"));
+    }
+
+    @Test
+    @DisplayName("Validate samples in parallel")
+    void prewarmValidations(@TempDir Path directory) throws IOException {
+        var loader = withIndex(directory, BookingForm.class.getName(), GuestForm.class.getName(),
+                NoDefaultConstructorForm.class.getName());
+        var samples = List.of(new GuestForm("Anna", "", -1, "anna"),
+                new NoDefaultConstructorForm("value"), new NoDefaultConstructorForm(null));
+        var pool = new ForkJoinPool(2);
+        try {
+            var result = Prewarmer.prewarm(Validator.create(), PrewarmOptions.PLANS_ONLY
+                    .withIterations(5).withSamples(samples).parallel(pool)
+                    .withClassLoader(loader));
+
+            assertEquals(3, result.getClasses().size());
+            assertTrue(result.getFailures().isEmpty());
+            assertEquals(30, result.getValidations());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Samples are validated only with iterations")
+    void samples(@TempDir Path directory) throws IOException {
+        var loader = withIndex(directory, GuestForm.class.getName());
+        var options = PrewarmOptions.PLANS_ONLY.withClassLoader(loader)
+                .withSamples(List.of(new GuestForm("Anna", "Smith", 30, "anna@mail.com")));
+
+        assertEquals(0, Prewarmer.prewarm(Validator.create(), options).getValidations());
+        assertEquals(4, Prewarmer.prewarm(Validator.create(), options.withIterations(2))
+                .getValidations());
+        assertTrue(PrewarmOptions.PLANS_ONLY.getSamples().isEmpty());
+        assertThrows(IllegalArgumentException.class,
+                () -> PrewarmOptions.PLANS_ONLY.withIterations(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> PrewarmOptions.PLANS_ONLY.withSamples(null));
+    }
+}